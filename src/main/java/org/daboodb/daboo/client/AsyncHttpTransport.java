@@ -0,0 +1,605 @@
+package org.daboodb.daboo.client;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousChannelGroup;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.InterruptedByTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends HTTP POST requests to one server over non-blocking sockets, completing a future with the body of each reply.
+ * <p>
+ * No thread waits on a request in flight: connecting, writing and reading are each started, and continued by a small
+ * pool of threads as the socket becomes ready, so a few threads can keep thousands of requests outstanding. Futures are
+ * completed on those threads, so work chained onto them should not block.
+ * <p>
+ * Connections are kept alive and reused, so most requests skip the cost of connecting. At most maxConnections are open
+ * at once; requests made while all are busy wait, in order, for one to be freed. Connections left idle for longer than
+ * the idle timeout are closed. A request that finds its reused connection already closed by the server, before any of
+ * the reply arrived, is sent again on a new connection, but only if it is idempotent or failed before all of it was
+ * sent; otherwise the server may have acted on it, and it fails instead.
+ */
+final class AsyncHttpTransport implements Closeable {
+
+  static final int DEFAULT_MAX_CONNECTIONS = 32;
+  static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30_000;
+  static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final InetSocketAddress address;
+  private final String hostHeader;
+  private final int maxConnections;
+  private final long idleTimeoutMillis;
+  private final long timeoutMillis;
+  private final AsynchronousChannelGroup group;
+  // evicts idle connections and times out connects, which, unlike reads and writes, take no timeout of their own
+  private final ScheduledExecutorService timer;
+
+  // guards the pool's state below
+  private final Object lock = new Object();
+  // most recently used last
+  private final Deque<Connection> idle = new ArrayDeque<>();
+  private final Queue<Exchange> waiting = new ArrayDeque<>();
+  // connections open or being opened, idle or not
+  private int open;
+  private boolean closed;
+
+  /**
+   * @param threads           the number of threads that run the sockets' completions
+   * @param maxConnections    the most connections to the server open at once
+   * @param idleTimeoutMillis how long a connection may sit idle before it is closed
+   * @param timeoutMillis     how long a request may wait to connect, or for the server to accept or reply, before it
+   *                          fails
+   */
+  AsyncHttpTransport(String host, int port, int threads, int maxConnections, long idleTimeoutMillis,
+                     long timeoutMillis) throws IOException {
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("maxConnections must be positive");
+    }
+    this.address = new InetSocketAddress(host, port);
+    this.hostHeader = host + ':' + port;
+    this.maxConnections = maxConnections;
+    this.idleTimeoutMillis = idleTimeoutMillis;
+    this.timeoutMillis = timeoutMillis;
+    this.group = AsynchronousChannelGroup.withFixedThreadPool(threads,
+        new ThreadFactoryBuilder().setNameFormat("daboo-http-client-%d").setDaemon(true).build());
+    this.timer = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("daboo-http-client-timer").setDaemon(true).build());
+    long period = Math.max(1, idleTimeoutMillis / 2);
+    timer.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Posts the body to the path, returning a future completed with the reply's body, or completed exceptionally with an
+   * IOException if the request fails, times out or gets a status other than 200 (OK)
+   *
+   * @param idempotent whether the request may safely be sent again once the server may have received it
+   */
+  CompletableFuture<byte[]> post(String path, String contentType, byte[] body, boolean idempotent) {
+    CompletableFuture<byte[]> reply = new CompletableFuture<>();
+    dispatch(new Exchange(encode(path, contentType, body), reply, idempotent), true);
+    return reply;
+  }
+
+  /**
+   * Returns the number of connections open, idle or not
+   */
+  int openConnections() {
+    synchronized (lock) {
+      return open;
+    }
+  }
+
+  /**
+   * Returns the number of idle connections kept for reuse
+   */
+  int idleConnections() {
+    synchronized (lock) {
+      return idle.size();
+    }
+  }
+
+  /**
+   * Closes the transport's connections and stops its threads. Requests still in flight, or waiting, fail
+   */
+  @Override
+  public void close() throws IOException {
+    List<Exchange> abandoned;
+    synchronized (lock) {
+      closed = true;
+      abandoned = new ArrayList<>(waiting);
+      waiting.clear();
+      idle.clear();
+    }
+    for (Exchange exchange : abandoned) {
+      exchange.reply.completeExceptionally(new IOException("The HTTP transport has been closed"));
+    }
+    timer.shutdownNow();
+    group.shutdownNow();
+  }
+
+  /**
+   * Starts the exchange on an idle connection, or, if reuseIdle is false or there is none, a new one. If every
+   * connection the pool may open is busy, the exchange waits for one to be released
+   */
+  private void dispatch(Exchange exchange, boolean reuseIdle) {
+    Connection connection = null;
+    synchronized (lock) {
+      if (closed) {
+        exchange.reply.completeExceptionally(new IOException("The HTTP transport has been closed"));
+        return;
+      }
+      if (reuseIdle) {
+        connection = idle.pollLast();
+      }
+      if (connection == null) {
+        if (open >= maxConnections && !idle.isEmpty()) {
+          // make room for a new connection by closing the idle one that has waited longest
+          idle.pollFirst().close();
+          open--;
+        }
+        if (open >= maxConnections) {
+          waiting.add(exchange);
+          return;
+        }
+        open++;
+      }
+    }
+    if (connection != null) {
+      exchange.start(connection, true);
+      return;
+    }
+    try {
+      connection = new Connection(AsynchronousSocketChannel.open(group));
+    } catch (IOException e) {
+      synchronized (lock) {
+        open--;
+      }
+      exchange.reply.completeExceptionally(e);
+      return;
+    }
+    exchange.start(connection, false);
+  }
+
+  /**
+   * Returns a connection whose exchange is over to the pool, handing it to the next waiting exchange, if any. A
+   * connection that can't be reused is closed, and the waiting exchange gets a new one
+   */
+  private void release(Connection connection, boolean reusable) {
+    Exchange next;
+    synchronized (lock) {
+      if (closed) {
+        reusable = false;
+      }
+      next = waiting.poll();
+      if (reusable && next == null) {
+        connection.idleSince = System.nanoTime();
+        idle.addLast(connection);
+        return;
+      }
+      if (!reusable) {
+        open--;
+      }
+    }
+    if (!reusable) {
+      connection.close();
+      if (next != null) {
+        dispatch(next, true);
+      }
+    } else {
+      next.start(connection, true);
+    }
+  }
+
+  /**
+   * Closes the connections that have been idle for longer than the idle timeout
+   */
+  private void evictIdle() {
+    long now = System.nanoTime();
+    List<Connection> evicted = new ArrayList<>();
+    synchronized (lock) {
+      // the least recently used are first
+      while (!idle.isEmpty() && now - idle.peekFirst().idleSince > TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis)) {
+        evicted.add(idle.pollFirst());
+        open--;
+      }
+    }
+    for (Connection connection : evicted) {
+      connection.close();
+    }
+  }
+
+  private ByteBuffer encode(String path, String contentType, byte[] body) {
+    String head = "POST " + path + " HTTP/1.1\r\n"
+        + "Host: " + hostHeader + "\r\n"
+        + "Content-Type: " + contentType + "\r\n"
+        + "Content-Length: " + body.length + "\r\n"
+        + "\r\n";
+    byte[] headBytes = head.getBytes(StandardCharsets.ISO_8859_1);
+    ByteBuffer buffer = ByteBuffer.allocate(headBytes.length + body.length);
+    buffer.put(headBytes).put(body);
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * A connection to the server, with the buffer its replies are read into
+   */
+  private static final class Connection {
+
+    private final AsynchronousSocketChannel channel;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    // read by the timer, which gives up on a connect that hasn't completed in time
+    private volatile boolean connected;
+    private volatile boolean connectTimedOut;
+    private long idleSince;
+
+    Connection(AsynchronousSocketChannel channel) {
+      this.channel = channel;
+    }
+
+    void close() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // the connection is done with either way
+      }
+    }
+  }
+
+  /**
+   * One request and its reply, driven through connecting, writing and reading by the socket's completions
+   */
+  private final class Exchange {
+
+    private final ByteBuffer request;
+    private final CompletableFuture<byte[]> reply;
+    private final boolean idempotent;
+
+    private Connection connection;
+    private boolean reused;
+    // whether all of the request has been written, so the server may have acted on it
+    private boolean sent;
+    private ResponseParser parser;
+
+    Exchange(ByteBuffer request, CompletableFuture<byte[]> reply, boolean idempotent) {
+      this.request = request;
+      this.reply = reply;
+      this.idempotent = idempotent;
+    }
+
+    void start(Connection connection, boolean reused) {
+      this.connection = connection;
+      this.reused = reused;
+      this.sent = false;
+      this.parser = new ResponseParser();
+      request.rewind();
+      if (connection.connected) {
+        write();
+        return;
+      }
+      ScheduledFuture<?> timeout;
+      try {
+        timeout = timer.schedule(() -> {
+          if (!connection.connected) {
+            // fails the connect, which reports the timeout
+            connection.connectTimedOut = true;
+            connection.close();
+          }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        release(connection, false);
+        reply.completeExceptionally(new IOException("The HTTP transport has been closed"));
+        return;
+      }
+      connection.channel.connect(address, null, new Handler<Void>() {
+        @Override
+        void completed(Void result) {
+          connection.connected = true;
+          timeout.cancel(false);
+          write();
+        }
+
+        @Override
+        public void failed(Throwable e, Void attachment) {
+          timeout.cancel(false);
+          super.failed(connection.connectTimedOut ? new InterruptedByTimeoutException() : e, attachment);
+        }
+      });
+    }
+
+    private void write() {
+      connection.channel.write(request, timeoutMillis, TimeUnit.MILLISECONDS, null, new Handler<Integer>() {
+        @Override
+        void completed(Integer written) {
+          if (request.hasRemaining()) {
+            write();
+          } else {
+            sent = true;
+            read();
+          }
+        }
+      });
+    }
+
+    private void read() {
+      ByteBuffer readBuffer = connection.readBuffer;
+      connection.channel.read(readBuffer, timeoutMillis, TimeUnit.MILLISECONDS, null, new Handler<Integer>() {
+        @Override
+        void completed(Integer read) throws IOException {
+          if (read < 0) {
+            parser.endOfStream();
+          } else {
+            readBuffer.flip();
+            parser.feed(readBuffer);
+            readBuffer.clear();
+          }
+          if (parser.isComplete()) {
+            finish();
+          } else {
+            read();
+          }
+        }
+      });
+    }
+
+    private void finish() {
+      release(connection, parser.isReusable());
+      if (parser.status() != 200) {
+        reply.completeExceptionally(new IOException("The server replied with HTTP status " + parser.status()));
+      } else {
+        reply.complete(parser.body());
+      }
+    }
+
+    /**
+     * Continues the exchange when an operation completes, and fails it if the operation, or its continuation, fails
+     */
+    private abstract class Handler<V> implements CompletionHandler<V, Void> {
+
+      abstract void completed(V result) throws IOException;
+
+      @Override
+      public void completed(V result, Void attachment) {
+        try {
+          completed(result);
+        } catch (IOException | RuntimeException e) {
+          failed(e, attachment);
+        }
+      }
+
+      @Override
+      public void failed(Throwable e, Void attachment) {
+        release(connection, false);
+        boolean safeToResend = idempotent || !sent;
+        if (reused && safeToResend && !parser.hasStarted() && !(e instanceof InterruptedByTimeoutException)) {
+          // the server closed the idle connection before it replied, and sending again can't apply the request twice
+          dispatch(Exchange.this, false);
+          return;
+        }
+        reply.completeExceptionally(e instanceof IOException ? e : new IOException("The HTTP request failed", e));
+      }
+    }
+  }
+
+  /**
+   * Reads an HTTP/1.1 response as it arrives, with a body delimited by its Content-Length, by chunked encoding, or by
+   * the end of the connection
+   */
+  static final class ResponseParser {
+
+    private enum State { HEAD, LENGTH_BODY, CHUNK_SIZE, CHUNK_DATA, CHUNK_END, TRAILER, EOF_BODY, DONE }
+
+    // bytes received but not yet parsed
+    private byte[] data = new byte[BUFFER_SIZE];
+    private int length;
+    private int position;
+
+    private State state = State.HEAD;
+    private boolean started;
+    private int status;
+    private boolean keepAlive;
+    private long remaining;
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    void feed(ByteBuffer buffer) throws IOException {
+      if (state == State.DONE) {
+        return;
+      }
+      if (length + buffer.remaining() > data.length) {
+        byte[] larger = new byte[Math.max(data.length * 2, length + buffer.remaining())];
+        System.arraycopy(data, 0, larger, 0, length);
+        data = larger;
+      }
+      int count = buffer.remaining();
+      started |= count > 0;
+      buffer.get(data, length, count);
+      length += count;
+      parse();
+      // keep only what is left to parse
+      System.arraycopy(data, position, data, 0, length - position);
+      length -= position;
+      position = 0;
+    }
+
+    /**
+     * Notes that the server closed the connection, which completes a body that runs to the end of it
+     *
+     * @throws IOException if the response was cut short
+     */
+    void endOfStream() throws IOException {
+      if (state == State.EOF_BODY) {
+        state = State.DONE;
+      } else if (state != State.DONE) {
+        throw new IOException("The server closed the connection before its reply was complete");
+      }
+    }
+
+    boolean isComplete() {
+      return state == State.DONE;
+    }
+
+    /**
+     * Returns true once any of the response has arrived
+     */
+    boolean hasStarted() {
+      return started;
+    }
+
+    /**
+     * Returns true if the response is complete and the connection it came on may carry another request
+     */
+    boolean isReusable() {
+      return state == State.DONE && keepAlive && length == 0;
+    }
+
+    int status() {
+      return status;
+    }
+
+    byte[] body() {
+      return body.toByteArray();
+    }
+
+    private void parse() throws IOException {
+      while (true) {
+        switch (state) {
+          case HEAD: {
+            int end = indexOfLineEnd(position, true);
+            if (end < 0) {
+              return;
+            }
+            parseHead(new String(data, position, end - position, StandardCharsets.ISO_8859_1));
+            position = end + 4;
+            break;
+          }
+          case LENGTH_BODY:
+          case CHUNK_DATA: {
+            int count = (int) Math.min(length - position, remaining);
+            body.write(data, position, count);
+            position += count;
+            remaining -= count;
+            if (remaining > 0) {
+              return;
+            }
+            state = state == State.LENGTH_BODY ? State.DONE : State.CHUNK_END;
+            break;
+          }
+          case CHUNK_SIZE: {
+            int end = indexOfLineEnd(position, false);
+            if (end < 0) {
+              return;
+            }
+            String line = new String(data, position, end - position, StandardCharsets.ISO_8859_1);
+            int extension = line.indexOf(';');
+            remaining = parseLong(extension < 0 ? line : line.substring(0, extension), 16);
+            position = end + 2;
+            state = remaining == 0 ? State.TRAILER : State.CHUNK_DATA;
+            break;
+          }
+          case CHUNK_END:
+          case TRAILER: {
+            int end = indexOfLineEnd(position, false);
+            if (end < 0) {
+              return;
+            }
+            boolean empty = end == position;
+            position = end + 2;
+            if (state == State.CHUNK_END) {
+              state = State.CHUNK_SIZE;
+            } else if (empty) {
+              state = State.DONE;
+            }
+            break;
+          }
+          case EOF_BODY:
+            body.write(data, position, length - position);
+            position = length;
+            return;
+          case DONE:
+            return;
+          default:
+            throw new IllegalStateException("Unknown state " + state);
+        }
+      }
+    }
+
+    private void parseHead(String head) throws IOException {
+      String[] lines = head.split("\r\n");
+      String[] statusLine = lines[0].split(" ");
+      if (statusLine.length < 2 || !statusLine[0].startsWith("HTTP/")) {
+        throw new IOException("Malformed HTTP status line: " + lines[0]);
+      }
+      status = (int) parseLong(statusLine[1], 10);
+      // HTTP/1.1 connections persist unless either side says otherwise, and HTTP/1.0 connections only if asked to
+      keepAlive = statusLine[0].equals("HTTP/1.1");
+      long contentLength = -1;
+      boolean chunked = false;
+      for (int i = 1; i < lines.length; i++) {
+        int colon = lines[i].indexOf(':');
+        if (colon < 0) {
+          continue;
+        }
+        String name = lines[i].substring(0, colon).trim();
+        String value = lines[i].substring(colon + 1).trim();
+        if (name.equalsIgnoreCase("Content-Length")) {
+          contentLength = parseLong(value, 10);
+        } else if (name.equalsIgnoreCase("Transfer-Encoding")) {
+          chunked = value.toLowerCase().contains("chunked");
+        } else if (name.equalsIgnoreCase("Connection")) {
+          keepAlive = value.equalsIgnoreCase("keep-alive") || (keepAlive && !value.equalsIgnoreCase("close"));
+        }
+      }
+      if (chunked) {
+        state = State.CHUNK_SIZE;
+      } else if (contentLength >= 0) {
+        remaining = contentLength;
+        state = contentLength == 0 ? State.DONE : State.LENGTH_BODY;
+      } else {
+        state = State.EOF_BODY;
+        keepAlive = false;
+      }
+    }
+
+    /**
+     * Returns the index of the next CRLF, or if blankLine is true the next CRLFCRLF, from the given index, or -1
+     */
+    private int indexOfLineEnd(int from, boolean blankLine) {
+      int width = blankLine ? 4 : 2;
+      for (int i = from; i + width <= length; i++) {
+        if (data[i] == '\r' && data[i + 1] == '\n'
+            && (!blankLine || (data[i + 2] == '\r' && data[i + 3] == '\n'))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private static long parseLong(String value, int radix) throws IOException {
+      try {
+        return Long.parseLong(value.trim(), radix);
+      } catch (NumberFormatException e) {
+        throw new IOException("Malformed number in an HTTP response: " + value, e);
+      }
+    }
+  }
+}
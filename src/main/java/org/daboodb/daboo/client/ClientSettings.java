@@ -28,6 +28,11 @@ public class ClientSettings {
 
   private CommClient commClient = new DirectCommClient();
 
+  // Limits of the pool of connections an HttpCommClient keeps to its server
+  private int httpMaxConnectionsPerHost = AsyncHttpTransport.DEFAULT_MAX_CONNECTIONS;
+  private long httpIdleTimeoutMillis = AsyncHttpTransport.DEFAULT_IDLE_TIMEOUT_MILLIS;
+  private long httpRequestTimeoutMillis = AsyncHttpTransport.DEFAULT_TIMEOUT_MILLIS;
+
   private static ClientSettings ourInstance;
 
   private ClientSettings() {}
@@ -43,6 +48,7 @@ public class ClientSettings {
     setDocumentSerializer(properties);
     setCommClient(properties);
     setContentsPipe(properties);
+    setHttpConnectionPool(properties);
   }
 
   public ContentsPipe getContentsPipe() {
@@ -61,6 +67,18 @@ public class ClientSettings {
     return commClient;
   }
 
+  int getHttpMaxConnectionsPerHost() {
+    return httpMaxConnectionsPerHost;
+  }
+
+  long getHttpIdleTimeoutMillis() {
+    return httpIdleTimeoutMillis;
+  }
+
+  long getHttpRequestTimeoutMillis() {
+    return httpRequestTimeoutMillis;
+  }
+
   private void setDocumentSerializer(Properties properties) {
     try {
       this.documentSerializer =
@@ -99,4 +117,20 @@ public class ClientSettings {
 
     this.contentsPipe = ContentsPipe.create(compressionType, serializerType);
   }
+
+  private void setHttpConnectionPool(Properties properties) {
+    try {
+      httpMaxConnectionsPerHost = Integer.parseInt(properties.getProperty("comm.http.max_connections_per_host",
+          String.valueOf(httpMaxConnectionsPerHost)).trim());
+      httpIdleTimeoutMillis = Long.parseLong(properties.getProperty("comm.http.idle_timeout_millis",
+          String.valueOf(httpIdleTimeoutMillis)).trim());
+      httpRequestTimeoutMillis = Long.parseLong(properties.getProperty("comm.http.request_timeout_millis",
+          String.valueOf(httpRequestTimeoutMillis)).trim());
+      Preconditions.checkState(httpMaxConnectionsPerHost > 0 && httpIdleTimeoutMillis > 0
+          && httpRequestTimeoutMillis > 0);
+    } catch (NumberFormatException | IllegalStateException e) {
+      e.printStackTrace();
+      throw new StartupException("Unable to load the HTTP connection pool settings in client.properties", e);
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package org.daboodb.daboo.client;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.daboodb.daboo.generated.protobufs.Request.*;
 
 /**
@@ -12,4 +14,18 @@ interface CommClient {
   GetReply sendRequest(GetRequest request);
 
   GetReply sendRequest(GetRangeRequest request);
+
+  GetReply sendRequest(GetByTypeRequest request);
+
+  GetReply sendRequest(QueryRequest request);
+
+  /**
+   * Sends the request without waiting for its reply. The returned future is completed with the reply, or completed
+   * exceptionally with the RuntimeException that sendRequest would have thrown
+   */
+  CompletableFuture<WriteReply> sendRequestAsync(WriteRequest request);
+
+  CompletableFuture<GetReply> sendRequestAsync(GetRequest request);
+
+  CompletableFuture<GetReply> sendRequestAsync(GetRangeRequest request);
 }
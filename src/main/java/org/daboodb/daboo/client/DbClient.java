@@ -15,7 +15,12 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.validation.ConstraintViolationException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import static org.daboodb.daboo.shared.DocumentUtils.*;
@@ -151,14 +156,270 @@ public class DbClient implements KeyValueStoreApi {
    * @throws RuntimeDatastoreException if a non-recoverable error has occurred
    */
   public List<Document> getRangeRequest(@Nonnull byte[] startKey, byte[] endKey) throws DatastoreException {
+    List<Document> documents = new ArrayList<>();
+    ByteString continuationToken = null;
+    GetReply reply;
+    do {
+      reply = getRangePage(getGetRangeRequestBody(ByteString.copyFrom(startKey), ByteString.copyFrom(endKey), null, 0,
+          false, continuationToken));
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        documents.add(getDocumentFromRequestDoc(bytes));
+      }
+      continuationToken = reply.getContinuationToken();
+    } while (reply.getHasMore());
+    return documents;
+  }
+
+  /**
+   * Returns an iterator over the documents with keys from startKey (inclusive) to endKey (exclusive), in ascending key
+   * order or, if reverse is true, descending. Documents are fetched a page of at most pageSize at a time, as the
+   * iterator reaches them, so only one page is held in memory
+   *
+   * @throws RuntimeDatastoreException from the iterator, wrapping any DatastoreException raised fetching a page
+   */
+  public Iterator<Document> getRangeIterator(@Nonnull byte[] startKey, byte[] endKey, int pageSize, boolean reverse) {
+    ByteString start = ByteString.copyFrom(startKey);
+    ByteString end = ByteString.copyFrom(endKey);
+    return pages(token -> getRangePage(getGetRangeRequestBody(start, end, null, pageSize, reverse, token)));
+  }
+
+  /**
+   * Returns an iterator over the documents whose keys begin with prefix, in ascending key order or, if reverse is true,
+   * descending. Documents are fetched a page of at most pageSize at a time, as the iterator reaches them
+   *
+   * @throws RuntimeDatastoreException from the iterator, wrapping any DatastoreException raised fetching a page
+   */
+  public Iterator<Document> getPrefixIterator(@Nonnull byte[] prefix, int pageSize, boolean reverse) {
+    ByteString prefixBytes = ByteString.copyFrom(prefix);
+    return pages(token -> getRangePage(getGetPrefixRequestBody(prefixBytes, pageSize, reverse, token)));
+  }
+
+  /**
+   * Returns the documents of the given contentType, in key order. They are found through the server's index of
+   * contentTypes, rather than by reading the whole database
+   *
+   * @throws RequestTimeoutException   if this request failed to return within the allotted time
+   * @throws RuntimeDatastoreException if a non-recoverable error has occurred
+   */
+  public List<Document> getByType(@Nonnull String contentType) throws DatastoreException {
+    List<Document> documents = new ArrayList<>();
+    ByteString continuationToken = null;
+    GetReply reply;
+    do {
+      reply = getByTypePage(getGetByTypeRequestBody(contentType, 0, continuationToken));
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        documents.add(getDocumentFromRequestDoc(bytes));
+      }
+      continuationToken = reply.getContinuationToken();
+    } while (reply.getHasMore());
+    return documents;
+  }
+
+  /**
+   * Returns an iterator over the documents of the given contentType, in key order, fetched a page of at most pageSize
+   * at a time, as the iterator reaches them
+   *
+   * @throws RuntimeDatastoreException from the iterator, wrapping any DatastoreException raised fetching a page
+   */
+  public Iterator<Document> getByTypeIterator(@Nonnull String contentType, int pageSize) {
+    return pages(token -> getByTypePage(getGetByTypeRequestBody(contentType, pageSize, token)));
+  }
+
+  /**
+   * Returns the documents from startKey (inclusive) to endKey (exclusive) that match every predicate, in key order.
+   * Either key may be null, meaning unbounded, and a null contentType matches documents of any type. The predicates are
+   * evaluated by the server, so only the matching documents are sent back
+   *
+   * @throws RequestTimeoutException   if this request failed to return within the allotted time
+   * @throws RuntimeDatastoreException if a non-recoverable error has occurred
+   */
+  public List<Document> query(@Nullable byte[] startKey, @Nullable byte[] endKey, @Nullable String contentType,
+                              @Nonnull List<FieldPredicate> predicates) throws DatastoreException {
+    ByteString start = startKey == null ? null : ByteString.copyFrom(startKey);
+    ByteString end = endKey == null ? null : ByteString.copyFrom(endKey);
+    List<Document> documents = new ArrayList<>();
+    ByteString continuationToken = null;
+    GetReply reply;
+    do {
+      reply = queryPage(getQueryRequestBody(start, end, null, contentType, predicates, 0, continuationToken));
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        documents.add(getDocumentFromRequestDoc(bytes));
+      }
+      continuationToken = reply.getContinuationToken();
+    } while (reply.getHasMore());
+    return documents;
+  }
+
+  /**
+   * Returns an iterator over the documents from startKey (inclusive) to endKey (exclusive) that match every predicate,
+   * in key order, fetched a page of at most pageSize at a time, as the iterator reaches them
+   *
+   * @throws RuntimeDatastoreException from the iterator, wrapping any DatastoreException raised fetching a page
+   */
+  public Iterator<Document> queryIterator(@Nullable byte[] startKey, @Nullable byte[] endKey,
+                                          @Nullable String contentType, @Nonnull List<FieldPredicate> predicates,
+                                          int pageSize) {
+    ByteString start = startKey == null ? null : ByteString.copyFrom(startKey);
+    ByteString end = endKey == null ? null : ByteString.copyFrom(endKey);
+    return pages(token ->
+        queryPage(getQueryRequestBody(start, end, null, contentType, predicates, pageSize, token)));
+  }
+
+  /**
+   * Writes the given document to the database as an "upsert", without waiting for the write to finish. The returned
+   * future is completed once it has, or completed exceptionally with the exception write would have thrown
+   *
+   * @throws NullPointerException if the document parameter is null
+   */
+  public CompletableFuture<Void> writeAsync(@Nonnull Document document) {
+    WriteRequest request = getWriteRequest(getWriteHeader(), getWriteRequestBody(getDocument(document)));
+    return onReply(settings.getCommClient().sendRequestAsync(request), reply -> {
+      checkErrorCondition(reply.getErrorCondition());
+      return null;
+    });
+  }
+
+  /**
+   * Returns a future of the document with the given key, or of null if it doesn't exist, without waiting for the
+   * reply. The future is completed exceptionally with the exception get would have thrown
+   *
+   * @throws NullPointerException if the value of the key parameter is null
+   */
+  public CompletableFuture<Document> getAsync(@Nonnull byte[] key) {
+    GetRequest request = getGetRequest(getGetHeader(), getGetRequestBody(ByteString.copyFrom(key)));
+    return onReply(settings.getCommClient().sendRequestAsync(request), reply -> {
+      checkErrorCondition(reply.getErrorCondition());
+      List<ByteString> resultBytesList = reply.getDocumentBytesList();
+      return resultBytesList.isEmpty() ? null : getDocumentFromRequestDoc(resultBytesList.get(0));
+    });
+  }
+
+  /**
+   * Returns a future of the documents with keys from startKey (inclusive) to endKey (exclusive), without waiting for
+   * the reply. Each page is requested once the one before it arrives. The future is completed exceptionally with the
+   * exception getRangeRequest would have thrown
+   *
+   * @throws NullPointerException if the value of the startKey parameter is null
+   */
+  public CompletableFuture<List<Document>> getRangeAsync(@Nonnull byte[] startKey, byte[] endKey) {
+    ByteString start = ByteString.copyFrom(startKey);
+    ByteString end = endKey == null ? null : ByteString.copyFrom(endKey);
+    return getRangePagesAsync(start, end, null, new ArrayList<>());
+  }
+
+  /**
+   * Requests the page of the range that follows the continuation token, adds its documents to those already read, and
+   * goes on to the next page, if any
+   */
+  private CompletableFuture<List<Document>> getRangePagesAsync(ByteString start, ByteString end,
+                                                               ByteString continuationToken, List<Document> documents) {
+    GetRangeRequest request = getGetRangeRequest(getGetHeader(),
+        getGetRangeRequestBody(start, end, null, 0, false, continuationToken));
+    return onReply(settings.getCommClient().sendRequestAsync(request), reply -> {
+      checkErrorCondition(reply.getErrorCondition());
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        documents.add(getDocumentFromRequestDoc(bytes));
+      }
+      return reply;
+    }).thenCompose(reply -> reply.getHasMore()
+        ? getRangePagesAsync(start, end, reply.getContinuationToken(), documents)
+        : CompletableFuture.completedFuture(documents));
+  }
+
+  /**
+   * Handles a reply, which may raise the DatastoreException its error condition describes
+   */
+  @FunctionalInterface
+  private interface ReplyHandler<R, T> {
+    T handle(R reply) throws DatastoreException;
+  }
+
+  /**
+   * Returns a future completed with the result of handling the reply once it arrives, or completed exceptionally with
+   * the exception that sending the request or handling its reply raised
+   */
+  private static <R, T> CompletableFuture<T> onReply(CompletableFuture<R> reply, ReplyHandler<R, T> handler) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    reply.whenComplete((value, e) -> {
+      if (e != null) {
+        result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+        return;
+      }
+      try {
+        result.complete(handler.handle(value));
+      } catch (DatastoreException | RuntimeException handlingException) {
+        result.completeExceptionally(handlingException);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Fetches the page of a paged request that follows the given continuation token, which is null for the first page
+   */
+  @FunctionalInterface
+  private interface PageFetcher {
+    GetReply fetch(ByteString continuationToken) throws DatastoreException;
+  }
+
+  /**
+   * Returns an iterator that fetches each page with the previous reply's continuation token
+   */
+  private Iterator<Document> pages(PageFetcher fetcher) {
+    return new Iterator<Document>() {
+
+      private Iterator<ByteString> page = Collections.emptyIterator();
+      private ByteString continuationToken;
+      private boolean hasMore = true;
+
+      @Override
+      public boolean hasNext() {
+        while (!page.hasNext() && hasMore) {
+          GetReply reply;
+          try {
+            reply = fetcher.fetch(continuationToken);
+          } catch (DatastoreException e) {
+            throw new RuntimeDatastoreException("Unable to fetch a page of documents", e);
+          }
+          page = reply.getDocumentBytesList().iterator();
+          continuationToken = reply.getContinuationToken();
+          hasMore = reply.getHasMore();
+        }
+        return page.hasNext();
+      }
+
+      @Override
+      public Document next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return getDocumentFromRequestDoc(page.next());
+      }
+    };
+  }
+
+  private GetReply getRangePage(GetRangeRequestBody body) throws DatastoreException {
     Header header = getGetHeader();
-    GetRangeRequestBody body = getGetRangeRequestBody(ByteString.copyFrom(startKey), ByteString.copyFrom(endKey));
     GetRangeRequest request = getGetRangeRequest(header, body);
-    Request.GetReply reply = settings.getCommClient().sendRequest(request);
+    GetReply reply = settings.getCommClient().sendRequest(request);
     checkErrorCondition(reply.getErrorCondition());
-    List<ByteString> byteStringList = reply.getDocumentBytesList();
-    return byteStringList.stream().map(DocumentUtils::getDocumentFromRequestDoc)
-        .collect(Collectors.toList());
+    return reply;
+  }
+
+  private GetReply getByTypePage(GetByTypeRequestBody body) throws DatastoreException {
+    Header header = getGetByTypeHeader();
+    GetByTypeRequest request = getGetByTypeRequest(header, body);
+    GetReply reply = settings.getCommClient().sendRequest(request);
+    checkErrorCondition(reply.getErrorCondition());
+    return reply;
+  }
+
+  private GetReply queryPage(QueryRequestBody body) throws DatastoreException {
+    Header header = getQueryHeader();
+    QueryRequest request = getQueryRequest(header, body);
+    GetReply reply = settings.getCommClient().sendRequest(request);
+    checkErrorCondition(reply.getErrorCondition());
+    return reply;
   }
 
   /**
@@ -3,6 +3,9 @@ package org.daboodb.daboo.client;
 import org.daboodb.daboo.server.DirectCommServer;
 import org.daboodb.daboo.generated.protobufs.Request;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * A communication client that communicates directly with an in-process db server
  */
@@ -28,4 +31,42 @@ public class DirectCommClient implements CommClient {
   public Request.GetReply sendRequest(Request.GetRangeRequest request) {
     return directCommServer.handleRequest(request);
   }
+
+  @Override
+  public Request.GetReply sendRequest(Request.GetByTypeRequest request) {
+    return directCommServer.handleRequest(request);
+  }
+
+  @Override
+  public Request.GetReply sendRequest(Request.QueryRequest request) {
+    return directCommServer.handleRequest(request);
+  }
+
+  @Override
+  public CompletableFuture<Request.WriteReply> sendRequestAsync(Request.WriteRequest request) {
+    return directCommServer.handleRequestAsync(request);
+  }
+
+  /**
+   * Reads are served from memory or local storage without waiting on other requests, so they run on the calling thread
+   */
+  @Override
+  public CompletableFuture<Request.GetReply> sendRequestAsync(Request.GetRequest request) {
+    return completed(() -> directCommServer.handleRequest(request));
+  }
+
+  @Override
+  public CompletableFuture<Request.GetReply> sendRequestAsync(Request.GetRangeRequest request) {
+    return completed(() -> directCommServer.handleRequest(request));
+  }
+
+  private static <T> CompletableFuture<T> completed(Supplier<T> reply) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      future.complete(reply.get());
+    } catch (RuntimeException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
 }
@@ -1,91 +1,153 @@
 package org.daboodb.daboo.client;
 
-import com.google.api.client.http.ByteArrayContent;
-import com.google.api.client.http.GenericUrl;
-import com.google.api.client.http.HttpContent;
-import com.google.api.client.http.HttpRequest;
-import com.google.api.client.http.HttpRequestFactory;
-import com.google.api.client.http.HttpResponse;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import org.daboodb.daboo.client.exceptions.RuntimeSerializationException;
 import org.daboodb.daboo.generated.protobufs.Request;
 import org.daboodb.daboo.shared.exceptions.RuntimeDatastoreException;
 
+import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
- * A communication client that communicates directly with an in-process db server
+ * A communication client that communicates with a db server over HTTP.
+ * <p>
+ * Every request, of every type, blocking or not, goes through one transport, which keeps a pool of connections to the
+ * server alive between requests, so that most requests skip the cost of connecting. The transport is started with the
+ * client, and its connections and threads are kept until the client is closed
  */
-public class HttpCommClient implements CommClient {
+public class HttpCommClient implements CommClient, Closeable {
 
   // We send raw bytes for performance reasons
   private static final String CONTENT_TYPE = "application/octet-stream";
 
-  private static final String WRITE = "WRITE";
-  private static final String GET_RANGE = "GET_RANGE";
-  private static final String GET = "GET";
+  private static final String WRITE = "/WRITE";
+  private static final String GET_RANGE = "/GET_RANGE";
+  private static final String GET = "/GET";
+  private static final String GET_BY_TYPE = "/GET_BY_TYPE";
+  private static final String QUERY = "/QUERY";
 
-  private final GenericUrl WRITE_URL;
-  private final GenericUrl GET_URL;
-  private final GenericUrl GET_RANGE_URL;
+  // The threads that carry all of this client's requests while they are in flight
+  private static final int TRANSPORT_THREADS = 2;
 
+  private final AsyncHttpTransport transport;
+
+  /**
+   * Returns a client of the server at the given address and port, with its connection pool limited as ClientSettings
+   * specifies
+   */
   HttpCommClient(String address, int port) {
-    String serverAddress = new StringBuilder("http://")
-        .append(address)
-        .append(':')
-        .append(port)
-        .append('/')
-        .toString();
-    WRITE_URL = new GenericUrl(serverAddress.concat(WRITE));
-    GET_URL = new GenericUrl(serverAddress.concat(GET));
-    GET_RANGE_URL = new GenericUrl(serverAddress.concat(GET_RANGE));
+    this(address, port, ClientSettings.getInstance().getHttpMaxConnectionsPerHost(),
+        ClientSettings.getInstance().getHttpIdleTimeoutMillis(),
+        ClientSettings.getInstance().getHttpRequestTimeoutMillis());
   }
 
-  @Override
-  public Request.WriteReply sendRequest(Request.WriteRequest request) {
-
-    HttpRequestFactory requestFactory = new NetHttpTransport().createRequestFactory();
+  /**
+   * @param maxConnectionsPerHost the most connections to the server open at once
+   * @param idleTimeoutMillis     how long a connection may sit idle before it is closed
+   * @param requestTimeoutMillis  how long a request may wait to connect, or for the server to accept or reply, before
+   *                              it fails
+   */
+  HttpCommClient(String address, int port, int maxConnectionsPerHost, long idleTimeoutMillis,
+                 long requestTimeoutMillis) {
     try {
-      HttpContent content = new ByteArrayContent(CONTENT_TYPE, request.toByteArray());
-      HttpRequest httpRequest = requestFactory.buildPostRequest(WRITE_URL, content);
-      HttpResponse response = httpRequest.execute();
-      InputStream is = response.getContent();
-      CodedInputStream cis = CodedInputStream.newInstance(is);
-      Request.WriteReply reply = Request.WriteReply.parseFrom(cis);
-      is.close();
-      return reply;
-    } catch (InvalidProtocolBufferException e) {
-      throw new RuntimeSerializationException("ProtocolBuffer serialization exception caught.", e);
+      transport = new AsyncHttpTransport(address, port, TRANSPORT_THREADS, maxConnectionsPerHost, idleTimeoutMillis,
+          requestTimeoutMillis);
     } catch (IOException e) {
-      throw new RuntimeDatastoreException("IO exception caught making HTTP request.", e);
+      throw new RuntimeDatastoreException("IO exception caught starting the HTTP transport.", e);
     }
   }
 
+  @Override
+  public Request.WriteReply sendRequest(Request.WriteRequest request) {
+    return await(sendRequestAsync(request));
+  }
+
   @Override
   public Request.GetReply sendRequest(Request.GetRequest request) {
-    HttpRequestFactory requestFactory = new NetHttpTransport().createRequestFactory();
+    return await(sendRequestAsync(request));
+  }
+
+  @Override
+  public Request.GetReply sendRequest(Request.GetRangeRequest request) {
+    return await(sendRequestAsync(request));
+  }
+
+  @Override
+  public Request.GetReply sendRequest(Request.GetByTypeRequest request) {
+    return await(post(GET_BY_TYPE, request.toByteArray(), true, Request.GetReply::parseFrom));
+  }
+
+  @Override
+  public Request.GetReply sendRequest(Request.QueryRequest request) {
+    return await(post(QUERY, request.toByteArray(), true, Request.GetReply::parseFrom));
+  }
+
+  @Override
+  public CompletableFuture<Request.WriteReply> sendRequestAsync(Request.WriteRequest request) {
+    return post(WRITE, request.toByteArray(), false, Request.WriteReply::parseFrom);
+  }
+
+  @Override
+  public CompletableFuture<Request.GetReply> sendRequestAsync(Request.GetRequest request) {
+    return post(GET, request.toByteArray(), true, Request.GetReply::parseFrom);
+  }
+
+  @Override
+  public CompletableFuture<Request.GetReply> sendRequestAsync(Request.GetRangeRequest request) {
+    return post(GET_RANGE, request.toByteArray(), true, Request.GetReply::parseFrom);
+  }
+
+  /**
+   * Parses the bytes of a reply
+   */
+  @FunctionalInterface
+  private interface ReplyParser<T> {
+    T parse(byte[] bytes) throws InvalidProtocolBufferException;
+  }
+
+  /**
+   * Posts the request through the transport, returning a future of its parsed reply
+   *
+   * @param idempotent whether the request may be sent again after a failure; reads may, writes may not
+   */
+  private <T> CompletableFuture<T> post(String path, byte[] request, boolean idempotent, ReplyParser<T> parser) {
+    CompletableFuture<T> reply = new CompletableFuture<>();
+    transport.post(path, CONTENT_TYPE, request, idempotent).whenComplete((bytes, e) -> {
+      if (e != null) {
+        reply.completeExceptionally(new RuntimeDatastoreException("IO exception caught making HTTP request.", e));
+        return;
+      }
+      try {
+        reply.complete(parser.parse(bytes));
+      } catch (InvalidProtocolBufferException ipe) {
+        reply.completeExceptionally(
+            new RuntimeSerializationException("ProtocolBuffer serialization exception caught.", ipe));
+      }
+    });
+    return reply;
+  }
+
+  /**
+   * Waits for the reply, rethrowing the RuntimeException the request failed with
+   */
+  private static <T> T await(CompletableFuture<T> reply) {
     try {
-      HttpContent content = new ByteArrayContent(CONTENT_TYPE, request.toByteArray());
-      HttpRequest httpRequest = requestFactory.buildPostRequest(GET_URL, content);
-      HttpResponse response = httpRequest.execute();
-      InputStream is = response.getContent();
-      CodedInputStream cis = CodedInputStream.newInstance(is);
-      Request.GetReply reply = Request.GetReply.parseFrom(cis);
-      is.close();
-      return reply;
-    } catch (InvalidProtocolBufferException e) {
-      throw new RuntimeSerializationException("ProtocolBuffer serialization exception caught.", e);
-    } catch (IOException e) {
-      throw new RuntimeDatastoreException("IO exception caught making HTTP request.", e);
+      return reply.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new RuntimeDatastoreException("IO exception caught making HTTP request.", e.getCause());
     }
   }
 
-  // TODO(lwhite): Implement
+  /**
+   * Closes the client's connections and stops its threads. Requests still in flight fail
+   */
   @Override
-  public Request.GetReply sendRequest(Request.GetRangeRequest request) {
-    return null;
+  public void close() throws IOException {
+    transport.close();
   }
 }
@@ -35,6 +35,10 @@ public final class Request {
      * <code>QUERY = 4;</code>
      */
     QUERY(3, 4),
+    /**
+     * <code>GET_BY_TYPE = 5;</code>
+     */
+    GET_BY_TYPE(4, 5),
     ;
 
     /**
@@ -53,6 +57,10 @@ public final class Request {
      * <code>QUERY = 4;</code>
      */
     public static final int QUERY_VALUE = 4;
+    /**
+     * <code>GET_BY_TYPE = 5;</code>
+     */
+    public static final int GET_BY_TYPE_VALUE = 5;
 
 
     public final int getNumber() {
@@ -65,6 +73,7 @@ public final class Request {
         case 2: return WRITE;
         case 3: return DELETE;
         case 4: return QUERY;
+        case 5: return GET_BY_TYPE;
         default: return null;
       }
     }
@@ -2839,81 +2848,53 @@ public final class Request {
 
   }
 
-  public interface HeaderOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.Header)
+  public interface GetByTypeRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.GetByTypeRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>required bytes id = 1;</code>
-     *
-     * <pre>
-     ** A byte array that uniquely identifies requests. Typically a UUID 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    boolean hasId();
+    boolean hasHeader();
     /**
-     * <code>required bytes id = 1;</code>
-     *
-     * <pre>
-     ** A byte array that uniquely identifies requests. Typically a UUID 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    com.google.protobuf.ByteString getId();
-
+    org.daboodb.daboo.generated.protobufs.Request.Header getHeader();
     /**
-     * <code>required int64 timestamp = 2;</code>
-     *
-     * <pre>
-     ** The time the request was created (Not sent), according to the client 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    boolean hasTimestamp();
+    org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder getHeaderOrBuilder();
+
     /**
-     * <code>required int64 timestamp = 2;</code>
-     *
-     * <pre>
-     ** The time the request was created (Not sent), according to the client 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
      */
-    long getTimestamp();
-
+    boolean hasBody();
     /**
-     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-     *
-     * <pre>
-     ** The type of request 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
      */
-    boolean hasRequestType();
+    org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody getBody();
     /**
-     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-     *
-     * <pre>
-     ** The type of request 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
      */
-    org.daboodb.daboo.generated.protobufs.Request.RequestType getRequestType();
+    org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBodyOrBuilder getBodyOrBuilder();
   }
   /**
-   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.Header}
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetByTypeRequest}
    *
    * <pre>
    **
-   * The header for a request
+   *  A request for the documents of one contentType
    * </pre>
    */
-  public  static final class Header extends
+  public  static final class GetByTypeRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.Header)
-      HeaderOrBuilder {
-    // Use Header.newBuilder() to construct.
-    private Header(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.GetByTypeRequest)
+      GetByTypeRequestOrBuilder {
+    // Use GetByTypeRequest.newBuilder() to construct.
+    private GetByTypeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Header() {
-      id_ = com.google.protobuf.ByteString.EMPTY;
-      timestamp_ = 0L;
-      requestType_ = 1;
+    private GetByTypeRequest() {
     }
 
     @java.lang.Override
@@ -2921,7 +2902,7 @@ public final class Request {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private Header(
+    private GetByTypeRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -2944,24 +2925,29 @@ public final class Request {
               break;
             }
             case 10: {
+              org.daboodb.daboo.generated.protobufs.Request.Header.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = header_.toBuilder();
+              }
+              header_ = input.readMessage(org.daboodb.daboo.generated.protobufs.Request.Header.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(header_);
+                header_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000001;
-              id_ = input.readBytes();
-              break;
-            }
-            case 16: {
-              bitField0_ |= 0x00000002;
-              timestamp_ = input.readInt64();
               break;
             }
-            case 24: {
-              int rawValue = input.readEnum();
-              org.daboodb.daboo.generated.protobufs.Request.RequestType value = org.daboodb.daboo.generated.protobufs.Request.RequestType.valueOf(rawValue);
-              if (value == null) {
-                unknownFields.mergeVarintField(3, rawValue);
-              } else {
-                bitField0_ |= 0x00000004;
-                requestType_ = rawValue;
+            case 18: {
+              org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = body_.toBuilder();
+              }
+              body_ = input.readMessage(org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(body_);
+                body_ = subBuilder.buildPartial();
               }
+              bitField0_ |= 0x00000002;
               break;
             }
           }
@@ -2979,85 +2965,57 @@ public final class Request {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor;
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_fieldAccessorTable
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.daboodb.daboo.generated.protobufs.Request.Header.class, org.daboodb.daboo.generated.protobufs.Request.Header.Builder.class);
+              org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest.class, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest.Builder.class);
     }
 
     private int bitField0_;
-    public static final int ID_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString id_;
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.daboodb.daboo.generated.protobufs.Request.Header header_;
     /**
-     * <code>required bytes id = 1;</code>
-     *
-     * <pre>
-     ** A byte array that uniquely identifies requests. Typically a UUID 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    public boolean hasId() {
+    public boolean hasHeader() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required bytes id = 1;</code>
-     *
-     * <pre>
-     ** A byte array that uniquely identifies requests. Typically a UUID 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    public com.google.protobuf.ByteString getId() {
-      return id_;
+    public org.daboodb.daboo.generated.protobufs.Request.Header getHeader() {
+      return header_ == null ? org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
     }
-
-    public static final int TIMESTAMP_FIELD_NUMBER = 2;
-    private long timestamp_;
     /**
-     * <code>required int64 timestamp = 2;</code>
-     *
-     * <pre>
-     ** The time the request was created (Not sent), according to the client 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    public boolean hasTimestamp() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
     }
+
+    public static final int BODY_FIELD_NUMBER = 2;
+    private org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody body_;
     /**
-     * <code>required int64 timestamp = 2;</code>
-     *
-     * <pre>
-     ** The time the request was created (Not sent), according to the client 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
      */
-    public long getTimestamp() {
-      return timestamp_;
+    public boolean hasBody() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
-    public static final int REQUESTTYPE_FIELD_NUMBER = 3;
-    private int requestType_;
     /**
-     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-     *
-     * <pre>
-     ** The type of request 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
      */
-    public boolean hasRequestType() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody getBody() {
+      return body_ == null ? org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.getDefaultInstance() : body_;
     }
     /**
-     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-     *
-     * <pre>
-     ** The type of request 
-     * </pre>
+     * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
      */
-    public org.daboodb.daboo.generated.protobufs.Request.RequestType getRequestType() {
-      org.daboodb.daboo.generated.protobufs.Request.RequestType result = org.daboodb.daboo.generated.protobufs.Request.RequestType.valueOf(requestType_);
-      return result == null ? org.daboodb.daboo.generated.protobufs.Request.RequestType.GET : result;
+    public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBodyOrBuilder getBodyOrBuilder() {
+      return body_ == null ? org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.getDefaultInstance() : body_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3066,15 +3024,19 @@ public final class Request {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      if (!hasId()) {
+      if (!hasHeader()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasTimestamp()) {
+      if (!hasBody()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!hasRequestType()) {
+      if (!getHeader().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getBody().isInitialized()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -3085,13 +3047,10 @@ public final class Request {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, id_);
+        output.writeMessage(1, getHeader());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt64(2, timestamp_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeEnum(3, requestType_);
+        output.writeMessage(2, getBody());
       }
       unknownFields.writeTo(output);
     }
@@ -3103,15 +3062,11 @@ public final class Request {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, id_);
+          .computeMessageSize(1, getHeader());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(2, timestamp_);
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeEnumSize(3, requestType_);
+          .computeMessageSize(2, getBody());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3119,53 +3074,53 @@ public final class Request {
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(byte[] data)
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseDelimitedFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseDelimitedFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3176,7 +3131,7 @@ public final class Request {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.Header prototype) {
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3191,30 +3146,30 @@ public final class Request {
       return builder;
     }
     /**
-     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.Header}
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetByTypeRequest}
      *
      * <pre>
      **
-     * The header for a request
+     *  A request for the documents of one contentType
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.Header)
-        org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.GetByTypeRequest)
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_fieldAccessorTable
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.daboodb.daboo.generated.protobufs.Request.Header.class, org.daboodb.daboo.generated.protobufs.Request.Header.Builder.class);
+                org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest.class, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest.Builder.class);
       }
 
-      // Construct using org.daboodb.daboo.generated.protobufs.Request.Header.newBuilder()
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3226,76 +3181,85 @@ public final class Request {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getHeaderFieldBuilder();
+          getBodyFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        id_ = com.google.protobuf.ByteString.EMPTY;
+        if (headerBuilder_ == null) {
+          header_ = null;
+        } else {
+          headerBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        timestamp_ = 0L;
+        if (bodyBuilder_ == null) {
+          body_ = null;
+        } else {
+          bodyBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000002);
-        requestType_ = 1;
-        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_descriptor;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.Header getDefaultInstanceForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance();
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest.getDefaultInstance();
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.Header build() {
-        org.daboodb.daboo.generated.protobufs.Request.Header result = buildPartial();
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest build() {
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.Header buildPartial() {
-        org.daboodb.daboo.generated.protobufs.Request.Header result = new org.daboodb.daboo.generated.protobufs.Request.Header(this);
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest result = new org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.id_ = id_;
+        if (headerBuilder_ == null) {
+          result.header_ = header_;
+        } else {
+          result.header_ = headerBuilder_.build();
+        }
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.timestamp_ = timestamp_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
+        if (bodyBuilder_ == null) {
+          result.body_ = body_;
+        } else {
+          result.body_ = bodyBuilder_.build();
         }
-        result.requestType_ = requestType_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.Header) {
-          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.Header)other);
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.Header other) {
-        if (other == org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance()) return this;
-        if (other.hasId()) {
-          setId(other.getId());
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
         }
-        if (other.hasTimestamp()) {
-          setTimestamp(other.getTimestamp());
-        }
-        if (other.hasRequestType()) {
-          setRequestType(other.getRequestType());
+        if (other.hasBody()) {
+          mergeBody(other.getBody());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3303,13 +3267,16 @@ public final class Request {
       }
 
       public final boolean isInitialized() {
-        if (!hasId()) {
+        if (!hasHeader()) {
           return false;
         }
-        if (!hasTimestamp()) {
+        if (!hasBody()) {
           return false;
         }
-        if (!hasRequestType()) {
+        if (!getHeader().isInitialized()) {
+          return false;
+        }
+        if (!getBody().isInitialized()) {
           return false;
         }
         return true;
@@ -3319,11 +3286,11 @@ public final class Request {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.daboodb.daboo.generated.protobufs.Request.Header parsedMessage = null;
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.Header) e.getUnfinishedMessage();
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3334,182 +3301,267 @@ public final class Request {
       }
       private int bitField0_;
 
-      private com.google.protobuf.ByteString id_ = com.google.protobuf.ByteString.EMPTY;
+      private org.daboodb.daboo.generated.protobufs.Request.Header header_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.Header, org.daboodb.daboo.generated.protobufs.Request.Header.Builder, org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder> headerBuilder_;
       /**
-       * <code>required bytes id = 1;</code>
-       *
-       * <pre>
-       ** A byte array that uniquely identifies requests. Typically a UUID 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public boolean hasId() {
+      public boolean hasHeader() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required bytes id = 1;</code>
-       *
-       * <pre>
-       ** A byte array that uniquely identifies requests. Typically a UUID 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public com.google.protobuf.ByteString getId() {
-        return id_;
+      public org.daboodb.daboo.generated.protobufs.Request.Header getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
+        } else {
+          return headerBuilder_.getMessage();
+        }
       }
       /**
-       * <code>required bytes id = 1;</code>
-       *
-       * <pre>
-       ** A byte array that uniquely identifies requests. Typically a UUID 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder setId(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        id_ = value;
-        onChanged();
+      public Builder setHeader(org.daboodb.daboo.generated.protobufs.Request.Header value) {
+        if (headerBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          header_ = value;
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>required bytes id = 1;</code>
-       *
-       * <pre>
-       ** A byte array that uniquely identifies requests. Typically a UUID 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder clearId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        id_ = getDefaultInstance().getId();
-        onChanged();
+      public Builder setHeader(
+          org.daboodb.daboo.generated.protobufs.Request.Header.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
+          onChanged();
+        } else {
+          headerBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
-
-      private long timestamp_ ;
       /**
-       * <code>required int64 timestamp = 2;</code>
-       *
-       * <pre>
-       ** The time the request was created (Not sent), according to the client 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public boolean hasTimestamp() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder mergeHeader(org.daboodb.daboo.generated.protobufs.Request.Header value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              header_ != null &&
+              header_ != org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance()) {
+            header_ =
+              org.daboodb.daboo.generated.protobufs.Request.Header.newBuilder(header_).mergeFrom(value).buildPartial();
+          } else {
+            header_ = value;
+          }
+          onChanged();
+        } else {
+          headerBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>required int64 timestamp = 2;</code>
-       *
-       * <pre>
-       ** The time the request was created (Not sent), according to the client 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public long getTimestamp() {
-        return timestamp_;
+      public Builder clearHeader() {
+        if (headerBuilder_ == null) {
+          header_ = null;
+          onChanged();
+        } else {
+          headerBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
       }
       /**
-       * <code>required int64 timestamp = 2;</code>
-       *
-       * <pre>
-       ** The time the request was created (Not sent), according to the client 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder setTimestamp(long value) {
-        bitField0_ |= 0x00000002;
-        timestamp_ = value;
+      public org.daboodb.daboo.generated.protobufs.Request.Header.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
         onChanged();
-        return this;
+        return getHeaderFieldBuilder().getBuilder();
       }
       /**
-       * <code>required int64 timestamp = 2;</code>
-       *
-       * <pre>
-       ** The time the request was created (Not sent), according to the client 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder clearTimestamp() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        timestamp_ = 0L;
-        onChanged();
-        return this;
+      public org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
+        } else {
+          return header_ == null ?
+              org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
+        }
+      }
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.Header, org.daboodb.daboo.generated.protobufs.Request.Header.Builder, org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder>
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.daboodb.daboo.generated.protobufs.Request.Header, org.daboodb.daboo.generated.protobufs.Request.Header.Builder, org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
+        }
+        return headerBuilder_;
       }
 
-      private int requestType_ = 1;
+      private org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody body_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBodyOrBuilder> bodyBuilder_;
       /**
-       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-       *
-       * <pre>
-       ** The type of request 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
        */
-      public boolean hasRequestType() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasBody() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-       *
-       * <pre>
-       ** The type of request 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
        */
-      public org.daboodb.daboo.generated.protobufs.Request.RequestType getRequestType() {
-        org.daboodb.daboo.generated.protobufs.Request.RequestType result = org.daboodb.daboo.generated.protobufs.Request.RequestType.valueOf(requestType_);
-        return result == null ? org.daboodb.daboo.generated.protobufs.Request.RequestType.GET : result;
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody getBody() {
+        if (bodyBuilder_ == null) {
+          return body_ == null ? org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.getDefaultInstance() : body_;
+        } else {
+          return bodyBuilder_.getMessage();
+        }
       }
       /**
-       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-       *
-       * <pre>
-       ** The type of request 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
        */
-      public Builder setRequestType(org.daboodb.daboo.generated.protobufs.Request.RequestType value) {
-        if (value == null) {
-          throw new NullPointerException();
+      public Builder setBody(org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody value) {
+        if (bodyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
+          onChanged();
+        } else {
+          bodyBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000004;
-        requestType_ = value.getNumber();
-        onChanged();
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
-       *
-       * <pre>
-       ** The type of request 
-       * </pre>
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
        */
-      public Builder clearRequestType() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        requestType_ = 1;
-        onChanged();
+      public Builder setBody(
+          org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder builderForValue) {
+        if (bodyBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          bodyBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
         return this;
       }
-
-      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.Header)
-    }
-
-    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.Header)
-    private static final org.daboodb.daboo.generated.protobufs.Request.Header DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.Header();
-    }
-
-    public static org.daboodb.daboo.generated.protobufs.Request.Header getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<Header>
-        PARSER = new com.google.protobuf.AbstractParser<Header>() {
-      public Header parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        try {
-          return new Header(input, extensionRegistry);
-        } catch (RuntimeException e) {
-          if (e.getCause() instanceof
-              com.google.protobuf.InvalidProtocolBufferException) {
-            throw (com.google.protobuf.InvalidProtocolBufferException)
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
+       */
+      public Builder mergeBody(org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody value) {
+        if (bodyBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              body_ != null &&
+              body_ != org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.getDefaultInstance()) {
+            body_ =
+              org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.newBuilder(body_).mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          bodyBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
+       */
+      public Builder clearBody() {
+        if (bodyBuilder_ == null) {
+          body_ = null;
+          onChanged();
+        } else {
+          bodyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder getBodyBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getBodyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBodyOrBuilder getBodyOrBuilder() {
+        if (bodyBuilder_ != null) {
+          return bodyBuilder_.getMessageOrBuilder();
+        } else {
+          return body_ == null ?
+              org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.getDefaultInstance() : body_;
+        }
+      }
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody body = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBodyOrBuilder>
+          getBodyFieldBuilder() {
+        if (bodyBuilder_ == null) {
+          bodyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBodyOrBuilder>(
+                  getBody(),
+                  getParentForChildren(),
+                  isClean());
+          body_ = null;
+        }
+        return bodyBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.GetByTypeRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.GetByTypeRequest)
+    private static final org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest();
+    }
+
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<GetByTypeRequest>
+        PARSER = new com.google.protobuf.AbstractParser<GetByTypeRequest>() {
+      public GetByTypeRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new GetByTypeRequest(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
                 e.getCause();
           }
           throw e;
@@ -3517,67 +3569,68 @@ public final class Request {
       }
     };
 
-    public static com.google.protobuf.Parser<Header> parser() {
+    public static com.google.protobuf.Parser<GetByTypeRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Header> getParserForType() {
+    public com.google.protobuf.Parser<GetByTypeRequest> getParserForType() {
       return PARSER;
     }
 
-    public org.daboodb.daboo.generated.protobufs.Request.Header getDefaultInstanceForType() {
+    public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface WriteRequestBodyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
+  public interface QueryRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.QueryRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue>
-        getDocumentKeyValueList();
+    boolean hasHeader();
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue getDocumentKeyValue(int index);
+    org.daboodb.daboo.generated.protobufs.Request.Header getHeader();
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    int getDocumentKeyValueCount();
+    org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder getHeaderOrBuilder();
+
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
      */
-    java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
-        getDocumentKeyValueOrBuilderList();
+    boolean hasBody();
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
      */
-    org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder getDocumentKeyValueOrBuilder(
-        int index);
+    org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody getBody();
+    /**
+     * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
+     */
+    org.daboodb.daboo.generated.protobufs.Request.QueryRequestBodyOrBuilder getBodyOrBuilder();
   }
   /**
-   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.WriteRequestBody}
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.QueryRequest}
    *
    * <pre>
    **
-   *   The body of a write request
+   *  A query request message
    * </pre>
    */
-  public  static final class WriteRequestBody extends
+  public  static final class QueryRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
-      WriteRequestBodyOrBuilder {
-    // Use WriteRequestBody.newBuilder() to construct.
-    private WriteRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.QueryRequest)
+      QueryRequestOrBuilder {
+    // Use QueryRequest.newBuilder() to construct.
+    private QueryRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private WriteRequestBody() {
-      documentKeyValue_ = java.util.Collections.emptyList();
+    private QueryRequest() {
     }
 
     @java.lang.Override
@@ -3585,7 +3638,7 @@ public final class Request {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private WriteRequestBody(
+    private QueryRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -3608,11 +3661,29 @@ public final class Request {
               break;
             }
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                documentKeyValue_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue>();
-                mutable_bitField0_ |= 0x00000001;
+              org.daboodb.daboo.generated.protobufs.Request.Header.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = header_.toBuilder();
               }
-              documentKeyValue_.add(input.readMessage(org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.parser(), extensionRegistry));
+              header_ = input.readMessage(org.daboodb.daboo.generated.protobufs.Request.Header.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(header_);
+                header_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = body_.toBuilder();
+              }
+              body_ = input.readMessage(org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(body_);
+                body_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
               break;
             }
           }
@@ -3624,58 +3695,63 @@ public final class Request {
             new com.google.protobuf.InvalidProtocolBufferException(
                 e.getMessage()).setUnfinishedMessage(this));
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          documentKeyValue_ = java.util.Collections.unmodifiableList(documentKeyValue_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor;
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_fieldAccessorTable
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.Builder.class);
+              org.daboodb.daboo.generated.protobufs.Request.QueryRequest.class, org.daboodb.daboo.generated.protobufs.Request.QueryRequest.Builder.class);
     }
 
-    public static final int DOCUMENTKEYVALUE_FIELD_NUMBER = 1;
-    private java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> documentKeyValue_;
+    private int bitField0_;
+    public static final int HEADER_FIELD_NUMBER = 1;
+    private org.daboodb.daboo.generated.protobufs.Request.Header header_;
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    public java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> getDocumentKeyValueList() {
-      return documentKeyValue_;
+    public boolean hasHeader() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
-        getDocumentKeyValueOrBuilderList() {
-      return documentKeyValue_;
+    public org.daboodb.daboo.generated.protobufs.Request.Header getHeader() {
+      return header_ == null ? org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
     }
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
      */
-    public int getDocumentKeyValueCount() {
-      return documentKeyValue_.size();
+    public org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder getHeaderOrBuilder() {
+      return header_ == null ? org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
     }
+
+    public static final int BODY_FIELD_NUMBER = 2;
+    private org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody body_;
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
      */
-    public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue getDocumentKeyValue(int index) {
-      return documentKeyValue_.get(index);
+    public boolean hasBody() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
      */
-    public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder getDocumentKeyValueOrBuilder(
-        int index) {
-      return documentKeyValue_.get(index);
+    public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody getBody() {
+      return body_ == null ? org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.getDefaultInstance() : body_;
+    }
+    /**
+     * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBodyOrBuilder getBodyOrBuilder() {
+      return body_ == null ? org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.getDefaultInstance() : body_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3684,11 +3760,21 @@ public final class Request {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      for (int i = 0; i < getDocumentKeyValueCount(); i++) {
-        if (!getDocumentKeyValue(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
+      if (!hasHeader()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasBody()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getHeader().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getBody().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
       memoizedIsInitialized = 1;
       return true;
@@ -3696,8 +3782,11 @@ public final class Request {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < documentKeyValue_.size(); i++) {
-        output.writeMessage(1, documentKeyValue_.get(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, getHeader());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, getBody());
       }
       unknownFields.writeTo(output);
     }
@@ -3707,9 +3796,13 @@ public final class Request {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < documentKeyValue_.size(); i++) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, documentKeyValue_.get(i));
+          .computeMessageSize(1, getHeader());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getBody());
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -3717,53 +3810,53 @@ public final class Request {
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(byte[] data)
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseDelimitedFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseDelimitedFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3774,7 +3867,7 @@ public final class Request {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody prototype) {
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.QueryRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3789,30 +3882,30 @@ public final class Request {
       return builder;
     }
     /**
-     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.WriteRequestBody}
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.QueryRequest}
      *
      * <pre>
      **
-     *   The body of a write request
+     *  A query request message
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
-        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBodyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.QueryRequest)
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_fieldAccessorTable
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.Builder.class);
+                org.daboodb.daboo.generated.protobufs.Request.QueryRequest.class, org.daboodb.daboo.generated.protobufs.Request.QueryRequest.Builder.class);
       }
 
-      // Construct using org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.newBuilder()
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.QueryRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3824,89 +3917,85 @@ public final class Request {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getDocumentKeyValueFieldBuilder();
+          getHeaderFieldBuilder();
+          getBodyFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        if (documentKeyValueBuilder_ == null) {
-          documentKeyValue_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
+        if (headerBuilder_ == null) {
+          header_ = null;
         } else {
-          documentKeyValueBuilder_.clear();
+          headerBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (bodyBuilder_ == null) {
+          body_ = null;
+        } else {
+          bodyBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_descriptor;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody getDefaultInstanceForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.getDefaultInstance();
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequest getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.QueryRequest.getDefaultInstance();
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody build() {
-        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody result = buildPartial();
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequest build() {
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody buildPartial() {
-        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody(this);
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequest buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequest result = new org.daboodb.daboo.generated.protobufs.Request.QueryRequest(this);
         int from_bitField0_ = bitField0_;
-        if (documentKeyValueBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            documentKeyValue_ = java.util.Collections.unmodifiableList(documentKeyValue_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.documentKeyValue_ = documentKeyValue_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (headerBuilder_ == null) {
+          result.header_ = header_;
         } else {
-          result.documentKeyValue_ = documentKeyValueBuilder_.build();
+          result.header_ = headerBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
         }
+        if (bodyBuilder_ == null) {
+          result.body_ = body_;
+        } else {
+          result.body_ = bodyBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody) {
-          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody)other);
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.QueryRequest) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.QueryRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody other) {
-        if (other == org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.getDefaultInstance()) return this;
-        if (documentKeyValueBuilder_ == null) {
-          if (!other.documentKeyValue_.isEmpty()) {
-            if (documentKeyValue_.isEmpty()) {
-              documentKeyValue_ = other.documentKeyValue_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureDocumentKeyValueIsMutable();
-              documentKeyValue_.addAll(other.documentKeyValue_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.documentKeyValue_.isEmpty()) {
-            if (documentKeyValueBuilder_.isEmpty()) {
-              documentKeyValueBuilder_.dispose();
-              documentKeyValueBuilder_ = null;
-              documentKeyValue_ = other.documentKeyValue_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              documentKeyValueBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getDocumentKeyValueFieldBuilder() : null;
-            } else {
-              documentKeyValueBuilder_.addAllMessages(other.documentKeyValue_);
-            }
-          }
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.QueryRequest other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.QueryRequest.getDefaultInstance()) return this;
+        if (other.hasHeader()) {
+          mergeHeader(other.getHeader());
+        }
+        if (other.hasBody()) {
+          mergeBody(other.getBody());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -3914,10 +4003,17 @@ public final class Request {
       }
 
       public final boolean isInitialized() {
-        for (int i = 0; i < getDocumentKeyValueCount(); i++) {
-          if (!getDocumentKeyValue(i).isInitialized()) {
-            return false;
-          }
+        if (!hasHeader()) {
+          return false;
+        }
+        if (!hasBody()) {
+          return false;
+        }
+        if (!getHeader().isInitialized()) {
+          return false;
+        }
+        if (!getBody().isInitialized()) {
+          return false;
         }
         return true;
       }
@@ -3926,11 +4022,11 @@ public final class Request {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parsedMessage = null;
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody) e.getUnfinishedMessage();
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.QueryRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3941,267 +4037,263 @@ public final class Request {
       }
       private int bitField0_;
 
-      private java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> documentKeyValue_ =
-        java.util.Collections.emptyList();
-      private void ensureDocumentKeyValueIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          documentKeyValue_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue>(documentKeyValue_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder> documentKeyValueBuilder_;
-
-      /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
-       */
-      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> getDocumentKeyValueList() {
-        if (documentKeyValueBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(documentKeyValue_);
-        } else {
-          return documentKeyValueBuilder_.getMessageList();
-        }
-      }
+      private org.daboodb.daboo.generated.protobufs.Request.Header header_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.Header, org.daboodb.daboo.generated.protobufs.Request.Header.Builder, org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder> headerBuilder_;
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public int getDocumentKeyValueCount() {
-        if (documentKeyValueBuilder_ == null) {
-          return documentKeyValue_.size();
-        } else {
-          return documentKeyValueBuilder_.getCount();
-        }
+      public boolean hasHeader() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue getDocumentKeyValue(int index) {
-        if (documentKeyValueBuilder_ == null) {
-          return documentKeyValue_.get(index);
+      public org.daboodb.daboo.generated.protobufs.Request.Header getHeader() {
+        if (headerBuilder_ == null) {
+          return header_ == null ? org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
         } else {
-          return documentKeyValueBuilder_.getMessage(index);
+          return headerBuilder_.getMessage();
         }
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder setDocumentKeyValue(
-          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue value) {
-        if (documentKeyValueBuilder_ == null) {
+      public Builder setHeader(org.daboodb.daboo.generated.protobufs.Request.Header value) {
+        if (headerBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureDocumentKeyValueIsMutable();
-          documentKeyValue_.set(index, value);
+          header_ = value;
           onChanged();
         } else {
-          documentKeyValueBuilder_.setMessage(index, value);
+          headerBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder setDocumentKeyValue(
-          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder builderForValue) {
-        if (documentKeyValueBuilder_ == null) {
-          ensureDocumentKeyValueIsMutable();
-          documentKeyValue_.set(index, builderForValue.build());
+      public Builder setHeader(
+          org.daboodb.daboo.generated.protobufs.Request.Header.Builder builderForValue) {
+        if (headerBuilder_ == null) {
+          header_ = builderForValue.build();
           onChanged();
         } else {
-          documentKeyValueBuilder_.setMessage(index, builderForValue.build());
+          headerBuilder_.setMessage(builderForValue.build());
         }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder addDocumentKeyValue(org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue value) {
-        if (documentKeyValueBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
+      public Builder mergeHeader(org.daboodb.daboo.generated.protobufs.Request.Header value) {
+        if (headerBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              header_ != null &&
+              header_ != org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance()) {
+            header_ =
+              org.daboodb.daboo.generated.protobufs.Request.Header.newBuilder(header_).mergeFrom(value).buildPartial();
+          } else {
+            header_ = value;
           }
-          ensureDocumentKeyValueIsMutable();
-          documentKeyValue_.add(value);
           onChanged();
         } else {
-          documentKeyValueBuilder_.addMessage(value);
+          headerBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder addDocumentKeyValue(
-          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue value) {
-        if (documentKeyValueBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDocumentKeyValueIsMutable();
-          documentKeyValue_.add(index, value);
+      public Builder clearHeader() {
+        if (headerBuilder_ == null) {
+          header_ = null;
           onChanged();
         } else {
-          documentKeyValueBuilder_.addMessage(index, value);
+          headerBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder addDocumentKeyValue(
-          org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder builderForValue) {
-        if (documentKeyValueBuilder_ == null) {
-          ensureDocumentKeyValueIsMutable();
-          documentKeyValue_.add(builderForValue.build());
-          onChanged();
-        } else {
-          documentKeyValueBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      public org.daboodb.daboo.generated.protobufs.Request.Header.Builder getHeaderBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getHeaderFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder addDocumentKeyValue(
-          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder builderForValue) {
-        if (documentKeyValueBuilder_ == null) {
-          ensureDocumentKeyValueIsMutable();
-          documentKeyValue_.add(index, builderForValue.build());
-          onChanged();
+      public org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder getHeaderOrBuilder() {
+        if (headerBuilder_ != null) {
+          return headerBuilder_.getMessageOrBuilder();
         } else {
-          documentKeyValueBuilder_.addMessage(index, builderForValue.build());
+          return header_ == null ?
+              org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance() : header_;
         }
-        return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.Header header = 1;</code>
        */
-      public Builder addAllDocumentKeyValue(
-          java.lang.Iterable<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> values) {
-        if (documentKeyValueBuilder_ == null) {
-          ensureDocumentKeyValueIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, documentKeyValue_);
-          onChanged();
-        } else {
-          documentKeyValueBuilder_.addAllMessages(values);
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.Header, org.daboodb.daboo.generated.protobufs.Request.Header.Builder, org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder>
+          getHeaderFieldBuilder() {
+        if (headerBuilder_ == null) {
+          headerBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.daboodb.daboo.generated.protobufs.Request.Header, org.daboodb.daboo.generated.protobufs.Request.Header.Builder, org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder>(
+                  getHeader(),
+                  getParentForChildren(),
+                  isClean());
+          header_ = null;
         }
-        return this;
+        return headerBuilder_;
       }
+
+      private org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody body_ = null;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBodyOrBuilder> bodyBuilder_;
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public Builder clearDocumentKeyValue() {
-        if (documentKeyValueBuilder_ == null) {
-          documentKeyValue_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
+      public boolean hasBody() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody getBody() {
+        if (bodyBuilder_ == null) {
+          return body_ == null ? org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.getDefaultInstance() : body_;
         } else {
-          documentKeyValueBuilder_.clear();
+          return bodyBuilder_.getMessage();
         }
-        return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public Builder removeDocumentKeyValue(int index) {
-        if (documentKeyValueBuilder_ == null) {
-          ensureDocumentKeyValueIsMutable();
-          documentKeyValue_.remove(index);
+      public Builder setBody(org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody value) {
+        if (bodyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          body_ = value;
           onChanged();
         } else {
-          documentKeyValueBuilder_.remove(index);
+          bodyBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder getDocumentKeyValueBuilder(
-          int index) {
-        return getDocumentKeyValueFieldBuilder().getBuilder(index);
+      public Builder setBody(
+          org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder builderForValue) {
+        if (bodyBuilder_ == null) {
+          body_ = builderForValue.build();
+          onChanged();
+        } else {
+          bodyBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder getDocumentKeyValueOrBuilder(
-          int index) {
-        if (documentKeyValueBuilder_ == null) {
-          return documentKeyValue_.get(index);  } else {
-          return documentKeyValueBuilder_.getMessageOrBuilder(index);
+      public Builder mergeBody(org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody value) {
+        if (bodyBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              body_ != null &&
+              body_ != org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.getDefaultInstance()) {
+            body_ =
+              org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.newBuilder(body_).mergeFrom(value).buildPartial();
+          } else {
+            body_ = value;
+          }
+          onChanged();
+        } else {
+          bodyBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000002;
+        return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
-           getDocumentKeyValueOrBuilderList() {
-        if (documentKeyValueBuilder_ != null) {
-          return documentKeyValueBuilder_.getMessageOrBuilderList();
+      public Builder clearBody() {
+        if (bodyBuilder_ == null) {
+          body_ = null;
+          onChanged();
         } else {
-          return java.util.Collections.unmodifiableList(documentKeyValue_);
+          bodyBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder addDocumentKeyValueBuilder() {
-        return getDocumentKeyValueFieldBuilder().addBuilder(
-            org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.getDefaultInstance());
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder getBodyBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getBodyFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder addDocumentKeyValueBuilder(
-          int index) {
-        return getDocumentKeyValueFieldBuilder().addBuilder(
-            index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.getDefaultInstance());
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBodyOrBuilder getBodyOrBuilder() {
+        if (bodyBuilder_ != null) {
+          return bodyBuilder_.getMessageOrBuilder();
+        } else {
+          return body_ == null ?
+              org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.getDefaultInstance() : body_;
+        }
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.QueryRequestBody body = 2;</code>
        */
-      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder>
-           getDocumentKeyValueBuilderList() {
-        return getDocumentKeyValueFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
-          getDocumentKeyValueFieldBuilder() {
-        if (documentKeyValueBuilder_ == null) {
-          documentKeyValueBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>(
-                  documentKeyValue_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
+      private com.google.protobuf.SingleFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBodyOrBuilder>
+          getBodyFieldBuilder() {
+        if (bodyBuilder_ == null) {
+          bodyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBodyOrBuilder>(
+                  getBody(),
                   getParentForChildren(),
                   isClean());
-          documentKeyValue_ = null;
+          body_ = null;
         }
-        return documentKeyValueBuilder_;
+        return bodyBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.QueryRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
-    private static final org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.QueryRequest)
+    private static final org.daboodb.daboo.generated.protobufs.Request.QueryRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody();
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.QueryRequest();
     }
 
-    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody getDefaultInstance() {
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<WriteRequestBody>
-        PARSER = new com.google.protobuf.AbstractParser<WriteRequestBody>() {
-      public WriteRequestBody parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<QueryRequest>
+        PARSER = new com.google.protobuf.AbstractParser<QueryRequest>() {
+      public QueryRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new WriteRequestBody(input, extensionRegistry);
+          return new QueryRequest(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -4213,67 +4305,96 @@ public final class Request {
       }
     };
 
-    public static com.google.protobuf.Parser<WriteRequestBody> parser() {
+    public static com.google.protobuf.Parser<QueryRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<WriteRequestBody> getParserForType() {
+    public com.google.protobuf.Parser<QueryRequest> getParserForType() {
       return PARSER;
     }
 
-    public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody getDefaultInstanceForType() {
+    public org.daboodb.daboo.generated.protobufs.Request.QueryRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DeleteRequestBodyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
+  public interface HeaderOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.Header)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required bytes id = 1;</code>
+     *
+     * <pre>
+     ** A byte array that uniquely identifies requests. Typically a UUID 
+     * </pre>
      */
-    java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document>
-        getDocumentList();
+    boolean hasId();
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required bytes id = 1;</code>
+     *
+     * <pre>
+     ** A byte array that uniquely identifies requests. Typically a UUID 
+     * </pre>
      */
-    org.daboodb.daboo.generated.protobufs.Request.Document getDocument(int index);
+    com.google.protobuf.ByteString getId();
+
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required int64 timestamp = 2;</code>
+     *
+     * <pre>
+     ** The time the request was created (Not sent), according to the client 
+     * </pre>
      */
-    int getDocumentCount();
+    boolean hasTimestamp();
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required int64 timestamp = 2;</code>
+     *
+     * <pre>
+     ** The time the request was created (Not sent), according to the client 
+     * </pre>
      */
-    java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
-        getDocumentOrBuilderList();
+    long getTimestamp();
+
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+     *
+     * <pre>
+     ** The type of request 
+     * </pre>
      */
-    org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder getDocumentOrBuilder(
-        int index);
+    boolean hasRequestType();
+    /**
+     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+     *
+     * <pre>
+     ** The type of request 
+     * </pre>
+     */
+    org.daboodb.daboo.generated.protobufs.Request.RequestType getRequestType();
   }
   /**
-   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.DeleteRequestBody}
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.Header}
    *
    * <pre>
    **
-   *   The body of a delete request
+   * The header for a request
    * </pre>
    */
-  public  static final class DeleteRequestBody extends
+  public  static final class Header extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
-      DeleteRequestBodyOrBuilder {
-    // Use DeleteRequestBody.newBuilder() to construct.
-    private DeleteRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.Header)
+      HeaderOrBuilder {
+    // Use Header.newBuilder() to construct.
+    private Header(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private DeleteRequestBody() {
-      document_ = java.util.Collections.emptyList();
+    private Header() {
+      id_ = com.google.protobuf.ByteString.EMPTY;
+      timestamp_ = 0L;
+      requestType_ = 1;
     }
 
     @java.lang.Override
@@ -4281,7 +4402,7 @@ public final class Request {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteRequestBody(
+    private Header(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -4304,11 +4425,24 @@ public final class Request {
               break;
             }
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                document_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.Document>();
-                mutable_bitField0_ |= 0x00000001;
+              bitField0_ |= 0x00000001;
+              id_ = input.readBytes();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              timestamp_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              int rawValue = input.readEnum();
+              org.daboodb.daboo.generated.protobufs.Request.RequestType value = org.daboodb.daboo.generated.protobufs.Request.RequestType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                requestType_ = rawValue;
               }
-              document_.add(input.readMessage(org.daboodb.daboo.generated.protobufs.Request.Document.parser(), extensionRegistry));
               break;
             }
           }
@@ -4320,58 +4454,91 @@ public final class Request {
             new com.google.protobuf.InvalidProtocolBufferException(
                 e.getMessage()).setUnfinishedMessage(this));
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          document_ = java.util.Collections.unmodifiableList(document_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor;
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_fieldAccessorTable
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.Builder.class);
+              org.daboodb.daboo.generated.protobufs.Request.Header.class, org.daboodb.daboo.generated.protobufs.Request.Header.Builder.class);
     }
 
-    public static final int DOCUMENT_FIELD_NUMBER = 1;
-    private java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> document_;
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString id_;
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required bytes id = 1;</code>
+     *
+     * <pre>
+     ** A byte array that uniquely identifies requests. Typically a UUID 
+     * </pre>
      */
-    public java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> getDocumentList() {
-      return document_;
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required bytes id = 1;</code>
+     *
+     * <pre>
+     ** A byte array that uniquely identifies requests. Typically a UUID 
+     * </pre>
      */
-    public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
-        getDocumentOrBuilderList() {
-      return document_;
+    public com.google.protobuf.ByteString getId() {
+      return id_;
     }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 2;
+    private long timestamp_;
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required int64 timestamp = 2;</code>
+     *
+     * <pre>
+     ** The time the request was created (Not sent), according to the client 
+     * </pre>
      */
-    public int getDocumentCount() {
-      return document_.size();
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
-     */
-    public org.daboodb.daboo.generated.protobufs.Request.Document getDocument(int index) {
-      return document_.get(index);
-    }
+     * <code>required int64 timestamp = 2;</code>
+     *
+     * <pre>
+     ** The time the request was created (Not sent), according to the client 
+     * </pre>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int REQUESTTYPE_FIELD_NUMBER = 3;
+    private int requestType_;
     /**
-     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+     *
+     * <pre>
+     ** The type of request 
+     * </pre>
      */
-    public org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder getDocumentOrBuilder(
-        int index) {
-      return document_.get(index);
+    public boolean hasRequestType() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+     *
+     * <pre>
+     ** The type of request 
+     * </pre>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.RequestType getRequestType() {
+      org.daboodb.daboo.generated.protobufs.Request.RequestType result = org.daboodb.daboo.generated.protobufs.Request.RequestType.valueOf(requestType_);
+      return result == null ? org.daboodb.daboo.generated.protobufs.Request.RequestType.GET : result;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -4380,11 +4547,17 @@ public final class Request {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
-      for (int i = 0; i < getDocumentCount(); i++) {
-        if (!getDocument(i).isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
+      if (!hasId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTimestamp()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasRequestType()) {
+        memoizedIsInitialized = 0;
+        return false;
       }
       memoizedIsInitialized = 1;
       return true;
@@ -4392,8 +4565,14 @@ public final class Request {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < document_.size(); i++) {
-        output.writeMessage(1, document_.get(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, timestamp_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeEnum(3, requestType_);
       }
       unknownFields.writeTo(output);
     }
@@ -4403,9 +4582,17 @@ public final class Request {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < document_.size(); i++) {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, document_.get(i));
+          .computeBytesSize(1, id_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, timestamp_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, requestType_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4413,53 +4600,53 @@ public final class Request {
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(byte[] data)
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseDelimitedFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseDelimitedFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.Header parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4470,7 +4657,7 @@ public final class Request {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody prototype) {
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.Header prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4485,30 +4672,30 @@ public final class Request {
       return builder;
     }
     /**
-     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.DeleteRequestBody}
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.Header}
      *
      * <pre>
      **
-     *   The body of a delete request
+     * The header for a request
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
-        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBodyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.Header)
+        org.daboodb.daboo.generated.protobufs.Request.HeaderOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_fieldAccessorTable
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.Builder.class);
+                org.daboodb.daboo.generated.protobufs.Request.Header.class, org.daboodb.daboo.generated.protobufs.Request.Header.Builder.class);
       }
 
-      // Construct using org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.newBuilder()
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.Header.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4520,89 +4707,76 @@ public final class Request {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getDocumentFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        if (documentBuilder_ == null) {
-          document_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          documentBuilder_.clear();
-        }
+        id_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        requestType_ = 1;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody getDefaultInstanceForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.getDefaultInstance();
+      public org.daboodb.daboo.generated.protobufs.Request.Header getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance();
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody build() {
-        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody result = buildPartial();
+      public org.daboodb.daboo.generated.protobufs.Request.Header build() {
+        org.daboodb.daboo.generated.protobufs.Request.Header result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody buildPartial() {
-        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody(this);
+      public org.daboodb.daboo.generated.protobufs.Request.Header buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.Header result = new org.daboodb.daboo.generated.protobufs.Request.Header(this);
         int from_bitField0_ = bitField0_;
-        if (documentBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            document_ = java.util.Collections.unmodifiableList(document_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.document_ = document_;
-        } else {
-          result.document_ = documentBuilder_.build();
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.id_ = id_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
         }
+        result.timestamp_ = timestamp_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.requestType_ = requestType_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody) {
-          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody)other);
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.Header) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.Header)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody other) {
-        if (other == org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.getDefaultInstance()) return this;
-        if (documentBuilder_ == null) {
-          if (!other.document_.isEmpty()) {
-            if (document_.isEmpty()) {
-              document_ = other.document_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureDocumentIsMutable();
-              document_.addAll(other.document_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.document_.isEmpty()) {
-            if (documentBuilder_.isEmpty()) {
-              documentBuilder_.dispose();
-              documentBuilder_ = null;
-              document_ = other.document_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              documentBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getDocumentFieldBuilder() : null;
-            } else {
-              documentBuilder_.addAllMessages(other.document_);
-            }
-          }
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.Header other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.Header.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          setId(other.getId());
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.hasRequestType()) {
+          setRequestType(other.getRequestType());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -4610,10 +4784,14 @@ public final class Request {
       }
 
       public final boolean isInitialized() {
-        for (int i = 0; i < getDocumentCount(); i++) {
-          if (!getDocument(i).isInitialized()) {
-            return false;
-          }
+        if (!hasId()) {
+          return false;
+        }
+        if (!hasTimestamp()) {
+          return false;
+        }
+        if (!hasRequestType()) {
+          return false;
         }
         return true;
       }
@@ -4622,11 +4800,11 @@ public final class Request {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parsedMessage = null;
+        org.daboodb.daboo.generated.protobufs.Request.Header parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody) e.getUnfinishedMessage();
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.Header) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -4637,340 +4815,250 @@ public final class Request {
       }
       private int bitField0_;
 
-      private java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> document_ =
-        java.util.Collections.emptyList();
-      private void ensureDocumentIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          document_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.Document>(document_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.daboodb.daboo.generated.protobufs.Request.Document, org.daboodb.daboo.generated.protobufs.Request.Document.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder> documentBuilder_;
-
+      private com.google.protobuf.ByteString id_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required bytes id = 1;</code>
+       *
+       * <pre>
+       ** A byte array that uniquely identifies requests. Typically a UUID 
+       * </pre>
        */
-      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> getDocumentList() {
-        if (documentBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(document_);
-        } else {
-          return documentBuilder_.getMessageList();
-        }
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required bytes id = 1;</code>
+       *
+       * <pre>
+       ** A byte array that uniquely identifies requests. Typically a UUID 
+       * </pre>
        */
-      public int getDocumentCount() {
-        if (documentBuilder_ == null) {
-          return document_.size();
-        } else {
-          return documentBuilder_.getCount();
-        }
+      public com.google.protobuf.ByteString getId() {
+        return id_;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
-       */
-      public org.daboodb.daboo.generated.protobufs.Request.Document getDocument(int index) {
-        if (documentBuilder_ == null) {
-          return document_.get(index);
-        } else {
-          return documentBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required bytes id = 1;</code>
+       *
+       * <pre>
+       ** A byte array that uniquely identifies requests. Typically a UUID 
+       * </pre>
        */
-      public Builder setDocument(
-          int index, org.daboodb.daboo.generated.protobufs.Request.Document value) {
-        if (documentBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDocumentIsMutable();
-          document_.set(index, value);
-          onChanged();
-        } else {
-          documentBuilder_.setMessage(index, value);
-        }
+      public Builder setId(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required bytes id = 1;</code>
+       *
+       * <pre>
+       ** A byte array that uniquely identifies requests. Typically a UUID 
+       * </pre>
        */
-      public Builder setDocument(
-          int index, org.daboodb.daboo.generated.protobufs.Request.Document.Builder builderForValue) {
-        if (documentBuilder_ == null) {
-          ensureDocumentIsMutable();
-          document_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          documentBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = getDefaultInstance().getId();
+        onChanged();
         return this;
       }
+
+      private long timestamp_ ;
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required int64 timestamp = 2;</code>
+       *
+       * <pre>
+       ** The time the request was created (Not sent), according to the client 
+       * </pre>
        */
-      public Builder addDocument(org.daboodb.daboo.generated.protobufs.Request.Document value) {
-        if (documentBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDocumentIsMutable();
-          document_.add(value);
-          onChanged();
-        } else {
-          documentBuilder_.addMessage(value);
-        }
-        return this;
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required int64 timestamp = 2;</code>
+       *
+       * <pre>
+       ** The time the request was created (Not sent), according to the client 
+       * </pre>
        */
-      public Builder addDocument(
-          int index, org.daboodb.daboo.generated.protobufs.Request.Document value) {
-        if (documentBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureDocumentIsMutable();
-          document_.add(index, value);
-          onChanged();
-        } else {
-          documentBuilder_.addMessage(index, value);
-        }
-        return this;
+      public long getTimestamp() {
+        return timestamp_;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required int64 timestamp = 2;</code>
+       *
+       * <pre>
+       ** The time the request was created (Not sent), according to the client 
+       * </pre>
        */
-      public Builder addDocument(
-          org.daboodb.daboo.generated.protobufs.Request.Document.Builder builderForValue) {
-        if (documentBuilder_ == null) {
-          ensureDocumentIsMutable();
-          document_.add(builderForValue.build());
-          onChanged();
-        } else {
-          documentBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000002;
+        timestamp_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required int64 timestamp = 2;</code>
+       *
+       * <pre>
+       ** The time the request was created (Not sent), according to the client 
+       * </pre>
        */
-      public Builder addDocument(
-          int index, org.daboodb.daboo.generated.protobufs.Request.Document.Builder builderForValue) {
-        if (documentBuilder_ == null) {
-          ensureDocumentIsMutable();
-          document_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          documentBuilder_.addMessage(index, builderForValue.build());
-        }
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timestamp_ = 0L;
+        onChanged();
         return this;
       }
+
+      private int requestType_ = 1;
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+       *
+       * <pre>
+       ** The type of request 
+       * </pre>
        */
-      public Builder addAllDocument(
-          java.lang.Iterable<? extends org.daboodb.daboo.generated.protobufs.Request.Document> values) {
-        if (documentBuilder_ == null) {
-          ensureDocumentIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, document_);
-          onChanged();
-        } else {
-          documentBuilder_.addAllMessages(values);
-        }
-        return this;
+      public boolean hasRequestType() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+       *
+       * <pre>
+       ** The type of request 
+       * </pre>
        */
-      public Builder clearDocument() {
-        if (documentBuilder_ == null) {
-          document_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          documentBuilder_.clear();
-        }
-        return this;
+      public org.daboodb.daboo.generated.protobufs.Request.RequestType getRequestType() {
+        org.daboodb.daboo.generated.protobufs.Request.RequestType result = org.daboodb.daboo.generated.protobufs.Request.RequestType.valueOf(requestType_);
+        return result == null ? org.daboodb.daboo.generated.protobufs.Request.RequestType.GET : result;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+       *
+       * <pre>
+       ** The type of request 
+       * </pre>
        */
-      public Builder removeDocument(int index) {
-        if (documentBuilder_ == null) {
-          ensureDocumentIsMutable();
-          document_.remove(index);
-          onChanged();
-        } else {
-          documentBuilder_.remove(index);
+      public Builder setRequestType(org.daboodb.daboo.generated.protobufs.Request.RequestType value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
+        bitField0_ |= 0x00000004;
+        requestType_ = value.getNumber();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
-       */
-      public org.daboodb.daboo.generated.protobufs.Request.Document.Builder getDocumentBuilder(
-          int index) {
-        return getDocumentFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.RequestType requestType = 3;</code>
+       *
+       * <pre>
+       ** The type of request 
+       * </pre>
        */
-      public org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder getDocumentOrBuilder(
-          int index) {
-        if (documentBuilder_ == null) {
-          return document_.get(index);  } else {
-          return documentBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder clearRequestType() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        requestType_ = 1;
+        onChanged();
+        return this;
       }
-      /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
-       */
-      public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
-           getDocumentOrBuilderList() {
-        if (documentBuilder_ != null) {
-          return documentBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(document_);
-        }
-      }
-      /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
-       */
-      public org.daboodb.daboo.generated.protobufs.Request.Document.Builder addDocumentBuilder() {
-        return getDocumentFieldBuilder().addBuilder(
-            org.daboodb.daboo.generated.protobufs.Request.Document.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
-       */
-      public org.daboodb.daboo.generated.protobufs.Request.Document.Builder addDocumentBuilder(
-          int index) {
-        return getDocumentFieldBuilder().addBuilder(
-            index, org.daboodb.daboo.generated.protobufs.Request.Document.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
-       */
-      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document.Builder>
-           getDocumentBuilderList() {
-        return getDocumentFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.daboodb.daboo.generated.protobufs.Request.Document, org.daboodb.daboo.generated.protobufs.Request.Document.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
-          getDocumentFieldBuilder() {
-        if (documentBuilder_ == null) {
-          documentBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.daboodb.daboo.generated.protobufs.Request.Document, org.daboodb.daboo.generated.protobufs.Request.Document.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>(
-                  document_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          document_ = null;
-        }
-        return documentBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
-    }
-
-    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
-    private static final org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody();
-    }
-
-    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<DeleteRequestBody>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteRequestBody>() {
-      public DeleteRequestBody parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        try {
-          return new DeleteRequestBody(input, extensionRegistry);
-        } catch (RuntimeException e) {
-          if (e.getCause() instanceof
-              com.google.protobuf.InvalidProtocolBufferException) {
-            throw (com.google.protobuf.InvalidProtocolBufferException)
-                e.getCause();
-          }
-          throw e;
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.Header)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.Header)
+    private static final org.daboodb.daboo.generated.protobufs.Request.Header DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.Header();
+    }
+
+    public static org.daboodb.daboo.generated.protobufs.Request.Header getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<Header>
+        PARSER = new com.google.protobuf.AbstractParser<Header>() {
+      public Header parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new Header(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
         }
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteRequestBody> parser() {
+    public static com.google.protobuf.Parser<Header> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteRequestBody> getParserForType() {
+    public com.google.protobuf.Parser<Header> getParserForType() {
       return PARSER;
     }
 
-    public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody getDefaultInstanceForType() {
+    public org.daboodb.daboo.generated.protobufs.Request.Header getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetRequestBodyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.GetRequestBody)
+  public interface WriteRequestBodyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated bytes key = 1;</code>
-     *
-     * <pre>
-     *keys to get
-     * </pre>
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
      */
-    java.util.List<com.google.protobuf.ByteString> getKeyList();
+    java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue>
+        getDocumentKeyValueList();
     /**
-     * <code>repeated bytes key = 1;</code>
-     *
-     * <pre>
-     *keys to get
-     * </pre>
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
      */
-    int getKeyCount();
+    org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue getDocumentKeyValue(int index);
     /**
-     * <code>repeated bytes key = 1;</code>
-     *
-     * <pre>
-     *keys to get
-     * </pre>
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
      */
-    com.google.protobuf.ByteString getKey(int index);
+    int getDocumentKeyValueCount();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     */
+    java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
+        getDocumentKeyValueOrBuilderList();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     */
+    org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder getDocumentKeyValueOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRequestBody}
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.WriteRequestBody}
    *
    * <pre>
    **
-   *   The body of a get request
+   *   The body of a write request
    * </pre>
    */
-  public  static final class GetRequestBody extends
+  public  static final class WriteRequestBody extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.GetRequestBody)
-      GetRequestBodyOrBuilder {
-    // Use GetRequestBody.newBuilder() to construct.
-    private GetRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
+      WriteRequestBodyOrBuilder {
+    // Use WriteRequestBody.newBuilder() to construct.
+    private WriteRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private GetRequestBody() {
-      key_ = java.util.Collections.emptyList();
+    private WriteRequestBody() {
+      documentKeyValue_ = java.util.Collections.emptyList();
     }
 
     @java.lang.Override
@@ -4978,7 +5066,7 @@ public final class Request {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetRequestBody(
+    private WriteRequestBody(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -5002,10 +5090,10 @@ public final class Request {
             }
             case 10: {
               if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                key_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                documentKeyValue_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue>();
                 mutable_bitField0_ |= 0x00000001;
               }
-              key_.add(input.readBytes());
+              documentKeyValue_.add(input.readMessage(org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.parser(), extensionRegistry));
               break;
             }
           }
@@ -5018,7 +5106,7 @@ public final class Request {
                 e.getMessage()).setUnfinishedMessage(this));
       } finally {
         if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          key_ = java.util.Collections.unmodifiableList(key_);
+          documentKeyValue_ = java.util.Collections.unmodifiableList(documentKeyValue_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -5026,48 +5114,49 @@ public final class Request {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor;
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_fieldAccessorTable
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.Builder.class);
+              org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.Builder.class);
     }
 
-    public static final int KEY_FIELD_NUMBER = 1;
-    private java.util.List<com.google.protobuf.ByteString> key_;
+    public static final int DOCUMENTKEYVALUE_FIELD_NUMBER = 1;
+    private java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> documentKeyValue_;
     /**
-     * <code>repeated bytes key = 1;</code>
-     *
-     * <pre>
-     *keys to get
-     * </pre>
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
      */
-    public java.util.List<com.google.protobuf.ByteString>
-        getKeyList() {
-      return key_;
+    public java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> getDocumentKeyValueList() {
+      return documentKeyValue_;
     }
     /**
-     * <code>repeated bytes key = 1;</code>
-     *
-     * <pre>
-     *keys to get
-     * </pre>
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
      */
-    public int getKeyCount() {
-      return key_.size();
+    public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
+        getDocumentKeyValueOrBuilderList() {
+      return documentKeyValue_;
     }
     /**
-     * <code>repeated bytes key = 1;</code>
-     *
-     * <pre>
-     *keys to get
-     * </pre>
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
      */
-    public com.google.protobuf.ByteString getKey(int index) {
-      return key_.get(index);
+    public int getDocumentKeyValueCount() {
+      return documentKeyValue_.size();
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue getDocumentKeyValue(int index) {
+      return documentKeyValue_.get(index);
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder getDocumentKeyValueOrBuilder(
+        int index) {
+      return documentKeyValue_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5076,14 +5165,20 @@ public final class Request {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      for (int i = 0; i < getDocumentKeyValueCount(); i++) {
+        if (!getDocumentKeyValue(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
       memoizedIsInitialized = 1;
       return true;
     }
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < key_.size(); i++) {
-        output.writeBytes(1, key_.get(i));
+      for (int i = 0; i < documentKeyValue_.size(); i++) {
+        output.writeMessage(1, documentKeyValue_.get(i));
       }
       unknownFields.writeTo(output);
     }
@@ -5093,14 +5188,9 @@ public final class Request {
       if (size != -1) return size;
 
       size = 0;
-      {
-        int dataSize = 0;
-        for (int i = 0; i < key_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(key_.get(i));
-        }
-        size += dataSize;
-        size += 1 * getKeyList().size();
+      for (int i = 0; i < documentKeyValue_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, documentKeyValue_.get(i));
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5108,53 +5198,53 @@ public final class Request {
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(byte[] data)
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseDelimitedFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseDelimitedFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5165,7 +5255,7 @@ public final class Request {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.GetRequestBody prototype) {
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5180,30 +5270,30 @@ public final class Request {
       return builder;
     }
     /**
-     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRequestBody}
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.WriteRequestBody}
      *
      * <pre>
      **
-     *   The body of a get request
+     *   The body of a write request
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.GetRequestBody)
-        org.daboodb.daboo.generated.protobufs.Request.GetRequestBodyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
+        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBodyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_fieldAccessorTable
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.Builder.class);
+                org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.Builder.class);
       }
 
-      // Construct using org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.newBuilder()
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5215,214 +5305,4947 @@ public final class Request {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getDocumentKeyValueFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (documentKeyValueBuilder_ == null) {
+          documentKeyValue_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          documentKeyValueBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.getDefaultInstance();
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody build() {
+        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody(this);
+        int from_bitField0_ = bitField0_;
+        if (documentKeyValueBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            documentKeyValue_ = java.util.Collections.unmodifiableList(documentKeyValue_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.documentKeyValue_ = documentKeyValue_;
+        } else {
+          result.documentKeyValue_ = documentKeyValueBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody.getDefaultInstance()) return this;
+        if (documentKeyValueBuilder_ == null) {
+          if (!other.documentKeyValue_.isEmpty()) {
+            if (documentKeyValue_.isEmpty()) {
+              documentKeyValue_ = other.documentKeyValue_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureDocumentKeyValueIsMutable();
+              documentKeyValue_.addAll(other.documentKeyValue_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.documentKeyValue_.isEmpty()) {
+            if (documentKeyValueBuilder_.isEmpty()) {
+              documentKeyValueBuilder_.dispose();
+              documentKeyValueBuilder_ = null;
+              documentKeyValue_ = other.documentKeyValue_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              documentKeyValueBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDocumentKeyValueFieldBuilder() : null;
+            } else {
+              documentKeyValueBuilder_.addAllMessages(other.documentKeyValue_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getDocumentKeyValueCount(); i++) {
+          if (!getDocumentKeyValue(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> documentKeyValue_ =
+        java.util.Collections.emptyList();
+      private void ensureDocumentKeyValueIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          documentKeyValue_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue>(documentKeyValue_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder> documentKeyValueBuilder_;
+
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> getDocumentKeyValueList() {
+        if (documentKeyValueBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(documentKeyValue_);
+        } else {
+          return documentKeyValueBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public int getDocumentKeyValueCount() {
+        if (documentKeyValueBuilder_ == null) {
+          return documentKeyValue_.size();
+        } else {
+          return documentKeyValueBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue getDocumentKeyValue(int index) {
+        if (documentKeyValueBuilder_ == null) {
+          return documentKeyValue_.get(index);
+        } else {
+          return documentKeyValueBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder setDocumentKeyValue(
+          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue value) {
+        if (documentKeyValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDocumentKeyValueIsMutable();
+          documentKeyValue_.set(index, value);
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder setDocumentKeyValue(
+          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder builderForValue) {
+        if (documentKeyValueBuilder_ == null) {
+          ensureDocumentKeyValueIsMutable();
+          documentKeyValue_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder addDocumentKeyValue(org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue value) {
+        if (documentKeyValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDocumentKeyValueIsMutable();
+          documentKeyValue_.add(value);
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder addDocumentKeyValue(
+          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue value) {
+        if (documentKeyValueBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDocumentKeyValueIsMutable();
+          documentKeyValue_.add(index, value);
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder addDocumentKeyValue(
+          org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder builderForValue) {
+        if (documentKeyValueBuilder_ == null) {
+          ensureDocumentKeyValueIsMutable();
+          documentKeyValue_.add(builderForValue.build());
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder addDocumentKeyValue(
+          int index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder builderForValue) {
+        if (documentKeyValueBuilder_ == null) {
+          ensureDocumentKeyValueIsMutable();
+          documentKeyValue_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder addAllDocumentKeyValue(
+          java.lang.Iterable<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue> values) {
+        if (documentKeyValueBuilder_ == null) {
+          ensureDocumentKeyValueIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, documentKeyValue_);
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder clearDocumentKeyValue() {
+        if (documentKeyValueBuilder_ == null) {
+          documentKeyValue_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public Builder removeDocumentKeyValue(int index) {
+        if (documentKeyValueBuilder_ == null) {
+          ensureDocumentKeyValueIsMutable();
+          documentKeyValue_.remove(index);
+          onChanged();
+        } else {
+          documentKeyValueBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder getDocumentKeyValueBuilder(
+          int index) {
+        return getDocumentKeyValueFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder getDocumentKeyValueOrBuilder(
+          int index) {
+        if (documentKeyValueBuilder_ == null) {
+          return documentKeyValue_.get(index);  } else {
+          return documentKeyValueBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
+           getDocumentKeyValueOrBuilderList() {
+        if (documentKeyValueBuilder_ != null) {
+          return documentKeyValueBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(documentKeyValue_);
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder addDocumentKeyValueBuilder() {
+        return getDocumentKeyValueFieldBuilder().addBuilder(
+            org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder addDocumentKeyValueBuilder(
+          int index) {
+        return getDocumentKeyValueFieldBuilder().addBuilder(
+            index, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.DocumentKeyValue documentKeyValue = 1;</code>
+       */
+      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder>
+           getDocumentKeyValueBuilderList() {
+        return getDocumentKeyValueFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>
+          getDocumentKeyValueFieldBuilder() {
+        if (documentKeyValueBuilder_ == null) {
+          documentKeyValueBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValue.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentKeyValueOrBuilder>(
+                  documentKeyValue_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          documentKeyValue_ = null;
+        }
+        return documentKeyValueBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.WriteRequestBody)
+    private static final org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody();
+    }
+
+    public static org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<WriteRequestBody>
+        PARSER = new com.google.protobuf.AbstractParser<WriteRequestBody>() {
+      public WriteRequestBody parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new WriteRequestBody(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<WriteRequestBody> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<WriteRequestBody> getParserForType() {
+      return PARSER;
+    }
+
+    public org.daboodb.daboo.generated.protobufs.Request.WriteRequestBody getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeleteRequestBodyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document>
+        getDocumentList();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    org.daboodb.daboo.generated.protobufs.Request.Document getDocument(int index);
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    int getDocumentCount();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
+        getDocumentOrBuilderList();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder getDocumentOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.DeleteRequestBody}
+   *
+   * <pre>
+   **
+   *   The body of a delete request
+   * </pre>
+   */
+  public  static final class DeleteRequestBody extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
+      DeleteRequestBodyOrBuilder {
+    // Use DeleteRequestBody.newBuilder() to construct.
+    private DeleteRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DeleteRequestBody() {
+      document_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeleteRequestBody(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                document_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.Document>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              document_.add(input.readMessage(org.daboodb.daboo.generated.protobufs.Request.Document.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          document_ = java.util.Collections.unmodifiableList(document_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.Builder.class);
+    }
+
+    public static final int DOCUMENT_FIELD_NUMBER = 1;
+    private java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> document_;
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    public java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> getDocumentList() {
+      return document_;
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
+        getDocumentOrBuilderList() {
+      return document_;
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    public int getDocumentCount() {
+      return document_.size();
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.Document getDocument(int index) {
+      return document_.get(index);
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder getDocumentOrBuilder(
+        int index) {
+      return document_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getDocumentCount(); i++) {
+        if (!getDocument(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < document_.size(); i++) {
+        output.writeMessage(1, document_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < document_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, document_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.DeleteRequestBody}
+     *
+     * <pre>
+     **
+     *   The body of a delete request
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
+        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBodyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.Builder.class);
+      }
+
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getDocumentFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (documentBuilder_ == null) {
+          document_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          documentBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.getDefaultInstance();
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody build() {
+        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody(this);
+        int from_bitField0_ = bitField0_;
+        if (documentBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            document_ = java.util.Collections.unmodifiableList(document_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.document_ = document_;
+        } else {
+          result.document_ = documentBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody.getDefaultInstance()) return this;
+        if (documentBuilder_ == null) {
+          if (!other.document_.isEmpty()) {
+            if (document_.isEmpty()) {
+              document_ = other.document_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureDocumentIsMutable();
+              document_.addAll(other.document_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.document_.isEmpty()) {
+            if (documentBuilder_.isEmpty()) {
+              documentBuilder_.dispose();
+              documentBuilder_ = null;
+              document_ = other.document_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              documentBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDocumentFieldBuilder() : null;
+            } else {
+              documentBuilder_.addAllMessages(other.document_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getDocumentCount(); i++) {
+          if (!getDocument(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> document_ =
+        java.util.Collections.emptyList();
+      private void ensureDocumentIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          document_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.Document>(document_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.Document, org.daboodb.daboo.generated.protobufs.Request.Document.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder> documentBuilder_;
+
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document> getDocumentList() {
+        if (documentBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(document_);
+        } else {
+          return documentBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public int getDocumentCount() {
+        if (documentBuilder_ == null) {
+          return document_.size();
+        } else {
+          return documentBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.Document getDocument(int index) {
+        if (documentBuilder_ == null) {
+          return document_.get(index);
+        } else {
+          return documentBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder setDocument(
+          int index, org.daboodb.daboo.generated.protobufs.Request.Document value) {
+        if (documentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDocumentIsMutable();
+          document_.set(index, value);
+          onChanged();
+        } else {
+          documentBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder setDocument(
+          int index, org.daboodb.daboo.generated.protobufs.Request.Document.Builder builderForValue) {
+        if (documentBuilder_ == null) {
+          ensureDocumentIsMutable();
+          document_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          documentBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder addDocument(org.daboodb.daboo.generated.protobufs.Request.Document value) {
+        if (documentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDocumentIsMutable();
+          document_.add(value);
+          onChanged();
+        } else {
+          documentBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder addDocument(
+          int index, org.daboodb.daboo.generated.protobufs.Request.Document value) {
+        if (documentBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDocumentIsMutable();
+          document_.add(index, value);
+          onChanged();
+        } else {
+          documentBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder addDocument(
+          org.daboodb.daboo.generated.protobufs.Request.Document.Builder builderForValue) {
+        if (documentBuilder_ == null) {
+          ensureDocumentIsMutable();
+          document_.add(builderForValue.build());
+          onChanged();
+        } else {
+          documentBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder addDocument(
+          int index, org.daboodb.daboo.generated.protobufs.Request.Document.Builder builderForValue) {
+        if (documentBuilder_ == null) {
+          ensureDocumentIsMutable();
+          document_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          documentBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder addAllDocument(
+          java.lang.Iterable<? extends org.daboodb.daboo.generated.protobufs.Request.Document> values) {
+        if (documentBuilder_ == null) {
+          ensureDocumentIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, document_);
+          onChanged();
+        } else {
+          documentBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder clearDocument() {
+        if (documentBuilder_ == null) {
+          document_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          documentBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public Builder removeDocument(int index) {
+        if (documentBuilder_ == null) {
+          ensureDocumentIsMutable();
+          document_.remove(index);
+          onChanged();
+        } else {
+          documentBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.Document.Builder getDocumentBuilder(
+          int index) {
+        return getDocumentFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder getDocumentOrBuilder(
+          int index) {
+        if (documentBuilder_ == null) {
+          return document_.get(index);  } else {
+          return documentBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
+           getDocumentOrBuilderList() {
+        if (documentBuilder_ != null) {
+          return documentBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(document_);
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.Document.Builder addDocumentBuilder() {
+        return getDocumentFieldBuilder().addBuilder(
+            org.daboodb.daboo.generated.protobufs.Request.Document.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.Document.Builder addDocumentBuilder(
+          int index) {
+        return getDocumentFieldBuilder().addBuilder(
+            index, org.daboodb.daboo.generated.protobufs.Request.Document.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.Document document = 1;</code>
+       */
+      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.Document.Builder>
+           getDocumentBuilderList() {
+        return getDocumentFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.Document, org.daboodb.daboo.generated.protobufs.Request.Document.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>
+          getDocumentFieldBuilder() {
+        if (documentBuilder_ == null) {
+          documentBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.daboodb.daboo.generated.protobufs.Request.Document, org.daboodb.daboo.generated.protobufs.Request.Document.Builder, org.daboodb.daboo.generated.protobufs.Request.DocumentOrBuilder>(
+                  document_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          document_ = null;
+        }
+        return documentBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.DeleteRequestBody)
+    private static final org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody();
+    }
+
+    public static org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<DeleteRequestBody>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteRequestBody>() {
+      public DeleteRequestBody parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new DeleteRequestBody(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeleteRequestBody> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeleteRequestBody> getParserForType() {
+      return PARSER;
+    }
+
+    public org.daboodb.daboo.generated.protobufs.Request.DeleteRequestBody getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetRequestBodyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.GetRequestBody)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated bytes key = 1;</code>
+     *
+     * <pre>
+     *keys to get
+     * </pre>
+     */
+    java.util.List<com.google.protobuf.ByteString> getKeyList();
+    /**
+     * <code>repeated bytes key = 1;</code>
+     *
+     * <pre>
+     *keys to get
+     * </pre>
+     */
+    int getKeyCount();
+    /**
+     * <code>repeated bytes key = 1;</code>
+     *
+     * <pre>
+     *keys to get
+     * </pre>
+     */
+    com.google.protobuf.ByteString getKey(int index);
+  }
+  /**
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRequestBody}
+   *
+   * <pre>
+   **
+   *   The body of a get request
+   * </pre>
+   */
+  public  static final class GetRequestBody extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.GetRequestBody)
+      GetRequestBodyOrBuilder {
+    // Use GetRequestBody.newBuilder() to construct.
+    private GetRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private GetRequestBody() {
+      key_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetRequestBody(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                key_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              key_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          key_ = java.util.Collections.unmodifiableList(key_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.Builder.class);
+    }
+
+    public static final int KEY_FIELD_NUMBER = 1;
+    private java.util.List<com.google.protobuf.ByteString> key_;
+    /**
+     * <code>repeated bytes key = 1;</code>
+     *
+     * <pre>
+     *keys to get
+     * </pre>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getKeyList() {
+      return key_;
+    }
+    /**
+     * <code>repeated bytes key = 1;</code>
+     *
+     * <pre>
+     *keys to get
+     * </pre>
+     */
+    public int getKeyCount() {
+      return key_.size();
+    }
+    /**
+     * <code>repeated bytes key = 1;</code>
+     *
+     * <pre>
+     *keys to get
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getKey(int index) {
+      return key_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < key_.size(); i++) {
+        output.writeBytes(1, key_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < key_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(key_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getKeyList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.GetRequestBody prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRequestBody}
+     *
+     * <pre>
+     **
+     *   The body of a get request
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.GetRequestBody)
+        org.daboodb.daboo.generated.protobufs.Request.GetRequestBodyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.Builder.class);
+      }
+
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        key_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.getDefaultInstance();
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody build() {
+        org.daboodb.daboo.generated.protobufs.Request.GetRequestBody result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.GetRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.GetRequestBody(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          key_ = java.util.Collections.unmodifiableList(key_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.key_ = key_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.GetRequestBody) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.GetRequestBody)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.GetRequestBody other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.getDefaultInstance()) return this;
+        if (!other.key_.isEmpty()) {
+          if (key_.isEmpty()) {
+            key_ = other.key_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureKeyIsMutable();
+            key_.addAll(other.key_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.GetRequestBody) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.google.protobuf.ByteString> key_ = java.util.Collections.emptyList();
+      private void ensureKeyIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          key_ = new java.util.ArrayList<com.google.protobuf.ByteString>(key_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated bytes key = 1;</code>
+       *
+       * <pre>
+       *keys to get
+       * </pre>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getKeyList() {
+        return java.util.Collections.unmodifiableList(key_);
+      }
+      /**
+       * <code>repeated bytes key = 1;</code>
+       *
+       * <pre>
+       *keys to get
+       * </pre>
+       */
+      public int getKeyCount() {
+        return key_.size();
+      }
+      /**
+       * <code>repeated bytes key = 1;</code>
+       *
+       * <pre>
+       *keys to get
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getKey(int index) {
+        return key_.get(index);
+      }
+      /**
+       * <code>repeated bytes key = 1;</code>
+       *
+       * <pre>
+       *keys to get
+       * </pre>
+       */
+      public Builder setKey(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeyIsMutable();
+        key_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes key = 1;</code>
+       *
+       * <pre>
+       *keys to get
+       * </pre>
+       */
+      public Builder addKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeyIsMutable();
+        key_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes key = 1;</code>
+       *
+       * <pre>
+       *keys to get
+       * </pre>
+       */
+      public Builder addAllKey(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureKeyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, key_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes key = 1;</code>
+       *
+       * <pre>
+       *keys to get
+       * </pre>
+       */
+      public Builder clearKey() {
+        key_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.GetRequestBody)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.GetRequestBody)
+    private static final org.daboodb.daboo.generated.protobufs.Request.GetRequestBody DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.GetRequestBody();
+    }
+
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<GetRequestBody>
+        PARSER = new com.google.protobuf.AbstractParser<GetRequestBody>() {
+      public GetRequestBody parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new GetRequestBody(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetRequestBody> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetRequestBody> getParserForType() {
+      return PARSER;
+    }
+
+    public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetRangeRequestBodyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    boolean hasStartKey();
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    com.google.protobuf.ByteString getStartKey();
+
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    boolean hasEndKey();
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    com.google.protobuf.ByteString getEndKey();
+
+    /**
+     * <code>optional int32 limit = 3;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 3;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    int getLimit();
+
+    /**
+     * <code>optional bool reverse = 4;</code>
+     *
+     * <pre>
+     ** If true, documents are returned in descending key order, starting from the end of the range 
+     * </pre>
+     */
+    boolean hasReverse();
+    /**
+     * <code>optional bool reverse = 4;</code>
+     *
+     * <pre>
+     ** If true, documents are returned in descending key order, starting from the end of the range 
+     * </pre>
+     */
+    boolean getReverse();
+
+    /**
+     * <code>optional bytes afterKey = 5;</code>
+     *
+     * <pre>
+     ** Resumes a scan after this key, which should be the lastKey of the previous page 
+     * </pre>
+     */
+    boolean hasAfterKey();
+    /**
+     * <code>optional bytes afterKey = 5;</code>
+     *
+     * <pre>
+     ** Resumes a scan after this key, which should be the lastKey of the previous page 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getAfterKey();
+
+    /**
+     * <code>optional bytes prefix = 6;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+     * </pre>
+     */
+    boolean hasPrefix();
+    /**
+     * <code>optional bytes prefix = 6;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getPrefix();
+
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    boolean hasContinuationToken();
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getContinuationToken();
+  }
+  /**
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRangeRequestBody}
+   *
+   * <pre>
+   **
+   *   The body of a get request
+   * </pre>
+   */
+  public  static final class GetRangeRequestBody extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
+      GetRangeRequestBodyOrBuilder {
+    // Use GetRangeRequestBody.newBuilder() to construct.
+    private GetRangeRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private GetRangeRequestBody() {
+      startKey_ = com.google.protobuf.ByteString.EMPTY;
+      endKey_ = com.google.protobuf.ByteString.EMPTY;
+      limit_ = 0;
+      reverse_ = false;
+      afterKey_ = com.google.protobuf.ByteString.EMPTY;
+      prefix_ = com.google.protobuf.ByteString.EMPTY;
+      continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetRangeRequestBody(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              startKey_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              endKey_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              limit_ = input.readInt32();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              reverse_ = input.readBool();
+              break;
+            }
+            case 42: {
+              bitField0_ |= 0x00000010;
+              afterKey_ = input.readBytes();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              prefix_ = input.readBytes();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              continuationToken_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int STARTKEY_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString startKey_;
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    public boolean hasStartKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    public com.google.protobuf.ByteString getStartKey() {
+      return startKey_;
+    }
+
+    public static final int ENDKEY_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString endKey_;
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    public boolean hasEndKey() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getEndKey() {
+      return endKey_;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 3;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 3;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 limit = 3;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int REVERSE_FIELD_NUMBER = 4;
+    private boolean reverse_;
+    /**
+     * <code>optional bool reverse = 4;</code>
+     *
+     * <pre>
+     ** If true, documents are returned in descending key order, starting from the end of the range 
+     * </pre>
+     */
+    public boolean hasReverse() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional bool reverse = 4;</code>
+     *
+     * <pre>
+     ** If true, documents are returned in descending key order, starting from the end of the range 
+     * </pre>
+     */
+    public boolean getReverse() {
+      return reverse_;
+    }
+
+    public static final int AFTERKEY_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString afterKey_;
+    /**
+     * <code>optional bytes afterKey = 5;</code>
+     *
+     * <pre>
+     ** Resumes a scan after this key, which should be the lastKey of the previous page 
+     * </pre>
+     */
+    public boolean hasAfterKey() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bytes afterKey = 5;</code>
+     *
+     * <pre>
+     ** Resumes a scan after this key, which should be the lastKey of the previous page 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getAfterKey() {
+      return afterKey_;
+    }
+
+    public static final int PREFIX_FIELD_NUMBER = 6;
+    private com.google.protobuf.ByteString prefix_;
+    /**
+     * <code>optional bytes prefix = 6;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+     * </pre>
+     */
+    public boolean hasPrefix() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bytes prefix = 6;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getPrefix() {
+      return prefix_;
+    }
+
+    public static final int CONTINUATIONTOKEN_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString continuationToken_;
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    public boolean hasContinuationToken() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getContinuationToken() {
+      return continuationToken_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, startKey_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, endKey_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, limit_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBool(4, reverse_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBytes(5, afterKey_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, prefix_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, continuationToken_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, startKey_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, endKey_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, limit_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, reverse_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, afterKey_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, prefix_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, continuationToken_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRangeRequestBody}
+     *
+     * <pre>
+     **
+     *   The body of a get request
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
+        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBodyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.Builder.class);
+      }
+
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        startKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        endKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        reverse_ = false;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        afterKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        prefix_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.getDefaultInstance();
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody build() {
+        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.startKey_ = startKey_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.endKey_ = endKey_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.limit_ = limit_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.reverse_ = reverse_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.afterKey_ = afterKey_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.prefix_ = prefix_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.continuationToken_ = continuationToken_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.getDefaultInstance()) return this;
+        if (other.hasStartKey()) {
+          setStartKey(other.getStartKey());
+        }
+        if (other.hasEndKey()) {
+          setEndKey(other.getEndKey());
+        }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
+        if (other.hasReverse()) {
+          setReverse(other.getReverse());
+        }
+        if (other.hasAfterKey()) {
+          setAfterKey(other.getAfterKey());
+        }
+        if (other.hasPrefix()) {
+          setPrefix(other.getPrefix());
+        }
+        if (other.hasContinuationToken()) {
+          setContinuationToken(other.getContinuationToken());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString startKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public boolean hasStartKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public com.google.protobuf.ByteString getStartKey() {
+        return startKey_;
+      }
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public Builder setStartKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        startKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public Builder clearStartKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startKey_ = getDefaultInstance().getStartKey();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString endKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public boolean hasEndKey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getEndKey() {
+        return endKey_;
+      }
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public Builder setEndKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        endKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public Builder clearEndKey() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        endKey_ = getDefaultInstance().getEndKey();
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 3;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000004;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean reverse_ ;
+      /**
+       * <code>optional bool reverse = 4;</code>
+       *
+       * <pre>
+       ** If true, documents are returned in descending key order, starting from the end of the range 
+       * </pre>
+       */
+      public boolean hasReverse() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional bool reverse = 4;</code>
+       *
+       * <pre>
+       ** If true, documents are returned in descending key order, starting from the end of the range 
+       * </pre>
+       */
+      public boolean getReverse() {
+        return reverse_;
+      }
+      /**
+       * <code>optional bool reverse = 4;</code>
+       *
+       * <pre>
+       ** If true, documents are returned in descending key order, starting from the end of the range 
+       * </pre>
+       */
+      public Builder setReverse(boolean value) {
+        bitField0_ |= 0x00000008;
+        reverse_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool reverse = 4;</code>
+       *
+       * <pre>
+       ** If true, documents are returned in descending key order, starting from the end of the range 
+       * </pre>
+       */
+      public Builder clearReverse() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        reverse_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString afterKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes afterKey = 5;</code>
+       *
+       * <pre>
+       ** Resumes a scan after this key, which should be the lastKey of the previous page 
+       * </pre>
+       */
+      public boolean hasAfterKey() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bytes afterKey = 5;</code>
+       *
+       * <pre>
+       ** Resumes a scan after this key, which should be the lastKey of the previous page 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getAfterKey() {
+        return afterKey_;
+      }
+      /**
+       * <code>optional bytes afterKey = 5;</code>
+       *
+       * <pre>
+       ** Resumes a scan after this key, which should be the lastKey of the previous page 
+       * </pre>
+       */
+      public Builder setAfterKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        afterKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes afterKey = 5;</code>
+       *
+       * <pre>
+       ** Resumes a scan after this key, which should be the lastKey of the previous page 
+       * </pre>
+       */
+      public Builder clearAfterKey() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        afterKey_ = getDefaultInstance().getAfterKey();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString prefix_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes prefix = 6;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+       * </pre>
+       */
+      public boolean hasPrefix() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bytes prefix = 6;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getPrefix() {
+        return prefix_;
+      }
+      /**
+       * <code>optional bytes prefix = 6;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+       * </pre>
+       */
+      public Builder setPrefix(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        prefix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes prefix = 6;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix, within startKey and endKey if those are set too 
+       * </pre>
+       */
+      public Builder clearPrefix() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        prefix_ = getDefaultInstance().getPrefix();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public boolean hasContinuationToken() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getContinuationToken() {
+        return continuationToken_;
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public Builder setContinuationToken(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        continuationToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** Resumes a scan where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public Builder clearContinuationToken() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        continuationToken_ = getDefaultInstance().getContinuationToken();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
+    private static final org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody();
+    }
+
+    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<GetRangeRequestBody>
+        PARSER = new com.google.protobuf.AbstractParser<GetRangeRequestBody>() {
+      public GetRangeRequestBody parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new GetRangeRequestBody(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetRangeRequestBody> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetRangeRequestBody> getParserForType() {
+      return PARSER;
+    }
+
+    public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetByTypeRequestBodyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>required string contentType = 1;</code>
+     */
+    boolean hasContentType();
+    /**
+     * <code>required string contentType = 1;</code>
+     */
+    java.lang.String getContentType();
+    /**
+     * <code>required string contentType = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getContentTypeBytes();
+
+    /**
+     * <code>optional int32 limit = 2;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 2;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    int getLimit();
+
+    /**
+     * <code>optional bytes continuationToken = 3;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    boolean hasContinuationToken();
+    /**
+     * <code>optional bytes continuationToken = 3;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getContinuationToken();
+  }
+  /**
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody}
+   *
+   * <pre>
+   **
+   *   The body of a request for the documents of one contentType, which are returned in key order
+   * </pre>
+   */
+  public  static final class GetByTypeRequestBody extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody)
+      GetByTypeRequestBodyOrBuilder {
+    // Use GetByTypeRequestBody.newBuilder() to construct.
+    private GetByTypeRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private GetByTypeRequestBody() {
+      contentType_ = "";
+      limit_ = 0;
+      continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetByTypeRequestBody(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000001;
+              contentType_ = bs;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              limit_ = input.readInt32();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              continuationToken_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int CONTENTTYPE_FIELD_NUMBER = 1;
+    private volatile java.lang.Object contentType_;
+    /**
+     * <code>required string contentType = 1;</code>
+     */
+    public boolean hasContentType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string contentType = 1;</code>
+     */
+    public java.lang.String getContentType() {
+      java.lang.Object ref = contentType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          contentType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string contentType = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getContentTypeBytes() {
+      java.lang.Object ref = contentType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        contentType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 2;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 2;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int32 limit = 2;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int CONTINUATIONTOKEN_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString continuationToken_;
+    /**
+     * <code>optional bytes continuationToken = 3;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    public boolean hasContinuationToken() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bytes continuationToken = 3;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getContinuationToken() {
+      return continuationToken_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasContentType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, contentType_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt32(2, limit_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, continuationToken_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, contentType_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, limit_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, continuationToken_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody}
+     *
+     * <pre>
+     **
+     *   The body of a request for the documents of one contentType, which are returned in key order
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody)
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBodyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.Builder.class);
+      }
+
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        contentType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_descriptor;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.getDefaultInstance();
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody build() {
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.contentType_ = contentType_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.limit_ = limit_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.continuationToken_ = continuationToken_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody.getDefaultInstance()) return this;
+        if (other.hasContentType()) {
+          bitField0_ |= 0x00000001;
+          contentType_ = other.contentType_;
+          onChanged();
+        }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
+        if (other.hasContinuationToken()) {
+          setContinuationToken(other.getContinuationToken());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasContentType()) {
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object contentType_ = "";
+      /**
+       * <code>required string contentType = 1;</code>
+       */
+      public boolean hasContentType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string contentType = 1;</code>
+       */
+      public java.lang.String getContentType() {
+        java.lang.Object ref = contentType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            contentType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string contentType = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getContentTypeBytes() {
+        java.lang.Object ref = contentType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          contentType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string contentType = 1;</code>
+       */
+      public Builder setContentType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        contentType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string contentType = 1;</code>
+       */
+      public Builder clearContentType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        contentType_ = getDefaultInstance().getContentType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string contentType = 1;</code>
+       */
+      public Builder setContentTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        contentType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 2;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000002;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes continuationToken = 3;</code>
+       *
+       * <pre>
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public boolean hasContinuationToken() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bytes continuationToken = 3;</code>
+       *
+       * <pre>
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getContinuationToken() {
+        return continuationToken_;
+      }
+      /**
+       * <code>optional bytes continuationToken = 3;</code>
+       *
+       * <pre>
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public Builder setContinuationToken(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        continuationToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes continuationToken = 3;</code>
+       *
+       * <pre>
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public Builder clearContinuationToken() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        continuationToken_ = getDefaultInstance().getContinuationToken();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.GetByTypeRequestBody)
+    private static final org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody();
+    }
+
+    public static org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<GetByTypeRequestBody>
+        PARSER = new com.google.protobuf.AbstractParser<GetByTypeRequestBody>() {
+      public GetByTypeRequestBody parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new GetByTypeRequestBody(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetByTypeRequestBody> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetByTypeRequestBody> getParserForType() {
+      return PARSER;
+    }
+
+    public org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequestBody getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface QueryRequestBodyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.QueryRequestBody)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    boolean hasStartKey();
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    com.google.protobuf.ByteString getStartKey();
+
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    boolean hasEndKey();
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    com.google.protobuf.ByteString getEndKey();
+
+    /**
+     * <code>optional bytes prefix = 3;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix 
+     * </pre>
+     */
+    boolean hasPrefix();
+    /**
+     * <code>optional bytes prefix = 3;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getPrefix();
+
+    /**
+     * <code>optional string contentType = 4;</code>
+     *
+     * <pre>
+     ** If set, only documents of this contentType match 
+     * </pre>
+     */
+    boolean hasContentType();
+    /**
+     * <code>optional string contentType = 4;</code>
+     *
+     * <pre>
+     ** If set, only documents of this contentType match 
+     * </pre>
+     */
+    java.lang.String getContentType();
+    /**
+     * <code>optional string contentType = 4;</code>
+     *
+     * <pre>
+     ** If set, only documents of this contentType match 
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getContentTypeBytes();
+
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    java.util.List<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate>
+        getPredicateList();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    org.daboodb.daboo.generated.protobufs.Request.FieldPredicate getPredicate(int index);
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    int getPredicateCount();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder>
+        getPredicateOrBuilderList();
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder getPredicateOrBuilder(
+        int index);
+
+    /**
+     * <code>optional int32 limit = 6;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 6;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    int getLimit();
+
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    boolean hasContinuationToken();
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getContinuationToken();
+  }
+  /**
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.QueryRequestBody}
+   *
+   * <pre>
+   **
+   *   The body of a query: the documents in a key range, of one contentType, whose content satisfies every predicate.
+   *   The server evaluates the query as it scans, and returns only the matching documents, in key order
+   * </pre>
+   */
+  public  static final class QueryRequestBody extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.QueryRequestBody)
+      QueryRequestBodyOrBuilder {
+    // Use QueryRequestBody.newBuilder() to construct.
+    private QueryRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private QueryRequestBody() {
+      startKey_ = com.google.protobuf.ByteString.EMPTY;
+      endKey_ = com.google.protobuf.ByteString.EMPTY;
+      prefix_ = com.google.protobuf.ByteString.EMPTY;
+      contentType_ = "";
+      predicate_ = java.util.Collections.emptyList();
+      limit_ = 0;
+      continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private QueryRequestBody(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              startKey_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              endKey_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              prefix_ = input.readBytes();
+              break;
+            }
+            case 34: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000008;
+              contentType_ = bs;
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                predicate_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              predicate_.add(input.readMessage(org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.parser(), extensionRegistry));
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000010;
+              limit_ = input.readInt32();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000020;
+              continuationToken_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          predicate_ = java.util.Collections.unmodifiableList(predicate_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int STARTKEY_FIELD_NUMBER = 1;
+    private com.google.protobuf.ByteString startKey_;
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    public boolean hasStartKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional bytes startKey = 1;</code>
+     */
+    public com.google.protobuf.ByteString getStartKey() {
+      return startKey_;
+    }
+
+    public static final int ENDKEY_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString endKey_;
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    public boolean hasEndKey() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes endKey = 2;</code>
+     *
+     * <pre>
+     *exclusive; if unset, the range has no upper bound
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getEndKey() {
+      return endKey_;
+    }
+
+    public static final int PREFIX_FIELD_NUMBER = 3;
+    private com.google.protobuf.ByteString prefix_;
+    /**
+     * <code>optional bytes prefix = 3;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix 
+     * </pre>
+     */
+    public boolean hasPrefix() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bytes prefix = 3;</code>
+     *
+     * <pre>
+     ** Restricts the range to keys that begin with this prefix 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getPrefix() {
+      return prefix_;
+    }
+
+    public static final int CONTENTTYPE_FIELD_NUMBER = 4;
+    private volatile java.lang.Object contentType_;
+    /**
+     * <code>optional string contentType = 4;</code>
+     *
+     * <pre>
+     ** If set, only documents of this contentType match 
+     * </pre>
+     */
+    public boolean hasContentType() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional string contentType = 4;</code>
+     *
+     * <pre>
+     ** If set, only documents of this contentType match 
+     * </pre>
+     */
+    public java.lang.String getContentType() {
+      java.lang.Object ref = contentType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          contentType_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string contentType = 4;</code>
+     *
+     * <pre>
+     ** If set, only documents of this contentType match 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getContentTypeBytes() {
+      java.lang.Object ref = contentType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        contentType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PREDICATE_FIELD_NUMBER = 5;
+    private java.util.List<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate> predicate_;
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    public java.util.List<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate> getPredicateList() {
+      return predicate_;
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder>
+        getPredicateOrBuilderList() {
+      return predicate_;
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    public int getPredicateCount() {
+      return predicate_.size();
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate getPredicate(int index) {
+      return predicate_.get(index);
+    }
+    /**
+     * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+     *
+     * <pre>
+     ** Conditions on fields of the documents' JSON content, all of which must hold 
+     * </pre>
+     */
+    public org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder getPredicateOrBuilder(
+        int index) {
+      return predicate_.get(index);
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 6;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 6;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int32 limit = 6;</code>
+     *
+     * <pre>
+     ** The most documents to return in one reply. The server may return fewer, but never more 
+     * </pre>
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int CONTINUATIONTOKEN_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString continuationToken_;
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    public boolean hasContinuationToken() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getContinuationToken() {
+      return continuationToken_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getPredicateCount(); i++) {
+        if (!getPredicate(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, startKey_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, endKey_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, prefix_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, contentType_);
+      }
+      for (int i = 0; i < predicate_.size(); i++) {
+        output.writeMessage(5, predicate_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(6, limit_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(7, continuationToken_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, startKey_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, endKey_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, prefix_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, contentType_);
+      }
+      for (int i = 0; i < predicate_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, predicate_.get(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, limit_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, continuationToken_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.QueryRequestBody}
+     *
+     * <pre>
+     **
+     *   The body of a query: the documents in a key range, of one contentType, whose content satisfies every predicate.
+     *   The server evaluates the query as it scans, and returns only the matching documents, in key order
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.QueryRequestBody)
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequestBodyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.Builder.class);
+      }
+
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getPredicateFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        startKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        endKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        prefix_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        contentType_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        if (predicateBuilder_ == null) {
+          predicate_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          predicateBuilder_.clear();
+        }
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_descriptor;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.getDefaultInstance();
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody build() {
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.startKey_ = startKey_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.endKey_ = endKey_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.prefix_ = prefix_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.contentType_ = contentType_;
+        if (predicateBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            predicate_ = java.util.Collections.unmodifiableList(predicate_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.predicate_ = predicate_;
+        } else {
+          result.predicate_ = predicateBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.limit_ = limit_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.continuationToken_ = continuationToken_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody.getDefaultInstance()) return this;
+        if (other.hasStartKey()) {
+          setStartKey(other.getStartKey());
+        }
+        if (other.hasEndKey()) {
+          setEndKey(other.getEndKey());
+        }
+        if (other.hasPrefix()) {
+          setPrefix(other.getPrefix());
+        }
+        if (other.hasContentType()) {
+          bitField0_ |= 0x00000008;
+          contentType_ = other.contentType_;
+          onChanged();
+        }
+        if (predicateBuilder_ == null) {
+          if (!other.predicate_.isEmpty()) {
+            if (predicate_.isEmpty()) {
+              predicate_ = other.predicate_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensurePredicateIsMutable();
+              predicate_.addAll(other.predicate_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.predicate_.isEmpty()) {
+            if (predicateBuilder_.isEmpty()) {
+              predicateBuilder_.dispose();
+              predicateBuilder_ = null;
+              predicate_ = other.predicate_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              predicateBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getPredicateFieldBuilder() : null;
+            } else {
+              predicateBuilder_.addAllMessages(other.predicate_);
+            }
+          }
+        }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
+        if (other.hasContinuationToken()) {
+          setContinuationToken(other.getContinuationToken());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getPredicateCount(); i++) {
+          if (!getPredicate(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.ByteString startKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public boolean hasStartKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public com.google.protobuf.ByteString getStartKey() {
+        return startKey_;
+      }
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public Builder setStartKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        startKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes startKey = 1;</code>
+       */
+      public Builder clearStartKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        startKey_ = getDefaultInstance().getStartKey();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString endKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public boolean hasEndKey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getEndKey() {
+        return endKey_;
+      }
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public Builder setEndKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        endKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes endKey = 2;</code>
+       *
+       * <pre>
+       *exclusive; if unset, the range has no upper bound
+       * </pre>
+       */
+      public Builder clearEndKey() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        endKey_ = getDefaultInstance().getEndKey();
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString prefix_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes prefix = 3;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix 
+       * </pre>
+       */
+      public boolean hasPrefix() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bytes prefix = 3;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getPrefix() {
+        return prefix_;
+      }
+      /**
+       * <code>optional bytes prefix = 3;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix 
+       * </pre>
+       */
+      public Builder setPrefix(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        prefix_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes prefix = 3;</code>
+       *
+       * <pre>
+       ** Restricts the range to keys that begin with this prefix 
+       * </pre>
+       */
+      public Builder clearPrefix() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        prefix_ = getDefaultInstance().getPrefix();
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object contentType_ = "";
+      /**
+       * <code>optional string contentType = 4;</code>
+       *
+       * <pre>
+       ** If set, only documents of this contentType match 
+       * </pre>
+       */
+      public boolean hasContentType() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string contentType = 4;</code>
+       *
+       * <pre>
+       ** If set, only documents of this contentType match 
+       * </pre>
+       */
+      public java.lang.String getContentType() {
+        java.lang.Object ref = contentType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            contentType_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string contentType = 4;</code>
+       *
+       * <pre>
+       ** If set, only documents of this contentType match 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getContentTypeBytes() {
+        java.lang.Object ref = contentType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          contentType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string contentType = 4;</code>
+       *
+       * <pre>
+       ** If set, only documents of this contentType match 
+       * </pre>
+       */
+      public Builder setContentType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        contentType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string contentType = 4;</code>
+       *
+       * <pre>
+       ** If set, only documents of this contentType match 
+       * </pre>
+       */
+      public Builder clearContentType() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        contentType_ = getDefaultInstance().getContentType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string contentType = 4;</code>
+       *
+       * <pre>
+       ** If set, only documents of this contentType match 
+       * </pre>
+       */
+      public Builder setContentTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        contentType_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate> predicate_ =
+        java.util.Collections.emptyList();
+      private void ensurePredicateIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          predicate_ = new java.util.ArrayList<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate>(predicate_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.FieldPredicate, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder, org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder> predicateBuilder_;
+
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate> getPredicateList() {
+        if (predicateBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(predicate_);
+        } else {
+          return predicateBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public int getPredicateCount() {
+        if (predicateBuilder_ == null) {
+          return predicate_.size();
+        } else {
+          return predicateBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate getPredicate(int index) {
+        if (predicateBuilder_ == null) {
+          return predicate_.get(index);
+        } else {
+          return predicateBuilder_.getMessage(index);
         }
       }
-      public Builder clear() {
-        super.clear();
-        key_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000001);
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder setPredicate(
+          int index, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate value) {
+        if (predicateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePredicateIsMutable();
+          predicate_.set(index, value);
+          onChanged();
+        } else {
+          predicateBuilder_.setMessage(index, value);
+        }
         return this;
       }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor;
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder setPredicate(
+          int index, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder builderForValue) {
+        if (predicateBuilder_ == null) {
+          ensurePredicateIsMutable();
+          predicate_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          predicateBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
       }
-
-      public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody getDefaultInstanceForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.getDefaultInstance();
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder addPredicate(org.daboodb.daboo.generated.protobufs.Request.FieldPredicate value) {
+        if (predicateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePredicateIsMutable();
+          predicate_.add(value);
+          onChanged();
+        } else {
+          predicateBuilder_.addMessage(value);
+        }
+        return this;
       }
-
-      public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody build() {
-        org.daboodb.daboo.generated.protobufs.Request.GetRequestBody result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder addPredicate(
+          int index, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate value) {
+        if (predicateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePredicateIsMutable();
+          predicate_.add(index, value);
+          onChanged();
+        } else {
+          predicateBuilder_.addMessage(index, value);
         }
-        return result;
+        return this;
       }
-
-      public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody buildPartial() {
-        org.daboodb.daboo.generated.protobufs.Request.GetRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.GetRequestBody(this);
-        int from_bitField0_ = bitField0_;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          key_ = java.util.Collections.unmodifiableList(key_);
-          bitField0_ = (bitField0_ & ~0x00000001);
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder addPredicate(
+          org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder builderForValue) {
+        if (predicateBuilder_ == null) {
+          ensurePredicateIsMutable();
+          predicate_.add(builderForValue.build());
+          onChanged();
+        } else {
+          predicateBuilder_.addMessage(builderForValue.build());
         }
-        result.key_ = key_;
-        onBuilt();
-        return result;
+        return this;
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.GetRequestBody) {
-          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.GetRequestBody)other);
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder addPredicate(
+          int index, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder builderForValue) {
+        if (predicateBuilder_ == null) {
+          ensurePredicateIsMutable();
+          predicate_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          super.mergeFrom(other);
-          return this;
+          predicateBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
-
-      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.GetRequestBody other) {
-        if (other == org.daboodb.daboo.generated.protobufs.Request.GetRequestBody.getDefaultInstance()) return this;
-        if (!other.key_.isEmpty()) {
-          if (key_.isEmpty()) {
-            key_ = other.key_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensureKeyIsMutable();
-            key_.addAll(other.key_);
-          }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder addAllPredicate(
+          java.lang.Iterable<? extends org.daboodb.daboo.generated.protobufs.Request.FieldPredicate> values) {
+        if (predicateBuilder_ == null) {
+          ensurePredicateIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, predicate_);
           onChanged();
+        } else {
+          predicateBuilder_.addAllMessages(values);
         }
-        this.mergeUnknownFields(other.unknownFields);
-        onChanged();
         return this;
       }
-
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder clearPredicate() {
+        if (predicateBuilder_ == null) {
+          predicate_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          predicateBuilder_.clear();
+        }
+        return this;
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.daboodb.daboo.generated.protobufs.Request.GetRequestBody parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.GetRequestBody) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public Builder removePredicate(int index) {
+        if (predicateBuilder_ == null) {
+          ensurePredicateIsMutable();
+          predicate_.remove(index);
+          onChanged();
+        } else {
+          predicateBuilder_.remove(index);
         }
         return this;
       }
-      private int bitField0_;
-
-      private java.util.List<com.google.protobuf.ByteString> key_ = java.util.Collections.emptyList();
-      private void ensureKeyIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          key_ = new java.util.ArrayList<com.google.protobuf.ByteString>(key_);
-          bitField0_ |= 0x00000001;
-         }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder getPredicateBuilder(
+          int index) {
+        return getPredicateFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated bytes key = 1;</code>
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
        *
        * <pre>
-       *keys to get
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
        * </pre>
        */
-      public java.util.List<com.google.protobuf.ByteString>
-          getKeyList() {
-        return java.util.Collections.unmodifiableList(key_);
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder getPredicateOrBuilder(
+          int index) {
+        if (predicateBuilder_ == null) {
+          return predicate_.get(index);  } else {
+          return predicateBuilder_.getMessageOrBuilder(index);
+        }
       }
       /**
-       * <code>repeated bytes key = 1;</code>
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
        *
        * <pre>
-       *keys to get
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
        * </pre>
        */
-      public int getKeyCount() {
-        return key_.size();
+      public java.util.List<? extends org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder>
+           getPredicateOrBuilderList() {
+        if (predicateBuilder_ != null) {
+          return predicateBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(predicate_);
+        }
       }
       /**
-       * <code>repeated bytes key = 1;</code>
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
        *
        * <pre>
-       *keys to get
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
        * </pre>
        */
-      public com.google.protobuf.ByteString getKey(int index) {
-        return key_.get(index);
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder addPredicateBuilder() {
+        return getPredicateFieldBuilder().addBuilder(
+            org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.getDefaultInstance());
       }
       /**
-       * <code>repeated bytes key = 1;</code>
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
        *
        * <pre>
-       *keys to get
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
        * </pre>
        */
-      public Builder setKey(
-          int index, com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeyIsMutable();
-        key_.set(index, value);
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder addPredicateBuilder(
+          int index) {
+        return getPredicateFieldBuilder().addBuilder(
+            index, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .org.daboodb.daboo.generated.protobufs.FieldPredicate predicate = 5;</code>
+       *
+       * <pre>
+       ** Conditions on fields of the documents' JSON content, all of which must hold 
+       * </pre>
+       */
+      public java.util.List<org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder>
+           getPredicateBuilderList() {
+        return getPredicateFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.daboodb.daboo.generated.protobufs.Request.FieldPredicate, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder, org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder>
+          getPredicateFieldBuilder() {
+        if (predicateBuilder_ == null) {
+          predicateBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.daboodb.daboo.generated.protobufs.Request.FieldPredicate, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder, org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder>(
+                  predicate_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          predicate_ = null;
+        }
+        return predicateBuilder_;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 6;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int32 limit = 6;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 6;</code>
+       *
+       * <pre>
+       ** The most documents to return in one reply. The server may return fewer, but never more 
+       * </pre>
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000020;
+        limit_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated bytes key = 1;</code>
+       * <code>optional int32 limit = 6;</code>
        *
        * <pre>
-       *keys to get
+       ** The most documents to return in one reply. The server may return fewer, but never more 
        * </pre>
        */
-      public Builder addKey(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureKeyIsMutable();
-        key_.add(value);
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        limit_ = 0;
         onChanged();
         return this;
       }
+
+      private com.google.protobuf.ByteString continuationToken_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated bytes key = 1;</code>
+       * <code>optional bytes continuationToken = 7;</code>
        *
        * <pre>
-       *keys to get
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
        * </pre>
        */
-      public Builder addAllKey(
-          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
-        ensureKeyIsMutable();
-        com.google.protobuf.AbstractMessageLite.Builder.addAll(
-            values, key_);
+      public boolean hasContinuationToken() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getContinuationToken() {
+        return continuationToken_;
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
+       * </pre>
+       */
+      public Builder setContinuationToken(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        continuationToken_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>repeated bytes key = 1;</code>
+       * <code>optional bytes continuationToken = 7;</code>
        *
        * <pre>
-       *keys to get
+       ** Resumes where the previous page ended: the continuationToken of the previous reply, unchanged 
        * </pre>
        */
-      public Builder clearKey() {
-        key_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearContinuationToken() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        continuationToken_ = getDefaultInstance().getContinuationToken();
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.GetRequestBody)
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.QueryRequestBody)
     }
 
-    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.GetRequestBody)
-    private static final org.daboodb.daboo.generated.protobufs.Request.GetRequestBody DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.QueryRequestBody)
+    private static final org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.GetRequestBody();
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody();
     }
 
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRequestBody getDefaultInstance() {
+    public static org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<GetRequestBody>
-        PARSER = new com.google.protobuf.AbstractParser<GetRequestBody>() {
-      public GetRequestBody parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<QueryRequestBody>
+        PARSER = new com.google.protobuf.AbstractParser<QueryRequestBody>() {
+      public QueryRequestBody parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new GetRequestBody(input, extensionRegistry);
+          return new QueryRequestBody(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -5434,62 +10257,115 @@ public final class Request {
       }
     };
 
-    public static com.google.protobuf.Parser<GetRequestBody> parser() {
+    public static com.google.protobuf.Parser<QueryRequestBody> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetRequestBody> getParserForType() {
+    public com.google.protobuf.Parser<QueryRequestBody> getParserForType() {
       return PARSER;
     }
 
-    public org.daboodb.daboo.generated.protobufs.Request.GetRequestBody getDefaultInstanceForType() {
+    public org.daboodb.daboo.generated.protobufs.Request.QueryRequestBody getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetRangeRequestBodyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
+  public interface FieldPredicateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.daboodb.daboo.generated.protobufs.FieldPredicate)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional bytes startKey = 1;</code>
+     * <code>required string field = 1;</code>
+     *
+     * <pre>
+     ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+     * </pre>
      */
-    boolean hasStartKey();
+    boolean hasField();
     /**
-     * <code>optional bytes startKey = 1;</code>
+     * <code>required string field = 1;</code>
+     *
+     * <pre>
+     ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+     * </pre>
      */
-    com.google.protobuf.ByteString getStartKey();
+    java.lang.String getField();
+    /**
+     * <code>required string field = 1;</code>
+     *
+     * <pre>
+     ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getFieldBytes();
 
     /**
-     * <code>optional bytes endKey = 2;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
      */
-    boolean hasEndKey();
+    boolean hasOperator();
     /**
-     * <code>optional bytes endKey = 2;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
      */
-    com.google.protobuf.ByteString getEndKey();
+    org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator getOperator();
+
+    /**
+     * <code>optional string stringValue = 3;</code>
+     */
+    boolean hasStringValue();
+    /**
+     * <code>optional string stringValue = 3;</code>
+     */
+    java.lang.String getStringValue();
+    /**
+     * <code>optional string stringValue = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getStringValueBytes();
+
+    /**
+     * <code>optional double numberValue = 4;</code>
+     */
+    boolean hasNumberValue();
+    /**
+     * <code>optional double numberValue = 4;</code>
+     */
+    double getNumberValue();
+
+    /**
+     * <code>optional bool boolValue = 5;</code>
+     */
+    boolean hasBoolValue();
+    /**
+     * <code>optional bool boolValue = 5;</code>
+     */
+    boolean getBoolValue();
   }
   /**
-   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRangeRequestBody}
+   * Protobuf type {@code org.daboodb.daboo.generated.protobufs.FieldPredicate}
    *
    * <pre>
    **
-   *   The body of a get request
+   *   A condition on one field of a document's JSON content. The value compared against is the one value field that is
+   *   set; EXISTS needs none
    * </pre>
    */
-  public  static final class GetRangeRequestBody extends
+  public  static final class FieldPredicate extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
-      GetRangeRequestBodyOrBuilder {
-    // Use GetRangeRequestBody.newBuilder() to construct.
-    private GetRangeRequestBody(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:org.daboodb.daboo.generated.protobufs.FieldPredicate)
+      FieldPredicateOrBuilder {
+    // Use FieldPredicate.newBuilder() to construct.
+    private FieldPredicate(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private GetRangeRequestBody() {
-      startKey_ = com.google.protobuf.ByteString.EMPTY;
-      endKey_ = com.google.protobuf.ByteString.EMPTY;
+    private FieldPredicate() {
+      field_ = "";
+      operator_ = 1;
+      stringValue_ = "";
+      numberValue_ = 0D;
+      boolValue_ = false;
     }
 
     @java.lang.Override
@@ -5497,7 +10373,7 @@ public final class Request {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetRangeRequestBody(
+    private FieldPredicate(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -5520,13 +10396,36 @@ public final class Request {
               break;
             }
             case 10: {
+              com.google.protobuf.ByteString bs = input.readBytes();
               bitField0_ |= 0x00000001;
-              startKey_ = input.readBytes();
+              field_ = bs;
               break;
             }
-            case 18: {
-              bitField0_ |= 0x00000002;
-              endKey_ = input.readBytes();
+            case 16: {
+              int rawValue = input.readEnum();
+              org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator value = org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                bitField0_ |= 0x00000002;
+                operator_ = rawValue;
+              }
+              break;
+            }
+            case 26: {
+              com.google.protobuf.ByteString bs = input.readBytes();
+              bitField0_ |= 0x00000004;
+              stringValue_ = bs;
+              break;
+            }
+            case 33: {
+              bitField0_ |= 0x00000008;
+              numberValue_ = input.readDouble();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              boolValue_ = input.readBool();
               break;
             }
           }
@@ -5544,45 +10443,295 @@ public final class Request {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor;
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_fieldAccessorTable
+      return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.Builder.class);
+              org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.class, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder.class);
+    }
+
+    /**
+     * Protobuf enum {@code org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator}
+     */
+    public enum Operator
+        implements com.google.protobuf.ProtocolMessageEnum {
+      /**
+       * <code>EQUALS = 1;</code>
+       */
+      EQUALS(0, 1),
+      /**
+       * <code>NOT_EQUALS = 2;</code>
+       */
+      NOT_EQUALS(1, 2),
+      /**
+       * <code>LESS_THAN = 3;</code>
+       */
+      LESS_THAN(2, 3),
+      /**
+       * <code>LESS_THAN_OR_EQUAL = 4;</code>
+       */
+      LESS_THAN_OR_EQUAL(3, 4),
+      /**
+       * <code>GREATER_THAN = 5;</code>
+       */
+      GREATER_THAN(4, 5),
+      /**
+       * <code>GREATER_THAN_OR_EQUAL = 6;</code>
+       */
+      GREATER_THAN_OR_EQUAL(5, 6),
+      /**
+       * <code>STARTS_WITH = 7;</code>
+       */
+      STARTS_WITH(6, 7),
+      /**
+       * <code>EXISTS = 8;</code>
+       */
+      EXISTS(7, 8),
+      ;
+
+      /**
+       * <code>EQUALS = 1;</code>
+       */
+      public static final int EQUALS_VALUE = 1;
+      /**
+       * <code>NOT_EQUALS = 2;</code>
+       */
+      public static final int NOT_EQUALS_VALUE = 2;
+      /**
+       * <code>LESS_THAN = 3;</code>
+       */
+      public static final int LESS_THAN_VALUE = 3;
+      /**
+       * <code>LESS_THAN_OR_EQUAL = 4;</code>
+       */
+      public static final int LESS_THAN_OR_EQUAL_VALUE = 4;
+      /**
+       * <code>GREATER_THAN = 5;</code>
+       */
+      public static final int GREATER_THAN_VALUE = 5;
+      /**
+       * <code>GREATER_THAN_OR_EQUAL = 6;</code>
+       */
+      public static final int GREATER_THAN_OR_EQUAL_VALUE = 6;
+      /**
+       * <code>STARTS_WITH = 7;</code>
+       */
+      public static final int STARTS_WITH_VALUE = 7;
+      /**
+       * <code>EXISTS = 8;</code>
+       */
+      public static final int EXISTS_VALUE = 8;
+
+
+      public final int getNumber() {
+        return value;
+      }
+
+      public static Operator valueOf(int value) {
+        switch (value) {
+          case 1: return EQUALS;
+          case 2: return NOT_EQUALS;
+          case 3: return LESS_THAN;
+          case 4: return LESS_THAN_OR_EQUAL;
+          case 5: return GREATER_THAN;
+          case 6: return GREATER_THAN_OR_EQUAL;
+          case 7: return STARTS_WITH;
+          case 8: return EXISTS;
+          default: return null;
+        }
+      }
+
+      public static com.google.protobuf.Internal.EnumLiteMap<Operator>
+          internalGetValueMap() {
+        return internalValueMap;
+      }
+      private static final com.google.protobuf.Internal.EnumLiteMap<
+          Operator> internalValueMap =
+            new com.google.protobuf.Internal.EnumLiteMap<Operator>() {
+              public Operator findValueByNumber(int number) {
+                return Operator.valueOf(number);
+              }
+            };
+
+      public final com.google.protobuf.Descriptors.EnumValueDescriptor
+          getValueDescriptor() {
+        return getDescriptor().getValues().get(index);
+      }
+      public final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptorForType() {
+        return getDescriptor();
+      }
+      public static final com.google.protobuf.Descriptors.EnumDescriptor
+          getDescriptor() {
+        return org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.getDescriptor().getEnumTypes().get(0);
+      }
+
+      private static final Operator[] VALUES = values();
+
+      public static Operator valueOf(
+          com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+        if (desc.getType() != getDescriptor()) {
+          throw new java.lang.IllegalArgumentException(
+            "EnumValueDescriptor is not for this type.");
+        }
+        return VALUES[desc.getIndex()];
+      }
+
+      private final int index;
+      private final int value;
+
+      private Operator(int index, int value) {
+        this.index = index;
+        this.value = value;
+      }
+
+      // @@protoc_insertion_point(enum_scope:org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator)
     }
 
     private int bitField0_;
-    public static final int STARTKEY_FIELD_NUMBER = 1;
-    private com.google.protobuf.ByteString startKey_;
+    public static final int FIELD_FIELD_NUMBER = 1;
+    private volatile java.lang.Object field_;
     /**
-     * <code>optional bytes startKey = 1;</code>
+     * <code>required string field = 1;</code>
+     *
+     * <pre>
+     ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+     * </pre>
      */
-    public boolean hasStartKey() {
+    public boolean hasField() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional bytes startKey = 1;</code>
+     * <code>required string field = 1;</code>
+     *
+     * <pre>
+     ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+     * </pre>
      */
-    public com.google.protobuf.ByteString getStartKey() {
-      return startKey_;
+    public java.lang.String getField() {
+      java.lang.Object ref = field_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          field_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string field = 1;</code>
+     *
+     * <pre>
+     ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getFieldBytes() {
+      java.lang.Object ref = field_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        field_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int ENDKEY_FIELD_NUMBER = 2;
-    private com.google.protobuf.ByteString endKey_;
+    public static final int OPERATOR_FIELD_NUMBER = 2;
+    private int operator_;
     /**
-     * <code>optional bytes endKey = 2;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
      */
-    public boolean hasEndKey() {
+    public boolean hasOperator() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional bytes endKey = 2;</code>
+     * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
      */
-    public com.google.protobuf.ByteString getEndKey() {
-      return endKey_;
+    public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator getOperator() {
+      org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator result = org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator.valueOf(operator_);
+      return result == null ? org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator.EQUALS : result;
+    }
+
+    public static final int STRINGVALUE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object stringValue_;
+    /**
+     * <code>optional string stringValue = 3;</code>
+     */
+    public boolean hasStringValue() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string stringValue = 3;</code>
+     */
+    public java.lang.String getStringValue() {
+      java.lang.Object ref = stringValue_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          stringValue_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string stringValue = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStringValueBytes() {
+      java.lang.Object ref = stringValue_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        stringValue_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NUMBERVALUE_FIELD_NUMBER = 4;
+    private double numberValue_;
+    /**
+     * <code>optional double numberValue = 4;</code>
+     */
+    public boolean hasNumberValue() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional double numberValue = 4;</code>
+     */
+    public double getNumberValue() {
+      return numberValue_;
+    }
+
+    public static final int BOOLVALUE_FIELD_NUMBER = 5;
+    private boolean boolValue_;
+    /**
+     * <code>optional bool boolValue = 5;</code>
+     */
+    public boolean hasBoolValue() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool boolValue = 5;</code>
+     */
+    public boolean getBoolValue() {
+      return boolValue_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5591,6 +10740,14 @@ public final class Request {
       if (isInitialized == 1) return true;
       if (isInitialized == 0) return false;
 
+      if (!hasField()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOperator()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -5598,10 +10755,19 @@ public final class Request {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, startKey_);
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, field_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, endKey_);
+        output.writeEnum(2, operator_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, stringValue_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeDouble(4, numberValue_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBool(5, boolValue_);
       }
       unknownFields.writeTo(output);
     }
@@ -5612,12 +10778,22 @@ public final class Request {
 
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, field_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, operator_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, stringValue_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, startKey_);
+          .computeDoubleSize(4, numberValue_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, endKey_);
+          .computeBoolSize(5, boolValue_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5625,53 +10801,53 @@ public final class Request {
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(byte[] data)
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseDelimitedFrom(java.io.InputStream input)
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseDelimitedFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parseFrom(
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5682,7 +10858,7 @@ public final class Request {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody prototype) {
+    public static Builder newBuilder(org.daboodb.daboo.generated.protobufs.Request.FieldPredicate prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5697,30 +10873,31 @@ public final class Request {
       return builder;
     }
     /**
-     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetRangeRequestBody}
+     * Protobuf type {@code org.daboodb.daboo.generated.protobufs.FieldPredicate}
      *
      * <pre>
      **
-     *   The body of a get request
+     *   A condition on one field of a document's JSON content. The value compared against is the one value field that is
+     *   set; EXISTS needs none
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
-        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBodyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:org.daboodb.daboo.generated.protobufs.FieldPredicate)
+        org.daboodb.daboo.generated.protobufs.Request.FieldPredicateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_fieldAccessorTable
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.class, org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.Builder.class);
+                org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.class, org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Builder.class);
       }
 
-      // Construct using org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.newBuilder()
+      // Construct using org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5736,63 +10913,94 @@ public final class Request {
       }
       public Builder clear() {
         super.clear();
-        startKey_ = com.google.protobuf.ByteString.EMPTY;
+        field_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        endKey_ = com.google.protobuf.ByteString.EMPTY;
+        operator_ = 1;
         bitField0_ = (bitField0_ & ~0x00000002);
+        stringValue_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        numberValue_ = 0D;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        boolValue_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor;
+        return org.daboodb.daboo.generated.protobufs.Request.internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_descriptor;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody getDefaultInstanceForType() {
-        return org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.getDefaultInstance();
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate getDefaultInstanceForType() {
+        return org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.getDefaultInstance();
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody build() {
-        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody result = buildPartial();
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate build() {
+        org.daboodb.daboo.generated.protobufs.Request.FieldPredicate result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody buildPartial() {
-        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody result = new org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody(this);
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate buildPartial() {
+        org.daboodb.daboo.generated.protobufs.Request.FieldPredicate result = new org.daboodb.daboo.generated.protobufs.Request.FieldPredicate(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.startKey_ = startKey_;
+        result.field_ = field_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.endKey_ = endKey_;
+        result.operator_ = operator_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.stringValue_ = stringValue_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.numberValue_ = numberValue_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.boolValue_ = boolValue_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody) {
-          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody)other);
+        if (other instanceof org.daboodb.daboo.generated.protobufs.Request.FieldPredicate) {
+          return mergeFrom((org.daboodb.daboo.generated.protobufs.Request.FieldPredicate)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody other) {
-        if (other == org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody.getDefaultInstance()) return this;
-        if (other.hasStartKey()) {
-          setStartKey(other.getStartKey());
+      public Builder mergeFrom(org.daboodb.daboo.generated.protobufs.Request.FieldPredicate other) {
+        if (other == org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.getDefaultInstance()) return this;
+        if (other.hasField()) {
+          bitField0_ |= 0x00000001;
+          field_ = other.field_;
+          onChanged();
         }
-        if (other.hasEndKey()) {
-          setEndKey(other.getEndKey());
+        if (other.hasOperator()) {
+          setOperator(other.getOperator());
+        }
+        if (other.hasStringValue()) {
+          bitField0_ |= 0x00000004;
+          stringValue_ = other.stringValue_;
+          onChanged();
+        }
+        if (other.hasNumberValue()) {
+          setNumberValue(other.getNumberValue());
+        }
+        if (other.hasBoolValue()) {
+          setBoolValue(other.getBoolValue());
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -5800,6 +11008,12 @@ public final class Request {
       }
 
       public final boolean isInitialized() {
+        if (!hasField()) {
+          return false;
+        }
+        if (!hasOperator()) {
+          return false;
+        }
         return true;
       }
 
@@ -5807,11 +11021,11 @@ public final class Request {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody parsedMessage = null;
+        org.daboodb.daboo.generated.protobufs.Request.FieldPredicate parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody) e.getUnfinishedMessage();
+          parsedMessage = (org.daboodb.daboo.generated.protobufs.Request.FieldPredicate) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5822,97 +11036,303 @@ public final class Request {
       }
       private int bitField0_;
 
-      private com.google.protobuf.ByteString startKey_ = com.google.protobuf.ByteString.EMPTY;
+      private java.lang.Object field_ = "";
       /**
-       * <code>optional bytes startKey = 1;</code>
+       * <code>required string field = 1;</code>
+       *
+       * <pre>
+       ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+       * </pre>
        */
-      public boolean hasStartKey() {
+      public boolean hasField() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional bytes startKey = 1;</code>
+       * <code>required string field = 1;</code>
+       *
+       * <pre>
+       ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+       * </pre>
        */
-      public com.google.protobuf.ByteString getStartKey() {
-        return startKey_;
+      public java.lang.String getField() {
+        java.lang.Object ref = field_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            field_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>optional bytes startKey = 1;</code>
+       * <code>required string field = 1;</code>
+       *
+       * <pre>
+       ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+       * </pre>
        */
-      public Builder setStartKey(com.google.protobuf.ByteString value) {
+      public com.google.protobuf.ByteString
+          getFieldBytes() {
+        java.lang.Object ref = field_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          field_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string field = 1;</code>
+       *
+       * <pre>
+       ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+       * </pre>
+       */
+      public Builder setField(
+          java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        startKey_ = value;
+        field_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes startKey = 1;</code>
+       * <code>required string field = 1;</code>
+       *
+       * <pre>
+       ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+       * </pre>
        */
-      public Builder clearStartKey() {
+      public Builder clearField() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        startKey_ = getDefaultInstance().getStartKey();
+        field_ = getDefaultInstance().getField();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string field = 1;</code>
+       *
+       * <pre>
+       ** The field's name, or a dotted path to a field of a nested object, such as "address.city" 
+       * </pre>
+       */
+      public Builder setFieldBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        field_ = value;
         onChanged();
         return this;
       }
 
-      private com.google.protobuf.ByteString endKey_ = com.google.protobuf.ByteString.EMPTY;
+      private int operator_ = 1;
       /**
-       * <code>optional bytes endKey = 2;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
        */
-      public boolean hasEndKey() {
+      public boolean hasOperator() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional bytes endKey = 2;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
        */
-      public com.google.protobuf.ByteString getEndKey() {
-        return endKey_;
+      public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator getOperator() {
+        org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator result = org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator.valueOf(operator_);
+        return result == null ? org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator.EQUALS : result;
       }
       /**
-       * <code>optional bytes endKey = 2;</code>
+       * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
        */
-      public Builder setEndKey(com.google.protobuf.ByteString value) {
+      public Builder setOperator(org.daboodb.daboo.generated.protobufs.Request.FieldPredicate.Operator value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000002;
+        operator_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .org.daboodb.daboo.generated.protobufs.FieldPredicate.Operator operator = 2;</code>
+       */
+      public Builder clearOperator() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        operator_ = 1;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object stringValue_ = "";
+      /**
+       * <code>optional string stringValue = 3;</code>
+       */
+      public boolean hasStringValue() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string stringValue = 3;</code>
+       */
+      public java.lang.String getStringValue() {
+        java.lang.Object ref = stringValue_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            stringValue_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string stringValue = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStringValueBytes() {
+        java.lang.Object ref = stringValue_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          stringValue_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string stringValue = 3;</code>
+       */
+      public Builder setStringValue(
+          java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        endKey_ = value;
+  bitField0_ |= 0x00000004;
+        stringValue_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bytes endKey = 2;</code>
+       * <code>optional string stringValue = 3;</code>
        */
-      public Builder clearEndKey() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        endKey_ = getDefaultInstance().getEndKey();
+      public Builder clearStringValue() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        stringValue_ = getDefaultInstance().getStringValue();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string stringValue = 3;</code>
+       */
+      public Builder setStringValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        stringValue_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
+      private double numberValue_ ;
+      /**
+       * <code>optional double numberValue = 4;</code>
+       */
+      public boolean hasNumberValue() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional double numberValue = 4;</code>
+       */
+      public double getNumberValue() {
+        return numberValue_;
+      }
+      /**
+       * <code>optional double numberValue = 4;</code>
+       */
+      public Builder setNumberValue(double value) {
+        bitField0_ |= 0x00000008;
+        numberValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional double numberValue = 4;</code>
+       */
+      public Builder clearNumberValue() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        numberValue_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private boolean boolValue_ ;
+      /**
+       * <code>optional bool boolValue = 5;</code>
+       */
+      public boolean hasBoolValue() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bool boolValue = 5;</code>
+       */
+      public boolean getBoolValue() {
+        return boolValue_;
+      }
+      /**
+       * <code>optional bool boolValue = 5;</code>
+       */
+      public Builder setBoolValue(boolean value) {
+        bitField0_ |= 0x00000010;
+        boolValue_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool boolValue = 5;</code>
+       */
+      public Builder clearBoolValue() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        boolValue_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.FieldPredicate)
     }
 
-    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.GetRangeRequestBody)
-    private static final org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:org.daboodb.daboo.generated.protobufs.FieldPredicate)
+    private static final org.daboodb.daboo.generated.protobufs.Request.FieldPredicate DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody();
+      DEFAULT_INSTANCE = new org.daboodb.daboo.generated.protobufs.Request.FieldPredicate();
     }
 
-    public static org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody getDefaultInstance() {
+    public static org.daboodb.daboo.generated.protobufs.Request.FieldPredicate getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    @java.lang.Deprecated public static final com.google.protobuf.Parser<GetRangeRequestBody>
-        PARSER = new com.google.protobuf.AbstractParser<GetRangeRequestBody>() {
-      public GetRangeRequestBody parsePartialFrom(
+    @java.lang.Deprecated public static final com.google.protobuf.Parser<FieldPredicate>
+        PARSER = new com.google.protobuf.AbstractParser<FieldPredicate>() {
+      public FieldPredicate parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new GetRangeRequestBody(input, extensionRegistry);
+          return new FieldPredicate(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -5924,16 +11344,16 @@ public final class Request {
       }
     };
 
-    public static com.google.protobuf.Parser<GetRangeRequestBody> parser() {
+    public static com.google.protobuf.Parser<FieldPredicate> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetRangeRequestBody> getParserForType() {
+    public com.google.protobuf.Parser<FieldPredicate> getParserForType() {
       return PARSER;
     }
 
-    public org.daboodb.daboo.generated.protobufs.Request.GetRangeRequestBody getDefaultInstanceForType() {
+    public org.daboodb.daboo.generated.protobufs.Request.FieldPredicate getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -5947,7 +11367,7 @@ public final class Request {
      * <code>required bytes key = 1;</code>
      *
      * <pre>
-     ** A unique identifier for this document and its serialized
+     ** A unique identifier for this document 
      * </pre>
      */
     boolean hasKey();
@@ -5955,7 +11375,7 @@ public final class Request {
      * <code>required bytes key = 1;</code>
      *
      * <pre>
-     ** A unique identifier for this document and its serialized
+     ** A unique identifier for this document 
      * </pre>
      */
     com.google.protobuf.ByteString getKey();
@@ -5964,7 +11384,7 @@ public final class Request {
      * <code>required string contentClass = 2;</code>
      *
      * <pre>
-     ** The java class name of the class of the serialized
+     ** The java class name of the class of the document 
      * </pre>
      */
     boolean hasContentClass();
@@ -5972,7 +11392,7 @@ public final class Request {
      * <code>required string contentClass = 2;</code>
      *
      * <pre>
-     ** The java class name of the class of the serialized
+     ** The java class name of the class of the document 
      * </pre>
      */
     java.lang.String getContentClass();
@@ -5980,7 +11400,7 @@ public final class Request {
      * <code>required string contentClass = 2;</code>
      *
      * <pre>
-     ** The java class name of the class of the serialized
+     ** The java class name of the class of the document 
      * </pre>
      */
     com.google.protobuf.ByteString
@@ -5990,7 +11410,7 @@ public final class Request {
      * <code>required string contentType = 3;</code>
      *
      * <pre>
-     ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+     ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
      * </pre>
      */
     boolean hasContentType();
@@ -5998,7 +11418,7 @@ public final class Request {
      * <code>required string contentType = 3;</code>
      *
      * <pre>
-     ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+     ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
      * </pre>
      */
     java.lang.String getContentType();
@@ -6006,7 +11426,7 @@ public final class Request {
      * <code>required string contentType = 3;</code>
      *
      * <pre>
-     ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+     ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
      * </pre>
      */
     com.google.protobuf.ByteString
@@ -6033,7 +11453,7 @@ public final class Request {
      * <code>required bytes contentBytes = 5;</code>
      *
      * <pre>
-     ** The document serialized as bytes, possibly compressed or encrypted
+     ** The document serialized as bytes, possibly compressed or encrypted 
      * </pre>
      */
     boolean hasContentBytes();
@@ -6041,7 +11461,7 @@ public final class Request {
      * <code>required bytes contentBytes = 5;</code>
      *
      * <pre>
-     ** The document serialized as bytes, possibly compressed or encrypted
+     ** The document serialized as bytes, possibly compressed or encrypted 
      * </pre>
      */
     com.google.protobuf.ByteString getContentBytes();
@@ -6179,7 +11599,7 @@ public final class Request {
      * <code>required bytes key = 1;</code>
      *
      * <pre>
-     ** A unique identifier for this document and its serialized
+     ** A unique identifier for this document 
      * </pre>
      */
     public boolean hasKey() {
@@ -6189,7 +11609,7 @@ public final class Request {
      * <code>required bytes key = 1;</code>
      *
      * <pre>
-     ** A unique identifier for this document and its serialized
+     ** A unique identifier for this document 
      * </pre>
      */
     public com.google.protobuf.ByteString getKey() {
@@ -6202,7 +11622,7 @@ public final class Request {
      * <code>required string contentClass = 2;</code>
      *
      * <pre>
-     ** The java class name of the class of the serialized
+     ** The java class name of the class of the document 
      * </pre>
      */
     public boolean hasContentClass() {
@@ -6212,7 +11632,7 @@ public final class Request {
      * <code>required string contentClass = 2;</code>
      *
      * <pre>
-     ** The java class name of the class of the serialized
+     ** The java class name of the class of the document 
      * </pre>
      */
     public java.lang.String getContentClass() {
@@ -6233,7 +11653,7 @@ public final class Request {
      * <code>required string contentClass = 2;</code>
      *
      * <pre>
-     ** The java class name of the class of the serialized
+     ** The java class name of the class of the document 
      * </pre>
      */
     public com.google.protobuf.ByteString
@@ -6256,7 +11676,7 @@ public final class Request {
      * <code>required string contentType = 3;</code>
      *
      * <pre>
-     ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+     ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
      * </pre>
      */
     public boolean hasContentType() {
@@ -6266,7 +11686,7 @@ public final class Request {
      * <code>required string contentType = 3;</code>
      *
      * <pre>
-     ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+     ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
      * </pre>
      */
     public java.lang.String getContentType() {
@@ -6287,7 +11707,7 @@ public final class Request {
      * <code>required string contentType = 3;</code>
      *
      * <pre>
-     ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+     ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
      * </pre>
      */
     public com.google.protobuf.ByteString
@@ -6333,7 +11753,7 @@ public final class Request {
      * <code>required bytes contentBytes = 5;</code>
      *
      * <pre>
-     ** The document serialized as bytes, possibly compressed or encrypted
+     ** The document serialized as bytes, possibly compressed or encrypted 
      * </pre>
      */
     public boolean hasContentBytes() {
@@ -6343,7 +11763,7 @@ public final class Request {
      * <code>required bytes contentBytes = 5;</code>
      *
      * <pre>
-     ** The document serialized as bytes, possibly compressed or encrypted
+     ** The document serialized as bytes, possibly compressed or encrypted 
      * </pre>
      */
     public com.google.protobuf.ByteString getContentBytes() {
@@ -6723,7 +12143,7 @@ public final class Request {
        * <code>required bytes key = 1;</code>
        *
        * <pre>
-       ** A unique identifier for this document and its serialized
+       ** A unique identifier for this document 
        * </pre>
        */
       public boolean hasKey() {
@@ -6733,7 +12153,7 @@ public final class Request {
        * <code>required bytes key = 1;</code>
        *
        * <pre>
-       ** A unique identifier for this document and its serialized
+       ** A unique identifier for this document 
        * </pre>
        */
       public com.google.protobuf.ByteString getKey() {
@@ -6743,7 +12163,7 @@ public final class Request {
        * <code>required bytes key = 1;</code>
        *
        * <pre>
-       ** A unique identifier for this document and its serialized
+       ** A unique identifier for this document 
        * </pre>
        */
       public Builder setKey(com.google.protobuf.ByteString value) {
@@ -6759,7 +12179,7 @@ public final class Request {
        * <code>required bytes key = 1;</code>
        *
        * <pre>
-       ** A unique identifier for this document and its serialized
+       ** A unique identifier for this document 
        * </pre>
        */
       public Builder clearKey() {
@@ -6774,7 +12194,7 @@ public final class Request {
        * <code>required string contentClass = 2;</code>
        *
        * <pre>
-       ** The java class name of the class of the serialized
+       ** The java class name of the class of the document 
        * </pre>
        */
       public boolean hasContentClass() {
@@ -6784,7 +12204,7 @@ public final class Request {
        * <code>required string contentClass = 2;</code>
        *
        * <pre>
-       ** The java class name of the class of the serialized
+       ** The java class name of the class of the document 
        * </pre>
        */
       public java.lang.String getContentClass() {
@@ -6805,7 +12225,7 @@ public final class Request {
        * <code>required string contentClass = 2;</code>
        *
        * <pre>
-       ** The java class name of the class of the serialized
+       ** The java class name of the class of the document 
        * </pre>
        */
       public com.google.protobuf.ByteString
@@ -6825,7 +12245,7 @@ public final class Request {
        * <code>required string contentClass = 2;</code>
        *
        * <pre>
-       ** The java class name of the class of the serialized
+       ** The java class name of the class of the document 
        * </pre>
        */
       public Builder setContentClass(
@@ -6842,7 +12262,7 @@ public final class Request {
        * <code>required string contentClass = 2;</code>
        *
        * <pre>
-       ** The java class name of the class of the serialized
+       ** The java class name of the class of the document 
        * </pre>
        */
       public Builder clearContentClass() {
@@ -6855,7 +12275,7 @@ public final class Request {
        * <code>required string contentClass = 2;</code>
        *
        * <pre>
-       ** The java class name of the class of the serialized
+       ** The java class name of the class of the document 
        * </pre>
        */
       public Builder setContentClassBytes(
@@ -6874,7 +12294,7 @@ public final class Request {
        * <code>required string contentType = 3;</code>
        *
        * <pre>
-       ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+       ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
        * </pre>
        */
       public boolean hasContentType() {
@@ -6884,7 +12304,7 @@ public final class Request {
        * <code>required string contentType = 3;</code>
        *
        * <pre>
-       ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+       ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
        * </pre>
        */
       public java.lang.String getContentType() {
@@ -6905,7 +12325,7 @@ public final class Request {
        * <code>required string contentType = 3;</code>
        *
        * <pre>
-       ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+       ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
        * </pre>
        */
       public com.google.protobuf.ByteString
@@ -6925,7 +12345,7 @@ public final class Request {
        * <code>required string contentType = 3;</code>
        *
        * <pre>
-       ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+       ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
        * </pre>
        */
       public Builder setContentType(
@@ -6942,7 +12362,7 @@ public final class Request {
        * <code>required string contentType = 3;</code>
        *
        * <pre>
-       ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+       ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
        * </pre>
        */
       public Builder clearContentType() {
@@ -6955,7 +12375,7 @@ public final class Request {
        * <code>required string contentType = 3;</code>
        *
        * <pre>
-       ** A human-friendly name for the kind of serialized, such as a company or user. Used for querying
+       ** A human-friendly name for the kind of document, such as a company or user. Used for querying 
        * </pre>
        */
       public Builder setContentTypeBytes(
@@ -7022,7 +12442,7 @@ public final class Request {
        * <code>required bytes contentBytes = 5;</code>
        *
        * <pre>
-       ** The document serialized as bytes, possibly compressed or encrypted
+       ** The document serialized as bytes, possibly compressed or encrypted 
        * </pre>
        */
       public boolean hasContentBytes() {
@@ -7032,7 +12452,7 @@ public final class Request {
        * <code>required bytes contentBytes = 5;</code>
        *
        * <pre>
-       ** The document serialized as bytes, possibly compressed or encrypted
+       ** The document serialized as bytes, possibly compressed or encrypted 
        * </pre>
        */
       public com.google.protobuf.ByteString getContentBytes() {
@@ -7042,7 +12462,7 @@ public final class Request {
        * <code>required bytes contentBytes = 5;</code>
        *
        * <pre>
-       ** The document serialized as bytes, possibly compressed or encrypted
+       ** The document serialized as bytes, possibly compressed or encrypted 
        * </pre>
        */
       public Builder setContentBytes(com.google.protobuf.ByteString value) {
@@ -7058,7 +12478,7 @@ public final class Request {
        * <code>required bytes contentBytes = 5;</code>
        *
        * <pre>
-       ** The document serialized as bytes, possibly compressed or encrypted
+       ** The document serialized as bytes, possibly compressed or encrypted 
        * </pre>
        */
       public Builder clearContentBytes() {
@@ -7894,6 +13314,57 @@ public final class Request {
      * <code>repeated bytes documentBytes = 4;</code>
      */
     com.google.protobuf.ByteString getDocumentBytes(int index);
+
+    /**
+     * <code>optional bytes lastKey = 5;</code>
+     *
+     * <pre>
+     ** For a range request, the key of the last document in this page 
+     * </pre>
+     */
+    boolean hasLastKey();
+    /**
+     * <code>optional bytes lastKey = 5;</code>
+     *
+     * <pre>
+     ** For a range request, the key of the last document in this page 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getLastKey();
+
+    /**
+     * <code>optional bool hasMore = 6;</code>
+     *
+     * <pre>
+     ** For a range request, true if the range holds more documents than this page 
+     * </pre>
+     */
+    boolean hasHasMore();
+    /**
+     * <code>optional bool hasMore = 6;</code>
+     *
+     * <pre>
+     ** For a range request, true if the range holds more documents than this page 
+     * </pre>
+     */
+    boolean getHasMore();
+
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** For a range request with more documents, an opaque token that requests the next page when sent back 
+     * </pre>
+     */
+    boolean hasContinuationToken();
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** For a range request with more documents, an opaque token that requests the next page when sent back 
+     * </pre>
+     */
+    com.google.protobuf.ByteString getContinuationToken();
   }
   /**
    * Protobuf type {@code org.daboodb.daboo.generated.protobufs.GetReply}
@@ -7915,6 +13386,9 @@ public final class Request {
       timestamp_ = 0L;
       requestId_ = com.google.protobuf.ByteString.EMPTY;
       documentBytes_ = java.util.Collections.emptyList();
+      lastKey_ = com.google.protobuf.ByteString.EMPTY;
+      hasMore_ = false;
+      continuationToken_ = com.google.protobuf.ByteString.EMPTY;
     }
 
     @java.lang.Override
@@ -7975,6 +13449,21 @@ public final class Request {
               documentBytes_.add(input.readBytes());
               break;
             }
+            case 42: {
+              bitField0_ |= 0x00000008;
+              lastKey_ = input.readBytes();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000010;
+              hasMore_ = input.readBool();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000020;
+              continuationToken_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -8077,6 +13566,75 @@ public final class Request {
       return documentBytes_.get(index);
     }
 
+    public static final int LASTKEY_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString lastKey_;
+    /**
+     * <code>optional bytes lastKey = 5;</code>
+     *
+     * <pre>
+     ** For a range request, the key of the last document in this page 
+     * </pre>
+     */
+    public boolean hasLastKey() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional bytes lastKey = 5;</code>
+     *
+     * <pre>
+     ** For a range request, the key of the last document in this page 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getLastKey() {
+      return lastKey_;
+    }
+
+    public static final int HASMORE_FIELD_NUMBER = 6;
+    private boolean hasMore_;
+    /**
+     * <code>optional bool hasMore = 6;</code>
+     *
+     * <pre>
+     ** For a range request, true if the range holds more documents than this page 
+     * </pre>
+     */
+    public boolean hasHasMore() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool hasMore = 6;</code>
+     *
+     * <pre>
+     ** For a range request, true if the range holds more documents than this page 
+     * </pre>
+     */
+    public boolean getHasMore() {
+      return hasMore_;
+    }
+
+    public static final int CONTINUATIONTOKEN_FIELD_NUMBER = 7;
+    private com.google.protobuf.ByteString continuationToken_;
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** For a range request with more documents, an opaque token that requests the next page when sent back 
+     * </pre>
+     */
+    public boolean hasContinuationToken() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional bytes continuationToken = 7;</code>
+     *
+     * <pre>
+     ** For a range request with more documents, an opaque token that requests the next page when sent back 
+     * </pre>
+     */
+    public com.google.protobuf.ByteString getContinuationToken() {
+      return continuationToken_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -8105,6 +13663,15 @@ public final class Request {
       for (int i = 0; i < documentBytes_.size(); i++) {
         output.writeBytes(4, documentBytes_.get(i));
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(5, lastKey_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBool(6, hasMore_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(7, continuationToken_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -8134,6 +13701,18 @@ public final class Request {
         size += dataSize;
         size += 1 * getDocumentBytesList().size();
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, lastKey_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, hasMore_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, continuationToken_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -8264,6 +13843,12 @@ public final class Request {
         bitField0_ = (bitField0_ & ~0x00000004);
         documentBytes_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000008);
+        lastKey_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        hasMore_ = false;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -8309,6 +13894,18 @@ public final class Request {
           bitField0_ = (bitField0_ & ~0x00000008);
         }
         result.documentBytes_ = documentBytes_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.lastKey_ = lastKey_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.hasMore_ = hasMore_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.continuationToken_ = continuationToken_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -8344,6 +13941,15 @@ public final class Request {
           }
           onChanged();
         }
+        if (other.hasLastKey()) {
+          setLastKey(other.getLastKey());
+        }
+        if (other.hasHasMore()) {
+          setHasMore(other.getHasMore());
+        }
+        if (other.hasContinuationToken()) {
+          setContinuationToken(other.getContinuationToken());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -8632,6 +14238,156 @@ public final class Request {
         return this;
       }
 
+      private com.google.protobuf.ByteString lastKey_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes lastKey = 5;</code>
+       *
+       * <pre>
+       ** For a range request, the key of the last document in this page 
+       * </pre>
+       */
+      public boolean hasLastKey() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bytes lastKey = 5;</code>
+       *
+       * <pre>
+       ** For a range request, the key of the last document in this page 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getLastKey() {
+        return lastKey_;
+      }
+      /**
+       * <code>optional bytes lastKey = 5;</code>
+       *
+       * <pre>
+       ** For a range request, the key of the last document in this page 
+       * </pre>
+       */
+      public Builder setLastKey(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+        lastKey_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes lastKey = 5;</code>
+       *
+       * <pre>
+       ** For a range request, the key of the last document in this page 
+       * </pre>
+       */
+      public Builder clearLastKey() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        lastKey_ = getDefaultInstance().getLastKey();
+        onChanged();
+        return this;
+      }
+
+      private boolean hasMore_ ;
+      /**
+       * <code>optional bool hasMore = 6;</code>
+       *
+       * <pre>
+       ** For a range request, true if the range holds more documents than this page 
+       * </pre>
+       */
+      public boolean hasHasMore() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bool hasMore = 6;</code>
+       *
+       * <pre>
+       ** For a range request, true if the range holds more documents than this page 
+       * </pre>
+       */
+      public boolean getHasMore() {
+        return hasMore_;
+      }
+      /**
+       * <code>optional bool hasMore = 6;</code>
+       *
+       * <pre>
+       ** For a range request, true if the range holds more documents than this page 
+       * </pre>
+       */
+      public Builder setHasMore(boolean value) {
+        bitField0_ |= 0x00000020;
+        hasMore_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool hasMore = 6;</code>
+       *
+       * <pre>
+       ** For a range request, true if the range holds more documents than this page 
+       * </pre>
+       */
+      public Builder clearHasMore() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        hasMore_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString continuationToken_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** For a range request with more documents, an opaque token that requests the next page when sent back 
+       * </pre>
+       */
+      public boolean hasContinuationToken() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** For a range request with more documents, an opaque token that requests the next page when sent back 
+       * </pre>
+       */
+      public com.google.protobuf.ByteString getContinuationToken() {
+        return continuationToken_;
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** For a range request with more documents, an opaque token that requests the next page when sent back 
+       * </pre>
+       */
+      public Builder setContinuationToken(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        continuationToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes continuationToken = 7;</code>
+       *
+       * <pre>
+       ** For a range request with more documents, an opaque token that requests the next page when sent back 
+       * </pre>
+       */
+      public Builder clearContinuationToken() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        continuationToken_ = getDefaultInstance().getContinuationToken();
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:org.daboodb.daboo.generated.protobufs.GetReply)
     }
 
@@ -10093,6 +15849,16 @@ public final class Request {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor;
   private static
@@ -10118,6 +15884,21 @@ public final class Request {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_org_dabudb_dabu_generated_protobufs_Document_descriptor;
   private static
@@ -10152,57 +15933,86 @@ public final class Request {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\rRequest.proto\022#org.daboodb.daboo.generat" +
-      "ed.protobufs\"\363\001\n\014WriteRequest\022;\n\006header\030" +
-      "\001 \002(\0132+.org.daboodb.daboo.generated.protob" +
-      "ufs.Header\022\020\n\010isDelete\030\002 \002(\010\022H\n\twriteBod" +
-      "y\030\003 \001(\01325.org.daboodb.daboo.generated.prot" +
-      "obufs.WriteRequestBody\022J\n\ndeleteBody\030\004 \001" +
-      "(\01326.org.daboodb.daboo.generated.protobufs" +
-      ".DeleteRequestBody\"\214\001\n\nGetRequest\022;\n\006hea" +
-      "der\030\001 \002(\0132+.org.daboodb.daboo.generated.pr" +
-      "otobufs.Header\022A\n\004body\030\002 \002(\01323.org.dabud",
-      "b.daboo.generated.protobufs.GetRequestBod" +
-      "y\"\226\001\n\017GetRangeRequest\022;\n\006header\030\001 \002(\0132+." +
-      "org.daboodb.daboo.generated.protobufs.Head" +
-      "er\022F\n\004body\030\002 \002(\01328.org.daboodb.daboo.gener" +
-      "ated.protobufs.GetRangeRequestBody\"n\n\006He" +
-      "ader\022\n\n\002id\030\001 \002(\014\022\021\n\ttimestamp\030\002 \002(\003\022E\n\013r" +
-      "equestType\030\003 \002(\01620.org.daboodb.daboo.gener" +
-      "ated.protobufs.RequestType\"c\n\020WriteReque" +
-      "stBody\022O\n\020documentKeyValue\030\001 \003(\01325.org.d" +
-      "abudb.daboo.generated.protobufs.DocumentK",
-      "eyValue\"T\n\021DeleteRequestBody\022?\n\010document" +
-      "\030\001 \003(\0132-.org.daboodb.daboo.generated.proto" +
-      "bufs.Document\"\035\n\016GetRequestBody\022\013\n\003key\030\001" +
-      " \003(\014\"7\n\023GetRangeRequestBody\022\020\n\010startKey\030" +
-      "\001 \001(\014\022\016\n\006endKey\030\002 \001(\014\"\210\001\n\010Document\022\013\n\003ke" +
-      "y\030\001 \002(\014\022\024\n\014contentClass\030\002 \002(\t\022\023\n\013content" +
-      "Type\030\003 \002(\t\022\025\n\rschemaVersion\030\004 \002(\005\022\024\n\014con" +
-      "tentBytes\030\005 \002(\014\022\027\n\017instanceVersion\030\006 \002(\005" +
-      "\"\177\n\nWriteReply\022\021\n\ttimestamp\030\001 \002(\003\022\021\n\treq" +
-      "uestId\030\002 \001(\014\022K\n\016errorCondition\030\003 \001(\01323.o",
-      "rg.daboodb.daboo.generated.protobufs.Error" +
-      "Condition\"\224\001\n\010GetReply\022\021\n\ttimestamp\030\001 \002(" +
-      "\003\022\021\n\trequestId\030\002 \001(\014\022K\n\016errorCondition\030\003" +
-      " \001(\01323.org.daboodb.daboo.generated.protobu" +
-      "fs.ErrorCondition\022\025\n\rdocumentBytes\030\004 \003(\014" +
-      "\"\340\001\n\016ErrorCondition\022A\n\terrorType\030\001 \001(\0162." +
-      ".org.daboodb.daboo.generated.protobufs.Err" +
-      "orType\022@\n\006origin\030\002 \001(\01620.org.daboodb.daboo" +
-      ".generated.protobufs.ErrorOrigin\022\r\n\005toke" +
-      "n\030\003 \001(\014\022\021\n\trequestId\030\004 \001(\014\022\023\n\013descriptio",
-      "n\030\005 \001(\t\022\022\n\nstackTrace\030\006 \001(\014\".\n\020DocumentK" +
-      "eyValue\022\013\n\003key\030\001 \002(\014\022\r\n\005value\030\002 \002(\014*8\n\013R" +
-      "equestType\022\007\n\003GET\020\001\022\t\n\005WRITE\020\002\022\n\n\006DELETE" +
-      "\020\003\022\t\n\005QUERY\020\004*J\n\013ErrorOrigin\022\024\n\020OTHER_OR" +
-      "_UNKNOWN\020\001\022\n\n\006CLIENT\020\002\022\n\n\006SERVER\020\003\022\r\n\tME" +
-      "SSAGING\020\004*\240\001\n\tErrorType\022\010\n\004NONE\020\001\022\035\n\031OPT" +
-      "IMISTIC_LOCK_EXCEPTION\020\002\022\031\n\025PERSISTENCE_" +
-      "EXCEPTION\020\003\022\025\n\021REQUEST_EXCEPTION\020\004\022\033\n\027SE" +
-      "RIALIZATION_EXCEPTION\020\005\022\033\n\027COMMUNICATION" +
-      "_EXCEPTION\020\006B.\n#org.daboodb.daboo.generate",
-      "d.protobufsB\007Request"
+      "\n\rRequest.proto\022%org.daboodb.daboo.gener" +
+      "ated.protobufs\"\371\001\n\014WriteRequest\022=\n\006heade" +
+      "r\030\001 \002(\0132-.org.daboodb.daboo.generated.pr" +
+      "otobufs.Header\022\020\n\010isDelete\030\002 \002(\010\022J\n\twrit" +
+      "eBody\030\003 \001(\01327.org.daboodb.daboo.generate" +
+      "d.protobufs.WriteRequestBody\022L\n\ndeleteBo" +
+      "dy\030\004 \001(\01328.org.daboodb.daboo.generated.p" +
+      "rotobufs.DeleteRequestBody\"\220\001\n\nGetReques" +
+      "t\022=\n\006header\030\001 \002(\0132-.org.daboodb.daboo.ge" +
+      "nerated.protobufs.Header\022C\n\004body\030\002 \002(\01325",
+      ".org.daboodb.daboo.generated.protobufs.G" +
+      "etRequestBody\"\232\001\n\017GetRangeRequest\022=\n\006hea" +
+      "der\030\001 \002(\0132-.org.daboodb.daboo.generated." +
+      "protobufs.Header\022H\n\004body\030\002 \002(\0132:.org.dab" +
+      "oodb.daboo.generated.protobufs.GetRangeR" +
+      "equestBody\"\234\001\n\020GetByTypeRequest\022=\n\006heade" +
+      "r\030\001 \002(\0132-.org.daboodb.daboo.generated.pr" +
+      "otobufs.Header\022I\n\004body\030\002 \002(\0132;.org.daboo" +
+      "db.daboo.generated.protobufs.GetByTypeRe" +
+      "questBody\"\224\001\n\014QueryRequest\022=\n\006header\030\001 \002",
+      "(\0132-.org.daboodb.daboo.generated.protobu" +
+      "fs.Header\022E\n\004body\030\002 \002(\01327.org.daboodb.da" +
+      "boo.generated.protobufs.QueryRequestBody" +
+      "\"p\n\006Header\022\n\n\002id\030\001 \002(\014\022\021\n\ttimestamp\030\002 \002(" +
+      "\003\022G\n\013requestType\030\003 \002(\01622.org.daboodb.dab" +
+      "oo.generated.protobufs.RequestType\"e\n\020Wr" +
+      "iteRequestBody\022Q\n\020documentKeyValue\030\001 \003(\013" +
+      "27.org.daboodb.daboo.generated.protobufs" +
+      ".DocumentKeyValue\"V\n\021DeleteRequestBody\022A" +
+      "\n\010document\030\001 \003(\0132/.org.daboodb.daboo.gen",
+      "erated.protobufs.Document\"\035\n\016GetRequestB" +
+      "ody\022\013\n\003key\030\001 \003(\014\"\224\001\n\023GetRangeRequestBody" +
+      "\022\020\n\010startKey\030\001 \001(\014\022\016\n\006endKey\030\002 \001(\014\022\r\n\005li" +
+      "mit\030\003 \001(\005\022\017\n\007reverse\030\004 \001(\010\022\020\n\010afterKey\030\005" +
+      " \001(\014\022\016\n\006prefix\030\006 \001(\014\022\031\n\021continuationToke" +
+      "n\030\007 \001(\014\"U\n\024GetByTypeRequestBody\022\023\n\013conte" +
+      "ntType\030\001 \002(\t\022\r\n\005limit\030\002 \001(\005\022\031\n\021continuat" +
+      "ionToken\030\003 \001(\014\"\315\001\n\020QueryRequestBody\022\020\n\010s" +
+      "tartKey\030\001 \001(\014\022\016\n\006endKey\030\002 \001(\014\022\016\n\006prefix\030" +
+      "\003 \001(\014\022\023\n\013contentType\030\004 \001(\t\022H\n\tpredicate\030",
+      "\005 \003(\01325.org.daboodb.daboo.generated.prot" +
+      "obufs.FieldPredicate\022\r\n\005limit\030\006 \001(\005\022\031\n\021c" +
+      "ontinuationToken\030\007 \001(\014\"\310\002\n\016FieldPredicat" +
+      "e\022\r\n\005field\030\001 \002(\t\022P\n\010operator\030\002 \002(\0162>.org" +
+      ".daboodb.daboo.generated.protobufs.Field" +
+      "Predicate.Operator\022\023\n\013stringValue\030\003 \001(\t\022" +
+      "\023\n\013numberValue\030\004 \001(\001\022\021\n\tboolValue\030\005 \001(\010\"" +
+      "\227\001\n\010Operator\022\n\n\006EQUALS\020\001\022\016\n\nNOT_EQUALS\020\002" +
+      "\022\r\n\tLESS_THAN\020\003\022\026\n\022LESS_THAN_OR_EQUAL\020\004\022" +
+      "\020\n\014GREATER_THAN\020\005\022\031\n\025GREATER_THAN_OR_EQU",
+      "AL\020\006\022\017\n\013STARTS_WITH\020\007\022\n\n\006EXISTS\020\010\"\210\001\n\010Do" +
+      "cument\022\013\n\003key\030\001 \002(\014\022\024\n\014contentClass\030\002 \002(" +
+      "\t\022\023\n\013contentType\030\003 \002(\t\022\025\n\rschemaVersion\030" +
+      "\004 \002(\005\022\024\n\014contentBytes\030\005 \002(\014\022\027\n\017instanceV" +
+      "ersion\030\006 \002(\005\"\201\001\n\nWriteReply\022\021\n\ttimestamp" +
+      "\030\001 \002(\003\022\021\n\trequestId\030\002 \001(\014\022M\n\016errorCondit" +
+      "ion\030\003 \001(\01325.org.daboodb.daboo.generated." +
+      "protobufs.ErrorCondition\"\323\001\n\010GetReply\022\021\n" +
+      "\ttimestamp\030\001 \002(\003\022\021\n\trequestId\030\002 \001(\014\022M\n\016e" +
+      "rrorCondition\030\003 \001(\01325.org.daboodb.daboo.",
+      "generated.protobufs.ErrorCondition\022\025\n\rdo" +
+      "cumentBytes\030\004 \003(\014\022\017\n\007lastKey\030\005 \001(\014\022\017\n\007ha" +
+      "sMore\030\006 \001(\010\022\031\n\021continuationToken\030\007 \001(\014\"\344" +
+      "\001\n\016ErrorCondition\022C\n\terrorType\030\001 \001(\01620.o" +
+      "rg.daboodb.daboo.generated.protobufs.Err" +
+      "orType\022B\n\006origin\030\002 \001(\01622.org.daboodb.dab" +
+      "oo.generated.protobufs.ErrorOrigin\022\r\n\005to" +
+      "ken\030\003 \001(\014\022\021\n\trequestId\030\004 \001(\014\022\023\n\013descript" +
+      "ion\030\005 \001(\t\022\022\n\nstackTrace\030\006 \001(\014\".\n\020Documen" +
+      "tKeyValue\022\013\n\003key\030\001 \002(\014\022\r\n\005value\030\002 \002(\014*I\n",
+      "\013RequestType\022\007\n\003GET\020\001\022\t\n\005WRITE\020\002\022\n\n\006DELE" +
+      "TE\020\003\022\t\n\005QUERY\020\004\022\017\n\013GET_BY_TYPE\020\005*J\n\013Erro" +
+      "rOrigin\022\024\n\020OTHER_OR_UNKNOWN\020\001\022\n\n\006CLIENT\020" +
+      "\002\022\n\n\006SERVER\020\003\022\r\n\tMESSAGING\020\004*\240\001\n\tErrorTy" +
+      "pe\022\010\n\004NONE\020\001\022\035\n\031OPTIMISTIC_LOCK_EXCEPTIO" +
+      "N\020\002\022\031\n\025PERSISTENCE_EXCEPTION\020\003\022\025\n\021REQUES" +
+      "T_EXCEPTION\020\004\022\033\n\027SERIALIZATION_EXCEPTION" +
+      "\020\005\022\033\n\027COMMUNICATION_EXCEPTION\020\006B0\n%org.d" +
+      "aboodb.daboo.generated.protobufsB\007Reques" +
+      "t"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -10234,62 +16044,92 @@ public final class Request {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequest_descriptor,
         new java.lang.String[] { "Header", "Body", });
-    internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor =
+    internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_descriptor =
       getDescriptor().getMessageTypes().get(3);
+    internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequest_descriptor,
+        new java.lang.String[] { "Header", "Body", });
+    internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_dabudb_dabu_generated_protobufs_QueryRequest_descriptor,
+        new java.lang.String[] { "Header", "Body", });
+    internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_org_dabudb_dabu_generated_protobufs_Header_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_Header_descriptor,
         new java.lang.String[] { "Id", "Timestamp", "RequestType", });
     internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_WriteRequestBody_descriptor,
         new java.lang.String[] { "DocumentKeyValue", });
     internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_DeleteRequestBody_descriptor,
         new java.lang.String[] { "Document", });
     internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(8);
     internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_GetRequestBody_descriptor,
         new java.lang.String[] { "Key", });
     internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(9);
     internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_GetRangeRequestBody_descriptor,
-        new java.lang.String[] { "StartKey", "EndKey", });
+        new java.lang.String[] { "StartKey", "EndKey", "Limit", "Reverse", "AfterKey", "Prefix", "ContinuationToken", });
+    internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_dabudb_dabu_generated_protobufs_GetByTypeRequestBody_descriptor,
+        new java.lang.String[] { "ContentType", "Limit", "ContinuationToken", });
+    internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_dabudb_dabu_generated_protobufs_QueryRequestBody_descriptor,
+        new java.lang.String[] { "StartKey", "EndKey", "Prefix", "ContentType", "Predicate", "Limit", "ContinuationToken", });
+    internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_org_dabudb_dabu_generated_protobufs_FieldPredicate_descriptor,
+        new java.lang.String[] { "Field", "Operator", "StringValue", "NumberValue", "BoolValue", });
     internal_static_org_dabudb_dabu_generated_protobufs_Document_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(13);
     internal_static_org_dabudb_dabu_generated_protobufs_Document_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_Document_descriptor,
         new java.lang.String[] { "Key", "ContentClass", "ContentType", "SchemaVersion", "ContentBytes", "InstanceVersion", });
     internal_static_org_dabudb_dabu_generated_protobufs_WriteReply_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_org_dabudb_dabu_generated_protobufs_WriteReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_WriteReply_descriptor,
         new java.lang.String[] { "Timestamp", "RequestId", "ErrorCondition", });
     internal_static_org_dabudb_dabu_generated_protobufs_GetReply_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(15);
     internal_static_org_dabudb_dabu_generated_protobufs_GetReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_GetReply_descriptor,
-        new java.lang.String[] { "Timestamp", "RequestId", "ErrorCondition", "DocumentBytes", });
+        new java.lang.String[] { "Timestamp", "RequestId", "ErrorCondition", "DocumentBytes", "LastKey", "HasMore", "ContinuationToken", });
     internal_static_org_dabudb_dabu_generated_protobufs_ErrorCondition_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(16);
     internal_static_org_dabudb_dabu_generated_protobufs_ErrorCondition_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_ErrorCondition_descriptor,
         new java.lang.String[] { "ErrorType", "Origin", "Token", "RequestId", "Description", "StackTrace", });
     internal_static_org_dabudb_dabu_generated_protobufs_DocumentKeyValue_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(17);
     internal_static_org_dabudb_dabu_generated_protobufs_DocumentKeyValue_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_org_dabudb_dabu_generated_protobufs_DocumentKeyValue_descriptor,
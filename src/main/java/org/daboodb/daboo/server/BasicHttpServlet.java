@@ -8,6 +8,7 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.google.gson.Gson;
 import com.google.protobuf.CodedInputStream;
 import org.daboodb.daboo.generated.protobufs.Request;
 import org.daboodb.daboo.shared.exceptions.RuntimeDatastoreException;
@@ -17,7 +18,12 @@ class BasicHttpServlet extends HttpServlet {
 
   private static final String GET = "/GET";
   private static final String GET_RANGE = "/GET_RANGE";
+  private static final String GET_BY_TYPE = "/GET_BY_TYPE";
+  private static final String QUERY = "/QUERY";
   private static final String WRITE = "/WRITE";
+  private static final String STATS = "/STATS";
+
+  private static final Gson GSON = new Gson();
 
   private final Database database = Database.get();
 
@@ -25,6 +31,10 @@ class BasicHttpServlet extends HttpServlet {
   protected void doGet(HttpServletRequest req, HttpServletResponse resp)
       throws ServletException, IOException {
 
+    if (STATS.equals(req.getServletPath())) {
+      handleStats(resp);
+      return;
+    }
     resp.setStatus(HttpStatus.OK_200);
     resp.getWriter().println("Server is ok");
   }
@@ -45,6 +55,12 @@ class BasicHttpServlet extends HttpServlet {
         case GET_RANGE:
           handleGetRange(request, response);
           break;
+        case GET_BY_TYPE:
+          handleGetByType(request, response);
+          break;
+        case QUERY:
+          handleQuery(request, response);
+          break;
         default:
           response.setStatus(HttpStatus.NOT_FOUND_404);
           break;
@@ -75,6 +91,15 @@ class BasicHttpServlet extends HttpServlet {
     response.setStatus(HttpStatus.OK_200);
   }
 
+  /**
+   * Writes the database's statistics as JSON, for capacity planning and monitoring
+   */
+  private void handleStats(HttpServletResponse response) throws IOException {
+    response.setContentType("application/json");
+    response.setStatus(HttpStatus.OK_200);
+    response.getWriter().println(GSON.toJson(database.stats()));
+  }
+
   private void handleGetRange(HttpServletRequest request, HttpServletResponse response) throws IOException {
     InputStream is = request.getInputStream();
     CodedInputStream cis = CodedInputStream.newInstance(is);
@@ -84,5 +109,24 @@ class BasicHttpServlet extends HttpServlet {
     response.getOutputStream().write(getReply.toByteArray());
     response.setStatus(HttpStatus.OK_200);
   }
-}
 
+  private void handleGetByType(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    InputStream is = request.getInputStream();
+    CodedInputStream cis = CodedInputStream.newInstance(is);
+    Request.GetByTypeRequest databaseRequest = Request.GetByTypeRequest.parseFrom(cis);
+    Request.GetReply getReply;
+    getReply = database.handleRequest(databaseRequest);
+    response.getOutputStream().write(getReply.toByteArray());
+    response.setStatus(HttpStatus.OK_200);
+  }
+
+  private void handleQuery(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    InputStream is = request.getInputStream();
+    CodedInputStream cis = CodedInputStream.newInstance(is);
+    Request.QueryRequest databaseRequest = Request.QueryRequest.parseFrom(cis);
+    Request.GetReply getReply;
+    getReply = database.handleRequest(databaseRequest);
+    response.getOutputStream().write(getReply.toByteArray());
+    response.setStatus(HttpStatus.OK_200);
+  }
+}
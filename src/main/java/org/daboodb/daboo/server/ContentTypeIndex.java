@@ -0,0 +1,82 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.daboodb.daboo.client.exceptions.RuntimeSerializationException;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.Db;
+import org.daboodb.daboo.server.db.RangeCursor;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * A secondary index from contentType to the keys of the documents of that type, so that the documents of one type can
+ * be found without scanning the database. Each type's keys are held in key order, so they can be read a page at a
+ * time.
+ * <p>
+ * A write adds the key under the type of the document written, and a delete removes it from the type of the document
+ * deleted. A write does not read the document it replaces, so if it changes a document's type, the key stays under
+ * the old type as well: readers check the type of each document they fetch, and remove the stale keys they find.
+ */
+final class ContentTypeIndex {
+
+  private final ConcurrentMap<String, ConcurrentSkipListSet<byte[]>> keysByType = new ConcurrentHashMap<>();
+
+  /**
+   * Returns an index of the documents in the db. Writes to the db must be held off until it is returned
+   */
+  static ContentTypeIndex build(Db db) {
+    ContentTypeIndex index = new ContentTypeIndex();
+    try (RangeCursor cursor = db.cursor(null, null, false)) {
+      while (cursor.next()) {
+        index.add(Request.Document.parseFrom(cursor.value()).getContentType(), cursor.key());
+      }
+    } catch (InvalidProtocolBufferException e) {
+      throw new RuntimeSerializationException("Failed to read a document while indexing the database", e);
+    }
+    return index;
+  }
+
+  void add(String contentType, byte[] key) {
+    keysByType.computeIfAbsent(contentType, type -> new ConcurrentSkipListSet<>(LexicographicComparator.SIGNED))
+        .add(key);
+  }
+
+  void remove(String contentType, byte[] key) {
+    NavigableSet<byte[]> keys = keysByType.get(contentType);
+    if (keys != null) {
+      keys.remove(key);
+    }
+  }
+
+  /**
+   * Returns the keys indexed under the type that sort after the given key, or all of them if after is null, in key
+   * order. The set is a live view, which concurrent writes may change while it is read
+   */
+  NavigableSet<byte[]> keys(String contentType, byte[] after) {
+    ConcurrentSkipListSet<byte[]> keys = keysByType.get(contentType);
+    if (keys == null) {
+      return Collections.emptyNavigableSet();
+    }
+    return after == null ? keys : keys.tailSet(after, false);
+  }
+
+  /**
+   * Returns the keys indexed under the type from the from key (inclusive) to the to key (exclusive), in key order,
+   * where a null bound is unbounded. The set is a live view, which concurrent writes may change while it is read
+   */
+  NavigableSet<byte[]> keys(String contentType, byte[] from, byte[] to) {
+    NavigableSet<byte[]> keys = keysByType.get(contentType);
+    if (keys == null) {
+      return Collections.emptyNavigableSet();
+    }
+    if (from != null) {
+      keys = keys.tailSet(from, true);
+    }
+    return to == null ? keys : keys.headSet(to, false);
+  }
+}
@@ -0,0 +1,50 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Encodes and decodes the continuation tokens returned with each page of a range, which a client sends back to get
+ * the next page.
+ * <p>
+ * Clients treat tokens as opaque. A token holds a format version, the direction of the scan that issued it and the
+ * key of the last document returned, so the next page resumes just past that key however the range is bounded, and
+ * without skipping over the documents already returned.
+ */
+final class ContinuationToken {
+
+  private static final byte VERSION = 1;
+
+  private static final byte FORWARD = 0;
+  private static final byte REVERSE = 1;
+
+  private static final int HEADER_LENGTH = 2;
+
+  private ContinuationToken() {
+  }
+
+  /**
+   * Returns the token for resuming a scan in the given direction after lastKey
+   */
+  static ByteString encode(byte[] lastKey, boolean reverse) {
+    byte[] token = new byte[HEADER_LENGTH + lastKey.length];
+    token[0] = VERSION;
+    token[1] = reverse ? REVERSE : FORWARD;
+    System.arraycopy(lastKey, 0, token, HEADER_LENGTH, lastKey.length);
+    return ByteString.copyFrom(token);
+  }
+
+  /**
+   * Returns the last key returned by the scan that issued the token
+   *
+   * @throws IllegalArgumentException if the token is malformed, or was issued by a scan in the other direction
+   */
+  static byte[] decode(ByteString token, boolean reverse) {
+    if (token.size() < HEADER_LENGTH || token.byteAt(0) != VERSION) {
+      throw new IllegalArgumentException("Unrecognized continuation token");
+    }
+    if (token.byteAt(1) != (reverse ? REVERSE : FORWARD)) {
+      throw new IllegalArgumentException("The continuation token was issued by a scan in the other direction");
+    }
+    return token.substring(HEADER_LENGTH).toByteArray();
+  }
+}
@@ -1,13 +1,19 @@
 package org.daboodb.daboo.server;
 
-import com.google.common.collect.Lists;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
-import org.daboodb.daboo.client.exceptions.RuntimeSerializationException;
 import org.daboodb.daboo.generated.protobufs.Request.ErrorCondition;
+import org.daboodb.daboo.generated.protobufs.Request.GetByTypeRequest;
 import org.daboodb.daboo.generated.protobufs.Request.GetRangeRequest;
 import org.daboodb.daboo.generated.protobufs.Request.GetRequest;
+import org.daboodb.daboo.generated.protobufs.Request.QueryRequest;
 import org.daboodb.daboo.server.db.Db;
+import org.daboodb.daboo.server.db.DbStats;
+import org.daboodb.daboo.server.db.RangeCursor;
+import org.daboodb.daboo.server.db.RangeCursors;
+import org.daboodb.daboo.server.db.SnapshotDb;
+import org.daboodb.daboo.server.db.WriteBatch;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
 import org.daboodb.daboo.server.io.WriteAheadLog;
 
 import org.daboodb.daboo.generated.protobufs.Request;
@@ -22,24 +28,78 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * The primary controller for the db. It receives input from a CommServer and forwards to a WAL (log) and db
  */
 class Database implements DatabaseAdmin {
 
+  private static final Comparator<byte[]> KEY_COMPARATOR = LexicographicComparator.SIGNED;
+
+  // The most documents one page of a query examines, matching or not, so a selective query can't hold a request
+  // thread for a scan of the whole range
+  private static final int MAX_EXAMINED_PER_PAGE = 10_000;
+
+  // The number of stripes in the table of key locks. Writes to keys on different stripes proceed in parallel
+  private static final int KEY_LOCK_STRIPES = 1024;
+
   private static Database INSTANCE;
 
-  // The primary storage mechanism. Used to answer requests for data
-  private Db db;
+  // The primary storage mechanism, wrapped so it can be exported as of a point in time. Used to answer requests for data
+  private SnapshotDb db;
 
   // The Write request log. It ensures that updates are persistent
   private WriteAheadLog writeAheadLog;
 
+  // The number of threads used to replay the WAL during recovery
+  private int replayThreads;
+
+  // The most documents returned in one page of a range request
+  private int maxRangePageSize;
+
+  // Maps each contentType to the keys of its documents. Built from the db by the first request that needs it, and kept
+  // current by writes from then on
+  private volatile ContentTypeIndex contentTypeIndex;
+
+  // Caches the instanceVersions of documents, for optimistic lock checks. Filled from the db as keys are checked, and
+  // kept current by writes
+  private final VersionIndex versionIndex = new VersionIndex();
+
+  // The versions the write pipeline's checked but unapplied requests give their keys
+  private final PendingVersions pendingVersions = new PendingVersions();
+
+  // Writes hold the read lock from checking a request until it is applied to the db. A backup briefly takes the write
+  // lock to open a snapshot, so the snapshot holds exactly the requests up to the WAL sequence number it is labelled
+  // with. The write pipeline holds it only while checking and logging, so whoever takes the write lock must also wait
+  // for the pipeline to apply what it has logged; see holdOffWrites
+  private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+
+  // Each write holds the locks of its keys from checking the request until it is applied, so that no other write to
+  // those keys comes between its optimistic lock check and its update, and the WAL holds a key's writes in the order
+  // they were applied
+  private final KeyLocks keyLocks = new KeyLocks(KEY_LOCK_STRIPES);
+
+  // Held by each write in place of its key locks when the db can't be written from several threads at once, so writes
+  // are applied one at a time
+  private final Lock serialWriteLock = new ReentrantLock();
+
+  // If set, writes are logged and applied by the pipeline's own threads, rather than by the threads that submit them
+  private volatile WritePipeline writePipeline;
+
   // true if we are notdoing any locking in this db. This would only be useful for single-threaded, embedded applicaions
   private boolean noLocking = false;
 
@@ -67,27 +127,21 @@ class Database implements DatabaseAdmin {
   Request.WriteReply handleRequest(WriteRequest request, byte[] requestBytes) {
 
     ErrorCondition errorCondition = getNoErrorConditionForWrite(request);
+    WritePipeline pipeline = writePipeline;
+    if (pipeline != null) {
+      return pipeline.submit(request, requestBytes);
+    }
+    checkpointLock.readLock().lock();
+    List<Lock> locks = noLocking ? Collections.emptyList() : writeLocks(request);
     try {
+      // a request that fails its check is refused before it reaches the WAL, so it is never replayed
+      checkLock(request);
+
       // we write the WAL
       //TODO(lwhite) Needs to be transactional, so we can safely recover from failure, & rollback if the write fails
       writeLog().log(requestBytes);
 
-      checkLock(request);
-
-      // we update the main data store
-      //TODO(lwhite): We need to collect undo info so we can perform a roll-back on the datastore if needed
-
-      if (!request.getIsDelete()) {
-        List<Request.DocumentKeyValue> documents = request.getWriteBody().getDocumentKeyValueList();
-        Map<byte[], byte[]> documentMap = new HashMap<>();
-        for (Request.DocumentKeyValue keyValue : documents) {
-          documentMap.put(keyValue.getKey().toByteArray(), keyValue.getValue().toByteArray());
-        }
-        db().write(documentMap);
-      } else {
-        List<Request.Document> documents = request.getDeleteBody().getDocumentList();
-        db().delete(documents);
-      }
+      applyLogged(request);
     } catch (IOException e) {
       String msg = "An IOException was caught handling a WRITE request";
       throw new RuntimeRequestException(msg, e, request.getHeader().getId().toByteArray());
@@ -98,51 +152,194 @@ class Database implements DatabaseAdmin {
       // We catch everything here to make sure it is logged before exiting
       String msg = "A Throwable was caught handling a WRITE request";
       throw new RuntimeRequestException(msg, e, request.getHeader().getId().toByteArray());
+    } finally {
+      keyLocks.unlock(locks);
+      checkpointLock.readLock().unlock();
     }
 
     return getWriteReply(request, errorCondition);
   }
 
-  private void checkLock(WriteRequest request) throws OptimisticLockException {
+  /**
+   * Takes the locks a write holds from checking the request until it is applied, and returns them, to be passed to
+   * KeyLocks.unlock: the locks of its keys if the db takes writes of different keys from several threads at once, and
+   * otherwise the one lock every write takes
+   */
+  private List<Lock> writeLocks(WriteRequest request) {
+    if (!db().supportsConcurrentWrites()) {
+      serialWriteLock.lock();
+      return Collections.singletonList(serialWriteLock);
+    }
+    return keyLocks.lock(keys(request));
+  }
+
+  /**
+   * Handles a request to write data to the database, returning a future completed with an appropriate reply. If writes
+   * run through the write pipeline, the calling thread only waits while the pipeline's ring is full; otherwise the
+   * request is handled on the calling thread, as handleRequest does
+   */
+  CompletableFuture<Request.WriteReply> handleRequestAsync(WriteRequest request, byte[] requestBytes) {
+    WritePipeline pipeline = writePipeline;
+    if (pipeline == null) {
+      CompletableFuture<Request.WriteReply> reply = new CompletableFuture<>();
+      try {
+        reply.complete(handleRequest(request, requestBytes));
+      } catch (RuntimeException e) {
+        reply.completeExceptionally(e);
+      }
+      return reply;
+    }
+    return pipeline.submitAsync(request, requestBytes);
+  }
+
+  /**
+   * Checks a write request's versions before the pipeline logs it, returning null if it passes, or the reply that
+   * refuses it. Runs on the pipeline's log thread, which checks every write in the order they are logged, so it takes
+   * no locks, but it must count the writes it has passed that are not yet applied
+   */
+  private Request.WriteReply checkFromPipeline(WriteRequest request) {
+    try {
+      checkLock(request);
+    } catch (OptimisticLockException e) {
+      return getWriteReply(request, getOptimisticLockErrorCondition(request, e));
+    }
+    if (!noLocking) {
+      if (!request.getIsDelete()) {
+        for (Request.DocumentKeyValue keyValue : request.getWriteBody().getDocumentKeyValueList()) {
+          pendingVersions.add(keyValue.getKey(), VersionIndex.instanceVersion(keyValue.getValue()));
+        }
+      } else {
+        for (Request.Document document : request.getDeleteBody().getDocumentList()) {
+          pendingVersions.add(document.getKey(), 0);
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Forgets the pending versions of a write request that passed its check, once it has been applied or discarded
+   */
+  private void settlePending(WriteRequest request) {
     if (noLocking) {
       return;
     }
-    checkOptimisticLock(request);
+    for (ByteString key : keys(request)) {
+      pendingVersions.remove(key);
+    }
   }
 
-  private void checkOptimisticLock(WriteRequest request) throws OptimisticLockException {
+  /**
+   * Applies a write request to the db once the pipeline has checked and logged it, and returns an appropriate reply.
+   * Runs on the pipeline's apply thread, which applies every write, so it takes no locks
+   */
+  private Request.WriteReply applyFromPipeline(WriteRequest request) {
+    try {
+      applyLogged(request);
+    } catch (Throwable e) {
+      // We catch everything here to make sure it is logged before exiting
+      String msg = "A Throwable was caught handling a WRITE request";
+      throw new RuntimeRequestException(msg, e, request.getHeader().getId().toByteArray());
+    } finally {
+      settlePending(request);
+    }
+    return getWriteReply(request, getNoErrorConditionForWrite(request));
+  }
+
+  /**
+   * Applies a checked and logged request to the db and the indexes. No other write to the same keys may run at the same
+   * time
+   */
+  private void applyLogged(WriteRequest request) throws InvalidProtocolBufferException {
+    // we update the main data store
+    //TODO(lwhite): We need to collect undo info so we can perform a roll-back on the datastore if needed
+
+    // the whole request becomes visible at once
+    WriteBatch batch = new WriteBatch();
+    if (!request.getIsDelete()) {
+      for (Request.DocumentKeyValue keyValue : request.getWriteBody().getDocumentKeyValueList()) {
+        batch.put(keyValue.getKey().toByteArray(), keyValue.getValue().toByteArray());
+      }
+    } else {
+      for (Request.Document document : request.getDeleteBody().getDocumentList()) {
+        batch.delete(document.getKey().toByteArray());
+      }
+    }
+    db().apply(batch);
+    updateIndex(request);
+  }
 
-    List<Request.DocumentKeyValue> docKeysAndValues = request.getWriteBody().getDocumentKeyValueList();
-    Map<ByteString, Request.Document> keyValueMap = new HashMap<>();
-    try { // make a list of keys to get
-      for (Request.DocumentKeyValue keyValue : docKeysAndValues) {
-        Request.Document document = Request.Document.parseFrom(keyValue.getValue());
-        if (document.getInstanceVersion() != 0) {
-          keyValueMap.put(keyValue.getKey(), document);
+  /**
+   * Records the request's documents in the version index, and in the contentType index if it has been built. Called
+   * holding the checkpoint read lock, so the contentType index is either built before the request is applied, or is
+   * built from a db that includes it
+   */
+  private void updateIndex(WriteRequest request) throws InvalidProtocolBufferException {
+    if (!noLocking) {
+      if (!request.getIsDelete()) {
+        for (Request.DocumentKeyValue keyValue : request.getWriteBody().getDocumentKeyValueList()) {
+          versionIndex.put(keyValue.getKey(), VersionIndex.instanceVersion(keyValue.getValue()));
+        }
+      } else {
+        for (Request.Document document : request.getDeleteBody().getDocumentList()) {
+          versionIndex.put(document.getKey(), 0);
         }
       }
+    }
+    ContentTypeIndex index = contentTypeIndex;
+    if (index == null) {
+      return;
+    }
+    if (!request.getIsDelete()) {
+      for (Request.DocumentKeyValue keyValue : request.getWriteBody().getDocumentKeyValueList()) {
+        index.add(Request.Document.parseFrom(keyValue.getValue()).getContentType(), keyValue.getKey().toByteArray());
+      }
+    } else {
+      for (Request.Document document : request.getDeleteBody().getDocumentList()) {
+        index.remove(document.getContentType(), document.getKey().toByteArray());
+      }
+    }
+  }
 
-      // If we have no docs being updated, lets get out of here
-      if (keyValueMap.isEmpty()) {
-        return;
+  /**
+   * Returns the keys of the documents the request writes or deletes
+   */
+  private static List<ByteString> keys(WriteRequest request) {
+    List<ByteString> keys = new ArrayList<>();
+    if (!request.getIsDelete()) {
+      for (Request.DocumentKeyValue keyValue : request.getWriteBody().getDocumentKeyValueList()) {
+        keys.add(keyValue.getKey());
+      }
+    } else {
+      for (Request.Document document : request.getDeleteBody().getDocumentList()) {
+        keys.add(document.getKey());
       }
+    }
+    return keys;
+  }
 
-      // get the prior version of any docs being updated
-      List<ByteString> docByteStrings = db().get(Lists.newArrayList(keyValueMap.keySet()));
-
-      // now check each doc to see if it's stale
-      Request.Document prior;
-      Request.Document current;
-      for (ByteString string : docByteStrings) {
-        prior = Request.Document.parseFrom(string);
-        current = keyValueMap.get(prior.getKey());
-        if (current.getInstanceVersion() <= prior.getInstanceVersion()) {
-          throw new OptimisticLockException("Another thread/process has updated the data after it was read.");
-        }
+  private void checkLock(WriteRequest request) throws OptimisticLockException {
+    if (noLocking) {
+      return;
+    }
+    checkOptimisticLock(request);
+  }
+
+  /**
+   * Throws if any document the request writes has an instanceVersion no newer than the stored document's, or than the
+   * version a pending write gives it. Called holding the locks of the request's keys, or on the pipeline's log thread,
+   * so no other write to them can come between this check and the update
+   */
+  private void checkOptimisticLock(WriteRequest request) throws OptimisticLockException {
+    for (Request.DocumentKeyValue keyValue : request.getWriteBody().getDocumentKeyValueList()) {
+      int version = VersionIndex.instanceVersion(keyValue.getValue());
+      if (version == 0) {
+        continue;
+      }
+      Integer pending = pendingVersions.version(keyValue.getKey());
+      if (version <= (pending != null ? pending : versionIndex.version(keyValue.getKey(), db()))) {
+        throw new OptimisticLockException("Another thread/process has updated the data after it was read.");
       }
-    } catch (InvalidProtocolBufferException e ) {
-      e.printStackTrace();
-      throw new RuntimeSerializationException("Failed to read a request protocol buffer.", e);
     }
   }
 
@@ -165,22 +362,324 @@ class Database implements DatabaseAdmin {
   }
 
   /**
-   * Handles a request to get data from the database and returns an appropriate reply
+   * Handles a request for one page of a key range and returns an appropriate reply.
+   * <p>
+   * A page holds at most the request's limit, and never more than the configured maximum page size, so the memory used
+   * by a request is bounded however wide its range. A prefix narrows the range to the keys that begin with it. The
+   * reply's continuationToken (or lastKey) lets the client request the next page, which resumes from where this one
+   * ended, so each page costs the reads of its own documents rather than of the range before it
    *
    * @throws RuntimeRequestException if a runtime exception occurred while fulfilling this request
    */
    Request.GetReply handleRequest(GetRangeRequest request) {
-    List<ByteString> result;
-    ErrorCondition condition = ErrorCondition.getDefaultInstance();
+    GetReply.Builder reply = GetReply.newBuilder();
     try {
       Request.GetRangeRequestBody body = request.getBody();
-      result = db().getRange(body.getStartKey().toByteArray(), body.getEndKey().toByteArray());
+      byte[] from = body.hasStartKey() ? body.getStartKey().toByteArray() : null;
+      byte[] to = body.hasEndKey() ? body.getEndKey().toByteArray() : null;
+      if (from != null && to != null && KEY_COMPARATOR.compare(from, to) > 0) {
+        throw new IllegalArgumentException("fromKey > toKey");
+      }
+      if (body.hasPrefix()) {
+        byte[] prefix = body.getPrefix().toByteArray();
+        from = max(from, prefix);
+        to = min(to, RangeCursors.prefixEnd(prefix));
+      }
+      boolean reverse = body.getReverse();
+      byte[] after = null;
+      if (body.hasContinuationToken()) {
+        after = ContinuationToken.decode(body.getContinuationToken(), reverse);
+      } else if (body.hasAfterKey()) {
+        after = body.getAfterKey().toByteArray();
+      }
+      if (after != null) {
+        if (reverse) {
+          to = min(to, after);
+        } else {
+          from = max(from, RangeCursors.successor(after));
+        }
+      }
+      Db db = db();
+      int pageSize = body.getLimit() > 0 ? Math.min(body.getLimit(), maxRangePageSize) : maxRangePageSize;
+
+      // a prefix outside the bounds, or a token for the end of the range, leaves nothing to read
+      if (from == null || to == null || KEY_COMPARATOR.compare(from, to) < 0) {
+        try (RangeCursor cursor = db.cursor(from, to, reverse)) {
+          byte[] lastKey = null;
+          while (reply.getDocumentBytesCount() < pageSize && cursor.next()) {
+            reply.addDocumentBytes(cursor.value());
+            lastKey = cursor.key();
+          }
+          if (lastKey != null) {
+            reply.setLastKey(ByteString.copyFrom(lastKey));
+          }
+          boolean hasMore = lastKey != null && cursor.next();
+          reply.setHasMore(hasMore);
+          if (hasMore) {
+            reply.setContinuationToken(ContinuationToken.encode(lastKey, reverse));
+          }
+        }
+      }
     } catch (Throwable throwable) {
       // We catch everything here to make sure it is logged before exiting
-      String msg = "A Throwable was caught handling a GET request";
+      String msg = "A Throwable was caught handling a GET_RANGE request";
       throw new RuntimeRequestException(msg, throwable, request.getHeader().getId().toByteArray());
     }
-    return getGetReply(request, result, condition);
+    return reply
+        .setRequestId(request.getHeader().getId())
+        .setTimestamp(Instant.now().toEpochMilli())
+        .setErrorCondition(ErrorCondition.getDefaultInstance())
+        .build();
+  }
+
+  /**
+   * Handles a request for one page of the documents of a contentType, in key order, and returns an appropriate reply.
+   * <p>
+   * The documents are found through the contentType index, so a page costs reads of its own documents, however many
+   * documents of other types the database holds. Keys the index holds for documents that have since changed type are
+   * skipped, and removed from the index
+   *
+   * @throws RuntimeRequestException if a runtime exception occurred while fulfilling this request
+   */
+  Request.GetReply handleRequest(GetByTypeRequest request) {
+    GetReply.Builder reply = GetReply.newBuilder();
+    try {
+      Request.GetByTypeRequestBody body = request.getBody();
+      String contentType = body.getContentType();
+      byte[] after = body.hasContinuationToken() ? ContinuationToken.decode(body.getContinuationToken(), false) : null;
+      Db db = db();
+      int pageSize = body.getLimit() > 0 ? Math.min(body.getLimit(), maxRangePageSize) : maxRangePageSize;
+
+      Iterator<byte[]> keys = contentTypeIndex().keys(contentType, after).iterator();
+      byte[] lastKey = null;
+      List<ByteString> stale = new ArrayList<>();
+      while (reply.getDocumentBytesCount() < pageSize && keys.hasNext()) {
+        // fetch as many keys as the page has room for, and go round again for any that turn out to be stale
+        List<ByteString> wanted = new ArrayList<>();
+        while (wanted.size() < pageSize - reply.getDocumentBytesCount() && keys.hasNext()) {
+          lastKey = keys.next();
+          wanted.add(ByteString.copyFrom(lastKey));
+        }
+        Set<ByteString> found = new HashSet<>();
+        for (ByteString bytes : db.get(wanted)) {
+          Request.Document document = Request.Document.parseFrom(bytes);
+          if (document.getContentType().equals(contentType)) {
+            reply.addDocumentBytes(bytes);
+            found.add(document.getKey());
+          }
+        }
+        for (ByteString key : wanted) {
+          if (!found.contains(key)) {
+            stale.add(key);
+          }
+        }
+      }
+      removeStale(contentType, stale);
+      if (lastKey != null) {
+        reply.setLastKey(ByteString.copyFrom(lastKey));
+      }
+      boolean hasMore = keys.hasNext();
+      reply.setHasMore(hasMore);
+      if (hasMore) {
+        reply.setContinuationToken(ContinuationToken.encode(lastKey, false));
+      }
+    } catch (Throwable throwable) {
+      // We catch everything here to make sure it is logged before exiting
+      String msg = "A Throwable was caught handling a GET_BY_TYPE request";
+      throw new RuntimeRequestException(msg, throwable, request.getHeader().getId().toByteArray());
+    }
+    return reply
+        .setRequestId(request.getHeader().getId())
+        .setTimestamp(Instant.now().toEpochMilli())
+        .setErrorCondition(ErrorCondition.getDefaultInstance())
+        .build();
+  }
+
+  /**
+   * Handles a query request and returns a page of the documents that match it, in key order.
+   * <p>
+   * The documents in the query's key range are read in turn and checked against its contentType and field predicates
+   * on the server, so only the matches are sent back. If the query names a contentType, only the documents the index
+   * holds for that type are read. A page ends when it holds the request's limit of matches, or when it has examined
+   * MAX_EXAMINED_PER_PAGE documents, so a page may hold fewer matches than the limit, or none, and still have more to
+   * follow. The continuationToken resumes the scan after the last document examined
+   *
+   * @throws RuntimeRequestException if a runtime exception occurred while fulfilling this request
+   */
+  Request.GetReply handleRequest(QueryRequest request) {
+    GetReply.Builder reply = GetReply.newBuilder();
+    try {
+      Request.QueryRequestBody body = request.getBody();
+      DocumentQuery query = DocumentQuery.of(body);
+      byte[] from = body.hasStartKey() ? body.getStartKey().toByteArray() : null;
+      byte[] to = body.hasEndKey() ? body.getEndKey().toByteArray() : null;
+      if (from != null && to != null && KEY_COMPARATOR.compare(from, to) > 0) {
+        throw new IllegalArgumentException("fromKey > toKey");
+      }
+      if (body.hasPrefix()) {
+        byte[] prefix = body.getPrefix().toByteArray();
+        from = max(from, prefix);
+        to = min(to, RangeCursors.prefixEnd(prefix));
+      }
+      if (body.hasContinuationToken()) {
+        from = max(from, RangeCursors.successor(ContinuationToken.decode(body.getContinuationToken(), false)));
+      }
+      Db db = db();
+      int pageSize = body.getLimit() > 0 ? Math.min(body.getLimit(), maxRangePageSize) : maxRangePageSize;
+
+      if (from == null || to == null || KEY_COMPARATOR.compare(from, to) < 0) {
+        byte[] lastKey = null;
+        boolean hasMore;
+        int examined = 0;
+        if (query.contentType() != null) {
+          Iterator<byte[]> keys = contentTypeIndex().keys(query.contentType(), from, to).iterator();
+          while (reply.getDocumentBytesCount() < pageSize && examined < MAX_EXAMINED_PER_PAGE && keys.hasNext()) {
+            // fetch no more keys than the page has room for, so that every key fetched has been examined
+            List<ByteString> wanted = new ArrayList<>();
+            int room = Math.min(pageSize - reply.getDocumentBytesCount(), MAX_EXAMINED_PER_PAGE - examined);
+            while (wanted.size() < room && keys.hasNext()) {
+              lastKey = keys.next();
+              wanted.add(ByteString.copyFrom(lastKey));
+            }
+            examined += wanted.size();
+            for (ByteString bytes : db.get(wanted)) {
+              if (query.matches(Request.Document.parseFrom(bytes))) {
+                reply.addDocumentBytes(bytes);
+              }
+            }
+          }
+          hasMore = keys.hasNext();
+        } else {
+          try (RangeCursor cursor = db.cursor(from, to, false)) {
+            while (reply.getDocumentBytesCount() < pageSize && examined < MAX_EXAMINED_PER_PAGE && cursor.next()) {
+              examined++;
+              lastKey = cursor.key();
+              if (query.matches(Request.Document.parseFrom(cursor.value()))) {
+                reply.addDocumentBytes(cursor.value());
+              }
+            }
+            hasMore = lastKey != null && cursor.next();
+          }
+        }
+        if (lastKey != null) {
+          reply.setLastKey(ByteString.copyFrom(lastKey));
+        }
+        reply.setHasMore(hasMore);
+        if (hasMore) {
+          reply.setContinuationToken(ContinuationToken.encode(lastKey, false));
+        }
+      }
+    } catch (Throwable throwable) {
+      // We catch everything here to make sure it is logged before exiting
+      String msg = "A Throwable was caught handling a QUERY request";
+      throw new RuntimeRequestException(msg, throwable, request.getHeader().getId().toByteArray());
+    }
+    return reply
+        .setRequestId(request.getHeader().getId())
+        .setTimestamp(Instant.now().toEpochMilli())
+        .setErrorCondition(ErrorCondition.getDefaultInstance())
+        .build();
+  }
+
+  /**
+   * Removes from the index the keys a reader found not to hold documents of the type. Writes are held off while each
+   * key is checked again, so that a key written with the type since the reader looked is not removed
+   */
+  private void removeStale(String contentType, List<ByteString> keys) throws InvalidProtocolBufferException {
+    if (keys.isEmpty()) {
+      return;
+    }
+    holdOffWrites();
+    try {
+      Set<ByteString> stale = new HashSet<>(keys);
+      for (ByteString bytes : db().get(keys)) {
+        Request.Document document = Request.Document.parseFrom(bytes);
+        if (document.getContentType().equals(contentType)) {
+          stale.remove(document.getKey());
+        }
+      }
+      for (ByteString key : stale) {
+        contentTypeIndex().remove(contentType, key.toByteArray());
+      }
+    } finally {
+      checkpointLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the contentType index, building it from the db if this is the first request to need it. Writes are held
+   * off while it is built, so that each is either in the db it is built from, or records itself in the index
+   */
+  private ContentTypeIndex contentTypeIndex() {
+    ContentTypeIndex index = contentTypeIndex;
+    if (index == null) {
+      holdOffWrites();
+      try {
+        index = contentTypeIndex;
+        if (index == null) {
+          index = ContentTypeIndex.build(db());
+          contentTypeIndex = index;
+        }
+      } finally {
+        checkpointLock.writeLock().unlock();
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Takes the checkpoint write lock, and waits for any writes the pipeline has logged to be applied, so that no write
+   * is between being logged and being applied until the lock is released
+   */
+  private void holdOffWrites() {
+    checkpointLock.writeLock().lock();
+    WritePipeline pipeline = writePipeline;
+    if (pipeline != null) {
+      pipeline.awaitApplied();
+    }
+  }
+
+  /**
+   * Runs writes through a pipeline with a ring of the given size, or, if ringSize is 0, on the threads that submit
+   * them. Writes submitted while the mode changes may be run either way
+   */
+  void setWritePipeline(int ringSize) {
+    WritePipeline pipeline = writePipeline;
+    if (pipeline != null) {
+      writePipeline = null;
+      pipeline.close();
+    }
+    if (ringSize > 0) {
+      writePipeline = new WritePipeline(ringSize, new WritePipeline.Checker() {
+        @Override
+        public WriteReply check(WriteRequest request) {
+          return checkFromPipeline(request);
+        }
+
+        @Override
+        public void discard(WriteRequest request) {
+          settlePending(request);
+        }
+      }, this::logFromPipeline, this::applyFromPipeline, checkpointLock.readLock());
+    }
+  }
+
+  private void logFromPipeline(List<byte[]> requests) throws IOException {
+    writeLog().log(requests);
+  }
+
+  /**
+   * Returns the greater of two lower bounds, where null is unbounded
+   */
+  private static byte[] max(byte[] bound, byte[] other) {
+    return bound == null || (other != null && KEY_COMPARATOR.compare(other, bound) > 0) ? other : bound;
+  }
+
+  /**
+   * Returns the lesser of two upper bounds, where null is unbounded
+   */
+  private static byte[] min(byte[] bound, byte[] other) {
+    return bound == null || (other != null && KEY_COMPARATOR.compare(other, bound) < 0) ? other : bound;
   }
 
   /**
@@ -190,6 +689,14 @@ class Database implements DatabaseAdmin {
     return db().size();
   }
 
+  /**
+   * Returns statistics about the documents in the database. Most Dbs keep these current as they are written, so
+   * reading them doesn't scan the store
+   */
+  public DbStats stats() {
+    return db().stats();
+  }
+
   /**
    * Returns true if there is no data in this database; false otherwise
    */
@@ -198,42 +705,116 @@ class Database implements DatabaseAdmin {
   }
 
   /**
-   * Exports the database in its entirety to the given file
+   * Exports the database in its entirety to the given file, as it was when the export began
    */
   public void export(File file) {
-    db().exportDocuments(file);
+    try (SnapshotDb.Snapshot snapshot = openSnapshot()) {
+      snapshot.exportDocuments(file);
+    }
   }
 
   /**
-   * Backs-up the database to a file, and clears the WriteAheadLog, so that going forward it will only contain
-   * updates since the latest backup
-   * TODO(lwhite): Need more sophisticated approach to backup and recovery that addresses issues of concurrent writes
+   * Backs-up the database to a file, then checkpoints the WriteAheadLog, so that going forward it will only need to
+   * replay updates since the latest backup.
+   * <p>
+   * The backup is a snapshot of the database as of the last request in the WAL when it began, and the WAL is only
+   * truncated up to that request, so writes made while the backup runs are kept in the WAL. A WAL that doesn't number
+   * its requests can only be cleared whole, so writes wait until the backup is done
    */
   public void backup(File file) {
     if (file.exists()) {
       file.delete();
     }
-    db().exportDocuments(file);
+    SnapshotDb.Snapshot snapshot;
+    holdOffWrites();
     try {
-      writeLog().clear();
+      long sequenceNumber = writeLog().lastSequenceNumber();
+      if (sequenceNumber == 0) {
+        db().exportDocuments(file);
+        checkpoint(sequenceNumber);
+        return;
+      }
+      snapshot = db().openSnapshot(sequenceNumber);
+    } finally {
+      checkpointLock.writeLock().unlock();
+    }
+    try {
+      snapshot.exportDocuments(file);
+    } finally {
+      snapshot.close();
+    }
+    checkpoint(snapshot.sequenceNumber());
+    commitDb();
+  }
+
+  /**
+   * Returns a snapshot of the database, labelled with the sequence number of the last request in the WAL
+   */
+  private SnapshotDb.Snapshot openSnapshot() {
+    holdOffWrites();
+    try {
+      return db().openSnapshot(writeLog().lastSequenceNumber());
+    } finally {
+      checkpointLock.writeLock().unlock();
+    }
+  }
+
+  private void checkpoint(long sequenceNumber) {
+    try {
+      writeLog().checkpoint(sequenceNumber);
     } catch (IOException e) {
       e.printStackTrace();
-      String message = "Unable to complete backup operation because of an IOException clearing the WAL";
+      String message = "Unable to complete backup operation because of an IOException checkpointing the WAL";
       throw new RuntimePersistenceException(message, e);
     }
   }
 
   /**
-   * Loads into this database service the data in the given backup file
+   * Records, in a db that keeps its documents across restarts, the last request in the WAL that it holds, so that
+   * recovery need replay only the requests after it
    */
-  public void recoverFromBackup(File backupFile) {
+  private void commitDb() {
+    long sequenceNumber;
+    holdOffWrites();
+    try {
+      sequenceNumber = writeLog().lastSequenceNumber();
+    } finally {
+      checkpointLock.writeLock().unlock();
+    }
+    // writes applied while the db commits are replayed again, which leaves their documents as they are
+    db().commit(sequenceNumber);
+  }
 
-    // get everything from the last backup, if any
-    db().importDocuments(backupFile);
+  /**
+   * Loads into this database service the data in the given backup file, and the requests logged since. A db that
+   * reopened holding the documents it had when it was last committed skips the backup, and replays only the requests
+   * logged after that commit
+   */
+  public void recoverFromBackup(File backupFile) {
+    long committed = db().committedSequenceNumber();
+    boolean resumed;
+    try {
+      resumed = committed >= 0 && writeLog().replayAfter(committed);
+    } catch (IOException e) {
+      String message = "Unable to complete recovery from backup because of an IOException reading the WAL";
+      throw new RuntimePersistenceException(message, e);
+    }
+    if (!resumed) {
+      if (committed >= 0) {
+        // the WAL no longer holds every request after the db's commit, so the db is rebuilt from the backup
+        db().clear();
+      }
+      // get everything from the last backup, if any
+      db().importDocuments(backupFile);
+    }
 
-    // now get anything that was written to the WAL since the last backup.
+    // now get anything that was written to the WAL since the last backup, or since the db's commit
     loadExistingDataFromWAL();
 
+    // neither bulk loads nor WAL replay maintain the indexes, so they are rebuilt or refilled when next needed
+    contentTypeIndex = null;
+    versionIndex.clear();
+
     // now clear the WAL
     try {
       writeLog().clear();
@@ -242,6 +823,7 @@ class Database implements DatabaseAdmin {
       String message = "Unable to complete recovery from backup because of an IOException clearing the WAL";
       throw new RuntimePersistenceException(message, e);
     }
+    commitDb();
   }
 
   /**
@@ -249,6 +831,8 @@ class Database implements DatabaseAdmin {
    */
   public void clear() {
     db().clear();
+    contentTypeIndex = null;
+    versionIndex.clear();
     try {
       writeLog().clear();
     } catch (IOException e) {
@@ -258,16 +842,40 @@ class Database implements DatabaseAdmin {
     }
   }
 
+  /**
+   * Stops the write pipeline, if any, commits the db, so that a restart replays only the requests logged after now,
+   * and closes it. Runs as the JVM shuts down
+   */
+  public synchronized void close() {
+    if (db == null) {
+      return;
+    }
+    setWritePipeline(0);
+    commitDb();
+    try {
+      db.close();
+    } catch (IOException e) {
+      String message = "Unable to close the database, because of an IOException";
+      throw new RuntimePersistenceException(message, e);
+    }
+  }
+
   /**
    * Initialize fields with values that are determined by ServerSettings
    */
   private void init() {
     ServerSettings serverSettings = ServerSettings.getInstance();
-    db = serverSettings.getDb();
+    db = new SnapshotDb(serverSettings.getDb());
+    Runtime.getRuntime().addShutdownHook(new Thread(this::close, "daboo-database-close"));
     writeAheadLog = serverSettings.getWriteAheadLog();
+    replayThreads = serverSettings.getReplayThreads();
+    maxRangePageSize = serverSettings.getMaxRangePageSize();
+    if (serverSettings.getWritePipelineRingSize() > 0) {
+      setWritePipeline(serverSettings.getWritePipelineRingSize());
+    }
   }
 
-  private Db db() {
+  private SnapshotDb db() {
     if (db == null) {
       init();
     }
@@ -287,34 +895,7 @@ class Database implements DatabaseAdmin {
    * TODO(lwhite): Review. This probably needs to lock the files or otherwise fully synchronize
    */
   private synchronized void loadExistingDataFromWAL() {
-
-    while (writeLog().hasNext()) {
-
-      byte[] requestBytes = writeLog().next();
-
-      try {
-        WriteRequest request = WriteRequest.parseFrom(requestBytes);
-        if (!request.getIsDelete()) {
-          List<Request.DocumentKeyValue> documents = request.getWriteBody().getDocumentKeyValueList();
-          Map<byte[], byte[]> documentMap = new HashMap<>();
-          for (Request.DocumentKeyValue keyValue : documents) {
-            documentMap.put(keyValue.getKey().toByteArray(), keyValue.getValue().toByteArray());
-          }
-          db().write(documentMap);
-        } else {
-          List<Request.Document> documents = request.getDeleteBody().getDocumentList();
-          Map<byte[], byte[]> documentMap = new HashMap<>();
-          for (Request.Document document : documents) {
-            documentMap.put(document.getKey().toByteArray(), document.toByteArray());
-          }
-          db().write(documentMap);
-        }
-      } catch (IOException e) {
-        e.printStackTrace();
-        String message = "Unable to complete loading existing data from the WAL due to an IOException";
-        throw new RuntimePersistenceException(message, e);
-      }
-    }
+    new LogReplayer(db(), replayThreads).replay(writeLog());
   }
 
   private GetReply getGetReply(GetRequest request, List<ByteString> result, ErrorCondition condition) {
@@ -326,15 +907,6 @@ class Database implements DatabaseAdmin {
         .build();
   }
 
-  private GetReply getGetReply(GetRangeRequest request, List<ByteString> result, ErrorCondition condition) {
-    return GetReply.newBuilder()
-        .setRequestId(request.getHeader().getId())
-        .setTimestamp(Instant.now().toEpochMilli())
-        .addAllDocumentBytes(result)
-        .setErrorCondition(condition)
-        .build();
-  }
-
   /**
    * Returns an error condition object that represents a 'no error' state
    */
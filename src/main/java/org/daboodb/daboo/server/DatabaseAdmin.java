@@ -1,5 +1,7 @@
 package org.daboodb.daboo.server;
 
+import org.daboodb.daboo.server.db.DbStats;
+
 import java.io.File;
 
 /**
@@ -27,4 +29,14 @@ interface DatabaseAdmin {
    * Reads all the data from the backupFile into the database
    */
   void recoverFromBackup(File backupFile);
+
+  /**
+   * Commits and closes the primary database storage, so that a restart replays only the requests logged since
+   */
+  void close();
+
+  /**
+   * Returns the number of documents stored, the bytes they take, and the distribution of their sizes
+   */
+  DbStats stats();
 }
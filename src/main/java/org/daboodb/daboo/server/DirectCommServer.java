@@ -2,6 +2,8 @@ package org.daboodb.daboo.server;
 
 import org.daboodb.daboo.generated.protobufs.Request;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * An implementation of CommServer that communicates in-process via direct message sends
  */
@@ -26,6 +28,16 @@ public class DirectCommServer implements CommServer {
     return dbServer().handleRequest(request, request.toByteArray());
   }
 
+  /**
+   * Passes a write request to the database server for processing, without waiting for it to be applied when writes run
+   * through the write pipeline
+   * @param request The write request
+   * @return  A future of the WriteReply, which may contain an ErrorCondition object signifying a problem with the write
+   */
+  public CompletableFuture<Request.WriteReply> handleRequestAsync(Request.WriteRequest request) {
+    return dbServer().handleRequestAsync(request, request.toByteArray());
+  }
+
   /**
    * Passes a get request to the database server for processing
    * @param request The get request
@@ -43,4 +55,22 @@ public class DirectCommServer implements CommServer {
   public Request.GetReply handleRequest(Request.GetRangeRequest request) {
     return dbServer().handleRequest(request);
   }
+
+  /**
+   * Passes a get-by-type request to the database server for processing
+   * @param request The get-by-type request
+   * @return  A reply containing a page of the documents of the requested type
+   */
+  public Request.GetReply handleRequest(Request.GetByTypeRequest request) {
+    return dbServer().handleRequest(request);
+  }
+
+  /**
+   * Passes a query request to the database server for processing
+   * @param request The query request
+   * @return  A reply containing a page of the documents that match the query
+   */
+  public Request.GetReply handleRequest(Request.QueryRequest request) {
+    return dbServer().handleRequest(request);
+  }
 }
@@ -0,0 +1,161 @@
+package org.daboodb.daboo.server;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.generated.protobufs.Request.FieldPredicate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The conditions of a query request, checked against each document the server reads: the document must be of the
+ * query's contentType, if it has one, and its JSON content must satisfy every field predicate.
+ * <p>
+ * A predicate's field is found by name, following a dotted path through nested objects. A string value is compared
+ * with the field as a string, a number value with the field if it is a number, and a boolean value with the field if
+ * it is a boolean. A field that is missing, null or of another kind satisfies no predicate but NOT_EQUALS. Content is
+ * only parsed for documents of the right type, and not at all if the query has no predicates.
+ */
+final class DocumentQuery {
+
+  private static final JsonParser PARSER = new JsonParser();
+
+  private final String contentType;
+  private final List<FieldPredicate> predicates;
+  private final List<String[]> paths = new ArrayList<>();
+
+  private DocumentQuery(String contentType, List<FieldPredicate> predicates) {
+    this.contentType = contentType;
+    this.predicates = predicates;
+    for (FieldPredicate predicate : predicates) {
+      paths.add(predicate.getField().split("\\."));
+    }
+  }
+
+  /**
+   * Returns the query described by the body
+   *
+   * @throws IllegalArgumentException if a predicate has no value to compare with, or an operator its value can't take
+   */
+  static DocumentQuery of(Request.QueryRequestBody body) {
+    for (FieldPredicate predicate : body.getPredicateList()) {
+      check(predicate);
+    }
+    return new DocumentQuery(body.hasContentType() ? body.getContentType() : null, body.getPredicateList());
+  }
+
+  /**
+   * Returns the contentType the query is restricted to, or null if it matches documents of any type
+   */
+  String contentType() {
+    return contentType;
+  }
+
+  /**
+   * Returns true if the document is of the query's type and satisfies every predicate. Content that isn't JSON
+   * satisfies none
+   */
+  boolean matches(Request.Document document) {
+    if (contentType != null && !contentType.equals(document.getContentType())) {
+      return false;
+    }
+    if (predicates.isEmpty()) {
+      return true;
+    }
+    JsonElement content;
+    try {
+      content = PARSER.parse(document.getContentBytes().toStringUtf8());
+    } catch (JsonParseException e) {
+      return false;
+    }
+    for (int i = 0; i < predicates.size(); i++) {
+      if (!satisfies(predicates.get(i), find(content, paths.get(i)))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static JsonElement find(JsonElement content, String[] path) {
+    JsonElement element = content;
+    for (String name : path) {
+      if (element == null || !element.isJsonObject()) {
+        return null;
+      }
+      element = ((JsonObject) element).get(name);
+    }
+    return element;
+  }
+
+  private static boolean satisfies(FieldPredicate predicate, JsonElement field) {
+    FieldPredicate.Operator operator = predicate.getOperator();
+    if (operator == FieldPredicate.Operator.EXISTS) {
+      return field != null && !field.isJsonNull();
+    }
+    Integer comparison = compare(predicate, field);
+    if (comparison == null) {
+      return operator == FieldPredicate.Operator.NOT_EQUALS;
+    }
+    switch (operator) {
+      case EQUALS:
+        return comparison == 0;
+      case NOT_EQUALS:
+        return comparison != 0;
+      case LESS_THAN:
+        return comparison < 0;
+      case LESS_THAN_OR_EQUAL:
+        return comparison <= 0;
+      case GREATER_THAN:
+        return comparison > 0;
+      case GREATER_THAN_OR_EQUAL:
+        return comparison >= 0;
+      case STARTS_WITH:
+        return field.getAsString().startsWith(predicate.getStringValue());
+      default:
+        throw new IllegalArgumentException("Unsupported operator " + operator);
+    }
+  }
+
+  /**
+   * Returns the sign of the comparison of the field with the predicate's value, or null if the field is missing, null
+   * or of a different kind from the value
+   */
+  private static Integer compare(FieldPredicate predicate, JsonElement field) {
+    if (field == null || !field.isJsonPrimitive()) {
+      return null;
+    }
+    JsonPrimitive primitive = (JsonPrimitive) field;
+    if (predicate.hasStringValue()) {
+      return primitive.isString()
+          ? Integer.signum(primitive.getAsString().compareTo(predicate.getStringValue()))
+          : null;
+    }
+    if (predicate.hasNumberValue()) {
+      return primitive.isNumber() ? Double.compare(primitive.getAsDouble(), predicate.getNumberValue()) : null;
+    }
+    return primitive.isBoolean() ? Boolean.compare(primitive.getAsBoolean(), predicate.getBoolValue()) : null;
+  }
+
+  private static void check(FieldPredicate predicate) {
+    FieldPredicate.Operator operator = predicate.getOperator();
+    if (operator == FieldPredicate.Operator.EXISTS) {
+      return;
+    }
+    int values = (predicate.hasStringValue() ? 1 : 0) + (predicate.hasNumberValue() ? 1 : 0)
+        + (predicate.hasBoolValue() ? 1 : 0);
+    if (values != 1) {
+      throw new IllegalArgumentException("The predicate on " + predicate.getField() + " needs exactly one value");
+    }
+    if (operator == FieldPredicate.Operator.STARTS_WITH && !predicate.hasStringValue()) {
+      throw new IllegalArgumentException("STARTS_WITH on " + predicate.getField() + " needs a string value");
+    }
+    if (predicate.hasBoolValue() && operator != FieldPredicate.Operator.EQUALS
+        && operator != FieldPredicate.Operator.NOT_EQUALS) {
+      throw new IllegalArgumentException("A boolean value can only be compared for equality");
+    }
+  }
+}
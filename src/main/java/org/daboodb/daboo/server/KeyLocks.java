@@ -0,0 +1,46 @@
+package org.daboodb.daboo.server;
+
+import com.google.common.util.concurrent.Striped;
+import com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A table of locks on document keys, so that a write can check the versions of the documents it replaces and apply
+ * itself with no other write to those keys in between. Keys are hashed to a fixed number of lock stripes, so writes to
+ * different keys rarely wait for each other, and the table's size doesn't grow with the number of keys.
+ * <p>
+ * The locks for a set of keys are always taken in stripe order, so two writes that share keys can't deadlock.
+ */
+final class KeyLocks {
+
+  private final Striped<Lock> stripes;
+
+  KeyLocks(int stripes) {
+    this.stripes = Striped.lock(stripes);
+  }
+
+  /**
+   * Locks the stripes of all the keys, waiting for any held by other threads, and returns the locks taken, to be
+   * passed to unlock. A stripe shared by several keys is locked once for each of them
+   */
+  List<Lock> lock(List<ByteString> keys) {
+    List<Lock> locks = new ArrayList<>(keys.size());
+    for (Lock lock : stripes.bulkGet(keys)) {
+      lock.lock();
+      locks.add(lock);
+    }
+    return locks;
+  }
+
+  /**
+   * Releases locks returned by lock
+   */
+  void unlock(List<Lock> locks) {
+    for (int i = locks.size() - 1; i >= 0; i--) {
+      locks.get(i).unlock();
+    }
+  }
+}
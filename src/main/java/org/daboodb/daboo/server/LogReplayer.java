@@ -0,0 +1,277 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.generated.protobufs.Request.WriteRequest;
+import org.daboodb.daboo.server.db.Db;
+import org.daboodb.daboo.server.db.WriteBatch;
+import org.daboodb.daboo.server.io.WriteAheadLog;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replays a Write-Ahead Log into a Db using a pipeline of threads.
+ * <p>
+ * The calling thread reads the log sequentially and hands each request to a pool of decoders, which parse the
+ * protocol buffers in parallel. A dispatcher takes the decoded requests back in log order and hands each, as one
+ * WriteBatch, to an apply partition chosen by key hash; each partition applies its batches in order, so every key sees
+ * its updates in the order they were logged. Each request is applied atomically, as it was when it was first written.
+ * A request whose keys fall in several partitions waits until every partition has applied the requests before it, and
+ * is then applied by the dispatcher. Dbs that do not support concurrent writes get a single apply partition, and still
+ * benefit from parallel decoding.
+ */
+final class LogReplayer {
+
+  private static final LoggerWriter loggerWriter = LoggingFactory.getLogger(LogReplayer.class);
+
+  private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+  // Bounds on the work queued between stages, so that replay never holds much of the log in memory
+  private static final int MAX_DECODING = 4096;
+  private static final int MAX_QUEUED_PER_PARTITION = 1024;
+
+  private static final long QUEUE_WAIT_MILLIS = 100;
+
+  // Marks the end of the log on the queues between stages
+  private static final Future<WriteRequest> END_OF_LOG = CompletableFuture.completedFuture(null);
+  private static final Update END_OF_UPDATES = new Update(null, null);
+
+  private final Db db;
+  private final int decoderCount;
+  private final int partitionCount;
+
+  private volatile Throwable failure;
+
+  LogReplayer(Db db, int threads) {
+    this.db = db;
+    this.decoderCount = Math.max(1, threads);
+    this.partitionCount = db.supportsConcurrentWrites() ? decoderCount : 1;
+  }
+
+  /**
+   * Applies every remaining request in the log to the db, returning the number of requests replayed
+   */
+  long replay(WriteAheadLog log) {
+    ExecutorService decoders = Executors.newFixedThreadPool(decoderCount, threadFactory("daboo-wal-replay-decoder"));
+    ExecutorService appliers =
+        Executors.newFixedThreadPool(partitionCount + 1, threadFactory("daboo-wal-replay-apply"));
+    BlockingQueue<Future<WriteRequest>> decoding = new ArrayBlockingQueue<>(MAX_DECODING);
+    List<BlockingQueue<Update>> partitions = new ArrayList<>();
+    List<Future<?>> stages = new ArrayList<>();
+    for (int i = 0; i < partitionCount; i++) {
+      BlockingQueue<Update> partition = new ArrayBlockingQueue<>(MAX_QUEUED_PER_PARTITION);
+      partitions.add(partition);
+      stages.add(appliers.submit(() -> apply(partition)));
+    }
+    stages.add(appliers.submit(() -> dispatch(decoding, partitions)));
+
+    long start = System.nanoTime();
+    long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+    long requests = 0;
+    long bytes = 0;
+    try {
+      while (failure == null && log.hasNext()) {
+        byte[] requestBytes = log.next();
+        put(decoding, decoders.submit(() -> WriteRequest.parseFrom(requestBytes)));
+        requests++;
+        bytes += requestBytes.length;
+        if (System.nanoTime() - nextProgress >= 0) {
+          loggerWriter.logInfo("Replaying the WAL: read " + requests + " requests ("
+              + (bytes / (1024 * 1024)) + " MB) so far, " + perSecond(requests, start) + " requests/s");
+          nextProgress += PROGRESS_INTERVAL_NANOS;
+        }
+      }
+      put(decoding, END_OF_LOG);
+      for (Future<?> stage : stages) {
+        stage.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      fail(e);
+    } catch (ExecutionException e) {
+      fail(e.getCause());
+    } finally {
+      decoders.shutdownNow();
+      appliers.shutdownNow();
+    }
+
+    if (failure != null) {
+      loggerWriter.logError("Unable to complete loading existing data from the WAL after " + requests + " requests");
+      String message = "Unable to complete loading existing data from the WAL";
+      throw new RuntimePersistenceException(message,
+          failure instanceof Exception ? (Exception) failure : new RuntimeException(failure));
+    }
+    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    loggerWriter.logInfo("Replayed " + requests + " requests (" + (bytes / (1024 * 1024)) + " MB) from the WAL in "
+        + millis + " ms: " + perSecond(requests, start) + " requests/s using " + decoderCount + " decoders and "
+        + partitionCount + " apply partitions");
+    return requests;
+  }
+
+  /**
+   * Takes decoded requests in log order and splits them among the partitions
+   */
+  private void dispatch(BlockingQueue<Future<WriteRequest>> decoding, List<BlockingQueue<Update>> partitions) {
+    try {
+      while (failure == null) {
+        Future<WriteRequest> next = decoding.poll(QUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        if (next == null) {
+          continue;
+        }
+        if (next == END_OF_LOG) {
+          break;
+        }
+        dispatch(next.get(), partitions);
+      }
+    } catch (ExecutionException e) {
+      fail(e.getCause());
+    } catch (Exception e) {
+      fail(e);
+    }
+    try {
+      for (BlockingQueue<Update> partition : partitions) {
+        put(partition, END_OF_UPDATES);
+      }
+    } catch (InterruptedException e) {
+      fail(e);
+    }
+  }
+
+  /**
+   * Hands the request, as one batch, to the partition of its keys or, if they fall in several partitions, waits for
+   * every partition to apply the requests before it and applies it here
+   */
+  private void dispatch(WriteRequest request, List<BlockingQueue<Update>> partitions) throws InterruptedException {
+    WriteBatch batch = new WriteBatch();
+    int partition = -1;
+    if (!request.getIsDelete()) {
+      for (Request.DocumentKeyValue keyValue : request.getWriteBody().getDocumentKeyValueList()) {
+        batch.put(keyValue.getKey().toByteArray(), keyValue.getValue().toByteArray());
+        partition = partitionOf(keyValue.getKey(), partition);
+      }
+    } else {
+      for (Request.Document document : request.getDeleteBody().getDocumentList()) {
+        batch.delete(document.getKey().toByteArray());
+        partition = partitionOf(document.getKey(), partition);
+      }
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    if (partition >= 0) {
+      put(partitions.get(partition), new Update(batch, null));
+      return;
+    }
+    CountDownLatch applied = new CountDownLatch(partitions.size());
+    for (BlockingQueue<Update> queue : partitions) {
+      put(queue, new Update(null, applied));
+    }
+    while (!applied.await(QUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+      if (failure != null) {
+        return;
+      }
+    }
+    db.apply(batch);
+  }
+
+  /**
+   * Returns the partition of the key if the keys before it, which were in the given partition, share it, and
+   * otherwise -2, meaning several partitions. A partition of -1 means there were no keys before it
+   */
+  private int partitionOf(ByteString key, int partition) {
+    int keyPartition = partitionCount == 1 ? 0 : Math.floorMod(key.hashCode(), partitionCount);
+    return partition == -1 || partition == keyPartition ? keyPartition : -2;
+  }
+
+  /**
+   * Applies one partition's updates, in order, until the dispatcher signals the end of the log
+   */
+  private void apply(BlockingQueue<Update> partition) {
+    while (true) {
+      Update update;
+      try {
+        update = partition.take();
+      } catch (InterruptedException e) {
+        fail(e);
+        return;
+      }
+      if (update == END_OF_UPDATES) {
+        return;
+      }
+      if (update.applied != null) {
+        // every request before a barrier is applied, so the dispatcher can apply the request that spans partitions
+        update.applied.countDown();
+        continue;
+      }
+      if (failure != null) {
+        // keep draining so the dispatcher is never blocked on this queue
+        continue;
+      }
+      try {
+        db.apply(update.batch);
+      } catch (Throwable e) {
+        fail(e);
+      }
+    }
+  }
+
+  /**
+   * Puts the item on the queue, waiting for space unless a stage has failed. The end marker for the partitions is
+   * always delivered, since partitions drain their queues even after a failure
+   */
+  private <T> void put(BlockingQueue<T> queue, T item) throws InterruptedException {
+    while (!queue.offer(item, QUEUE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+      if (failure != null && item != END_OF_UPDATES) {
+        return;
+      }
+    }
+  }
+
+  private synchronized void fail(Throwable e) {
+    if (failure == null) {
+      failure = e;
+    }
+  }
+
+  private static long perSecond(long count, long startNanos) {
+    long nanos = Math.max(1, System.nanoTime() - startNanos);
+    return count * TimeUnit.SECONDS.toNanos(1) / nanos;
+  }
+
+  private static ThreadFactory threadFactory(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * A logged request for one partition to apply or, if applied is set, a barrier it counts down on reaching
+   */
+  private static class Update {
+    private final WriteBatch batch;
+    private final CountDownLatch applied;
+
+    Update(WriteBatch batch, CountDownLatch applied) {
+      this.batch = batch;
+      this.applied = applied;
+    }
+  }
+}
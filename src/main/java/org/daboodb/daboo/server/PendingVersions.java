@@ -0,0 +1,49 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.ByteString;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The versions that writes which have passed their optimistic lock check, but have not yet been applied, will give
+ * their keys. The write pipeline checks requests before it logs them, while earlier requests may still be waiting to be
+ * applied, so a check consults these before the db.
+ * <p>
+ * Each key counts its pending writes, and holds the version the last of them writes, or 0 for a delete. Writes are
+ * added on the thread that checks them and removed on the thread that applies or discards them, in the same order, so
+ * a key has an entry exactly while a write to it is pending.
+ */
+final class PendingVersions {
+
+  private final ConcurrentMap<ByteString, Pending> pending = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the version the key's last pending write gives it, or null if no write to the key is pending
+   */
+  Integer version(ByteString key) {
+    Pending entry = pending.get(key);
+    return entry == null ? null : entry.version;
+  }
+
+  void add(ByteString key, int version) {
+    pending.compute(key, (k, entry) -> new Pending(version, entry == null ? 1 : entry.count + 1));
+  }
+
+  /**
+   * Removes the earliest pending write to the key
+   */
+  void remove(ByteString key) {
+    pending.computeIfPresent(key, (k, entry) -> entry.count == 1 ? null : new Pending(entry.version, entry.count - 1));
+  }
+
+  private static final class Pending {
+    private final int version;
+    private final int count;
+
+    private Pending(int version, int count) {
+      this.version = version;
+      this.count = count;
+    }
+  }
+}
@@ -1,7 +1,17 @@
 package org.daboodb.daboo.server;
 
+import org.daboodb.daboo.server.db.BloomFilterDb;
 import org.daboodb.daboo.server.db.Db;
+import org.daboodb.daboo.server.db.LsmTreeDb;
+import org.daboodb.daboo.server.db.OffHeapBTreeDb;
+import org.daboodb.daboo.server.db.ShardedDb;
+import org.daboodb.daboo.server.db.TieredDb;
+import org.daboodb.daboo.server.io.BatchWriteAheadLog;
+import org.daboodb.daboo.server.io.BinaryWriteLog;
+import org.daboodb.daboo.server.io.FsyncPolicy;
+import org.daboodb.daboo.server.io.GroupCommitLog;
 import org.daboodb.daboo.server.io.NullLog;
+import org.daboodb.daboo.server.io.SegmentedWriteLog;
 import org.daboodb.daboo.server.io.WriteAheadLog;
 import org.daboodb.daboo.server.io.WriteLog;
 import org.daboodb.daboo.shared.exceptions.StartupException;
@@ -10,8 +20,11 @@ import org.daboodb.daboo.shared.serialization.DocumentSerializer;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -27,6 +40,15 @@ public class ServerSettings {
 
   private WriteAheadLog writeAheadLog;
 
+  // The number of threads used to decode, and where the Db allows it to apply, the WAL during recovery
+  private int replayThreads;
+
+  // The most documents returned in one page of a range request
+  private int maxRangePageSize;
+
+  // The number of slots in the write pipeline's ring buffer, or 0 to apply writes on the threads that submit them
+  private int writePipelineRingSize;
+
   //private CommServer commServer = new DirectCommServer();
   private CommServer commServer;
 
@@ -56,6 +78,9 @@ public class ServerSettings {
     setDatabaseDirectory(properties);
     setDb(properties);
     setWriteAheadLog(properties);
+    setReplayThreads(properties);
+    setMaxRangePageSize(properties);
+    setWritePipelineRingSize(properties);
     setCommServer(properties);
   }
 
@@ -71,6 +96,18 @@ public class ServerSettings {
     return writeAheadLog;
   }
 
+  int getReplayThreads() {
+    return replayThreads;
+  }
+
+  int getMaxRangePageSize() {
+    return maxRangePageSize;
+  }
+
+  int getWritePipelineRingSize() {
+    return writePipelineRingSize;
+  }
+
   public CommServer getCommServer() {
     return commServer;
   }
@@ -87,14 +124,88 @@ public class ServerSettings {
   }
 
   private void setDb(Properties properties) {
+    Db configured = createDb(properties, String.valueOf(properties.getProperty("db.class")));
+    if (Boolean.parseBoolean(properties.getProperty("db.bloom_filter.enabled", "false").trim())) {
+      long expectedInsertions = Long.parseLong(properties.getProperty("db.bloom_filter.expected_insertions",
+          String.valueOf(BloomFilterDb.DEFAULT_EXPECTED_INSERTIONS)).trim());
+      double falsePositiveProbability = Double.parseDouble(properties.getProperty(
+          "db.bloom_filter.false_positive_probability",
+          String.valueOf(BloomFilterDb.DEFAULT_FALSE_POSITIVE_PROBABILITY)).trim());
+      configured = new BloomFilterDb(configured, expectedInsertions, falsePositiveProbability);
+    }
+    this.db = configured;
+  }
+
+  private Db createDb(Properties properties, String dbClassName) {
+    if (dbClassName.equals(TieredDb.class.getCanonicalName())) {
+      return getTieredDb(properties);
+    }
+    if (dbClassName.equals(LsmTreeDb.class.getCanonicalName())) {
+      return getLsmTreeDb(properties);
+    }
+    String splitKeys = properties.getProperty("db.sharded.split_keys", "").trim();
+    if (dbClassName.equals(ShardedDb.class.getCanonicalName()) && !splitKeys.isEmpty()) {
+      return getShardedDb(splitKeys);
+    }
+    String offHeapFileName = properties.getProperty("db.offheap.fileName", "").trim();
+    if (dbClassName.equals(OffHeapBTreeDb.class.getCanonicalName()) && !offHeapFileName.isEmpty()) {
+      return getFileBackedOffHeapBTreeDb(properties, offHeapFileName);
+    }
     try {
-      this.db = (Db) Class.forName(String.valueOf(properties.getProperty("db.class"))).newInstance();
+      return (Db) Class.forName(dbClassName).newInstance();
     } catch (ClassNotFoundException | IllegalAccessException | InstantiationException e) {
       e.printStackTrace();
       throw new StartupException("Unable to load db as specified in server.properties", e);
     }
   }
 
+  private TieredDb getTieredDb(Properties properties) {
+    String coldClassName = properties.getProperty("db.tiered.cold_db.class",
+        OffHeapBTreeDb.class.getCanonicalName()).trim();
+    if (coldClassName.equals(TieredDb.class.getCanonicalName())) {
+      throw new StartupException("db.tiered.cold_db.class in server.properties can't itself be a TieredDb");
+    }
+    long heapBudget = Long.parseLong(properties.getProperty("db.tiered.heap_budget_in_bytes",
+        String.valueOf(TieredDb.DEFAULT_HEAP_BUDGET_IN_BYTES)).trim());
+    if (heapBudget <= 0) {
+      throw new StartupException("db.tiered.heap_budget_in_bytes in server.properties must be positive");
+    }
+    return new TieredDb(createDb(properties, coldClassName), heapBudget);
+  }
+
+  private LsmTreeDb getLsmTreeDb(Properties properties) {
+    String folderName = properties.getProperty("db.lsm.folderName", "lsm");
+    File lsmFolder = Paths.get(getDatabaseDirectory(), folderName).toFile();
+    long memtableSize = Long.parseLong(properties.getProperty("db.lsm.memtable_size_in_bytes",
+        String.valueOf(LsmTreeDb.DEFAULT_MEMTABLE_SIZE_IN_BYTES)));
+    int blockSize = Integer.parseInt(properties.getProperty("db.lsm.block_size_in_bytes",
+        String.valueOf(LsmTreeDb.DEFAULT_BLOCK_SIZE_IN_BYTES)));
+    long targetFileSize = Long.parseLong(properties.getProperty("db.lsm.target_file_size_in_bytes",
+        String.valueOf(LsmTreeDb.DEFAULT_TARGET_FILE_SIZE_IN_BYTES)));
+    return new LsmTreeDb(lsmFolder, memtableSize, blockSize, targetFileSize);
+  }
+
+  private ShardedDb getShardedDb(String splitKeys) {
+    List<byte[]> keys = new ArrayList<>();
+    for (String key : splitKeys.split(",")) {
+      keys.add(key.trim().getBytes(StandardCharsets.UTF_8));
+    }
+    try {
+      return new ShardedDb(keys);
+    } catch (IllegalArgumentException e) {
+      throw new StartupException("Invalid db.sharded.split_keys in server.properties", e);
+    }
+  }
+
+  private OffHeapBTreeDb getFileBackedOffHeapBTreeDb(Properties properties, String fileName) {
+    File file = Paths.get(getDatabaseDirectory(), fileName).toFile();
+    long startSize = Long.parseLong(properties.getProperty("db.offheap.allocate_start_size_in_bytes",
+        String.valueOf(OffHeapBTreeDb.ALLOCATED_SIZE_IN_BYTES)));
+    long increment = Long.parseLong(properties.getProperty("db.offheap.allocate_increment_in_bytes",
+        String.valueOf(OffHeapBTreeDb.ALLOCATE_INCREMENT_IN_BYTES)));
+    return new OffHeapBTreeDb(file, startSize, increment);
+  }
+
   private void setWriteAheadLog(Properties properties) {
 
     String folderName = String.valueOf(properties.getProperty("db.write_ahead_log.folderName"));
@@ -103,13 +214,59 @@ public class ServerSettings {
 
     Path logFolderPath = Paths.get(getDatabaseDirectory(), folderName);
     File logFolder = logFolderPath.toFile();
+    WriteAheadLog log;
     if (writeAheadClassName.equals(WriteLog.class.getCanonicalName())) {
-      this.writeAheadLog = WriteLog.getInstance(logFolder);
+      log = WriteLog.getInstance(logFolder);
+    } else if (writeAheadClassName.equals(BinaryWriteLog.class.getCanonicalName())) {
+      log = BinaryWriteLog.getInstance(logFolder);
+    } else if (writeAheadClassName.equals(SegmentedWriteLog.class.getCanonicalName())) {
+      long segmentSize = Long.parseLong(properties.getProperty("db.write_ahead_log.segment_size_in_bytes",
+          String.valueOf(SegmentedWriteLog.DEFAULT_SEGMENT_SIZE_IN_BYTES)).trim());
+      log = SegmentedWriteLog.getInstance(logFolder, segmentSize);
     } else if (writeAheadClassName.equals(NullLog.class.getCanonicalName())) {
-      this.writeAheadLog = NullLog.getInstance(logFolder);
+      log = NullLog.getInstance(logFolder);
     } else {
       throw new StartupException("The Write Ahead Log is not configured.");
     }
+    if (log instanceof BatchWriteAheadLog
+        && Boolean.parseBoolean(properties.getProperty("db.write_ahead_log.group_commit", "false").trim())) {
+      log = getGroupCommitLog(properties, (BatchWriteAheadLog) log);
+    }
+    this.writeAheadLog = log;
+  }
+
+  private GroupCommitLog getGroupCommitLog(Properties properties, BatchWriteAheadLog batchLog) {
+    FsyncPolicy fsyncPolicy;
+    try {
+      fsyncPolicy = FsyncPolicy.valueOf(properties.getProperty("db.write_ahead_log.fsync_policy", "ALWAYS").trim());
+    } catch (IllegalArgumentException e) {
+      throw new StartupException("Unknown db.write_ahead_log.fsync_policy in server.properties", e);
+    }
+    long fsyncInterval = Long.parseLong(properties.getProperty("db.write_ahead_log.fsync_interval_ms",
+        String.valueOf(GroupCommitLog.DEFAULT_FSYNC_INTERVAL_MILLIS)).trim());
+    return new GroupCommitLog(batchLog, fsyncPolicy, fsyncInterval);
+  }
+
+  private void setReplayThreads(Properties properties) {
+    int threads = Integer.parseInt(properties.getProperty("db.write_ahead_log.replay_threads", "0").trim());
+    replayThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+  }
+
+  private void setMaxRangePageSize(Properties properties) {
+    maxRangePageSize = Integer.parseInt(properties.getProperty("db.range.max_page_size", "1000").trim());
+    if (maxRangePageSize <= 0) {
+      throw new StartupException("db.range.max_page_size in server.properties must be positive");
+    }
+  }
+
+  private void setWritePipelineRingSize(Properties properties) {
+    if (!Boolean.parseBoolean(properties.getProperty("db.write_pipeline.enabled", "false").trim())) {
+      return;
+    }
+    writePipelineRingSize = Integer.parseInt(properties.getProperty("db.write_pipeline.ring_size", "1024").trim());
+    if (writePipelineRingSize <= 0) {
+      throw new StartupException("db.write_pipeline.ring_size in server.properties must be positive");
+    }
   }
 
   private void setCommServer(Properties properties) {
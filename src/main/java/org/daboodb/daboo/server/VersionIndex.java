@@ -0,0 +1,210 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import org.daboodb.daboo.client.exceptions.RuntimeSerializationException;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.Db;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A cache of documents' instanceVersions, so that most optimistic lock checks cost a probe of a hash table, rather
+ * than a read of the stored document and a parse of its protobuf.
+ * <p>
+ * Nothing is built up front: a key is looked up in the db the first time it is checked, and its version is cached from
+ * then on, along with the version of every write applied to it. A deleted key is cached as version 0, like a key with
+ * no document. The table is split into segments by hash, each an open-addressing table of parallel long and int
+ * arrays behind its own lock, so it holds no object per key: each key costs its 64-bit hash and its version, about 24
+ * bytes at the table's load factor. Keys are identified by their hash alone, which two keys share with a chance of
+ * one in 2^64. A segment that fills forgets its entries and refills from the db as keys are checked, so the cache
+ * never holds more than MAX_ENTRIES keys.
+ * <p>
+ * A caller must hold off other writes to a key between checking it and recording the version it writes, as the key
+ * locks do, since an entry forgotten meanwhile would be read back from the db.
+ */
+final class VersionIndex {
+
+  // a field's tag is its number followed by the three bits of its wire type
+  private static final int INSTANCE_VERSION_TAG =
+      Request.Document.INSTANCEVERSION_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_VARINT;
+
+  static final int MAX_ENTRIES = 1 << 20;
+
+  private static final int SEGMENT_BITS = 6;
+  private static final int SEGMENT_MAX_ENTRIES = MAX_ENTRIES >> SEGMENT_BITS;
+
+  private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+
+  VersionIndex() {
+    for (int i = 0; i < segments.length; i++) {
+      segments[i] = new Segment();
+    }
+  }
+
+  /**
+   * Returns the instanceVersion of the serialized document, reading past its other fields without decoding them
+   */
+  static int instanceVersion(ByteString document) {
+    CodedInputStream input = document.newCodedInput();
+    try {
+      for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+        if (tag == INSTANCE_VERSION_TAG) {
+          return input.readInt32();
+        }
+        input.skipField(tag);
+      }
+    } catch (IOException e) {
+      throw new RuntimeSerializationException("Failed to read the instanceVersion of a document", e);
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the version of the document with the key, or 0 if there is none, reading it from the db if it isn't cached
+   */
+  int version(ByteString key, Db db) {
+    long hash = hash(key);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      int slot = segment.find(hash);
+      if (slot >= 0) {
+        return segment.versions[slot];
+      }
+    }
+    List<ByteString> documents = db.get(Collections.singletonList(key));
+    int version = documents.isEmpty() ? 0 : instanceVersion(documents.get(0));
+    synchronized (segment) {
+      segment.put(hash, version);
+    }
+    return version;
+  }
+
+  /**
+   * Records the version of a document written to the key, or 0 if the key was deleted
+   */
+  void put(ByteString key, int version) {
+    long hash = hash(key);
+    Segment segment = segment(hash);
+    synchronized (segment) {
+      segment.put(hash, version);
+    }
+  }
+
+  void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of keys cached
+   */
+  int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size;
+      }
+    }
+    return size;
+  }
+
+  private Segment segment(long hash) {
+    return segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+  }
+
+  /**
+   * Returns a 64-bit hash of the key, FNV-1a mixed with MurmurHash3's finalizer, which is never 0, as 0 marks an empty
+   * slot
+   */
+  private static long hash(ByteString key) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < key.size(); i++) {
+      hash = (hash ^ (key.byteAt(i) & 0xff)) * 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash == 0 ? 1 : hash;
+  }
+
+  /**
+   * An open-addressing table with linear probing, kept at most half full
+   */
+  private static final class Segment {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private int[] versions = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the slot holding the hash, or -1 if it isn't in the table
+     */
+    int find(long hash) {
+      int mask = hashes.length - 1;
+      for (int slot = (int) hash & mask; hashes[slot] != 0; slot = (slot + 1) & mask) {
+        if (hashes[slot] == hash) {
+          return slot;
+        }
+      }
+      return -1;
+    }
+
+    void put(long hash, int version) {
+      int mask = hashes.length - 1;
+      int slot = (int) hash & mask;
+      while (hashes[slot] != 0 && hashes[slot] != hash) {
+        slot = (slot + 1) & mask;
+      }
+      if (hashes[slot] == hash) {
+        versions[slot] = version;
+        return;
+      }
+      if (size == SEGMENT_MAX_ENTRIES) {
+        clear();
+      } else if (2 * (size + 1) > hashes.length) {
+        resize(2 * hashes.length);
+      } else {
+        hashes[slot] = hash;
+        versions[slot] = version;
+        size++;
+        return;
+      }
+      put(hash, version);
+    }
+
+    void clear() {
+      hashes = new long[INITIAL_CAPACITY];
+      versions = new int[INITIAL_CAPACITY];
+      size = 0;
+    }
+
+    private void resize(int capacity) {
+      long[] oldHashes = hashes;
+      int[] oldVersions = versions;
+      hashes = new long[capacity];
+      versions = new int[capacity];
+      int mask = capacity - 1;
+      for (int i = 0; i < oldHashes.length; i++) {
+        if (oldHashes[i] != 0) {
+          int slot = (int) oldHashes[i] & mask;
+          while (hashes[slot] != 0) {
+            slot = (slot + 1) & mask;
+          }
+          hashes[slot] = oldHashes[i];
+          versions[slot] = oldVersions[i];
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,335 @@
+package org.daboodb.daboo.server;
+
+import org.daboodb.daboo.generated.protobufs.Request.WriteReply;
+import org.daboodb.daboo.generated.protobufs.Request.WriteRequest;
+import org.daboodb.daboo.shared.exceptions.RuntimeRequestException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs write requests through a pipeline of single-threaded stages, in the manner of the LMAX Disruptor, instead of on
+ * the threads that submit them.
+ * <p>
+ * Submitting threads claim slots in a bounded ring buffer and publish their requests to it. A log thread checks every
+ * published request it finds, then appends those that pass to the WAL with one write, so a request that is refused
+ * never reaches the WAL. An apply thread then applies the logged requests to the db in the same order and completes
+ * each submitter's reply, or the refusal. The stages pass work to each other through sequence numbers
+ * rather than locks or queues, and each takes everything waiting for it as one batch, so under load the costs of
+ * logging and of waking threads are shared. Since one thread applies every write, writes never contend with each other
+ * for the db or for key locks. A full ring holds submitters back until the apply thread frees a slot, so the work in
+ * flight, and with it the latency of each request, is bounded.
+ */
+final class WritePipeline implements Closeable {
+
+  private static final LoggerWriter loggerWriter = LoggingFactory.getLogger(WritePipeline.class);
+
+  // The most requests one stage takes as a batch, so that a slow stage still hands work on in a timely way
+  static final int MAX_BATCH_SIZE = 256;
+
+  // How long a stage with nothing to do spins, then yields, before it starts to park between checks
+  private static final int SPIN_TRIES = 100;
+  private static final int YIELD_TRIES = 100;
+  private static final long PARK_NANOS = 50_000;
+
+  /**
+   * Appends a batch of requests to the WAL, in order
+   */
+  @FunctionalInterface
+  interface Logger {
+    void log(List<byte[]> requests) throws IOException;
+  }
+
+  /**
+   * Checks each request before it is logged, on the log thread, in the order the requests are logged
+   */
+  interface Checker {
+
+    /**
+     * Returns null if the request may be logged and applied, or otherwise the reply that refuses it. A request that
+     * passes is later either applied, or passed to discard if it could not be logged
+     */
+    WriteReply check(WriteRequest request);
+
+    /**
+     * Forgets a request that passed the check but could not be logged. Called on the apply thread, in order with the
+     * requests it applies
+     */
+    void discard(WriteRequest request);
+  }
+
+  /**
+   * Applies a logged request to the db, returning its reply
+   */
+  @FunctionalInterface
+  interface Applier {
+    WriteReply apply(WriteRequest request);
+  }
+
+  private final Slot[] slots;
+  private final int mask;
+
+  private final Checker checker;
+  private final Logger logger;
+  private final Applier applier;
+  // Held by the log thread while it logs a batch and publishes that it has done so
+  private final Lock logLock;
+
+  // Stands in for the last claimed sequence once the pipeline is closed, so no more can be claimed
+  private static final long CLOSED = Long.MIN_VALUE;
+
+  // The sequence of the last slot claimed by a submitter, the last logged and the last applied. A slot is free once
+  // the request it held is applied
+  private final AtomicLong claimed = new AtomicLong(-1);
+  private volatile long logged = -1;
+  private volatile long applied = -1;
+
+  // The last sequence the stages must finish before they stop: unbounded until the pipeline is closed, and then the
+  // last that was claimed
+  private volatile long lastClaimed = Long.MAX_VALUE;
+
+  private final Thread logThread;
+  private final Thread applyThread;
+
+  /**
+   * Starts a pipeline with a ring of the given size, which is rounded up to a power of two
+   *
+   * @param logLock held while each batch is checked and logged, so that whoever else takes it knows no request is
+   *                between being checked and being counted as logged; see awaitApplied
+   */
+  WritePipeline(int ringSize, Checker checker, Logger logger, Applier applier, Lock logLock) {
+    if (ringSize <= 0) {
+      throw new IllegalArgumentException("The ring size must be positive");
+    }
+    int size = Integer.highestOneBit(ringSize);
+    if (size < ringSize) {
+      size <<= 1;
+    }
+    slots = new Slot[size];
+    for (int i = 0; i < size; i++) {
+      slots[i] = new Slot();
+    }
+    mask = size - 1;
+    this.checker = checker;
+    this.logger = logger;
+    this.applier = applier;
+    this.logLock = logLock;
+    logThread = new Thread(this::logLoop, "daboo-pipeline-log");
+    logThread.setDaemon(true);
+    applyThread = new Thread(this::applyLoop, "daboo-pipeline-apply");
+    applyThread.setDaemon(true);
+    logThread.start();
+    applyThread.start();
+  }
+
+  /**
+   * Logs and applies the request, returning its reply once it has been applied
+   *
+   * @throws RuntimeRequestException if the request could not be logged or applied
+   */
+  WriteReply submit(WriteRequest request, byte[] requestBytes) {
+    try {
+      return submitAsync(request, requestBytes).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeRequestException("Interrupted while waiting for a WRITE request to be applied", e,
+          request.getHeader().getId().toByteArray());
+    } catch (ExecutionException e) {
+      throw (RuntimeRequestException) e.getCause();
+    }
+  }
+
+  /**
+   * Submits the request to be logged and applied, returning a future completed with its reply once it has been applied,
+   * or completed exceptionally with a RuntimeRequestException if it could not be, or the pipeline is closed. Waits only
+   * while the ring is full
+   */
+  CompletableFuture<WriteReply> submitAsync(WriteRequest request, byte[] requestBytes) {
+    CompletableFuture<WriteReply> reply = new CompletableFuture<>();
+    // a sequence is claimed only while the pipeline is open, so the stages finish every claimed request
+    long sequence;
+    do {
+      sequence = claimed.get();
+      if (sequence == CLOSED) {
+        reply.completeExceptionally(new RuntimeRequestException("The write pipeline has been closed", null,
+            request.getHeader().getId().toByteArray()));
+        return reply;
+      }
+    } while (!claimed.compareAndSet(sequence, sequence + 1));
+    sequence++;
+    // wait for the apply thread to free the slot, which last held the request a full ring ago
+    for (int tries = 0; sequence - slots.length > applied; ) {
+      tries = idle(tries);
+    }
+    Slot slot = slots[(int) sequence & mask];
+    slot.request = request;
+    slot.requestBytes = requestBytes;
+    slot.reply = reply;
+    slot.refusal = null;
+    slot.failure = null;
+    // the volatile write publishes the fields above to the log thread
+    slot.published = sequence;
+    return reply;
+  }
+
+  /**
+   * Waits until every request that has been logged has also been applied. Called holding the log lock, so no more are
+   * logged meanwhile, and once it returns the db reflects exactly the requests in the WAL
+   */
+  void awaitApplied() {
+    long target = logged;
+    for (int tries = 0; applied < target; ) {
+      tries = idle(tries);
+    }
+  }
+
+  /**
+   * Stops further requests from being submitted, lets the stages finish the requests already claimed, then stops them
+   */
+  @Override
+  public void close() {
+    long last = claimed.getAndSet(CLOSED);
+    if (last == CLOSED) {
+      return;
+    }
+    lastClaimed = last;
+    try {
+      logThread.join();
+      applyThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void logLoop() {
+    List<byte[]> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    int tries = 0;
+    while (logged < lastClaimed) {
+      long next = logged + 1;
+      long last = next - 1;
+      while (last - next + 1 < MAX_BATCH_SIZE && slots[(int) (last + 1) & mask].published == last + 1) {
+        last++;
+      }
+      if (last < next) {
+        tries = idle(tries);
+        continue;
+      }
+      tries = 0;
+      logLock.lock();
+      try {
+        for (long sequence = next; sequence <= last; sequence++) {
+          Slot slot = slots[(int) sequence & mask];
+          try {
+            slot.refusal = checker.check(slot.request);
+          } catch (RuntimeException e) {
+            slot.failure = e;
+          }
+          if (slot.refusal == null && slot.failure == null) {
+            batch.add(slot.requestBytes);
+            slot.checked = true;
+          }
+        }
+        if (!batch.isEmpty()) {
+          logger.log(batch);
+        }
+      } catch (IOException | RuntimeException e) {
+        loggerWriter.logError("Unable to log a batch of write requests", e);
+        for (long sequence = next; sequence <= last; sequence++) {
+          Slot slot = slots[(int) sequence & mask];
+          if (slot.checked) {
+            slot.failure = e;
+          }
+        }
+      } finally {
+        logged = last;
+        logLock.unlock();
+      }
+      batch.clear();
+    }
+  }
+
+  private void applyLoop() {
+    int tries = 0;
+    while (applied < lastClaimed) {
+      long next = applied + 1;
+      long last = Math.min(logged, next + MAX_BATCH_SIZE - 1);
+      if (last < next) {
+        tries = idle(tries);
+        continue;
+      }
+      tries = 0;
+      for (long sequence = next; sequence <= last; sequence++) {
+        Slot slot = slots[(int) sequence & mask];
+        CompletableFuture<WriteReply> reply = slot.reply;
+        if (slot.failure != null) {
+          if (slot.checked) {
+            checker.discard(slot.request);
+          }
+          reply.completeExceptionally(failure(slot.request, slot.failure));
+        } else if (slot.refusal != null) {
+          reply.complete(slot.refusal);
+        } else {
+          try {
+            reply.complete(applier.apply(slot.request));
+          } catch (RuntimeException e) {
+            reply.completeExceptionally(failure(slot.request, e));
+          }
+        }
+        slot.request = null;
+        slot.requestBytes = null;
+        slot.reply = null;
+        slot.refusal = null;
+        slot.checked = false;
+      }
+      applied = last;
+    }
+  }
+
+  private static RuntimeRequestException failure(WriteRequest request, Exception e) {
+    if (e instanceof RuntimeRequestException) {
+      return (RuntimeRequestException) e;
+    }
+    String msg = e instanceof IOException
+        ? "An IOException was caught handling a WRITE request"
+        : "A Throwable was caught handling a WRITE request";
+    return new RuntimeRequestException(msg, e, request.getHeader().getId().toByteArray());
+  }
+
+  /**
+   * Backs off a little more with each try, from spinning to yielding to parking, so that a busy stage answers at once
+   * while an idle one costs little CPU. Returns the count of tries to pass next time
+   */
+  private static int idle(int tries) {
+    if (tries >= SPIN_TRIES + YIELD_TRIES) {
+      LockSupport.parkNanos(PARK_NANOS);
+      return tries;
+    }
+    if (tries >= SPIN_TRIES) {
+      Thread.yield();
+    }
+    return tries + 1;
+  }
+
+  /**
+   * A slot in the ring. Published holds the sequence of the request in it, once the request is fully written. Checked
+   * is set if the request passed the check, and refusal if it didn't
+   */
+  private static final class Slot {
+    private volatile long published = -1;
+    private WriteRequest request;
+    private byte[] requestBytes;
+    private CompletableFuture<WriteReply> reply;
+    private boolean checked;
+    private WriteReply refusal;
+    private Exception failure;
+  }
+}
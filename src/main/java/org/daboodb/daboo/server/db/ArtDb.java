@@ -0,0 +1,189 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.art.AdaptiveRadixTree;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.daboodb.daboo.server.io.DatabaseExporter;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory implementation of a Db backed by an adaptive radix tree.
+ * <p>
+ * Point lookups follow the key's bytes down the tree instead of comparing the key against every node on the path,
+ * and range scans walk the tree in key order, so neither calls a comparator per node.
+ */
+public class ArtDb implements Db {
+
+  private final LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
+
+  private final AdaptiveRadixTree tree = new AdaptiveRadixTree();
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final StatsRecorder stats = new StatsRecorder();
+
+  @Override
+  public void write(Map<byte[], byte[]> documentMap) {
+    lock.writeLock().lock();
+    try {
+      for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+        stats.put(entry.getKey(), tree.put(entry.getKey(), entry.getValue()), entry.getValue());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void delete(List<Request.Document> documentList) {
+    lock.writeLock().lock();
+    try {
+      for (Request.Document document : documentList) {
+        byte[] key = document.getKey().toByteArray();
+        stats.remove(key, tree.remove(key));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void apply(WriteBatch batch) {
+    lock.writeLock().lock();
+    try {
+      for (Map.Entry<byte[], byte[]> operation : batch.operations()) {
+        if (operation.getValue() == null) {
+          stats.remove(operation.getKey(), tree.remove(operation.getKey()));
+        } else {
+          stats.put(operation.getKey(), tree.put(operation.getKey(), operation.getValue()), operation.getValue());
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<ByteString> get(List<ByteString> keyList) {
+    List<ByteString> docs = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      for (ByteString key : keyList) {
+        byte[] result = tree.get(key.toByteArray());
+        if (result != null) {
+          docs.add(ByteString.copyFrom(result));
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return docs;
+  }
+
+  @Override
+  public void exportDocuments(File file) {
+    DatabaseExporter exporter = DatabaseExporter.get(file);
+    lock.readLock().lock();
+    try {
+      tree.forEach((key, value) -> {
+        try {
+          exporter.log(value);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      loggerWriter.logError("Failed to export documents to the database file " + file.toString(), e.getCause());
+      throw new RuntimePersistenceException("An IOException occurred exporting documents from the database",
+          e.getCause());
+    } finally {
+      lock.readLock().unlock();
+    }
+    exporter.close();
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    lock.writeLock().lock();
+    try {
+      stats.put(key, tree.put(key, value), value);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return tree.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public DbStats stats() {
+    return stats.stats();
+  }
+
+  @Override
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      tree.clear();
+      stats.reset();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<ByteString> getRange(byte[] from, byte[] to) {
+    if (LexicographicComparator.SIGNED.compare(from, to) > 0) {
+      throw new IllegalArgumentException("fromKey > toKey");
+    }
+    List<ByteString> docs = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      tree.forEachInRange(from, to, (key, value) -> docs.add(ByteString.copyFrom(value)));
+    } finally {
+      lock.readLock().unlock();
+    }
+    return docs;
+  }
+
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return new BatchingRangeCursor(from, to, reverse) {
+      @Override
+      void fill(byte[] from, byte[] to, boolean reverse, int max, Batch batch) {
+        lock.readLock().lock();
+        try {
+          int[] count = new int[1];
+          tree.scan(from, to, reverse, (key, value) -> {
+            batch.add(key, ByteString.copyFrom(value));
+            return ++count[0] < max;
+          });
+        } finally {
+          lock.readLock().unlock();
+        }
+      }
+    };
+  }
+
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return true;
+  }
+}
@@ -0,0 +1,145 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Makes the WriteBatches applied to a concurrent map visible all at once, for Dbs whose maps need no lock of their
+ * own.
+ * <p>
+ * The key space is split into stripes by hash, each with a StampedLock. A batch write-locks only the stripes of its
+ * keys, in ascending order, so batches over different keys don't wait for each other. Readers don't lock at all: they
+ * read optimistically and then check that no batch was applied meanwhile, retrying with every stripe read-locked in
+ * the rare case that one was. A batch of one key is atomic without help, so it takes no lock.
+ */
+final class BatchLock {
+
+  private static final int STRIPES = 64;
+
+  private final StampedLock[] stripes = new StampedLock[STRIPES];
+
+  BatchLock() {
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new StampedLock();
+    }
+  }
+
+  /**
+   * Applies the batch to the map, which must be safe to change while it is read
+   */
+  void apply(WriteBatch batch, Map<byte[], byte[]> map, StatsRecorder stats) {
+    apply(batch, () -> applyTo(batch, map, stats));
+  }
+
+  /**
+   * Runs the applier, which applies the batch to structures that are safe to change while they are read
+   */
+  void apply(WriteBatch batch, Runnable applier) {
+    if (batch.size() <= 1) {
+      applier.run();
+      return;
+    }
+    boolean[] locked = new boolean[STRIPES];
+    for (byte[] key : batch.keys()) {
+      locked[stripe(key)] = true;
+    }
+    long[] stamps = new long[STRIPES];
+    for (int i = 0; i < STRIPES; i++) {
+      if (locked[i]) {
+        stamps[i] = stripes[i].writeLock();
+      }
+    }
+    try {
+      applier.run();
+    } finally {
+      for (int i = STRIPES - 1; i >= 0; i--) {
+        if (locked[i]) {
+          stripes[i].unlockWrite(stamps[i]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the result of the read, which sees every batch either fully applied or not at all. The read may run more
+   * than once, so it must not have side effects
+   */
+  <T> T read(Supplier<T> read) {
+    long[] stamps = new long[STRIPES];
+    boolean valid = true;
+    for (int i = 0; i < STRIPES && valid; i++) {
+      stamps[i] = stripes[i].tryOptimisticRead();
+      valid = stamps[i] != 0;
+    }
+    if (valid) {
+      T result = read.get();
+      for (int i = 0; i < STRIPES && valid; i++) {
+        valid = stripes[i].validate(stamps[i]);
+      }
+      if (valid) {
+        return result;
+      }
+    }
+    for (int i = 0; i < STRIPES; i++) {
+      stamps[i] = stripes[i].readLock();
+    }
+    try {
+      return read.get();
+    } finally {
+      for (int i = STRIPES - 1; i >= 0; i--) {
+        stripes[i].unlockRead(stamps[i]);
+      }
+    }
+  }
+
+  /**
+   * Returns a cursor over the map that copies the range a batch at a time, each batch read as one consistent read
+   */
+  RangeCursor cursor(NavigableMap<byte[], byte[]> map, byte[] from, byte[] to, boolean reverse) {
+    return new BatchingRangeCursor(from, to, reverse) {
+      @Override
+      void fill(byte[] from, byte[] to, boolean reverse, int max, Batch batch) {
+        List<Map.Entry<byte[], byte[]>> entries = read(() -> {
+          List<Map.Entry<byte[], byte[]>> copied = new ArrayList<>(max);
+          for (Map.Entry<byte[], byte[]> entry : RangeCursors.view(map, from, to, reverse).entrySet()) {
+            if (copied.size() == max) {
+              break;
+            }
+            copied.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+          }
+          return copied;
+        });
+        for (Map.Entry<byte[], byte[]> entry : entries) {
+          batch.add(entry.getKey(), ByteString.copyFrom(entry.getValue()));
+        }
+      }
+    };
+  }
+
+  /**
+   * Applies the batch's operations to the map, in key order, recording each change in the stats
+   */
+  static void applyTo(WriteBatch batch, Map<byte[], byte[]> map, StatsRecorder stats) {
+    for (Map.Entry<byte[], byte[]> operation : batch.operations()) {
+      byte[] key = operation.getKey();
+      if (operation.getValue() == null) {
+        stats.remove(key, map.remove(key));
+      } else {
+        stats.put(key, map.put(key, operation.getValue()), operation.getValue());
+      }
+    }
+  }
+
+  private static int stripe(byte[] key) {
+    int hash = Arrays.hashCode(key);
+    return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+  }
+}
@@ -0,0 +1,92 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A RangeCursor for Dbs whose structures can't be iterated while other threads change them.
+ * <p>
+ * The cursor copies a small batch of entries at a time, under whatever lock the Db needs, and then releases it. Each
+ * new batch starts just past the last key of the one before, so the cursor never holds a lock between calls and never
+ * holds more than one batch in memory, however wide the range.
+ */
+abstract class BatchingRangeCursor implements RangeCursor {
+
+  static final int BATCH_SIZE = 256;
+
+  private final boolean reverse;
+  private byte[] from;
+  private byte[] to;
+
+  private final List<byte[]> keys = new ArrayList<>(BATCH_SIZE);
+  private final List<ByteString> values = new ArrayList<>(BATCH_SIZE);
+  private int position = -1;
+  private boolean exhausted;
+
+  BatchingRangeCursor(byte[] from, byte[] to, boolean reverse) {
+    this.from = from;
+    this.to = to;
+    this.reverse = reverse;
+  }
+
+  /**
+   * Adds up to max entries with keys from from (inclusive) to to (exclusive) to the batch, in descending order if
+   * reverse is true. Either bound may be null, meaning unbounded
+   */
+  abstract void fill(byte[] from, byte[] to, boolean reverse, int max, Batch batch);
+
+  @Override
+  public boolean next() {
+    position++;
+    if (position < keys.size()) {
+      return true;
+    }
+    if (exhausted) {
+      return false;
+    }
+    keys.clear();
+    values.clear();
+    position = 0;
+    fill(from, to, reverse, BATCH_SIZE, (key, value) -> {
+      keys.add(key);
+      values.add(value);
+    });
+    exhausted = keys.size() < BATCH_SIZE;
+    if (keys.isEmpty()) {
+      return false;
+    }
+    byte[] last = keys.get(keys.size() - 1);
+    if (reverse) {
+      to = last;
+    } else {
+      from = RangeCursors.successor(last);
+    }
+    return true;
+  }
+
+  @Override
+  public byte[] key() {
+    return keys.get(position);
+  }
+
+  @Override
+  public ByteString value() {
+    return values.get(position);
+  }
+
+  @Override
+  public void close() {
+    exhausted = true;
+    keys.clear();
+    values.clear();
+  }
+
+  /**
+   * Receives the entries of a batch
+   */
+  interface Batch {
+    void add(byte[] key, ByteString value);
+  }
+}
@@ -0,0 +1,106 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A Bloom filter over byte[] keys, which answers whether a key might have been added, or certainly has not.
+ * <p>
+ * Unlike Guava's BloomFilter, keys may be added and tested from many threads at once: bits are set with
+ * compare-and-set, so concurrent adds can never lose each other's bits. Each key is hashed once with murmur3, and the
+ * two halves of the hash are combined to choose its bits.
+ */
+public final class BloomFilter {
+
+  private static final HashFunction HASH = Hashing.murmur3_128();
+  private static final double LN2 = Math.log(2);
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+  private final AtomicLong bitsSet = new AtomicLong();
+
+  /**
+   * Returns a filter sized to hold the expected number of keys with the given probability of a false positive
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+    if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+      throw new IllegalArgumentException("Invalid Bloom filter size " + expectedInsertions + " or probability "
+          + falsePositiveProbability);
+    }
+    long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+    int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+    this.words = new AtomicLongArray(wordCount);
+    this.bitCount = wordCount * 64L;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+  }
+
+  public void put(byte[] key) {
+    ByteBuffer hash = hash(key);
+    long h1 = hash.getLong(0);
+    long h2 = hash.getLong(8);
+    long combined = h1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = (combined & Long.MAX_VALUE) % bitCount;
+      if (set(bit)) {
+        bitsSet.incrementAndGet();
+      }
+      combined += h2;
+    }
+  }
+
+  /**
+   * Returns false if the key has certainly not been added, and true if it might have been
+   */
+  public boolean mightContain(byte[] key) {
+    ByteBuffer hash = hash(key);
+    long h1 = hash.getLong(0);
+    long h2 = hash.getLong(8);
+    long combined = h1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = (combined & Long.MAX_VALUE) % bitCount;
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+      combined += h2;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the probability that mightContain() returns true for a key that was never added, given the bits set so far
+   */
+  public double expectedFalsePositiveProbability() {
+    return Math.pow((double) bitsSet.get() / bitCount, hashCount);
+  }
+
+  public long bitCount() {
+    return bitCount;
+  }
+
+  /**
+   * Sets the bit, returning true if it was not already set
+   */
+  private boolean set(long bit) {
+    int index = (int) (bit >>> 6);
+    long mask = 1L << bit;
+    while (true) {
+      long word = words.get(index);
+      if ((word & mask) != 0) {
+        return false;
+      }
+      if (words.compareAndSet(index, word, word | mask)) {
+        return true;
+      }
+    }
+  }
+
+  private static ByteBuffer hash(byte[] key) {
+    return ByteBuffer.wrap(HASH.hashBytes(key).asBytes()).order(ByteOrder.LITTLE_ENDIAN);
+  }
+}
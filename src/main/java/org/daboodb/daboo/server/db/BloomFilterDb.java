@@ -0,0 +1,292 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Db that wraps another and keeps a Bloom filter of its keys, so that gets for keys that don't exist usually return
+ * without searching the wrapped Db at all.
+ * <p>
+ * Every written key is added to the filter. A Bloom filter can't forget keys, so deletes leave stale bits behind, and
+ * a filter that holds more keys than it was sized for answers "maybe" more and more often. Once either drift passes a
+ * limit, the filter is rebuilt in the background from the keys the Db actually holds, sized for twice that many. The
+ * filter is also rebuilt when the Db is created, since it may already hold data, and after an import.
+ * <p>
+ * The share of lookups for absent keys that the filter failed to stop is reported in stats(), and so on /STATS.
+ */
+public class BloomFilterDb implements Db, Closeable {
+
+  public static final long DEFAULT_EXPECTED_INSERTIONS = 1024 * 1024;
+  public static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+
+  private final LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
+
+  private final Db db;
+  private final long minExpectedInsertions;
+  private final double falsePositiveProbability;
+
+  private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "daboo-bloom-filter-rebuild");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+  // Writers add keys to the filter in use and, while a rebuild is scanning the Db, to the filter being built
+  private volatile BloomFilter filter;
+  private volatile BloomFilter pending;
+  private volatile long capacity;
+
+  // Writes and deletes since the filter in use was built
+  private final AtomicLong insertions = new AtomicLong();
+  private final AtomicLong deletions = new AtomicLong();
+
+  // Lookups of absent keys, split by whether the filter stopped them
+  private final LongAdder trueNegatives = new LongAdder();
+  private final LongAdder falsePositives = new LongAdder();
+
+  public BloomFilterDb(Db db) {
+    this(db, DEFAULT_EXPECTED_INSERTIONS, DEFAULT_FALSE_POSITIVE_PROBABILITY);
+  }
+
+  /**
+   * Wraps the given db
+   *
+   * @param expectedInsertions       The smallest number of keys the filter is sized for
+   * @param falsePositiveProbability The share of lookups for absent keys the filter should let through, when full
+   */
+  public BloomFilterDb(Db db, long expectedInsertions, double falsePositiveProbability) {
+    this.db = db;
+    this.minExpectedInsertions = expectedInsertions;
+    this.falsePositiveProbability = falsePositiveProbability;
+    this.capacity = expectedInsertions;
+    this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    rebuild();
+  }
+
+  @Override
+  public void write(Map<byte[], byte[]> documentMap) {
+    db.write(documentMap);
+    addKeys(documentMap.keySet());
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    db.put(key, value);
+    addKeys(Collections.singletonList(key));
+  }
+
+  @Override
+  public void delete(List<Request.Document> documentList) {
+    db.delete(documentList);
+    deletions.addAndGet(documentList.size());
+    rebuildIfStale();
+  }
+
+  @Override
+  public void apply(WriteBatch batch) {
+    db.apply(batch);
+    List<byte[]> written = new ArrayList<>(batch.size());
+    for (Map.Entry<byte[], byte[]> operation : batch.operations()) {
+      if (operation.getValue() != null) {
+        written.add(operation.getKey());
+      }
+    }
+    deletions.addAndGet(batch.size() - written.size());
+    addKeys(written);
+  }
+
+  /**
+   * Returns the documents for the keys that exist, asking the wrapped Db only for keys the filter might hold
+   */
+  @Override
+  public List<ByteString> get(List<ByteString> keyList) {
+    BloomFilter current = filter;
+    List<ByteString> candidates = new ArrayList<>(keyList.size());
+    for (ByteString key : keyList) {
+      if (current.mightContain(key.toByteArray())) {
+        candidates.add(key);
+      }
+    }
+    trueNegatives.add(keyList.size() - candidates.size());
+    if (candidates.isEmpty()) {
+      return new ArrayList<>();
+    }
+    List<ByteString> docs = db.get(candidates);
+    falsePositives.add(candidates.size() - docs.size());
+    return docs;
+  }
+
+  @Override
+  public void exportDocuments(File file) {
+    db.exportDocuments(file);
+  }
+
+  @Override
+  public void importDocuments(File file) {
+    db.importDocuments(file);
+    rebuild();
+  }
+
+  @Override
+  public void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    db.bulkLoad(sortedEntries);
+    rebuild();
+  }
+
+  @Override
+  public int size() {
+    return db.size();
+  }
+
+  @Override
+  public DbStats stats() {
+    return db.stats().withBloomFilterFalsePositiveRate(falsePositiveRate());
+  }
+
+  @Override
+  public void clear() {
+    db.clear();
+    capacity = minExpectedInsertions;
+    filter = new BloomFilter(minExpectedInsertions, falsePositiveProbability);
+    insertions.set(0);
+    deletions.set(0);
+  }
+
+  @Override
+  public List<ByteString> getRange(byte[] from, byte[] to) {
+    return db.getRange(from, to);
+  }
+
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return db.cursor(from, to, reverse);
+  }
+
+  @Override
+  public void commit(long sequenceNumber) {
+    db.commit(sequenceNumber);
+  }
+
+  @Override
+  public long committedSequenceNumber() {
+    return db.committedSequenceNumber();
+  }
+
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return db.supportsConcurrentWrites();
+  }
+
+  /**
+   * Stops background rebuilds and closes the wrapped Db, if it can be closed
+   */
+  @Override
+  public void close() throws IOException {
+    rebuilder.shutdownNow();
+    if (db instanceof Closeable) {
+      ((Closeable) db).close();
+    }
+  }
+
+  /**
+   * Replaces the filter with one built from the keys the Db holds now. Writes made during the rebuild are added to
+   * both the old and the new filter, so the new one never misses a key
+   */
+  public synchronized void rebuild() {
+    long expected = Math.max(minExpectedInsertions, 2L * db.size());
+    BloomFilter fresh = new BloomFilter(expected, falsePositiveProbability);
+    // a write whose key the scan might miss happens after pending is set, so it adds the key to fresh itself
+    pending = fresh;
+    long keys = 0;
+    try (RangeCursor cursor = db.cursor(null, null, false)) {
+      while (cursor.next()) {
+        fresh.put(cursor.key());
+        keys++;
+      }
+    }
+    capacity = expected;
+    filter = fresh;
+    pending = null;
+    insertions.set(0);
+    deletions.set(0);
+    loggerWriter.logInfo("Rebuilt the Bloom filter over " + keys + " keys, with " + fresh.bitCount()
+        + " bits and an expected false positive probability of " + fresh.expectedFalsePositiveProbability());
+  }
+
+  /**
+   * Returns the share of gets for absent keys that the filter failed to stop, since this Db was created
+   */
+  public double falsePositiveRate() {
+    long positives = falsePositives.sum();
+    long negatives = positives + trueNegatives.sum();
+    return negatives == 0 ? 0 : (double) positives / negatives;
+  }
+
+  /**
+   * Returns the false positive probability the filter in use should have, given the bits set in it
+   */
+  public double expectedFalsePositiveProbability() {
+    return filter.expectedFalsePositiveProbability();
+  }
+
+  private void addKeys(Collection<byte[]> keys) {
+    // read pending first: if it is null here, either the rebuild has not begun, and its scan will see these keys, or
+    // it has finished, and filter is already the new one
+    BloomFilter building = pending;
+    BloomFilter current = filter;
+    for (byte[] key : keys) {
+      current.put(key);
+      if (building != null && building != current) {
+        building.put(key);
+      }
+    }
+    insertions.addAndGet(keys.size());
+    rebuildIfStale();
+  }
+
+  /**
+   * Rebuilds the filter if it has taken in more keys than it was sized for, or if enough keys have been deleted that
+   * its stale bits are worth clearing. The rebuild runs in the background, unless the wrapped Db can't be read while
+   * it is written, in which case it runs here
+   */
+  private void rebuildIfStale() {
+    long limit = capacity;
+    if ((insertions.get() > limit || deletions.get() > limit / 2) && rebuildQueued.compareAndSet(false, true)) {
+      if (!db.supportsConcurrentWrites()) {
+        try {
+          rebuild();
+        } finally {
+          rebuildQueued.set(false);
+        }
+        return;
+      }
+      rebuilder.submit(() -> {
+        try {
+          rebuild();
+        } catch (RuntimeException e) {
+          loggerWriter.logError("Failed to rebuild the Bloom filter", e);
+        } finally {
+          rebuildQueued.set(false);
+        }
+      });
+    }
+  }
+}
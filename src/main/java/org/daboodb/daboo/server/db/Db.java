@@ -2,9 +2,10 @@ package org.daboodb.daboo.server.db;
 
 import com.google.protobuf.ByteString;
 import org.daboodb.daboo.generated.protobufs.Request;
-import org.daboodb.daboo.server.io.DatabaseExporter;
+import org.daboodb.daboo.server.io.SortedExport;
 
 import java.io.File;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +18,12 @@ public interface Db {
 
   void delete(List<Request.Document> documentList);
 
+  /**
+   * Applies every put and delete in the batch atomically: a concurrent get, getRange or cursor batch sees either none
+   * of them or all of them
+   */
+  void apply(WriteBatch batch);
+
   List<ByteString> get(List<ByteString> keyList);
 
   /**
@@ -25,21 +32,38 @@ public interface Db {
   void exportDocuments(File file);
 
   /**
-   * Imports all documents in the given file
+   * Imports all documents in the given file. They are sorted by key first, unless they already are, and bulk loaded
    */
   default void importDocuments(File file) {
-    DatabaseExporter exporter = DatabaseExporter.get(file);
-    while (exporter.hasNext()) {
-      Request.Document document = exporter.next();
-      put(document.getKey().toByteArray(), document.toByteArray());
+    try (SortedExport export = SortedExport.open(file)) {
+      bulkLoad(export);
+    }
+  }
+
+  /**
+   * Loads the given keys and documents, which must be in ascending key order with no key repeated. A Db that is empty
+   * may build its structure from them bottom-up, instead of inserting them one at a time; otherwise each is put in
+   * turn. Must not run concurrently with writes
+   */
+  default void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    while (sortedEntries.hasNext()) {
+      Map.Entry<byte[], byte[]> entry = sortedEntries.next();
+      put(entry.getKey(), entry.getValue());
     }
-    exporter.close();
   }
 
   void put(byte[] key, byte[] value);
 
   int size();
 
+  /**
+   * Returns the number of documents, the bytes their keys and values take, and the distribution of their sizes. Dbs
+   * that keep these current as documents are written return them at once; by default they are counted by a scan
+   */
+  default DbStats stats() {
+    return StatsRecorder.scan(cursor(null, null, false));
+  }
+
   default boolean isEmpty() {
     return size() == 0;
   }
@@ -47,4 +71,42 @@ public interface Db {
   void clear();
 
   List<ByteString> getRange(byte[] from, byte[] to);
+
+  /**
+   * Returns a cursor over the documents with keys from from (inclusive) to to (exclusive), in ascending key order or,
+   * if reverse is true, descending. Either bound may be null, meaning unbounded. Unlike getRange, the range is read
+   * as the cursor advances, so a wide range need not fit in memory. The caller must close the cursor
+   */
+  RangeCursor cursor(byte[] from, byte[] to, boolean reverse);
+
+  /**
+   * Returns a cursor over the documents whose keys begin with the given prefix, in ascending key order or, if reverse
+   * is true, descending. The caller must close the cursor
+   */
+  default RangeCursor prefixCursor(byte[] prefix, boolean reverse) {
+    return cursor(prefix, RangeCursors.prefixEnd(prefix), reverse);
+  }
+
+  /**
+   * Durably records, along with the documents, that the db holds every request logged to the WAL up to and including
+   * the given sequence number, so that recovery need replay only the requests after it. Dbs that don't keep their
+   * documents across restarts ignore it
+   */
+  default void commit(long sequenceNumber) {
+  }
+
+  /**
+   * Returns the sequence number last committed by a Db that reopened holding the documents it had then, or -1 if the
+   * Db holds no committed documents, as when it started empty or doesn't keep its documents across restarts
+   */
+  default long committedSequenceNumber() {
+    return -1;
+  }
+
+  /**
+   * Returns true if writes and deletes of different keys may be made from several threads at once
+   */
+  default boolean supportsConcurrentWrites() {
+    return false;
+  }
 }
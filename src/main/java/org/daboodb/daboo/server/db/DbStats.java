@@ -0,0 +1,126 @@
+package org.daboodb.daboo.server.db;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.Arrays;
+
+/**
+ * A summary of the documents held by a Db: how many there are, how many bytes their keys and values take, and how
+ * those sizes are distributed.
+ * <p>
+ * Sizes are counted in power-of-two buckets: bucket 0 holds sizes of 0, bucket i holds sizes from 2^(i-1) up to
+ * 2^i - 1, and the last bucket also holds everything larger.
+ * <p>
+ * A Db behind a Bloom filter also reports the share of gets for absent keys that the filter failed to stop.
+ */
+@Immutable
+public final class DbStats {
+
+  public static final int BUCKET_COUNT = 32;
+
+  private final long entryCount;
+  private final long keyBytes;
+  private final long valueBytes;
+  private final long[] keySizeHistogram;
+  private final long[] valueSizeHistogram;
+  private final Double bloomFilterFalsePositiveRate;
+
+  DbStats(long entryCount, long keyBytes, long valueBytes, long[] keySizeHistogram, long[] valueSizeHistogram) {
+    this(entryCount, keyBytes, valueBytes, keySizeHistogram, valueSizeHistogram, null);
+  }
+
+  private DbStats(long entryCount, long keyBytes, long valueBytes, long[] keySizeHistogram,
+                  long[] valueSizeHistogram, Double bloomFilterFalsePositiveRate) {
+    this.entryCount = entryCount;
+    this.keyBytes = keyBytes;
+    this.valueBytes = valueBytes;
+    this.keySizeHistogram = keySizeHistogram.clone();
+    this.valueSizeHistogram = valueSizeHistogram.clone();
+    this.bloomFilterFalsePositiveRate = bloomFilterFalsePositiveRate;
+  }
+
+  /**
+   * Returns a copy of these stats that also reports the given Bloom filter false positive rate
+   */
+  DbStats withBloomFilterFalsePositiveRate(double rate) {
+    return new DbStats(entryCount, keyBytes, valueBytes, keySizeHistogram, valueSizeHistogram, rate);
+  }
+
+  /**
+   * Returns the histogram bucket for the given size
+   */
+  public static int bucket(int size) {
+    return Math.min(32 - Integer.numberOfLeadingZeros(size), BUCKET_COUNT - 1);
+  }
+
+  /**
+   * Returns the largest size counted in the given bucket, or Integer.MAX_VALUE for the last bucket
+   */
+  public static int bucketUpperBound(int bucket) {
+    return bucket == BUCKET_COUNT - 1 ? Integer.MAX_VALUE : (1 << bucket) - 1;
+  }
+
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  public long getKeyBytes() {
+    return keyBytes;
+  }
+
+  public long getValueBytes() {
+    return valueBytes;
+  }
+
+  /**
+   * Returns the number of keys in each size bucket
+   */
+  public long[] getKeySizeHistogram() {
+    return keySizeHistogram.clone();
+  }
+
+  /**
+   * Returns the number of values in each size bucket
+   */
+  public long[] getValueSizeHistogram() {
+    return valueSizeHistogram.clone();
+  }
+
+  /**
+   * Returns the share of gets for absent keys that the Db's Bloom filter failed to stop, or null if it has none
+   */
+  public Double getBloomFilterFalsePositiveRate() {
+    return bloomFilterFalsePositiveRate;
+  }
+
+  public double averageValueSize() {
+    return entryCount == 0 ? 0 : (double) valueBytes / entryCount;
+  }
+
+  /**
+   * Returns an upper bound on the size of the given fraction (between 0 and 1) of the values, to the resolution of
+   * the histogram buckets. For example, valueSizePercentile(0.99) bounds all but the largest 1% of the values
+   */
+  public int valueSizePercentile(double fraction) {
+    long wanted = (long) Math.ceil(fraction * entryCount);
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += valueSizeHistogram[i];
+      if (seen >= wanted && seen > 0) {
+        return bucketUpperBound(i);
+      }
+    }
+    return 0;
+  }
+
+  @Override
+  public String toString() {
+    return "DbStats{" +
+        "entryCount=" + entryCount +
+        ", keyBytes=" + keyBytes +
+        ", valueBytes=" + valueBytes +
+        ", keySizeHistogram=" + Arrays.toString(keySizeHistogram) +
+        ", valueSizeHistogram=" + Arrays.toString(valueSizeHistogram) +
+        ", bloomFilterFalsePositiveRate=" + bloomFilterFalsePositiveRate +
+        '}';
+  }
+}
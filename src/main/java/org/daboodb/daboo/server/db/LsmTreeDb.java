@@ -0,0 +1,855 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.daboodb.daboo.server.db.lsm.Entry;
+import org.daboodb.daboo.server.db.lsm.Manifest;
+import org.daboodb.daboo.server.db.lsm.Memtable;
+import org.daboodb.daboo.server.db.lsm.MergingIterator;
+import org.daboodb.daboo.server.db.lsm.SSTable;
+import org.daboodb.daboo.server.db.lsm.SSTableWriter;
+import org.daboodb.daboo.server.db.lsm.Version;
+import org.daboodb.daboo.server.io.DatabaseExporter;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A disk-based implementation of a Db, organized as a log-structured merge tree.
+ * <p>
+ * Writes go to an in-memory skip-list memtable. When the memtable fills, it is frozen and flushed in the background
+ * to an immutable, sorted SSTable file in level 0. Background leveled compaction merges level 0 into level 1, and
+ * each level into the next once it outgrows its size budget, so every level beyond 0 holds disjoint key ranges and
+ * a point read touches at most one file per level. All file writes are sequential.
+ * <p>
+ * Only the memtables and the SSTable block indexes live on the heap, so the amount of data is bounded by the disk.
+ * Writes not yet flushed are protected by the server's write-ahead log. A WriteBatch always lands in a single
+ * memtable, so it is flushed to disk whole or not at all.
+ */
+public class LsmTreeDb implements Db, Closeable {
+
+  public static final long DEFAULT_MEMTABLE_SIZE_IN_BYTES = 1024 * 1024 * 4;  // 4 MB
+  public static final int DEFAULT_BLOCK_SIZE_IN_BYTES = 1024 * 4;  // 4 KB
+  public static final long DEFAULT_TARGET_FILE_SIZE_IN_BYTES = 1024 * 1024 * 2;  // 2 MB
+
+  private static final int LEVEL_COUNT = 7;
+  private static final int LEVEL0_COMPACTION_TRIGGER = 4;
+  private static final long LEVEL1_MAX_SIZE_IN_BYTES = 1024 * 1024 * 10;  // 10 MB
+  private static final int LEVEL_SIZE_MULTIPLIER = 10;
+
+  // Writers stall when this many frozen memtables are waiting to be flushed
+  private static final int MAX_IMMUTABLE_MEMTABLES = 2;
+
+  private static final String TABLE_SUFFIX = ".sst";
+
+  private static final Comparator<byte[]> COMPARATOR = LexicographicComparator.SIGNED;
+
+  private final LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
+
+  private final File folder;
+  private final long memtableSizeInBytes;
+  private final int blockSizeInBytes;
+  private final long targetFileSizeInBytes;
+
+  // Writers hold the read lock while writing to the active memtable; swapping the memtable takes the write lock
+  private final ReentrantReadWriteLock memtableLock = new ReentrantReadWriteLock();
+
+  // Readers hold the read lock while using SSTables; deleting obsolete SSTables takes the write lock
+  private final ReentrantReadWriteLock tableLock = new ReentrantReadWriteLock();
+
+  // Held for the duration of a flush or compaction, so clear() can't run concurrently with either
+  private final ReentrantLock backgroundLock = new ReentrantLock();
+
+  // Makes each WriteBatch visible to readers all at once
+  private final BatchLock batchLock = new BatchLock();
+
+  // Guards changes to state and nextFileNumber. Stalled writers wait on it for flushes to complete
+  private final Object stateMonitor = new Object();
+
+  private final ExecutorService background = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "daboo-lsm-compaction");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  // The key where the next compaction of each level should start, so that compactions rotate through the key space
+  private final byte[][] compactPointers = new byte[LEVEL_COUNT][];
+
+  private volatile State state;
+  private long nextFileNumber;
+  private volatile RuntimePersistenceException backgroundError;
+
+  /**
+   * Opens (or creates) an LSM tree in the given folder using default sizes
+   */
+  public LsmTreeDb(File folder) {
+    this(folder, DEFAULT_MEMTABLE_SIZE_IN_BYTES, DEFAULT_BLOCK_SIZE_IN_BYTES, DEFAULT_TARGET_FILE_SIZE_IN_BYTES);
+  }
+
+  /**
+   * Opens (or creates) an LSM tree in the given folder
+   *
+   * @param memtableSizeInBytes   The size the memtable may reach before it is flushed to disk
+   * @param blockSizeInBytes      The size of the SSTable blocks that are read and scanned as a unit
+   * @param targetFileSizeInBytes The size at which compaction starts a new SSTable file
+   */
+  public LsmTreeDb(File folder, long memtableSizeInBytes, int blockSizeInBytes, long targetFileSizeInBytes) {
+    this.folder = folder;
+    this.memtableSizeInBytes = memtableSizeInBytes;
+    this.blockSizeInBytes = blockSizeInBytes;
+    this.targetFileSizeInBytes = targetFileSizeInBytes;
+    try {
+      open();
+    } catch (IOException e) {
+      loggerWriter.logError("Unable to open the LSM tree in folder " + folder, e);
+      throw new RuntimePersistenceException("An IOException occurred opening the LSM tree", e);
+    }
+  }
+
+  @Override
+  public void write(Map<byte[], byte[]> documentMap) {
+    checkBackgroundError();
+    memtableLock.readLock().lock();
+    try {
+      Memtable memtable = state.active;
+      for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+        memtable.put(entry.getKey(), entry.getValue());
+      }
+    } finally {
+      memtableLock.readLock().unlock();
+    }
+    maybeFreezeMemtable(false);
+  }
+
+  @Override
+  public void delete(List<Request.Document> documentList) {
+    checkBackgroundError();
+    memtableLock.readLock().lock();
+    try {
+      Memtable memtable = state.active;
+      for (Request.Document document : documentList) {
+        memtable.delete(document.getKey().toByteArray());
+      }
+    } finally {
+      memtableLock.readLock().unlock();
+    }
+    maybeFreezeMemtable(false);
+  }
+
+  /**
+   * Applies the batch to the active memtable. The memtable can't be swapped until the whole batch is in it
+   */
+  @Override
+  public void apply(WriteBatch batch) {
+    checkBackgroundError();
+    memtableLock.readLock().lock();
+    try {
+      Memtable memtable = state.active;
+      batchLock.apply(batch, () -> {
+        for (Map.Entry<byte[], byte[]> operation : batch.operations()) {
+          if (operation.getValue() == null) {
+            memtable.delete(operation.getKey());
+          } else {
+            memtable.put(operation.getKey(), operation.getValue());
+          }
+        }
+      });
+    } finally {
+      memtableLock.readLock().unlock();
+    }
+    maybeFreezeMemtable(false);
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    checkBackgroundError();
+    memtableLock.readLock().lock();
+    try {
+      state.active.put(key, value);
+    } finally {
+      memtableLock.readLock().unlock();
+    }
+    maybeFreezeMemtable(false);
+  }
+
+  /**
+   * Writes the sorted entries straight into SSTables in the deepest level, if the tree is empty: with no overlapping
+   * data to merge with, they never need compacting. Otherwise they are put one at a time
+   */
+  @Override
+  public void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    checkBackgroundError();
+    memtableLock.writeLock().lock();
+    backgroundLock.lock();
+    try {
+      State current = state;
+      if (current.active.isEmpty() && current.immutables.isEmpty() && current.version.allTables().isEmpty()) {
+        List<SSTable> tables = writeTables(sortedEntries);
+        List<List<SSTable>> levels = new ArrayList<>();
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+          levels.add(level == LEVEL_COUNT - 1 ? tables : Collections.emptyList());
+        }
+        synchronized (stateMonitor) {
+          Version version = Version.create(levels);
+          state = new State(current.active, current.immutables, version);
+          Manifest.write(folder, version, nextFileNumber);
+        }
+        return;
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("Failed to bulk load the LSM tree in folder " + folder, e);
+      throw new RuntimePersistenceException("An IOException occurred bulk loading the LSM tree", e);
+    } finally {
+      backgroundLock.unlock();
+      memtableLock.writeLock().unlock();
+    }
+    Db.super.bulkLoad(sortedEntries);
+  }
+
+  /**
+   * Writes the sorted entries to as many new SSTables as it takes to keep each near the target file size
+   */
+  private List<SSTable> writeTables(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) throws IOException {
+    List<SSTable> tables = new ArrayList<>();
+    SSTableWriter writer = null;
+    long fileNumber = 0;
+    try {
+      while (sortedEntries.hasNext()) {
+        Map.Entry<byte[], byte[]> entry = sortedEntries.next();
+        if (writer == null) {
+          synchronized (stateMonitor) {
+            fileNumber = nextFileNumber++;
+          }
+          writer = new SSTableWriter(tableFile(fileNumber), blockSizeInBytes);
+        }
+        writer.add(new Entry(entry.getKey(), entry.getValue()));
+        if (writer.estimatedSizeInBytes() >= targetFileSizeInBytes) {
+          writer.finish();
+          writer = null;
+          tables.add(SSTable.open(tableFile(fileNumber), fileNumber));
+        }
+      }
+      if (writer != null) {
+        writer.finish();
+        writer = null;
+        tables.add(SSTable.open(tableFile(fileNumber), fileNumber));
+      }
+    } finally {
+      if (writer != null) {
+        writer.close();
+      }
+    }
+    return tables;
+  }
+
+  @Override
+  public List<ByteString> get(List<ByteString> keyList) {
+    tableLock.readLock().lock();
+    try {
+      if (keyList.size() <= 1) {
+        return find(keyList);
+      }
+      return batchLock.read(() -> find(keyList));
+    } catch (UncheckedIOException e) {
+      loggerWriter.logError("Failed to read from the LSM tree in folder " + folder, e.getCause());
+      throw new RuntimePersistenceException("An IOException occurred reading from the LSM tree", e.getCause());
+    } finally {
+      tableLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<ByteString> getRange(byte[] from, byte[] to) {
+    tableLock.readLock().lock();
+    try {
+      return batchLock.read(() -> {
+        List<ByteString> docs = new ArrayList<>();
+        Iterator<Entry> iterator = iterator(state, from, to);
+        while (iterator.hasNext()) {
+          Entry entry = iterator.next();
+          if (!entry.isTombstone()) {
+            docs.add(ByteString.copyFrom(entry.getValue()));
+          }
+        }
+        return docs;
+      });
+    } catch (UncheckedIOException e) {
+      loggerWriter.logError("Failed to read a range from the LSM tree in folder " + folder, e);
+      throw new RuntimePersistenceException("An IOException occurred reading from the LSM tree", e.getCause());
+    } finally {
+      tableLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns a cursor that reads the range a batch at a time, so the SSTables in use are released between batches
+   */
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return new BatchingRangeCursor(from, to, reverse) {
+      @Override
+      void fill(byte[] from, byte[] to, boolean reverse, int max, Batch batch) {
+        tableLock.readLock().lock();
+        try {
+          List<Entry> entries = batchLock.read(() -> {
+            List<Entry> live = new ArrayList<>(max);
+            Iterator<Entry> iterator = iterator(state, from, to, reverse);
+            while (live.size() < max && iterator.hasNext()) {
+              Entry entry = iterator.next();
+              if (!entry.isTombstone()) {
+                live.add(entry);
+              }
+            }
+            return live;
+          });
+          for (Entry entry : entries) {
+            batch.add(entry.getKey(), ByteString.copyFrom(entry.getValue()));
+          }
+        } catch (UncheckedIOException e) {
+          loggerWriter.logError("Failed to read a range from the LSM tree in folder " + folder, e);
+          throw new RuntimePersistenceException("An IOException occurred reading from the LSM tree", e.getCause());
+        } finally {
+          tableLock.readLock().unlock();
+        }
+      }
+    };
+  }
+
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return true;
+  }
+
+  /**
+   * Returns the number of live documents. This requires a full scan, since an LSM tree does not know whether a write
+   * inserts a new key or replaces an old one until the two are compacted together
+   */
+  @Override
+  public int size() {
+    int count = 0;
+    tableLock.readLock().lock();
+    try {
+      Iterator<Entry> iterator = iterator(state, null, null);
+      while (iterator.hasNext()) {
+        if (!iterator.next().isTombstone()) {
+          count++;
+        }
+      }
+    } catch (UncheckedIOException e) {
+      loggerWriter.logError("Failed to count the documents in the LSM tree in folder " + folder, e);
+      throw new RuntimePersistenceException("An IOException occurred reading from the LSM tree", e.getCause());
+    } finally {
+      tableLock.readLock().unlock();
+    }
+    return count;
+  }
+
+  @Override
+  public void exportDocuments(File file) {
+    DatabaseExporter exporter = DatabaseExporter.get(file);
+    tableLock.readLock().lock();
+    try {
+      Iterator<Entry> iterator = iterator(state, null, null);
+      while (iterator.hasNext()) {
+        Entry entry = iterator.next();
+        if (!entry.isTombstone()) {
+          exporter.log(entry.getValue());
+        }
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("Failed to export documents to the database file " + file.toString(), e);
+      throw new RuntimePersistenceException("An IOException occurred exporting documents from the database", e);
+    } catch (UncheckedIOException e) {
+      loggerWriter.logError("Failed to export documents to the database file " + file.toString(), e);
+      throw new RuntimePersistenceException("An IOException occurred exporting documents from the database",
+          e.getCause());
+    } finally {
+      tableLock.readLock().unlock();
+    }
+    exporter.close();
+  }
+
+  /**
+   * Removes all data, including every SSTable on disk
+   */
+  @Override
+  public void clear() {
+    memtableLock.writeLock().lock();
+    backgroundLock.lock();
+    try {
+      List<SSTable> obsolete;
+      synchronized (stateMonitor) {
+        obsolete = state.version.allTables();
+        state = new State(new Memtable(), Collections.emptyList(), Version.empty(LEVEL_COUNT));
+        Manifest.write(folder, state.version, nextFileNumber);
+        stateMonitor.notifyAll();
+      }
+      deleteTables(obsolete);
+    } catch (IOException e) {
+      loggerWriter.logError("Failed to clear the LSM tree in folder " + folder, e);
+      throw new RuntimePersistenceException("An IOException occurred clearing the LSM tree", e);
+    } finally {
+      backgroundLock.unlock();
+      memtableLock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Flushes the memtable to disk, waits for background work to finish, and closes all files
+   */
+  @Override
+  public void close() {
+    maybeFreezeMemtable(true);
+    background.shutdown();
+    try {
+      background.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (SSTable table : state.version.allTables()) {
+      try {
+        table.close();
+      } catch (IOException e) {
+        loggerWriter.logWarning("Unable to close SSTable " + table.getFile(), e);
+      }
+    }
+    checkBackgroundError();
+  }
+
+  /**
+   * Returns the number of SSTables in the given level. Intended for monitoring and tests
+   */
+  int tableCount(int level) {
+    return state.version.level(level).size();
+  }
+
+  /**
+   * Blocks until every flush and compaction queued so far has completed. Intended for tests
+   */
+  void awaitBackgroundWork() throws InterruptedException, ExecutionException {
+    // a flush or compaction may queue follow-up work behind the marker task, so repeat until nothing is left
+    do {
+      background.submit(() -> { }).get();
+    } while (backgroundError == null && (!state.immutables.isEmpty() || pickCompaction(state.version) != null));
+  }
+
+  private void open() throws IOException {
+    if (!folder.exists()) {
+      folder.mkdirs();
+    }
+    Manifest manifest = Manifest.read(folder);
+    nextFileNumber = manifest.getNextFileNumber();
+
+    List<List<SSTable>> levels = new ArrayList<>();
+    for (int i = 0; i < LEVEL_COUNT; i++) {
+      levels.add(new ArrayList<>());
+    }
+    Set<String> liveFiles = new HashSet<>();
+    for (long[] levelAndNumber : manifest.getTables()) {
+      File file = tableFile(levelAndNumber[1]);
+      levels.get((int) levelAndNumber[0]).add(SSTable.open(file, levelAndNumber[1]));
+      liveFiles.add(file.getName());
+    }
+    Version version = Version.create(levels);
+
+    // remove anything left behind by a flush or compaction that was interrupted
+    File[] files = folder.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        String name = file.getName();
+        if ((name.endsWith(TABLE_SUFFIX) && !liveFiles.contains(name)) || name.endsWith(TABLE_SUFFIX + ".tmp")) {
+          Files.deleteIfExists(file.toPath());
+        }
+      }
+    }
+
+    state = new State(new Memtable(), Collections.emptyList(), version);
+    scheduleCompaction();
+  }
+
+  /**
+   * Freezes the active memtable and schedules its flush, if it is full (or, when force is true, not empty).
+   * Stalls the calling writer while too many frozen memtables are waiting to be flushed
+   */
+  private void maybeFreezeMemtable(boolean force) {
+    Memtable active = state.active;
+    if (active.isEmpty() || (!force && active.sizeInBytes() < memtableSizeInBytes)) {
+      return;
+    }
+    memtableLock.writeLock().lock();
+    try {
+      synchronized (stateMonitor) {
+        if (state.active != active) {
+          return;  // another writer got here first
+        }
+        while (state.immutables.size() >= MAX_IMMUTABLE_MEMTABLES && backgroundError == null) {
+          stateMonitor.wait();
+        }
+        List<Memtable> immutables = new ArrayList<>();
+        immutables.add(active);
+        immutables.addAll(state.immutables);
+        state = new State(new Memtable(), immutables, state.version);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimePersistenceException("Interrupted while waiting for a memtable flush", e);
+    } finally {
+      memtableLock.writeLock().unlock();
+    }
+    background.submit(this::flushOldestMemtable);
+  }
+
+  private void flushOldestMemtable() {
+    backgroundLock.lock();
+    try {
+      Memtable memtable;
+      long fileNumber;
+      synchronized (stateMonitor) {
+        List<Memtable> immutables = state.immutables;
+        if (immutables.isEmpty()) {
+          return;  // cleared while the flush was queued
+        }
+        memtable = immutables.get(immutables.size() - 1);
+        fileNumber = nextFileNumber++;
+      }
+
+      SSTable table = null;
+      if (!memtable.isEmpty()) {
+        File file = tableFile(fileNumber);
+        try (SSTableWriter writer = new SSTableWriter(file, blockSizeInBytes)) {
+          Iterator<Entry> iterator = memtable.iterator(null, null);
+          while (iterator.hasNext()) {
+            writer.add(iterator.next());
+          }
+          writer.finish();
+        }
+        table = SSTable.open(file, fileNumber);
+      }
+
+      synchronized (stateMonitor) {
+        Version version = table == null ? state.version : state.version.withFlushedTable(table);
+        List<Memtable> immutables = new ArrayList<>(state.immutables);
+        immutables.remove(memtable);
+        state = new State(state.active, immutables, version);
+        Manifest.write(folder, version, nextFileNumber);
+        stateMonitor.notifyAll();
+      }
+    } catch (IOException | RuntimeException e) {
+      failBackgroundWork("Failed to flush a memtable in LSM tree " + folder, e);
+      return;
+    } finally {
+      backgroundLock.unlock();
+    }
+    scheduleCompaction();
+  }
+
+  private void scheduleCompaction() {
+    if (pickCompaction(state.version) != null && !background.isShutdown()) {
+      background.submit(this::compactOnce);
+    }
+  }
+
+  /**
+   * Performs a single compaction, if one is needed, then reschedules itself. Running compactions one at a time lets
+   * queued memtable flushes run in between
+   */
+  private void compactOnce() {
+    backgroundLock.lock();
+    try {
+      Compaction compaction = pickCompaction(state.version);
+      if (compaction == null) {
+        return;
+      }
+      runCompaction(compaction);
+    } catch (IOException | RuntimeException e) {
+      failBackgroundWork("Failed to compact LSM tree " + folder, e);
+      return;
+    } finally {
+      backgroundLock.unlock();
+    }
+    scheduleCompaction();
+  }
+
+  private Compaction pickCompaction(Version version) {
+    List<SSTable> level0 = version.level(0);
+    if (level0.size() >= LEVEL0_COMPACTION_TRIGGER) {
+      List<SSTable> inputs = new ArrayList<>(level0);
+      byte[][] range = keyRange(inputs);
+      inputs.addAll(version.overlapping(1, range[0], range[1]));
+      return new Compaction(inputs, 1);
+    }
+
+    long maxSize = LEVEL1_MAX_SIZE_IN_BYTES;
+    for (int level = 1; level < LEVEL_COUNT - 1; level++, maxSize *= LEVEL_SIZE_MULTIPLIER) {
+      if (version.levelSizeInBytes(level) <= maxSize) {
+        continue;
+      }
+      List<SSTable> tables = version.level(level);
+      SSTable chosen = tables.get(0);
+      if (compactPointers[level] != null) {
+        for (SSTable table : tables) {
+          if (COMPARATOR.compare(table.getSmallestKey(), compactPointers[level]) > 0) {
+            chosen = table;
+            break;
+          }
+        }
+      }
+      List<SSTable> inputs = new ArrayList<>();
+      inputs.add(chosen);
+      inputs.addAll(version.overlapping(level + 1, chosen.getSmallestKey(), chosen.getLargestKey()));
+      return new Compaction(inputs, level + 1);
+    }
+    return null;
+  }
+
+  private void runCompaction(Compaction compaction) throws IOException {
+    Version version = state.version;
+    byte[][] range = keyRange(compaction.inputs);
+
+    // tombstones can only be dropped if no deeper level might hold an older value they hide
+    boolean dropTombstones = true;
+    for (int level = compaction.outputLevel + 1; level < LEVEL_COUNT; level++) {
+      if (!version.overlapping(level, range[0], range[1]).isEmpty()) {
+        dropTombstones = false;
+        break;
+      }
+    }
+
+    // inputs are ordered newest first, which is the precedence order the merge needs
+    List<Iterator<Entry>> sources = new ArrayList<>();
+    for (SSTable table : compaction.inputs) {
+      sources.add(table.iterator(null, null));
+    }
+    MergingIterator merged = new MergingIterator(sources);
+
+    List<SSTable> outputs = new ArrayList<>();
+    SSTableWriter writer = null;
+    long fileNumber = 0;
+    try {
+      while (merged.hasNext()) {
+        Entry entry = merged.next();
+        if (entry.isTombstone() && dropTombstones) {
+          continue;
+        }
+        if (writer == null) {
+          synchronized (stateMonitor) {
+            fileNumber = nextFileNumber++;
+          }
+          writer = new SSTableWriter(tableFile(fileNumber), blockSizeInBytes);
+        }
+        writer.add(entry);
+        if (writer.estimatedSizeInBytes() >= targetFileSizeInBytes) {
+          writer.finish();
+          writer = null;
+          outputs.add(SSTable.open(tableFile(fileNumber), fileNumber));
+        }
+      }
+      if (writer != null) {
+        writer.finish();
+        writer = null;
+        outputs.add(SSTable.open(tableFile(fileNumber), fileNumber));
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } finally {
+      if (writer != null) {
+        writer.close();
+      }
+    }
+
+    synchronized (stateMonitor) {
+      Version installed = state.version.withCompaction(compaction.inputs, compaction.outputLevel, outputs);
+      state = new State(state.active, state.immutables, installed);
+      Manifest.write(folder, installed, nextFileNumber);
+    }
+    compactPointers[compaction.outputLevel - 1] = range[1];
+    deleteTables(compaction.inputs);
+  }
+
+  /**
+   * Closes and deletes tables that are no longer part of the current version, once no reader is using them
+   */
+  private void deleteTables(List<SSTable> tables) throws IOException {
+    tableLock.writeLock().lock();
+    try {
+      for (SSTable table : tables) {
+        table.close();
+        Files.deleteIfExists(table.getFile().toPath());
+      }
+    } finally {
+      tableLock.writeLock().unlock();
+    }
+  }
+
+  private void failBackgroundWork(String message, Exception e) {
+    loggerWriter.logError(message, e);
+    synchronized (stateMonitor) {
+      backgroundError = new RuntimePersistenceException(message, e);
+      stateMonitor.notifyAll();
+    }
+  }
+
+  private void checkBackgroundError() {
+    RuntimePersistenceException error = backgroundError;
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  /**
+   * Returns the documents for the keys that exist, as of one state of the tree
+   */
+  private List<ByteString> find(List<ByteString> keyList) {
+    List<ByteString> docs = new ArrayList<>();
+    State current = state;
+    try {
+      for (ByteString key : keyList) {
+        Entry entry = find(current, key.toByteArray());
+        if (entry != null && !entry.isTombstone()) {
+          docs.add(ByteString.copyFrom(entry.getValue()));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return docs;
+  }
+
+  /**
+   * Returns the newest entry for the key, checking memtables first, then each level in turn
+   */
+  private Entry find(State current, byte[] key) throws IOException {
+    Entry entry = current.active.get(key);
+    if (entry != null) {
+      return entry;
+    }
+    for (Memtable memtable : current.immutables) {
+      entry = memtable.get(key);
+      if (entry != null) {
+        return entry;
+      }
+    }
+    for (SSTable table : current.version.level(0)) {
+      entry = table.get(key);
+      if (entry != null) {
+        return entry;
+      }
+    }
+    for (int level = 1; level < LEVEL_COUNT; level++) {
+      SSTable table = current.version.findInSortedLevel(level, key);
+      if (table != null) {
+        entry = table.get(key);
+        if (entry != null) {
+          return entry;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a merged iterator over every source in the given state, including tombstones
+   */
+  private Iterator<Entry> iterator(State current, byte[] from, byte[] to) {
+    return iterator(current, from, to, false);
+  }
+
+  private Iterator<Entry> iterator(State current, byte[] from, byte[] to, boolean reverse) {
+    List<Iterator<Entry>> sources = new ArrayList<>();
+    sources.add(current.active.iterator(from, to, reverse));
+    for (Memtable memtable : current.immutables) {
+      sources.add(memtable.iterator(from, to, reverse));
+    }
+    for (SSTable table : current.version.level(0)) {
+      sources.add(table.iterator(from, to, reverse));
+    }
+    for (int level = 1; level < LEVEL_COUNT; level++) {
+      // tables in a sorted level are disjoint, so they can be read one after another, opening each only when reached
+      List<SSTable> tables = current.version.level(level);
+      if (!tables.isEmpty()) {
+        List<SSTable> ordered = reverse ? Lists.reverse(tables) : tables;
+        Iterator<Iterator<Entry>> perTable =
+            ordered.stream().map(table -> table.iterator(from, to, reverse)).iterator();
+        sources.add(Iterators.concat(perTable));
+      }
+    }
+    return new MergingIterator(sources, reverse);
+  }
+
+  private File tableFile(long fileNumber) {
+    return new File(folder, String.format("%06d", fileNumber) + TABLE_SUFFIX);
+  }
+
+  /**
+   * Returns the smallest and largest keys held by any of the given tables
+   */
+  private static byte[][] keyRange(List<SSTable> tables) {
+    byte[] smallest = null;
+    byte[] largest = null;
+    for (SSTable table : tables) {
+      if (smallest == null || COMPARATOR.compare(table.getSmallestKey(), smallest) < 0) {
+        smallest = table.getSmallestKey();
+      }
+      if (largest == null || COMPARATOR.compare(table.getLargestKey(), largest) > 0) {
+        largest = table.getLargestKey();
+      }
+    }
+    return new byte[][] {smallest, largest};
+  }
+
+  /**
+   * An immutable snapshot of the memtables and SSTables that make up the tree
+   */
+  private static final class State {
+
+    private final Memtable active;
+
+    // frozen memtables waiting to be flushed, newest first
+    private final List<Memtable> immutables;
+
+    private final Version version;
+
+    State(Memtable active, List<Memtable> immutables, Version version) {
+      this.active = active;
+      this.immutables = Collections.unmodifiableList(immutables);
+      this.version = version;
+    }
+  }
+
+  /**
+   * The input tables for a compaction, newest first, and the level its output goes to
+   */
+  private static final class Compaction {
+
+    private final List<SSTable> inputs;
+    private final int outputLevel;
+
+    Compaction(List<SSTable> inputs, int outputLevel) {
+      this.inputs = inputs;
+      this.outputLevel = outputLevel;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.daboodb.daboo.server.db;
 
 import com.google.protobuf.ByteString;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
 import org.daboodb.daboo.server.io.DatabaseExporter;
 import org.daboodb.daboo.generated.protobufs.Request;
 import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
@@ -10,48 +11,216 @@ import org.mapdb.BTreeMap;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.mapdb.Serializer;
+import org.mapdb.serializer.SerializerByteArray;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.stream.Collectors;
 
 /**
- * An in-memory implementation of a Db
+ * An off-heap implementation of a Db, backed by a MapDB B-tree.
+ * <p>
+ * By default the B-tree lives in direct (off-heap) memory and is lost on shutdown. When constructed with a file, it
+ * lives in a memory-mapped file instead: the OS pages data in and out as needed, so the store can be larger than
+ * RAM, and a restart after a clean shutdown reopens the existing tree rather than rebuilding it.
+ * <p>
+ * Each commit records, with the data, the sequence number of the last WAL request the store holds, so recovery after a
+ * restart skips the backup and replays only the requests logged after it. The Database commits as it shuts down and
+ * after each backup, and closes the store on shutdown. The file is not crash-safe, though: writes reach it without
+ * MapDB's transaction log, so a file left by a crash, whether unreadable or merely incomplete, is discarded when it is
+ * next opened, and the store starts empty, ready to be recovered from the backup and the whole WAL.
+ * <p>
+ * The statistics are saved with the data too, on every commit and as the store closes, so reopening a file reads them
+ * back rather than scanning the tree. Only a file saved without them is scanned, once, as it opens.
+ * <p>
+ * Keys are ordered as signed bytes, like every other Db, rather than as MapDB's unsigned bytes, so that ranges,
+ * prefixes and continuation keys mean the same thing whichever Db serves them.
  */
-public class OffHeapBTreeDb implements Db {
+public class OffHeapBTreeDb implements Db, Closeable {
 
   private LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
 
   //private static final long ALLOCATED_SIZE_IN_BYTES = 1024 * 1024 * 1024;  // 1 GB
-  private static final long ALLOCATED_SIZE_IN_BYTES = 1024 * 1024 * 50;  // 50 MB
+  public static final long ALLOCATED_SIZE_IN_BYTES = 1024 * 1024 * 50;  // 50 MB
 
-  private final DB db = DBMaker
-      .memoryDirectDB()
-      .allocateStartSize(ALLOCATED_SIZE_IN_BYTES)
-      .make();
+  public static final long ALLOCATE_INCREMENT_IN_BYTES = 1024 * 1024;  // 1 MB
 
-  private final BTreeMap<byte[], byte[]> store = db
-      .treeMap("treemap", Serializer.BYTE_ARRAY, Serializer.BYTE_ARRAY)
-      .make();
+  private static final String TREE_NAME = "treemap";
+
+  // Set in a file-backed store while it is open, and cleared as it closes, so that a file left by a crash is known
+  private static final String OPEN_MARKER = "open";
+
+  // The sequence number of the last WAL request a file-backed store held when it was committed, or -1
+  private static final String COMMITTED_SEQUENCE_NUMBER = "committedSequenceNumber";
+
+  // The statistics of a file-backed store as of its last commit or close, from StatsRecorder.save()
+  private static final String STATS = "stats";
+
+  private static final SerializerByteArray KEY_SERIALIZER = new SignedKeySerializer();
+
+  private final File file;
+  private final long allocatedSizeInBytes;
+  private final long allocateIncrementInBytes;
+
+  // Replaced by a fresh store when an empty Db is bulk loaded
+  private volatile DB db;
+  private volatile BTreeMap<byte[], byte[]> store;
+
+  private final BatchLock batchLock = new BatchLock();
+
+  private final StatsRecorder stats = new StatsRecorder();
+
+  private volatile long committedSequenceNumber = -1;
+
+  /**
+   * Creates an in-memory (direct buffer) store, whose contents do not survive a restart
+   */
+  public OffHeapBTreeDb() {
+    this.file = null;
+    this.allocatedSizeInBytes = ALLOCATED_SIZE_IN_BYTES;
+    this.allocateIncrementInBytes = ALLOCATE_INCREMENT_IN_BYTES;
+    db = openDb();
+    store = db
+        .treeMap(TREE_NAME, KEY_SERIALIZER, Serializer.BYTE_ARRAY)
+        .create();
+  }
+
+  /**
+   * Opens (or creates) a store backed by the given memory-mapped file
+   *
+   * @param allocatedSizeInBytes     The initial size of the file
+   * @param allocateIncrementInBytes The amount the file grows by each time it fills
+   */
+  public OffHeapBTreeDb(File file, long allocatedSizeInBytes, long allocateIncrementInBytes) {
+    File folder = file.getAbsoluteFile().getParentFile();
+    if (folder != null && !folder.exists()) {
+      folder.mkdirs();
+    }
+    this.file = file;
+    this.allocatedSizeInBytes = allocatedSizeInBytes;
+    this.allocateIncrementInBytes = allocateIncrementInBytes;
+    db = openDb();
+    store = db
+        .treeMap(TREE_NAME, KEY_SERIALIZER, Serializer.BYTE_ARRAY)
+        .createOrOpen();
+    committedSequenceNumber = db.atomicLong(COMMITTED_SEQUENCE_NUMBER, -1).createOrOpen().get();
+    if (!stats.restore(db.atomicVar(STATS, Serializer.LONG_ARRAY).createOrOpen().get())) {
+      store.forEach((key, value) -> stats.added(key.length, value.length));
+    }
+    loggerWriter.logInfo("Opened memory-mapped store " + file + " holding " + store.sizeLong()
+        + " documents, committed as of WAL sequence number " + committedSequenceNumber);
+  }
+
+  private DB openDb() {
+    if (file == null) {
+      return DBMaker
+          .memoryDirectDB()
+          .allocateStartSize(allocatedSizeInBytes)
+          .make();
+    }
+    DB opened;
+    try {
+      opened = openFile();
+      if (opened.atomicBoolean(OPEN_MARKER).createOrOpen().get()) {
+        opened.close();
+        throw new IllegalStateException("The store was not closed cleanly");
+      }
+    } catch (RuntimeException e) {
+      loggerWriter.logWarning("Discarding the memory-mapped store " + file + ", left by an unclean shutdown", e);
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException deleteException) {
+        loggerWriter.logError("Failed to discard the memory-mapped store " + file, deleteException);
+        throw new RuntimePersistenceException("An IOException occurred discarding the memory-mapped store",
+            deleteException);
+      }
+      opened = openFile();
+    }
+    opened.atomicBoolean(OPEN_MARKER).createOrOpen().set(true);
+    opened.commit();
+    return opened;
+  }
+
+  private DB openFile() {
+    return DBMaker
+        .fileDB(file)
+        .fileMmapEnableIfSupported()
+        .allocateStartSize(allocatedSizeInBytes)
+        .allocateIncrement(allocateIncrementInBytes)
+        .make();
+  }
+
+  /**
+   * Builds a new B-tree bottom-up from the sorted entries with MapDB's pump, if the Db is empty, replacing the empty
+   * store (and, for a file-backed store, its file)
+   */
+  @Override
+  public void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    if (!store.isEmpty()) {
+      Db.super.bulkLoad(sortedEntries);
+      return;
+    }
+    close();
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (IOException e) {
+        loggerWriter.logError("Failed to replace the memory-mapped store " + file, e);
+        throw new RuntimePersistenceException("An IOException occurred replacing the memory-mapped store", e);
+      }
+    }
+    stats.reset();
+    committedSequenceNumber = -1;
+    DB loaded = openDb();
+    DB.TreeMapSink<byte[], byte[]> sink = loaded
+        .treeMap(TREE_NAME, KEY_SERIALIZER, Serializer.BYTE_ARRAY)
+        .createFromSink();
+    while (sortedEntries.hasNext()) {
+      Map.Entry<byte[], byte[]> entry = sortedEntries.next();
+      sink.put(entry.getKey(), entry.getValue());
+      stats.added(entry.getKey().length, entry.getValue().length);
+    }
+    store = sink.create();
+    db = loaded;
+  }
 
   @Override
   public void write(Map<byte[], byte[]> documentMap) {
-    store.putAll(documentMap);
+    for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
   }
 
   @Override
   public void delete(List<Request.Document> documentList) {
     for (Request.Document doc : documentList) {
-      store.remove(doc.getKey().toByteArray());
+      byte[] key = doc.getKey().toByteArray();
+      stats.remove(key, store.remove(key));
     }
   }
 
+  @Override
+  public void apply(WriteBatch batch) {
+    batchLock.apply(batch, store, stats);
+  }
+
   @Override
   public List<ByteString> get(List<ByteString> keyList) {
+    if (keyList.size() <= 1) {
+      return getAll(keyList);
+    }
+    return batchLock.read(() -> getAll(keyList));
+  }
+
+  private List<ByteString> getAll(List<ByteString> keyList) {
     List<ByteString> docs = new ArrayList<>();
     for (ByteString key : keyList) {
       byte[] result = store.get(key.toByteArray());
@@ -78,25 +247,109 @@ public class OffHeapBTreeDb implements Db {
 
   @Override
   public void put(byte[] key, byte[] value) {
-    store.put(key, value);
+    stats.put(key, store.put(key, value), value);
   }
 
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return true;
+  }
+
+  /**
+   * Returns the number of documents from a counter kept as they are written, since counting the B-tree's entries
+   * takes a traversal
+   */
   @Override
   public int size() {
-    return store.size();
+    return stats.size();
+  }
+
+  @Override
+  public DbStats stats() {
+    return stats.stats();
   }
 
   @Override
-  public void clear() {
+  public synchronized void clear() {
     store.clear();
+    stats.reset();
+    if (file != null) {
+      db.atomicLong(COMMITTED_SEQUENCE_NUMBER, -1).createOrOpen().set(-1);
+    }
+    committedSequenceNumber = -1;
+  }
+
+  /**
+   * Flushes a file-backed store to disk, recording the sequence number and the statistics with it. An in-memory store
+   * holds nothing across a restart, so ignores it
+   */
+  @Override
+  public synchronized void commit(long sequenceNumber) {
+    if (file == null || db.isClosed()) {
+      return;
+    }
+    db.atomicLong(COMMITTED_SEQUENCE_NUMBER, -1).createOrOpen().set(sequenceNumber);
+    db.atomicVar(STATS, Serializer.LONG_ARRAY).createOrOpen().set(stats.save());
+    db.commit();
+    committedSequenceNumber = sequenceNumber;
+  }
+
+  @Override
+  public long committedSequenceNumber() {
+    return committedSequenceNumber;
+  }
+
+  /**
+   * Flushes any changes to a file-backed store to disk, with its statistics, marking it as closed cleanly, and releases
+   * the memory or file it uses
+   */
+  @Override
+  public synchronized void close() {
+    if (!db.isClosed()) {
+      if (file != null) {
+        db.atomicVar(STATS, Serializer.LONG_ARRAY).createOrOpen().set(stats.save());
+        db.atomicBoolean(OPEN_MARKER).createOrOpen().set(false);
+      }
+      db.commit();
+      db.close();
+    }
   }
 
   @Override
   public List<ByteString> getRange(byte[] from, byte[] to) {
-    List<ByteString> docs = new ArrayList<>();
-    ConcurrentNavigableMap<byte[], byte[]> results = store.subMap(from, to);
-    docs.addAll(results.entrySet().stream()
-        .map(entry -> ByteString.copyFrom(entry.getValue())).collect(Collectors.toList()));
-    return docs;
+    return batchLock.read(() -> {
+      List<ByteString> docs = new ArrayList<>();
+      ConcurrentNavigableMap<byte[], byte[]> results = store.subMap(from, to);
+      docs.addAll(results.entrySet().stream()
+          .map(entry -> ByteString.copyFrom(entry.getValue())).collect(Collectors.toList()));
+      return docs;
+    });
+  }
+
+  /**
+   * Returns a cursor that copies the range a batch at a time, so that each batch sees WriteBatches all at once
+   */
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return batchLock.cursor(store, from, to, reverse);
+  }
+
+  /**
+   * MapDB's byte array serializer, comparing keys as signed bytes. The search within a B-tree node is overridden too,
+   * as MapDB's own searches with its unsigned comparator
+   */
+  private static final class SignedKeySerializer extends SerializerByteArray {
+
+    private static final Comparator<byte[]> ORDER = LexicographicComparator.SIGNED;
+
+    @Override
+    public int compare(byte[] first, byte[] second) {
+      return ORDER.compare(first, second);
+    }
+
+    @Override
+    public int valueArraySearch(Object keys, byte[] key) {
+      return valueArraySearch(keys, key, this);
+    }
   }
 }
@@ -0,0 +1,267 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.slab.SlabAllocator;
+import org.daboodb.daboo.server.db.slab.SlabIndex;
+import org.daboodb.daboo.server.io.DatabaseExporter;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A Db that keeps its keys and values off-heap, behind a compact on-heap index.
+ * <p>
+ * Each document is stored with its key in a SlabAllocator, and a SlabIndex holds the handles of the documents in key
+ * order as primitive longs, comparing keys where they lie in the slabs. The heap holds about eight bytes per document
+ * however large its key and value are, and the garbage collector never has to trace either. Gets copy values straight
+ * from the slabs into the reply ByteStrings. Once overwrites and deletes have left enough of the slab memory unused,
+ * the next write runs a defragmentation pass to give sparse slabs back.
+ */
+public class OffHeapSlabDb implements Db {
+
+  // Defragmentation is considered once this many values have been freed since the last pass ...
+  private static final int FREES_BETWEEN_DEFRAGMENTATION = 64 * 1024;
+  // ... and runs if less than this fraction of the slab memory holds live values
+  private static final double MIN_LIVE_FRACTION = 0.5;
+
+  private final LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
+
+  private final SlabAllocator allocator;
+  private final SlabIndex index;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private int freesSinceDefragmentation;
+
+  private final StatsRecorder stats = new StatsRecorder();
+
+  public OffHeapSlabDb() {
+    this(SlabAllocator.DEFAULT_SLAB_SIZE_IN_BYTES);
+  }
+
+  public OffHeapSlabDb(int slabSizeInBytes) {
+    this.allocator = new SlabAllocator(slabSizeInBytes);
+    this.index = new SlabIndex(allocator);
+  }
+
+  @Override
+  public void write(Map<byte[], byte[]> documentMap) {
+    lock.writeLock().lock();
+    try {
+      for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+        store(entry.getKey(), entry.getValue());
+      }
+      defragmentIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void delete(List<Request.Document> documentList) {
+    lock.writeLock().lock();
+    try {
+      for (Request.Document document : documentList) {
+        remove(document.getKey().toByteArray());
+      }
+      defragmentIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void apply(WriteBatch batch) {
+    lock.writeLock().lock();
+    try {
+      for (Map.Entry<byte[], byte[]> operation : batch.operations()) {
+        if (operation.getValue() == null) {
+          remove(operation.getKey());
+        } else {
+          store(operation.getKey(), operation.getValue());
+        }
+      }
+      defragmentIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<ByteString> get(List<ByteString> keyList) {
+    List<ByteString> docs = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      for (ByteString key : keyList) {
+        long handle = index.get(key.toByteArray());
+        if (handle != SlabIndex.NO_HANDLE) {
+          docs.add(allocator.read(handle));
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return docs;
+  }
+
+  @Override
+  public void exportDocuments(File file) {
+    DatabaseExporter exporter = DatabaseExporter.get(file);
+    lock.readLock().lock();
+    try {
+      index.scan(null, null, false, handle -> {
+        try {
+          exporter.log(allocator.read(handle).toByteArray());
+        } catch (IOException e) {
+          loggerWriter.logError("Failed to export documents to the database file " + file.toString(), e);
+          throw new RuntimePersistenceException("An IOException occurred exporting documents from the database", e);
+        }
+        return true;
+      });
+    } finally {
+      lock.readLock().unlock();
+    }
+    exporter.close();
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    lock.writeLock().lock();
+    try {
+      store(key, value);
+      defragmentIfNeeded();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return index.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public DbStats stats() {
+    return stats.stats();
+  }
+
+  @Override
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      index.clear();
+      allocator.clear();
+      stats.reset();
+      freesSinceDefragmentation = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<ByteString> getRange(byte[] from, byte[] to) {
+    List<ByteString> docs = new ArrayList<>();
+    lock.readLock().lock();
+    try {
+      index.scan(from, to, false, handle -> docs.add(allocator.read(handle)));
+    } finally {
+      lock.readLock().unlock();
+    }
+    return docs;
+  }
+
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return new BatchingRangeCursor(from, to, reverse) {
+      @Override
+      void fill(byte[] from, byte[] to, boolean reverse, int max, Batch batch) {
+        lock.readLock().lock();
+        try {
+          int[] count = {0};
+          index.scan(from, to, reverse, handle -> {
+            batch.add(allocator.readKey(handle), allocator.read(handle));
+            return ++count[0] < max;
+          });
+        } finally {
+          lock.readLock().unlock();
+        }
+      }
+    };
+  }
+
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return true;
+  }
+
+  /**
+   * Moves values out of sparsely used slabs and releases them, returning the number of values moved
+   */
+  public int defragment() {
+    lock.writeLock().lock();
+    try {
+      long before = allocator.slabBytes();
+      int moved = index.defragment();
+      freesSinceDefragmentation = 0;
+      loggerWriter.logInfo("Defragmented off-heap slabs: moved " + moved + " values, released "
+          + (before - allocator.slabBytes()) + " bytes");
+      return moved;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the bytes of off-heap memory held by this db
+   */
+  public long offHeapBytes() {
+    lock.readLock().lock();
+    try {
+      return allocator.slabBytes();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void store(byte[] key, byte[] value) {
+    long previous = index.put(key, allocator.allocate(key, value));
+    if (previous == SlabIndex.NO_HANDLE) {
+      stats.added(key.length, value.length);
+    } else {
+      stats.replaced(allocator.length(previous), value.length);
+      free(previous);
+    }
+  }
+
+  private void remove(byte[] key) {
+    long handle = index.remove(key);
+    if (handle != SlabIndex.NO_HANDLE) {
+      stats.removed(key.length, allocator.length(handle));
+      free(handle);
+    }
+  }
+
+  private void free(long handle) {
+    allocator.free(handle);
+    freesSinceDefragmentation++;
+  }
+
+  private void defragmentIfNeeded() {
+    if (freesSinceDefragmentation >= FREES_BETWEEN_DEFRAGMENTATION
+        && allocator.liveBytes() < allocator.slabBytes() * MIN_LIVE_FRACTION) {
+      defragment();
+    }
+  }
+}
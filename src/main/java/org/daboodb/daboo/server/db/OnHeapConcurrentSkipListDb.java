@@ -1,7 +1,7 @@
 package org.daboodb.daboo.server.db;
 
-import com.google.common.primitives.SignedBytes;
 import com.google.protobuf.ByteString;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
 import org.daboodb.daboo.server.io.DatabaseExporter;
 import org.daboodb.daboo.generated.protobufs.Request;
 import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
@@ -12,6 +12,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentNavigableMap;
@@ -25,23 +26,56 @@ public class OnHeapConcurrentSkipListDb implements Db {
 
   private LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
 
-  private final ConcurrentSkipListMap<byte[], byte[]> store
-      = new ConcurrentSkipListMap<>(SignedBytes.lexicographicalComparator());
+  // Replaced, rather than filled, by a bulk load into an empty Db
+  private volatile ConcurrentSkipListMap<byte[], byte[]> store
+      = new ConcurrentSkipListMap<>(LexicographicComparator.SIGNED);
+
+  private final BatchLock batchLock = new BatchLock();
+
+  private final StatsRecorder stats = new StatsRecorder();
 
   @Override
   public void write(Map<byte[], byte[]> documentMap) {
-    store.putAll(documentMap);
+    for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
   }
 
   @Override
   public void delete(List<Request.Document> documentList) {
     for (Request.Document doc : documentList) {
-      store.remove(doc.getKey().toByteArray());
+      byte[] key = doc.getKey().toByteArray();
+      stats.remove(key, store.remove(key));
     }
   }
 
+  @Override
+  public void apply(WriteBatch batch) {
+    batchLock.apply(batch, store, stats);
+  }
+
+  /**
+   * Builds a new skip list from the sorted entries in linear time and swaps it in, if the Db is empty
+   */
+  @Override
+  public void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    if (!store.isEmpty()) {
+      Db.super.bulkLoad(sortedEntries);
+      return;
+    }
+    stats.reset();
+    store = new ConcurrentSkipListMap<>(SortedEntryMap.collect(stats.counting(sortedEntries), store.comparator()));
+  }
+
   @Override
   public List<ByteString> get(List<ByteString> keyList) {
+    if (keyList.size() <= 1) {
+      return getAll(keyList);
+    }
+    return batchLock.read(() -> getAll(keyList));
+  }
+
+  private List<ByteString> getAll(List<ByteString> keyList) {
     List<ByteString> docs = new ArrayList<>();
     for (ByteString key : keyList) {
       byte[] result = store.get(key.toByteArray());
@@ -69,25 +103,50 @@ public class OnHeapConcurrentSkipListDb implements Db {
 
   @Override
   public void put(byte[] key, byte[] value) {
-    store.put(key, value);
+    stats.put(key, store.put(key, value), value);
   }
 
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return true;
+  }
+
+  /**
+   * Returns the number of documents from a counter kept as they are written, since counting the skip list's entries
+   * takes a traversal
+   */
   @Override
   public int size() {
-    return store.size();
+    return stats.size();
+  }
+
+  @Override
+  public DbStats stats() {
+    return stats.stats();
   }
 
   @Override
   public void clear() {
     store.clear();
+    stats.reset();
   }
 
   @Override
   public List<ByteString> getRange(byte[] from, byte[] to) {
-    List<ByteString> docs = new ArrayList<>();
-    ConcurrentNavigableMap<byte[], byte[]> results = store.subMap(from, to);
-    docs.addAll(results.entrySet().stream()
-        .map(entry -> ByteString.copyFrom(entry.getValue())).collect(Collectors.toList()));
-    return docs;
+    return batchLock.read(() -> {
+      List<ByteString> docs = new ArrayList<>();
+      ConcurrentNavigableMap<byte[], byte[]> results = store.subMap(from, to);
+      docs.addAll(results.entrySet().stream()
+          .map(entry -> ByteString.copyFrom(entry.getValue())).collect(Collectors.toList()));
+      return docs;
+    });
+  }
+
+  /**
+   * Returns a cursor that copies the range a batch at a time, so that each batch sees WriteBatches all at once
+   */
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return batchLock.cursor(store, from, to, reverse);
   }
 }
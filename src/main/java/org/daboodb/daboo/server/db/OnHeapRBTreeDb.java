@@ -1,7 +1,7 @@
 package org.daboodb.daboo.server.db;
 
-import com.google.common.primitives.SignedBytes;
 import com.google.protobuf.ByteString;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
 import org.daboodb.daboo.server.io.DatabaseExporter;
 import org.daboodb.daboo.generated.protobufs.Request;
 import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
@@ -11,41 +11,93 @@ import org.daboodb.daboo.shared.util.logging.LoggingFactory;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 
 /**
- * An in-memory implementation of a Db
+ * An in-memory implementation of a Db, backed by a red-black tree.
+ * <p>
+ * The tree can't be read while it changes, so every write holds a write lock and every read a read lock. A WriteBatch
+ * is applied under one hold of the write lock, so readers see all of it or none of it.
  */
 public class OnHeapRBTreeDb implements Db {
 
   private final LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
 
-  private final TreeMap<byte[], byte[]> store = new TreeMap<>(SignedBytes.lexicographicalComparator());
+  private final TreeMap<byte[], byte[]> store = new TreeMap<>(LexicographicComparator.SIGNED);
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final StatsRecorder stats = new StatsRecorder();
 
   @Override
   public void write(Map<byte[], byte[]> documentMap) {
-    store.putAll(documentMap);
+    lock.writeLock().lock();
+    try {
+      for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+        stats.put(entry.getKey(), store.put(entry.getKey(), entry.getValue()), entry.getValue());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   @Override
   public void delete(List<Request.Document> documentList) {
-    for (Request.Document document : documentList) {
-      store.remove(document.getKey().toByteArray());
+    lock.writeLock().lock();
+    try {
+      for (Request.Document document : documentList) {
+        byte[] key = document.getKey().toByteArray();
+        stats.remove(key, store.remove(key));
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void apply(WriteBatch batch) {
+    lock.writeLock().lock();
+    try {
+      BatchLock.applyTo(batch, store, stats);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Builds the tree from the sorted entries in linear time, if the Db is empty
+   */
+  @Override
+  public void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    lock.writeLock().lock();
+    try {
+      if (!store.isEmpty()) {
+        Db.super.bulkLoad(sortedEntries);
+        return;
+      }
+      store.putAll(SortedEntryMap.collect(stats.counting(sortedEntries), store.comparator()));
+    } finally {
+      lock.writeLock().unlock();
     }
   }
 
   @Override
   public List<ByteString> get(List<ByteString> keyList) {
     List<ByteString> docs = new ArrayList<>();
-    for (ByteString key : keyList) {
-      byte[] result = store.get(key.toByteArray());
-      if (result != null) {
-        docs.add(ByteString.copyFrom(result));
+    lock.readLock().lock();
+    try {
+      for (ByteString key : keyList) {
+        byte[] result = store.get(key.toByteArray());
+        if (result != null) {
+          docs.add(ByteString.copyFrom(result));
+        }
       }
+    } finally {
+      lock.readLock().unlock();
     }
     return docs;
   }
@@ -53,38 +105,98 @@ public class OnHeapRBTreeDb implements Db {
   @Override
   public void exportDocuments(File file) {
     DatabaseExporter exporter = DatabaseExporter.get(file);
-    store.forEach((k, v) -> {
-      try {
-        exporter.log(v);
-      } catch (IOException e) {
-        loggerWriter.logError("Failed to export documents to the database file " + file.toString(), e);
-        throw new RuntimePersistenceException("An IOException occurred exporting documents from the database", e);
-      }
-    });
+    lock.readLock().lock();
+    try {
+      store.forEach((k, v) -> {
+        try {
+          exporter.log(v);
+        } catch (IOException e) {
+          loggerWriter.logError("Failed to export documents to the database file " + file.toString(), e);
+          throw new RuntimePersistenceException("An IOException occurred exporting documents from the database", e);
+        }
+      });
+    } finally {
+      lock.readLock().unlock();
+    }
     exporter.close();
   }
 
   @Override
   public void put(byte[] key, byte[] value) {
-    store.put(key, value);
+    lock.writeLock().lock();
+    try {
+      stats.put(key, store.put(key, value), value);
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   @Override
   public int size() {
-    return store.size();
+    lock.readLock().lock();
+    try {
+      return store.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public DbStats stats() {
+    return stats.stats();
   }
 
   @Override
   public void clear() {
-    store.clear();
+    lock.writeLock().lock();
+    try {
+      store.clear();
+      stats.reset();
+    } finally {
+      lock.writeLock().unlock();
+    }
   }
 
   @Override
   public List<ByteString> getRange(byte[] from, byte[] to) {
-    List<ByteString> docs = new ArrayList<>();
-    SortedMap<byte[], byte[]> results = store.subMap(from, to);
-    docs.addAll(results.entrySet().stream()
-        .map(entry -> ByteString.copyFrom(entry.getValue())).collect(Collectors.toList()));
-    return docs;
+    lock.readLock().lock();
+    try {
+      return store.subMap(from, to).values().stream().map(ByteString::copyFrom).collect(Collectors.toList());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns a cursor that copies the range a batch at a time, each under the read lock, since the TreeMap can't be
+   * iterated while it changes
+   */
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return new BatchingRangeCursor(from, to, reverse) {
+      @Override
+      void fill(byte[] from, byte[] to, boolean reverse, int max, Batch batch) {
+        lock.readLock().lock();
+        try {
+          int count = 0;
+          for (Map.Entry<byte[], byte[]> entry : RangeCursors.view(store, from, to, reverse).entrySet()) {
+            if (count++ == max) {
+              break;
+            }
+            batch.add(entry.getKey(), ByteString.copyFrom(entry.getValue()));
+          }
+        } finally {
+          lock.readLock().unlock();
+        }
+      }
+    };
+  }
+
+  /**
+   * Writes are safe from any thread, though the write lock applies them one at a time
+   */
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return true;
   }
 }
@@ -0,0 +1,32 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+
+import java.io.Closeable;
+
+/**
+ * A forward-only cursor over the documents in a key range, as returned by Db.cursor().
+ * <p>
+ * A cursor starts before its first entry, so next() must be called before key() or value(). A cursor may hold locks
+ * or files open, and must be closed once the caller is done with it.
+ */
+public interface RangeCursor extends Closeable {
+
+  /**
+   * Moves to the next entry, returning false if there are no more
+   */
+  boolean next();
+
+  /**
+   * Returns the key of the current entry
+   */
+  byte[] key();
+
+  /**
+   * Returns the value of the current entry
+   */
+  ByteString value();
+
+  @Override
+  void close();
+}
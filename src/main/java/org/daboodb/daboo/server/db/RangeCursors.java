@@ -0,0 +1,91 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Utilities for implementing and using RangeCursors
+ */
+public final class RangeCursors {
+
+  private RangeCursors() {
+  }
+
+  /**
+   * Returns the smallest key that sorts after the given key: the key followed by the lowest byte value. A scan that
+   * resumes after a key starts here
+   */
+  public static byte[] successor(byte[] key) {
+    byte[] successor = Arrays.copyOf(key, key.length + 1);
+    successor[key.length] = Byte.MIN_VALUE;
+    return successor;
+  }
+
+  /**
+   * Returns the smallest key that sorts after every key beginning with the given prefix, to bound a prefix scan
+   * exclusively: the prefix up to its last byte below Byte.MAX_VALUE, with that byte incremented. Returns null, meaning
+   * unbounded, if there is no such byte
+   */
+  public static byte[] prefixEnd(byte[] prefix) {
+    for (int i = prefix.length - 1; i >= 0; i--) {
+      if (prefix[i] != Byte.MAX_VALUE) {
+        byte[] end = Arrays.copyOf(prefix, i + 1);
+        end[i]++;
+        return end;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a view of the map's entries from from (inclusive) to to (exclusive), in descending order if reverse is
+   * true. Either bound may be null, meaning unbounded
+   */
+  public static <V> NavigableMap<byte[], V> view(NavigableMap<byte[], V> map, byte[] from, byte[] to,
+                                                 boolean reverse) {
+    NavigableMap<byte[], V> range = map;
+    if (from != null && to != null) {
+      range = map.subMap(from, true, to, false);
+    } else if (from != null) {
+      range = map.tailMap(from, true);
+    } else if (to != null) {
+      range = map.headMap(to, false);
+    }
+    return reverse ? range.descendingMap() : range;
+  }
+
+  /**
+   * Returns a cursor over the given iterator, copying each value as it is reached. The iterator must not be affected
+   * by concurrent writes, as is the case for the views of concurrent maps
+   */
+  public static RangeCursor of(Iterator<Map.Entry<byte[], byte[]>> iterator) {
+    return new RangeCursor() {
+
+      private Map.Entry<byte[], byte[]> current;
+
+      @Override
+      public boolean next() {
+        current = iterator.hasNext() ? iterator.next() : null;
+        return current != null;
+      }
+
+      @Override
+      public byte[] key() {
+        return current.getKey();
+      }
+
+      @Override
+      public ByteString value() {
+        return ByteString.copyFrom(current.getValue());
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+}
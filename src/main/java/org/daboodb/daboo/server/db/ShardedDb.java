@@ -0,0 +1,339 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.daboodb.daboo.server.io.DatabaseExporter;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * An in-memory implementation of a Db that splits the key space into range shards.
+ * <p>
+ * Each shard is a TreeMap guarded by its own StampedLock, so reads and writes of keys in different shards never
+ * contend. Shard boundaries are given as split keys: shard 0 holds keys below the first split key, shard i holds keys
+ * from split key i-1 up to (but not including) split key i, and the last shard holds the rest. A range scan visits
+ * only the shards that overlap it, in key order.
+ * <p>
+ * A WriteBatch holds the write locks of all the shards it touches at once, and a read that spans shards holds all of
+ * their read locks at once, so readers never see half a batch. Locks are always taken in ascending shard order, so
+ * they can't deadlock.
+ */
+public class ShardedDb implements Db {
+
+  private static final Comparator<byte[]> COMPARATOR = LexicographicComparator.SIGNED;
+
+  private final LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
+
+  private final byte[][] splitKeys;
+  private final Shard[] shards;
+
+  private final StatsRecorder stats = new StatsRecorder();
+
+  /**
+   * Returns a db with sixteen shards. Document keys are UUID strings, whose first character is a hex digit, so
+   * splitting on each digit after '0' spreads them evenly
+   */
+  public ShardedDb() {
+    this(hexSplitKeys());
+  }
+
+  /**
+   * Returns a db with one more shard than the number of split keys, which must be in ascending order
+   */
+  public ShardedDb(List<byte[]> splitKeys) {
+    this.splitKeys = splitKeys.toArray(new byte[splitKeys.size()][]);
+    for (int i = 1; i < this.splitKeys.length; i++) {
+      if (COMPARATOR.compare(this.splitKeys[i - 1], this.splitKeys[i]) >= 0) {
+        throw new IllegalArgumentException("Split keys must be in strictly ascending order");
+      }
+    }
+    this.shards = new Shard[this.splitKeys.length + 1];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new Shard();
+    }
+  }
+
+  @Override
+  public void write(Map<byte[], byte[]> documentMap) {
+    Map<Integer, Map<byte[], byte[]>> byShard = new TreeMap<>();
+    for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+      byShard.computeIfAbsent(shardIndex(entry.getKey()), i -> new HashMap<>())
+          .put(entry.getKey(), entry.getValue());
+    }
+    for (Map.Entry<Integer, Map<byte[], byte[]>> entry : byShard.entrySet()) {
+      Shard shard = shards[entry.getKey()];
+      long stamp = shard.lock.writeLock();
+      try {
+        for (Map.Entry<byte[], byte[]> document : entry.getValue().entrySet()) {
+          stats.put(document.getKey(), shard.store.put(document.getKey(), document.getValue()), document.getValue());
+        }
+      } finally {
+        shard.lock.unlockWrite(stamp);
+      }
+    }
+  }
+
+  @Override
+  public void delete(List<Request.Document> documentList) {
+    for (Request.Document document : documentList) {
+      byte[] key = document.getKey().toByteArray();
+      Shard shard = shardFor(key);
+      long stamp = shard.lock.writeLock();
+      try {
+        stats.remove(key, shard.store.remove(key));
+      } finally {
+        shard.lock.unlockWrite(stamp);
+      }
+    }
+  }
+
+  /**
+   * Applies the batch with the write locks of every shard it touches held together
+   */
+  @Override
+  public void apply(WriteBatch batch) {
+    boolean[] touched = new boolean[shards.length];
+    for (byte[] key : batch.keys()) {
+      touched[shardIndex(key)] = true;
+    }
+    long[] stamps = lockShards(touched, true);
+    try {
+      for (Map.Entry<byte[], byte[]> operation : batch.operations()) {
+        TreeMap<byte[], byte[]> store = shardFor(operation.getKey()).store;
+        if (operation.getValue() == null) {
+          stats.remove(operation.getKey(), store.remove(operation.getKey()));
+        } else {
+          stats.put(operation.getKey(), store.put(operation.getKey(), operation.getValue()), operation.getValue());
+        }
+      }
+    } finally {
+      unlockShards(touched, stamps, true);
+    }
+  }
+
+  @Override
+  public List<ByteString> get(List<ByteString> keyList) {
+    List<byte[]> keys = new ArrayList<>(keyList.size());
+    boolean[] touched = new boolean[shards.length];
+    for (ByteString keyString : keyList) {
+      byte[] key = keyString.toByteArray();
+      keys.add(key);
+      touched[shardIndex(key)] = true;
+    }
+    List<ByteString> docs = new ArrayList<>();
+    long[] stamps = lockShards(touched, false);
+    try {
+      for (byte[] key : keys) {
+        byte[] result = shardFor(key).store.get(key);
+        if (result != null) {
+          docs.add(ByteString.copyFrom(result));
+        }
+      }
+    } finally {
+      unlockShards(touched, stamps, false);
+    }
+    return docs;
+  }
+
+  @Override
+  public void exportDocuments(File file) {
+    DatabaseExporter exporter = DatabaseExporter.get(file);
+    for (Shard shard : shards) {
+      long stamp = shard.lock.readLock();
+      try {
+        for (byte[] value : shard.store.values()) {
+          exporter.log(value);
+        }
+      } catch (IOException e) {
+        loggerWriter.logError("Failed to export documents to the database file " + file.toString(), e);
+        throw new RuntimePersistenceException("An IOException occurred exporting documents from the database", e);
+      } finally {
+        shard.lock.unlockRead(stamp);
+      }
+    }
+    exporter.close();
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    Shard shard = shardFor(key);
+    long stamp = shard.lock.writeLock();
+    try {
+      stats.put(key, shard.store.put(key, value), value);
+    } finally {
+      shard.lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Shard shard : shards) {
+      long stamp = shard.lock.readLock();
+      try {
+        size += shard.store.size();
+      } finally {
+        shard.lock.unlockRead(stamp);
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public DbStats stats() {
+    return stats.stats();
+  }
+
+  /**
+   * Clears every shard with all of their write locks held, so no write is counted and then lost
+   */
+  @Override
+  public void clear() {
+    boolean[] all = shardsBetween(0, shards.length - 1);
+    long[] stamps = lockShards(all, true);
+    try {
+      for (Shard shard : shards) {
+        shard.store.clear();
+      }
+      stats.reset();
+    } finally {
+      unlockShards(all, stamps, true);
+    }
+  }
+
+  /**
+   * Returns the values of the keys from from (inclusive) to to (exclusive), visiting only the shards in that range
+   */
+  @Override
+  public List<ByteString> getRange(byte[] from, byte[] to) {
+    if (COMPARATOR.compare(from, to) > 0) {
+      throw new IllegalArgumentException("fromKey > toKey");
+    }
+    List<ByteString> docs = new ArrayList<>();
+    int first = shardIndex(from);
+    int last = shardIndex(to);
+    boolean[] touched = shardsBetween(first, last);
+    long[] stamps = lockShards(touched, false);
+    try {
+      for (int i = first; i <= last; i++) {
+        for (byte[] value : shards[i].store.subMap(from, to).values()) {
+          docs.add(ByteString.copyFrom(value));
+        }
+      }
+    } finally {
+      unlockShards(touched, stamps, false);
+    }
+    return docs;
+  }
+
+  /**
+   * Returns a cursor that copies the range a batch at a time, holding the read locks of the shards left in the range
+   * while it copies each batch
+   */
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return new BatchingRangeCursor(from, to, reverse) {
+      @Override
+      void fill(byte[] from, byte[] to, boolean reverse, int max, Batch batch) {
+        int first = from == null ? 0 : shardIndex(from);
+        int last = to == null ? shards.length - 1 : shardIndex(to);
+        boolean[] touched = shardsBetween(first, last);
+        long[] stamps = lockShards(touched, false);
+        try {
+          int count = 0;
+          for (int i = reverse ? last : first; count < max && i >= first && i <= last; i += reverse ? -1 : 1) {
+            for (Map.Entry<byte[], byte[]> entry : RangeCursors.view(shards[i].store, from, to, reverse).entrySet()) {
+              if (count++ == max) {
+                break;
+              }
+              batch.add(entry.getKey(), ByteString.copyFrom(entry.getValue()));
+            }
+          }
+        } finally {
+          unlockShards(touched, stamps, false);
+        }
+      }
+    };
+  }
+
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return true;
+  }
+
+  int shardCount() {
+    return shards.length;
+  }
+
+  /**
+   * Returns the index of the shard that holds the given key: the number of split keys at or below it
+   */
+  int shardIndex(byte[] key) {
+    int index = Arrays.binarySearch(splitKeys, key, COMPARATOR);
+    return index >= 0 ? index + 1 : -(index + 1);
+  }
+
+  private Shard shardFor(byte[] key) {
+    return shards[shardIndex(key)];
+  }
+
+  private boolean[] shardsBetween(int first, int last) {
+    boolean[] selected = new boolean[shards.length];
+    for (int i = first; i <= last; i++) {
+      selected[i] = true;
+    }
+    return selected;
+  }
+
+  /**
+   * Locks the selected shards in ascending order, returning the stamps to unlock them with
+   */
+  private long[] lockShards(boolean[] selected, boolean write) {
+    long[] stamps = new long[shards.length];
+    for (int i = 0; i < shards.length; i++) {
+      if (selected[i]) {
+        stamps[i] = write ? shards[i].lock.writeLock() : shards[i].lock.readLock();
+      }
+    }
+    return stamps;
+  }
+
+  private void unlockShards(boolean[] selected, long[] stamps, boolean write) {
+    for (int i = shards.length - 1; i >= 0; i--) {
+      if (selected[i]) {
+        if (write) {
+          shards[i].lock.unlockWrite(stamps[i]);
+        } else {
+          shards[i].lock.unlockRead(stamps[i]);
+        }
+      }
+    }
+  }
+
+  private static List<byte[]> hexSplitKeys() {
+    List<byte[]> keys = new ArrayList<>();
+    for (char c : "123456789abcdef".toCharArray()) {
+      keys.add(String.valueOf(c).getBytes(StandardCharsets.UTF_8));
+    }
+    return keys;
+  }
+
+  private static class Shard {
+    private final StampedLock lock = new StampedLock();
+    private final TreeMap<byte[], byte[]> store = new TreeMap<>(COMPARATOR);
+  }
+}
@@ -0,0 +1,308 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.daboodb.daboo.server.io.DatabaseExporter;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A Db that wraps another and can open point-in-time snapshots of it, which may be exported while writes continue.
+ * <p>
+ * A snapshot keeps a second version of each key written after it opened: the version it had when the snapshot opened,
+ * or a marker if it had none. Before a write or delete reaches the wrapped Db, the prior version of each of its keys is
+ * kept by every open snapshot that doesn't yet hold one, so the wrapped Db only ever holds the latest versions, and
+ * writers are never blocked. When no snapshot is open, writes pass straight through.
+ * <p>
+ * A snapshot is opened at a sequence number chosen by the caller, such as that of the last request in the write-ahead
+ * log. The caller must make sure that no write is in progress while the snapshot opens, so that every write up to that
+ * sequence number is in the snapshot and every later one is not.
+ */
+public class SnapshotDb implements Db, Closeable {
+
+  // Marks a key that did not exist when a snapshot opened
+  private static final byte[] ABSENT = new byte[0];
+
+  private static final Comparator<byte[]> COMPARATOR = LexicographicComparator.SIGNED;
+
+  private final LoggerWriter loggerWriter = LoggingFactory.getLogger(this.getClass());
+
+  private final Db db;
+
+  private final List<Snapshot> openSnapshots = new CopyOnWriteArrayList<>();
+
+  public SnapshotDb(Db db) {
+    this.db = db;
+  }
+
+  /**
+   * Returns a snapshot of the db as it is now, labelled with the given sequence number. The snapshot must be closed
+   */
+  public Snapshot openSnapshot(long sequenceNumber) {
+    Snapshot snapshot = new Snapshot(sequenceNumber);
+    openSnapshots.add(snapshot);
+    return snapshot;
+  }
+
+  @Override
+  public void write(Map<byte[], byte[]> documentMap) {
+    keepPriorVersions(documentMap.keySet());
+    db.write(documentMap);
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    keepPriorVersions(Collections.singletonList(key));
+    db.put(key, value);
+  }
+
+  @Override
+  public void delete(List<Request.Document> documentList) {
+    if (!openSnapshots.isEmpty()) {
+      List<byte[]> keys = new ArrayList<>(documentList.size());
+      for (Request.Document document : documentList) {
+        keys.add(document.getKey().toByteArray());
+      }
+      keepPriorVersions(keys);
+    }
+    db.delete(documentList);
+  }
+
+  @Override
+  public void apply(WriteBatch batch) {
+    keepPriorVersions(batch.keys());
+    db.apply(batch);
+  }
+
+  @Override
+  public List<ByteString> get(List<ByteString> keyList) {
+    return db.get(keyList);
+  }
+
+  /**
+   * Exports the latest version of every document. For a consistent export while writes continue, export a Snapshot
+   */
+  @Override
+  public void exportDocuments(File file) {
+    db.exportDocuments(file);
+  }
+
+  @Override
+  public void importDocuments(File file) {
+    if (openSnapshots.isEmpty()) {
+      db.importDocuments(file);
+    } else {
+      // sorted, then loaded one document at a time, so that each overwritten version is kept
+      Db.super.importDocuments(file);
+    }
+  }
+
+  @Override
+  public void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    if (openSnapshots.isEmpty()) {
+      db.bulkLoad(sortedEntries);
+    } else {
+      Db.super.bulkLoad(sortedEntries);
+    }
+  }
+
+  @Override
+  public int size() {
+    return db.size();
+  }
+
+  @Override
+  public DbStats stats() {
+    return db.stats();
+  }
+
+  @Override
+  public void clear() {
+    if (!openSnapshots.isEmpty()) {
+      List<byte[]> keys = new ArrayList<>();
+      try (RangeCursor cursor = db.cursor(null, null, false)) {
+        while (cursor.next()) {
+          keys.add(cursor.key());
+        }
+      }
+      keepPriorVersions(keys);
+    }
+    db.clear();
+  }
+
+  @Override
+  public List<ByteString> getRange(byte[] from, byte[] to) {
+    return db.getRange(from, to);
+  }
+
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return db.cursor(from, to, reverse);
+  }
+
+  @Override
+  public void commit(long sequenceNumber) {
+    db.commit(sequenceNumber);
+  }
+
+  @Override
+  public long committedSequenceNumber() {
+    return db.committedSequenceNumber();
+  }
+
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return db.supportsConcurrentWrites();
+  }
+
+  /**
+   * Closes the wrapped Db, if it can be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (db instanceof Closeable) {
+      ((Closeable) db).close();
+    }
+  }
+
+  /**
+   * Gives each open snapshot that still needs a version of a key the version the wrapped Db holds now. The version is
+   * read before the write it precedes, so a writer that finds its key already kept knows the kept version predates
+   * its own
+   */
+  private void keepPriorVersions(Collection<byte[]> keys) {
+    List<Snapshot> snapshots = openSnapshots;
+    if (snapshots.isEmpty()) {
+      return;
+    }
+    for (byte[] key : keys) {
+      ByteBuffer wrapped = ByteBuffer.wrap(key);
+      byte[] prior = null;
+      for (Snapshot snapshot : snapshots) {
+        if (!snapshot.needs(key, wrapped)) {
+          continue;
+        }
+        if (prior == null) {
+          List<ByteString> found = db.get(Collections.singletonList(ByteString.copyFrom(key)));
+          prior = found.isEmpty() ? ABSENT : found.get(0).toByteArray();
+        }
+        snapshot.keep(key, wrapped, prior);
+      }
+    }
+  }
+
+  /**
+   * The documents of a SnapshotDb as they were when the snapshot opened
+   */
+  public final class Snapshot implements Closeable {
+
+    private final long sequenceNumber;
+
+    // The version each key written since the snapshot opened had at that time, until an export has passed the key
+    private final ConcurrentMap<ByteBuffer, byte[]> versions = new ConcurrentHashMap<>();
+
+    // The last key an export has read, and whether it has read them all. Keys it has passed need no versions kept
+    private byte[] exportedThrough;
+    private boolean exported;
+
+    private Snapshot(long sequenceNumber) {
+      this.sequenceNumber = sequenceNumber;
+    }
+
+    public long sequenceNumber() {
+      return sequenceNumber;
+    }
+
+    /**
+     * Returns the number of earlier versions the snapshot holds, of keys written since it opened
+     */
+    public int keptVersionCount() {
+      return versions.size();
+    }
+
+    /**
+     * Exports every document as it was when the snapshot opened. The wrapped Db is read through a cursor, so writers
+     * wait at most for one batch of the scan. A snapshot can be exported once
+     */
+    public void exportDocuments(File file) {
+      synchronized (this) {
+        if (exportedThrough != null || exported) {
+          throw new IllegalStateException("A snapshot can only be exported once");
+        }
+      }
+      DatabaseExporter exporter = DatabaseExporter.get(file);
+      try {
+        try (RangeCursor cursor = db.cursor(null, null, false)) {
+          while (cursor.next()) {
+            byte[] key = cursor.key();
+            byte[] kept;
+            synchronized (this) {
+              kept = versions.remove(ByteBuffer.wrap(key));
+              exportedThrough = key;
+            }
+            if (kept == null) {
+              // nothing was kept, so the key hadn't been written since the snapshot opened when the cursor read it
+              exporter.log(cursor.value().toByteArray());
+            } else if (kept != ABSENT) {
+              exporter.log(kept);
+            }
+          }
+        }
+        synchronized (this) {
+          exported = true;
+        }
+        // what remains are documents deleted since the snapshot opened, before the scan could reach them
+        for (byte[] kept : versions.values()) {
+          if (kept != ABSENT) {
+            exporter.log(kept);
+          }
+        }
+      } catch (IOException e) {
+        loggerWriter.logError("Failed to export a snapshot to the database file " + file.toString(), e);
+        throw new RuntimePersistenceException("An IOException occurred exporting a snapshot of the database", e);
+      } finally {
+        exporter.close();
+      }
+    }
+
+    /**
+     * Stops keeping versions for this snapshot and releases those it holds
+     */
+    @Override
+    public void close() {
+      openSnapshots.remove(this);
+      versions.clear();
+    }
+
+    private synchronized boolean needs(byte[] key, ByteBuffer wrapped) {
+      return !passed(key) && !versions.containsKey(wrapped);
+    }
+
+    private synchronized void keep(byte[] key, ByteBuffer wrapped, byte[] prior) {
+      if (!passed(key)) {
+        versions.putIfAbsent(wrapped, prior);
+      }
+    }
+
+    private boolean passed(byte[] key) {
+      return exported || (exportedThrough != null && COMPARATOR.compare(key, exportedThrough) <= 0);
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package org.daboodb.daboo.server.db;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+
+/**
+ * A read-only SortedMap over entries already in key order, which does no more than hand them to TreeMap.putAll or
+ * the ConcurrentSkipListMap constructor. Both recognize a SortedMap with their own comparator and build from it in
+ * linear time, rather than inserting and rebalancing one entry at a time.
+ * <p>
+ * Lookups and the sub-map views binary search the entries; the views share the entries rather than copying them.
+ */
+final class SortedEntryMap extends AbstractMap<byte[], byte[]> implements SortedMap<byte[], byte[]> {
+
+  private final List<Map.Entry<byte[], byte[]>> entries;
+  private final Comparator<? super byte[]> comparator;
+
+  /**
+   * Returns a map of the entries, which must be in ascending order by the given comparator with no key repeated
+   */
+  static SortedEntryMap collect(Iterator<Map.Entry<byte[], byte[]>> sortedEntries,
+                                Comparator<? super byte[]> comparator) {
+    List<Map.Entry<byte[], byte[]>> entries = new ArrayList<>();
+    while (sortedEntries.hasNext()) {
+      entries.add(sortedEntries.next());
+    }
+    return new SortedEntryMap(entries, comparator);
+  }
+
+  private SortedEntryMap(List<Map.Entry<byte[], byte[]>> entries, Comparator<? super byte[]> comparator) {
+    this.entries = Collections.unmodifiableList(entries);
+    this.comparator = comparator;
+  }
+
+  @Override
+  public Comparator<? super byte[]> comparator() {
+    return comparator;
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  @Override
+  public Set<Map.Entry<byte[], byte[]>> entrySet() {
+    return new AbstractSet<Map.Entry<byte[], byte[]>>() {
+      @Override
+      public Iterator<Map.Entry<byte[], byte[]>> iterator() {
+        return entries.iterator();
+      }
+
+      @Override
+      public int size() {
+        return entries.size();
+      }
+    };
+  }
+
+  @Override
+  public byte[] firstKey() {
+    if (entries.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return entries.get(0).getKey();
+  }
+
+  @Override
+  public byte[] lastKey() {
+    if (entries.isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return entries.get(entries.size() - 1).getKey();
+  }
+
+  @Override
+  public byte[] get(Object key) {
+    int index = indexOf(key);
+    return index < 0 ? null : entries.get(index).getValue();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public SortedMap<byte[], byte[]> subMap(byte[] fromKey, byte[] toKey) {
+    if (comparator.compare(fromKey, toKey) > 0) {
+      throw new IllegalArgumentException("fromKey > toKey");
+    }
+    return view(lowerBound(fromKey), lowerBound(toKey));
+  }
+
+  @Override
+  public SortedMap<byte[], byte[]> headMap(byte[] toKey) {
+    return view(0, lowerBound(toKey));
+  }
+
+  @Override
+  public SortedMap<byte[], byte[]> tailMap(byte[] fromKey) {
+    return view(lowerBound(fromKey), entries.size());
+  }
+
+  private SortedEntryMap view(int from, int to) {
+    return new SortedEntryMap(entries.subList(from, to), comparator);
+  }
+
+  /**
+   * Returns the index of the entry with the key, or -1 if there is none
+   */
+  private int indexOf(Object key) {
+    if (!(key instanceof byte[])) {
+      return -1;
+    }
+    int index = lowerBound((byte[]) key);
+    return index < entries.size() && comparator.compare(entries.get(index).getKey(), (byte[]) key) == 0 ? index : -1;
+  }
+
+  /**
+   * Returns the index of the first entry whose key is not less than the given key, or the size if there is none
+   */
+  private int lowerBound(byte[] key) {
+    int low = 0;
+    int high = entries.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (comparator.compare(entries.get(middle).getKey(), key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+}
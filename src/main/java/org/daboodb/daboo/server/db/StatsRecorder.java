@@ -0,0 +1,165 @@
+package org.daboodb.daboo.server.db;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a Db's statistics current as documents are written and deleted, so they can be read without a scan.
+ * <p>
+ * Every counter is a LongAdder, which spreads concurrent updates over striped cells, so writers on different threads
+ * don't contend on the counters. A Db reports each change along with the value it replaced or removed, which its map
+ * hands back as part of the same atomic put or remove, so concurrent writes of one key are each counted once.
+ */
+final class StatsRecorder {
+
+  private final LongAdder entryCount = new LongAdder();
+  private final LongAdder keyBytes = new LongAdder();
+  private final LongAdder valueBytes = new LongAdder();
+  private final LongAdder[] keySizes = adders();
+  private final LongAdder[] valueSizes = adders();
+
+  /**
+   * Records that the key now holds the value, in place of the previous value, or of nothing if previous is null
+   */
+  void put(byte[] key, byte[] previous, byte[] value) {
+    if (previous == null) {
+      added(key.length, value.length);
+    } else {
+      replaced(previous.length, value.length);
+    }
+  }
+
+  /**
+   * Records that the key was removed, if previous, the value it held, is not null
+   */
+  void remove(byte[] key, byte[] previous) {
+    if (previous != null) {
+      removed(key.length, previous.length);
+    }
+  }
+
+  void added(int keyLength, int valueLength) {
+    entryCount.increment();
+    keyBytes.add(keyLength);
+    keySizes[DbStats.bucket(keyLength)].increment();
+    valueBytes.add(valueLength);
+    valueSizes[DbStats.bucket(valueLength)].increment();
+  }
+
+  void replaced(int previousLength, int valueLength) {
+    valueBytes.add(valueLength - previousLength);
+    valueSizes[DbStats.bucket(previousLength)].decrement();
+    valueSizes[DbStats.bucket(valueLength)].increment();
+  }
+
+  void removed(int keyLength, int valueLength) {
+    entryCount.decrement();
+    keyBytes.add(-keyLength);
+    keySizes[DbStats.bucket(keyLength)].decrement();
+    valueBytes.add(-valueLength);
+    valueSizes[DbStats.bucket(valueLength)].decrement();
+  }
+
+  /**
+   * Returns the entries, recording each as added as it is read. For bulk loads into an empty Db
+   */
+  Iterator<Map.Entry<byte[], byte[]>> counting(Iterator<Map.Entry<byte[], byte[]>> entries) {
+    return new Iterator<Map.Entry<byte[], byte[]>>() {
+      @Override
+      public boolean hasNext() {
+        return entries.hasNext();
+      }
+
+      @Override
+      public Map.Entry<byte[], byte[]> next() {
+        Map.Entry<byte[], byte[]> entry = entries.next();
+        added(entry.getKey().length, entry.getValue().length);
+        return entry;
+      }
+    };
+  }
+
+  /**
+   * Returns the number of entries, which is exact once concurrent writes have finished
+   */
+  int size() {
+    return (int) entryCount.sum();
+  }
+
+  void reset() {
+    entryCount.reset();
+    keyBytes.reset();
+    valueBytes.reset();
+    for (int i = 0; i < DbStats.BUCKET_COUNT; i++) {
+      keySizes[i].reset();
+      valueSizes[i].reset();
+    }
+  }
+
+  /**
+   * Returns the counters, for a Db to store with its documents: the entry count, key bytes and value bytes, then the
+   * key and value size histograms
+   */
+  long[] save() {
+    long[] saved = new long[3 + 2 * DbStats.BUCKET_COUNT];
+    saved[0] = entryCount.sum();
+    saved[1] = keyBytes.sum();
+    saved[2] = valueBytes.sum();
+    System.arraycopy(sums(keySizes), 0, saved, 3, DbStats.BUCKET_COUNT);
+    System.arraycopy(sums(valueSizes), 0, saved, 3 + DbStats.BUCKET_COUNT, DbStats.BUCKET_COUNT);
+    return saved;
+  }
+
+  /**
+   * Replaces the counters with ones returned by save(), returning false, and leaving the counters alone, if saved
+   * isn't such an array
+   */
+  boolean restore(long[] saved) {
+    if (saved == null || saved.length != 3 + 2 * DbStats.BUCKET_COUNT) {
+      return false;
+    }
+    reset();
+    entryCount.add(saved[0]);
+    keyBytes.add(saved[1]);
+    valueBytes.add(saved[2]);
+    for (int i = 0; i < DbStats.BUCKET_COUNT; i++) {
+      keySizes[i].add(saved[3 + i]);
+      valueSizes[i].add(saved[3 + DbStats.BUCKET_COUNT + i]);
+    }
+    return true;
+  }
+
+  DbStats stats() {
+    return new DbStats(entryCount.sum(), keyBytes.sum(), valueBytes.sum(), sums(keySizes), sums(valueSizes));
+  }
+
+  /**
+   * Returns the statistics of the documents the cursor reads, counted one by one. The cursor is closed
+   */
+  static DbStats scan(RangeCursor cursor) {
+    StatsRecorder recorder = new StatsRecorder();
+    try (RangeCursor documents = cursor) {
+      while (documents.next()) {
+        recorder.added(documents.key().length, documents.value().size());
+      }
+    }
+    return recorder.stats();
+  }
+
+  private static LongAdder[] adders() {
+    LongAdder[] adders = new LongAdder[DbStats.BUCKET_COUNT];
+    for (int i = 0; i < adders.length; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+
+  private static long[] sums(LongAdder[] adders) {
+    long[] sums = new long[adders.length];
+    for (int i = 0; i < adders.length; i++) {
+      sums[i] = adders[i].sum();
+    }
+    return sums;
+  }
+}
@@ -0,0 +1,273 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.tiered.ClockCache;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A Db that keeps its most used documents on the heap, in front of a cold Db that holds every document, so the data
+ * can outgrow the heap while hot reads stay fast.
+ * <p>
+ * The cold Db is an OffHeapBTreeDb by default, in direct memory or in a memory-mapped file. Writes and deletes go
+ * straight to it and drop any heap copy of the key, so demoting a document costs nothing: it is simply evicted. A get
+ * that misses the heap reads the cold Db and offers the document to the heap tier, a ClockCache limited to a budget of
+ * bytes, which evicts with CLOCK and only admits a key over its victim if the key has been used more often recently.
+ * Range reads and exports, which would mostly miss the heap anyway, go to the cold Db.
+ * <p>
+ * Gets that hit the heap take no lock: they read the ClockCache, which only sets the entry's referenced bit, under an
+ * optimistic read of a StampedLock. Only changes to the heap tier, offers and invalidations, take the write lock.
+ * <p>
+ * The share of gets served from the heap is available as hitRate().
+ */
+public class TieredDb implements Db, Closeable {
+
+  public static final long DEFAULT_HEAP_BUDGET_IN_BYTES = 1024 * 1024 * 64;  // 64 MB
+
+  private static final int STRIPES = 1024;
+
+  private final Db cold;
+  private final ClockCache hot;
+
+  // Write-locked to change hot or writeStamps; reads of them validate an optimistic read
+  private final StampedLock lock = new StampedLock();
+
+  // Bumped for a key's stripe whenever the key is written, so a get that read the cold Db before a write finished
+  // won't put the old document on the heap
+  private final long[] writeStamps = new long[STRIPES];
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public TieredDb() {
+    this(new OffHeapBTreeDb(), DEFAULT_HEAP_BUDGET_IN_BYTES);
+  }
+
+  /**
+   * Returns a db that keeps up to heapBudgetInBytes of documents on the heap, in front of the given cold db
+   */
+  public TieredDb(Db cold, long heapBudgetInBytes) {
+    this.cold = cold;
+    this.hot = new ClockCache(heapBudgetInBytes);
+  }
+
+  @Override
+  public void write(Map<byte[], byte[]> documentMap) {
+    cold.write(documentMap);
+    invalidate(documentMap.keySet());
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    cold.put(key, value);
+    invalidate(Collections.singletonList(key));
+  }
+
+  @Override
+  public void delete(List<Request.Document> documentList) {
+    cold.delete(documentList);
+    List<byte[]> keys = new ArrayList<>(documentList.size());
+    for (Request.Document document : documentList) {
+      keys.add(document.getKey().toByteArray());
+    }
+    invalidate(keys);
+  }
+
+  @Override
+  public void apply(WriteBatch batch) {
+    cold.apply(batch);
+    invalidate(batch.keys());
+  }
+
+  /**
+   * Returns the documents for the keys that exist, reading the cold Db only for keys that aren't on the heap. A get of
+   * several keys is served from the heap only if every key is there and the heap tier didn't change while they were
+   * read, since a WriteBatch may be applied to the cold Db between reads of separate keys; otherwise the cold Db
+   * serves them all in one read
+   */
+  @Override
+  public List<ByteString> get(List<ByteString> keyList) {
+    if (keyList.size() == 1) {
+      return get(keyList.get(0));
+    }
+    List<ByteString> docs = new ArrayList<>(keyList.size());
+    long optimistic = lock.tryOptimisticRead();
+    for (ByteString key : keyList) {
+      byte[] value = hot.get(key.toByteArray());
+      if (value == null) {
+        break;
+      }
+      docs.add(ByteString.copyFrom(value));
+    }
+    if (docs.size() == keyList.size() && lock.validate(optimistic)) {
+      hits.add(docs.size());
+      return docs;
+    }
+    misses.add(keyList.size());
+    return cold.get(keyList);
+  }
+
+  private List<ByteString> get(ByteString keyString) {
+    byte[] key = keyString.toByteArray();
+    int stripe = stripe(key);
+    long optimistic = lock.tryOptimisticRead();
+    byte[] value = hot.get(key);
+    long stamp = writeStamps[stripe];
+    // a stamp read while the heap tier was changing can't vouch for the cold read
+    boolean stampValid = lock.validate(optimistic);
+    if (value != null) {
+      hits.increment();
+      return Collections.singletonList(ByteString.copyFrom(value));
+    }
+    misses.increment();
+    List<ByteString> found = cold.get(Collections.singletonList(keyString));
+    if (!found.isEmpty() && stampValid) {
+      long writeStamp = lock.writeLock();
+      try {
+        if (writeStamps[stripe] == stamp) {
+          hot.offer(key, found.get(0).toByteArray());
+        }
+      } finally {
+        lock.unlockWrite(writeStamp);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public void exportDocuments(File file) {
+    cold.exportDocuments(file);
+  }
+
+  @Override
+  public void importDocuments(File file) {
+    cold.importDocuments(file);
+    invalidateAll();
+  }
+
+  @Override
+  public void bulkLoad(Iterator<Map.Entry<byte[], byte[]>> sortedEntries) {
+    cold.bulkLoad(sortedEntries);
+    invalidateAll();
+  }
+
+  @Override
+  public int size() {
+    return cold.size();
+  }
+
+  @Override
+  public DbStats stats() {
+    return cold.stats();
+  }
+
+  @Override
+  public void clear() {
+    cold.clear();
+    invalidateAll();
+  }
+
+  @Override
+  public List<ByteString> getRange(byte[] from, byte[] to) {
+    return cold.getRange(from, to);
+  }
+
+  @Override
+  public RangeCursor cursor(byte[] from, byte[] to, boolean reverse) {
+    return cold.cursor(from, to, reverse);
+  }
+
+  @Override
+  public void commit(long sequenceNumber) {
+    cold.commit(sequenceNumber);
+  }
+
+  @Override
+  public long committedSequenceNumber() {
+    return cold.committedSequenceNumber();
+  }
+
+  @Override
+  public boolean supportsConcurrentWrites() {
+    return cold.supportsConcurrentWrites();
+  }
+
+  /**
+   * Closes the cold Db, if it can be closed
+   */
+  @Override
+  public void close() throws IOException {
+    if (cold instanceof Closeable) {
+      ((Closeable) cold).close();
+    }
+  }
+
+  /**
+   * Returns the share of keys looked up that were served from the heap, since this Db was created
+   */
+  public double hitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0 : (double) hitCount / total;
+  }
+
+  /**
+   * Returns the number of documents on the heap
+   */
+  public int hotSize() {
+    return hot.size();
+  }
+
+  /**
+   * Returns the estimated heap held by the documents on the heap
+   */
+  public long hotSizeInBytes() {
+    long readStamp = lock.readLock();
+    try {
+      return hot.sizeInBytes();
+    } finally {
+      lock.unlockRead(readStamp);
+    }
+  }
+
+  private void invalidate(Collection<byte[]> keys) {
+    long writeStamp = lock.writeLock();
+    try {
+      for (byte[] key : keys) {
+        writeStamps[stripe(key)]++;
+        hot.remove(key);
+      }
+    } finally {
+      lock.unlockWrite(writeStamp);
+    }
+  }
+
+  private void invalidateAll() {
+    long writeStamp = lock.writeLock();
+    try {
+      for (int i = 0; i < STRIPES; i++) {
+        writeStamps[i]++;
+      }
+      hot.clear();
+    } finally {
+      lock.unlockWrite(writeStamp);
+    }
+  }
+
+  private static int stripe(byte[] key) {
+    int hash = Arrays.hashCode(key);
+    return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+  }
+}
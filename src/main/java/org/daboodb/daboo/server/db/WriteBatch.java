@@ -0,0 +1,53 @@
+package org.daboodb.daboo.server.db;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A set of puts and deletes that a Db applies atomically: a reader sees either none of them or all of them.
+ * <p>
+ * Operations are held in key order, and a later operation on a key replaces an earlier one. Keeping the keys sorted
+ * lets Dbs that lock parts of their key space take those locks in one global order, so batches can't deadlock.
+ */
+public final class WriteBatch {
+
+  // A null value marks a delete
+  private final TreeMap<byte[], byte[]> operations = new TreeMap<>(LexicographicComparator.SIGNED);
+
+  public WriteBatch put(byte[] key, byte[] value) {
+    operations.put(key, value);
+    return this;
+  }
+
+  public WriteBatch delete(byte[] key) {
+    operations.put(key, null);
+    return this;
+  }
+
+  /**
+   * Returns the operations in key order. An entry with a null value is a delete
+   */
+  public Set<Map.Entry<byte[], byte[]>> operations() {
+    return Collections.unmodifiableSet(operations.entrySet());
+  }
+
+  /**
+   * Returns the keys of every put and delete, in key order
+   */
+  public Collection<byte[]> keys() {
+    return Collections.unmodifiableSet(operations.keySet());
+  }
+
+  public int size() {
+    return operations.size();
+  }
+
+  public boolean isEmpty() {
+    return operations.isEmpty();
+  }
+}
@@ -0,0 +1,388 @@
+package org.daboodb.daboo.server.db.art;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * An ordered map from byte[] keys to byte[] values, stored as an adaptive radix tree.
+ * <p>
+ * Lookups walk the key one byte at a time, so they never compare whole keys except once, at the leaf. Inner nodes
+ * grow and shrink between four kinds (4, 16, 48 and 256 children) to keep the tree compact, chains of single-child
+ * nodes are collapsed into a prefix held by the node below (path compression), and a leaf is placed at the shallowest
+ * depth that distinguishes it (lazy expansion).
+ * <p>
+ * Keys are ordered like SignedBytes.lexicographicalComparator(), the order used by the other Dbs: each key byte is
+ * mapped to a digit by flipping its sign bit, so that digit order is signed byte order. A key that is a prefix of
+ * another sorts first. This class is not thread-safe.
+ */
+public final class AdaptiveRadixTree {
+
+  // Either null, a Leaf or a Node
+  private Object root;
+  private int size;
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    root = null;
+    size = 0;
+  }
+
+  public byte[] get(byte[] key) {
+    Object node = root;
+    int depth = 0;
+    while (node != null) {
+      if (node instanceof Leaf) {
+        Leaf leaf = (Leaf) node;
+        return Arrays.equals(leaf.key, key) ? leaf.value : null;
+      }
+      Node inner = (Node) node;
+      if (matchingPrefixLength(inner, key, depth) < inner.prefix.length) {
+        return null;
+      }
+      depth += inner.prefix.length;
+      if (depth == key.length) {
+        return inner.terminal == null ? null : inner.terminal.value;
+      }
+      node = inner.findChild(digit(key[depth]));
+      depth++;
+    }
+    return null;
+  }
+
+  /**
+   * Associates the value with the key, returning the previous value or null
+   */
+  public byte[] put(byte[] key, byte[] value) {
+    Object[] previous = new Object[1];
+    root = insert(root, key, value, 0, previous);
+    if (previous[0] == null) {
+      size++;
+    }
+    return (byte[]) previous[0];
+  }
+
+  /**
+   * Removes the key, returning its value or null
+   */
+  public byte[] remove(byte[] key) {
+    Object[] removed = new Object[1];
+    root = delete(root, key, 0, removed);
+    if (removed[0] != null) {
+      size--;
+    }
+    return (byte[]) removed[0];
+  }
+
+  /**
+   * Passes every key from from (inclusive) to to (exclusive), with its value, to the consumer in key order
+   */
+  public void forEachInRange(byte[] from, byte[] to, BiConsumer<byte[], byte[]> consumer) {
+    scan(from, to, false, (key, value) -> {
+      consumer.accept(key, value);
+      return true;
+    });
+  }
+
+  /**
+   * Passes every key, with its value, to the consumer in key order
+   */
+  public void forEach(BiConsumer<byte[], byte[]> consumer) {
+    forEachInRange(null, null, consumer);
+  }
+
+  /**
+   * Passes the keys from from (inclusive) to to (exclusive), with their values, to the visitor in ascending key order
+   * or, if reverse is true, descending, until the visitor returns false. Either bound may be null, meaning unbounded
+   */
+  public void scan(byte[] from, byte[] to, boolean reverse, EntryVisitor visitor) {
+    if (root == null) {
+      return;
+    }
+    if (reverse) {
+      visitDescending(root, 0, to != null, from, to, visitor);
+    } else {
+      visitAscending(root, 0, from != null, from, to, visitor);
+    }
+  }
+
+  private Object insert(Object node, byte[] key, byte[] value, int depth, Object[] previous) {
+    if (node == null) {
+      return new Leaf(key, value);
+    }
+
+    if (node instanceof Leaf) {
+      Leaf leaf = (Leaf) node;
+      if (Arrays.equals(leaf.key, key)) {
+        previous[0] = leaf.value;
+        leaf.value = value;
+        return leaf;
+      }
+      // replace the leaf with a node holding the part of the two keys they share
+      int end = depth;
+      int limit = Math.min(leaf.key.length, key.length);
+      while (end < limit && leaf.key[end] == key[end]) {
+        end++;
+      }
+      Node split = new Node4(Arrays.copyOfRange(key, depth, end));
+      return place(place(split, leaf, end), new Leaf(key, value), end);
+    }
+
+    Node inner = (Node) node;
+    int matched = matchingPrefixLength(inner, key, depth);
+    if (matched < inner.prefix.length) {
+      // the key leaves this node's prefix part way through: split the prefix
+      Node split = new Node4(Arrays.copyOf(inner.prefix, matched));
+      int digit = digit(inner.prefix[matched]);
+      inner.prefix = Arrays.copyOfRange(inner.prefix, matched + 1, inner.prefix.length);
+      split = split.addChild(digit, inner);
+      return place(split, new Leaf(key, value), depth + matched);
+    }
+
+    depth += inner.prefix.length;
+    if (depth == key.length) {
+      if (inner.terminal != null) {
+        previous[0] = inner.terminal.value;
+        inner.terminal.value = value;
+      } else {
+        inner.terminal = new Leaf(key, value);
+      }
+      return inner;
+    }
+    int digit = digit(key[depth]);
+    Object child = inner.findChild(digit);
+    if (child == null) {
+      return inner.addChild(digit, new Leaf(key, value));
+    }
+    Object updated = insert(child, key, value, depth + 1, previous);
+    if (updated != child) {
+      inner.replaceChild(digit, updated);
+    }
+    return inner;
+  }
+
+  /**
+   * Adds the leaf to a node whose prefix ends at the given depth, as its terminal or as a child
+   */
+  private static Node place(Node node, Leaf leaf, int depth) {
+    if (leaf.key.length == depth) {
+      node.terminal = leaf;
+      return node;
+    }
+    return node.addChild(digit(leaf.key[depth]), leaf);
+  }
+
+  private Object delete(Object node, byte[] key, int depth, Object[] removed) {
+    if (node == null) {
+      return null;
+    }
+    if (node instanceof Leaf) {
+      Leaf leaf = (Leaf) node;
+      if (Arrays.equals(leaf.key, key)) {
+        removed[0] = leaf.value;
+        return null;
+      }
+      return leaf;
+    }
+
+    Node inner = (Node) node;
+    if (matchingPrefixLength(inner, key, depth) < inner.prefix.length) {
+      return inner;
+    }
+    depth += inner.prefix.length;
+    if (depth == key.length) {
+      if (inner.terminal == null) {
+        return inner;
+      }
+      removed[0] = inner.terminal.value;
+      inner.terminal = null;
+      return collapse(inner);
+    }
+    int digit = digit(key[depth]);
+    Object child = inner.findChild(digit);
+    if (child == null) {
+      return inner;
+    }
+    Object updated = delete(child, key, depth + 1, removed);
+    if (updated == child) {
+      return inner;
+    }
+    if (updated == null) {
+      inner = inner.removeChild(digit);
+    } else {
+      inner.replaceChild(digit, updated);
+    }
+    return collapse(inner);
+  }
+
+  /**
+   * Replaces a node left with nothing, or with a single entry, by that entry
+   */
+  private static Object collapse(Node node) {
+    if (node.count == 0) {
+      return node.terminal;
+    }
+    if (node.count > 1 || node.terminal != null) {
+      return node;
+    }
+    int digit = node.nextDigit(0);
+    Object child = node.findChild(digit);
+    if (child instanceof Leaf) {
+      return child;
+    }
+    // merge this node's prefix and the digit into the child's prefix
+    Node only = (Node) child;
+    byte[] merged = new byte[node.prefix.length + 1 + only.prefix.length];
+    System.arraycopy(node.prefix, 0, merged, 0, node.prefix.length);
+    merged[node.prefix.length] = (byte) (digit ^ 0x80);
+    System.arraycopy(only.prefix, 0, merged, node.prefix.length + 1, only.prefix.length);
+    only.prefix = merged;
+    return only;
+  }
+
+  /**
+   * Visits the subtree in ascending key order, returning false once the scan should stop. While bounded is true, the
+   * path to this subtree equals the first depth bytes of from, so entries below from must be skipped
+   */
+  private static boolean visitAscending(Object node, int depth, boolean bounded, byte[] from, byte[] to,
+                                        EntryVisitor visitor) {
+    if (node instanceof Leaf) {
+      return visitLeaf((Leaf) node, from, to, false, visitor);
+    }
+    Node inner = (Node) node;
+    if (bounded) {
+      for (int i = 0; i < inner.prefix.length; i++) {
+        if (depth + i == from.length) {
+          bounded = false;
+          break;
+        }
+        int comparison = Integer.compare(digit(inner.prefix[i]), digit(from[depth + i]));
+        if (comparison < 0) {
+          // everything below this node sorts before from
+          return true;
+        }
+        if (comparison > 0) {
+          bounded = false;
+          break;
+        }
+      }
+    }
+    depth += inner.prefix.length;
+    if (inner.terminal != null && !visitLeaf(inner.terminal, from, to, false, visitor)) {
+      return false;
+    }
+    int start = 0;
+    if (bounded) {
+      if (depth < from.length) {
+        start = digit(from[depth]);
+      } else {
+        bounded = false;
+      }
+    }
+    for (int digit = inner.nextDigit(start); digit >= 0; digit = inner.nextDigit(digit + 1)) {
+      if (!visitAscending(inner.findChild(digit), depth + 1, bounded && digit == start, from, to, visitor)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Visits the subtree in descending key order, returning false once the scan should stop. While bounded is true, the
+   * path to this subtree equals the first depth bytes of to, so entries at or above to must be skipped
+   */
+  private static boolean visitDescending(Object node, int depth, boolean bounded, byte[] from, byte[] to,
+                                         EntryVisitor visitor) {
+    if (node instanceof Leaf) {
+      return visitLeaf((Leaf) node, from, to, true, visitor);
+    }
+    Node inner = (Node) node;
+    if (bounded) {
+      for (int i = 0; i < inner.prefix.length; i++) {
+        if (depth + i == to.length) {
+          // everything below this node extends to, so sorts after it
+          return true;
+        }
+        int comparison = Integer.compare(digit(inner.prefix[i]), digit(to[depth + i]));
+        if (comparison > 0) {
+          return true;
+        }
+        if (comparison < 0) {
+          bounded = false;
+          break;
+        }
+      }
+    }
+    depth += inner.prefix.length;
+    int start = 255;
+    if (bounded) {
+      if (depth == to.length) {
+        // the terminal equals to, and every child sorts after it
+        return true;
+      }
+      start = digit(to[depth]);
+    }
+    for (int digit = inner.prevDigit(start); digit >= 0; digit = inner.prevDigit(digit - 1)) {
+      if (!visitDescending(inner.findChild(digit), depth + 1, bounded && digit == start, from, to, visitor)) {
+        return false;
+      }
+    }
+    return inner.terminal == null || visitLeaf(inner.terminal, from, to, true, visitor);
+  }
+
+  /**
+   * Passes the leaf to the visitor if it is in range, returning false once the scan should stop
+   */
+  private static boolean visitLeaf(Leaf leaf, byte[] from, byte[] to, boolean reverse, EntryVisitor visitor) {
+    if (from != null && compare(leaf.key, from) < 0) {
+      return !reverse;
+    }
+    if (to != null && compare(leaf.key, to) >= 0) {
+      return reverse;
+    }
+    return visitor.visit(leaf.key, leaf.value);
+  }
+
+  /**
+   * Returns how many bytes of the node's prefix match the key from the given depth
+   */
+  private static int matchingPrefixLength(Node node, byte[] key, int depth) {
+    int limit = Math.min(node.prefix.length, key.length - depth);
+    int i = 0;
+    while (i < limit && node.prefix[i] == key[depth + i]) {
+      i++;
+    }
+    return i;
+  }
+
+  /**
+   * Maps a key byte to a digit from 0 to 255, so that digit order is signed byte order
+   */
+  private static int digit(byte b) {
+    return (b ^ 0x80) & 0xFF;
+  }
+
+  private static int compare(byte[] left, byte[] right) {
+    int limit = Math.min(left.length, right.length);
+    for (int i = 0; i < limit; i++) {
+      int comparison = Byte.compare(left[i], right[i]);
+      if (comparison != 0) {
+        return comparison;
+      }
+    }
+    return left.length - right.length;
+  }
+
+  /**
+   * Receives the entries of a scan
+   */
+  public interface EntryVisitor {
+
+    /**
+     * Accepts an entry, returning false to end the scan
+     */
+    boolean visit(byte[] key, byte[] value);
+  }
+}
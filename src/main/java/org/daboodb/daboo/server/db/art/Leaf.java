@@ -0,0 +1,16 @@
+package org.daboodb.daboo.server.db.art;
+
+/**
+ * A leaf of an adaptive radix tree. It holds its whole key, so a leaf can sit directly below the node where its key
+ * first differs from every other key, without a chain of single-child nodes above it
+ */
+final class Leaf {
+
+  final byte[] key;
+  byte[] value;
+
+  Leaf(byte[] key, byte[] value) {
+    this.key = key;
+    this.value = value;
+  }
+}
@@ -0,0 +1,65 @@
+package org.daboodb.daboo.server.db.art;
+
+/**
+ * An inner node of an adaptive radix tree.
+ * <p>
+ * A node consumes its compressed prefix, then one more key byte (a digit, from 0 to 255) to choose a child; a child is
+ * either another Node or a Leaf. A key that ends exactly at this node is held as its terminal leaf. Subclasses differ
+ * only in how they store their children, and are replaced by a larger or smaller kind as children come and go.
+ */
+abstract class Node {
+
+  // The key bytes shared by everything below this node, after the digit that led here
+  byte[] prefix;
+
+  // The leaf whose key ends after this node's prefix, if there is one
+  Leaf terminal;
+
+  int count;
+
+  Node(byte[] prefix) {
+    this.prefix = prefix;
+  }
+
+  /**
+   * Returns the child for the given digit, or null
+   */
+  abstract Object findChild(int digit);
+
+  /**
+   * Adds a child for a digit that has none, returning this node or, if it was full, a larger node holding its contents
+   */
+  abstract Node addChild(int digit, Object child);
+
+  /**
+   * Replaces the existing child for the given digit
+   */
+  abstract void replaceChild(int digit, Object child);
+
+  /**
+   * Removes the child for the given digit, returning this node or, if it is now sparse, a smaller node holding its
+   * contents
+   */
+  abstract Node removeChild(int digit);
+
+  /**
+   * Returns the smallest digit, at least from, that has a child, or -1 if there is none
+   */
+  abstract int nextDigit(int from);
+
+  /**
+   * Returns the largest digit, at most from, that has a child, or -1 if there is none
+   */
+  abstract int prevDigit(int from);
+
+  /**
+   * Copies the prefix, terminal and children of this node into the given node, and returns it
+   */
+  Node copyInto(Node target) {
+    target.terminal = terminal;
+    for (int digit = nextDigit(0); digit >= 0; digit = nextDigit(digit + 1)) {
+      target = target.addChild(digit, findChild(digit));
+    }
+    return target;
+  }
+}
@@ -0,0 +1,78 @@
+package org.daboodb.daboo.server.db.art;
+
+import java.util.Arrays;
+
+/**
+ * A node with up to sixteen children, whose digits are kept sorted and binary searched
+ */
+final class Node16 extends Node {
+
+  private static final int CAPACITY = 16;
+  private static final int SHRINK_THRESHOLD = 3;
+
+  private final int[] digits = new int[CAPACITY];
+  private final Object[] children = new Object[CAPACITY];
+
+  Node16(byte[] prefix) {
+    super(prefix);
+  }
+
+  @Override
+  Object findChild(int digit) {
+    int i = Arrays.binarySearch(digits, 0, count, digit);
+    return i >= 0 ? children[i] : null;
+  }
+
+  @Override
+  Node addChild(int digit, Object child) {
+    if (count == CAPACITY) {
+      return copyInto(new Node48(prefix)).addChild(digit, child);
+    }
+    int i = -(Arrays.binarySearch(digits, 0, count, digit) + 1);
+    System.arraycopy(digits, i, digits, i + 1, count - i);
+    System.arraycopy(children, i, children, i + 1, count - i);
+    digits[i] = digit;
+    children[i] = child;
+    count++;
+    return this;
+  }
+
+  @Override
+  void replaceChild(int digit, Object child) {
+    int i = Arrays.binarySearch(digits, 0, count, digit);
+    if (i >= 0) {
+      children[i] = child;
+    }
+  }
+
+  @Override
+  Node removeChild(int digit) {
+    int i = Arrays.binarySearch(digits, 0, count, digit);
+    if (i >= 0) {
+      System.arraycopy(digits, i + 1, digits, i, count - i - 1);
+      System.arraycopy(children, i + 1, children, i, count - i - 1);
+      count--;
+      children[count] = null;
+    }
+    return count <= SHRINK_THRESHOLD ? copyInto(new Node4(prefix)) : this;
+  }
+
+  @Override
+  int nextDigit(int from) {
+    int i = Arrays.binarySearch(digits, 0, count, from);
+    if (i < 0) {
+      i = -(i + 1);
+    }
+    return i < count ? digits[i] : -1;
+  }
+
+  @Override
+  int prevDigit(int from) {
+    int i = Arrays.binarySearch(digits, 0, count, from);
+    if (i >= 0) {
+      return digits[i];
+    }
+    i = -(i + 1);
+    return i > 0 ? digits[i - 1] : -1;
+  }
+}
@@ -0,0 +1,61 @@
+package org.daboodb.daboo.server.db.art;
+
+/**
+ * A node with a slot for every digit
+ */
+final class Node256 extends Node {
+
+  private static final int SHRINK_THRESHOLD = 40;
+
+  private final Object[] children = new Object[256];
+
+  Node256(byte[] prefix) {
+    super(prefix);
+  }
+
+  @Override
+  Object findChild(int digit) {
+    return children[digit];
+  }
+
+  @Override
+  Node addChild(int digit, Object child) {
+    children[digit] = child;
+    count++;
+    return this;
+  }
+
+  @Override
+  void replaceChild(int digit, Object child) {
+    children[digit] = child;
+  }
+
+  @Override
+  Node removeChild(int digit) {
+    if (children[digit] != null) {
+      children[digit] = null;
+      count--;
+    }
+    return count <= SHRINK_THRESHOLD ? copyInto(new Node48(prefix)) : this;
+  }
+
+  @Override
+  int nextDigit(int from) {
+    for (int digit = from; digit < 256; digit++) {
+      if (children[digit] != null) {
+        return digit;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  int prevDigit(int from) {
+    for (int digit = from; digit >= 0; digit--) {
+      if (children[digit] != null) {
+        return digit;
+      }
+    }
+    return -1;
+  }
+}
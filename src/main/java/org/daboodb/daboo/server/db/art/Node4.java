@@ -0,0 +1,87 @@
+package org.daboodb.daboo.server.db.art;
+
+/**
+ * A node with up to four children, whose digits are kept sorted and searched linearly
+ */
+final class Node4 extends Node {
+
+  private static final int CAPACITY = 4;
+
+  private final int[] digits = new int[CAPACITY];
+  private final Object[] children = new Object[CAPACITY];
+
+  Node4(byte[] prefix) {
+    super(prefix);
+  }
+
+  @Override
+  Object findChild(int digit) {
+    for (int i = 0; i < count; i++) {
+      if (digits[i] == digit) {
+        return children[i];
+      }
+    }
+    return null;
+  }
+
+  @Override
+  Node addChild(int digit, Object child) {
+    if (count == CAPACITY) {
+      return copyInto(new Node16(prefix)).addChild(digit, child);
+    }
+    int i = count;
+    while (i > 0 && digits[i - 1] > digit) {
+      digits[i] = digits[i - 1];
+      children[i] = children[i - 1];
+      i--;
+    }
+    digits[i] = digit;
+    children[i] = child;
+    count++;
+    return this;
+  }
+
+  @Override
+  void replaceChild(int digit, Object child) {
+    for (int i = 0; i < count; i++) {
+      if (digits[i] == digit) {
+        children[i] = child;
+        return;
+      }
+    }
+  }
+
+  @Override
+  Node removeChild(int digit) {
+    for (int i = 0; i < count; i++) {
+      if (digits[i] == digit) {
+        System.arraycopy(digits, i + 1, digits, i, count - i - 1);
+        System.arraycopy(children, i + 1, children, i, count - i - 1);
+        count--;
+        children[count] = null;
+        break;
+      }
+    }
+    return this;
+  }
+
+  @Override
+  int nextDigit(int from) {
+    for (int i = 0; i < count; i++) {
+      if (digits[i] >= from) {
+        return digits[i];
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  int prevDigit(int from) {
+    for (int i = count - 1; i >= 0; i--) {
+      if (digits[i] <= from) {
+        return digits[i];
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,75 @@
+package org.daboodb.daboo.server.db.art;
+
+/**
+ * A node with up to forty-eight children, found through a 256 entry table of child slots
+ */
+final class Node48 extends Node {
+
+  private static final int CAPACITY = 48;
+  private static final int SHRINK_THRESHOLD = 12;
+
+  // For each digit, one more than the index of its child, or 0 if it has none
+  private final byte[] childIndex = new byte[256];
+  private final Object[] children = new Object[CAPACITY];
+
+  Node48(byte[] prefix) {
+    super(prefix);
+  }
+
+  @Override
+  Object findChild(int digit) {
+    int index = childIndex[digit];
+    return index == 0 ? null : children[index - 1];
+  }
+
+  @Override
+  Node addChild(int digit, Object child) {
+    if (count == CAPACITY) {
+      return copyInto(new Node256(prefix)).addChild(digit, child);
+    }
+    int slot = 0;
+    while (children[slot] != null) {
+      slot++;
+    }
+    children[slot] = child;
+    childIndex[digit] = (byte) (slot + 1);
+    count++;
+    return this;
+  }
+
+  @Override
+  void replaceChild(int digit, Object child) {
+    children[childIndex[digit] - 1] = child;
+  }
+
+  @Override
+  Node removeChild(int digit) {
+    int index = childIndex[digit];
+    if (index != 0) {
+      children[index - 1] = null;
+      childIndex[digit] = 0;
+      count--;
+    }
+    return count <= SHRINK_THRESHOLD ? copyInto(new Node16(prefix)) : this;
+  }
+
+  @Override
+  int nextDigit(int from) {
+    for (int digit = from; digit < 256; digit++) {
+      if (childIndex[digit] != 0) {
+        return digit;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  int prevDigit(int from) {
+    for (int digit = from; digit >= 0; digit--) {
+      if (childIndex[digit] != 0) {
+        return digit;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,70 @@
+package org.daboodb.daboo.server.db.comparator;
+
+import com.google.common.primitives.UnsignedBytes;
+
+import java.util.Comparator;
+
+/**
+ * Compares byte arrays lexicographically, with bytes taken as either signed or unsigned values. SIGNED is the key
+ * order of every Db.
+ * <p>
+ * UNSIGNED is Guava's comparator, which compares eight bytes at a time where the JVM allows. SIGNED compares eight
+ * bytes at a time too, in plain Java: it assembles each run of eight into a big-endian long with shifts, and flips
+ * every byte's sign bit, so that comparing the longs as unsigned orders their bytes as signed. The last few bytes of
+ * the shorter array are compared one by one. Neither allocates.
+ */
+public enum LexicographicComparator implements Comparator<byte[]> {
+
+  /**
+   * Orders bytes from -128 to 127, like Guava's SignedBytes.lexicographicalComparator()
+   */
+  SIGNED {
+    private static final long SIGN_BITS = 0x8080808080808080L;
+
+    @Override
+    public int compare(byte[] left, byte[] right) {
+      int length = Math.min(left.length, right.length);
+      int words = length & ~7;
+      for (int i = 0; i < words; i += 8) {
+        long leftWord = bigEndianLong(left, i);
+        long rightWord = bigEndianLong(right, i);
+        if (leftWord != rightWord) {
+          return Long.compareUnsigned(leftWord ^ SIGN_BITS, rightWord ^ SIGN_BITS);
+        }
+      }
+      for (int i = words; i < length; i++) {
+        int result = left[i] - right[i];
+        if (result != 0) {
+          return result;
+        }
+      }
+      return left.length - right.length;
+    }
+  },
+
+  /**
+   * Orders bytes from 0 to 255, as Guava's UnsignedBytes.lexicographicalComparator()
+   */
+  UNSIGNED {
+    private final Comparator<byte[]> guava = UnsignedBytes.lexicographicalComparator();
+
+    @Override
+    public int compare(byte[] left, byte[] right) {
+      return guava.compare(left, right);
+    }
+  };
+
+  /**
+   * Returns the eight bytes from the offset as a long, the first byte the most significant
+   */
+  private static long bigEndianLong(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xffL) << 56
+        | (bytes[offset + 1] & 0xffL) << 48
+        | (bytes[offset + 2] & 0xffL) << 40
+        | (bytes[offset + 3] & 0xffL) << 32
+        | (bytes[offset + 4] & 0xffL) << 24
+        | (bytes[offset + 5] & 0xffL) << 16
+        | (bytes[offset + 6] & 0xffL) << 8
+        | bytes[offset + 7] & 0xffL;
+  }
+}
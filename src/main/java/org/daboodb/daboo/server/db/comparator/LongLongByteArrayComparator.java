@@ -1,6 +1,5 @@
 package org.daboodb.daboo.server.db.comparator;
 
-import java.util.Arrays;
 import java.util.Comparator;
 
 /**
@@ -10,6 +9,8 @@ import java.util.Comparator;
  * First, java.time.LocalDateTime is implemented as two longs, one for date and one for time
  * Second, java.util.UUID is implemented as two longs also, with the most significant and least significant returned
  * by appropriately named methods
+ * <p/>
+ * The longs are read in place, so comparing allocates nothing
  */
 public enum LongLongByteArrayComparator implements Comparator<byte[]> {
 
@@ -17,36 +18,21 @@ public enum LongLongByteArrayComparator implements Comparator<byte[]> {
 
   @Override
   public int compare(byte[] left, byte[] right) {
-
-    // first we have to get the correct bits
-    byte[] mostSignificantLeft = Arrays.copyOfRange(left, 0, 8);
-    byte[] mostSignificantRight = Arrays.copyOfRange(right, 0, 8);
-
-    // then we compare them
-    long a = asPrimitiveLong(mostSignificantLeft);
-    long b = asPrimitiveLong(mostSignificantRight);
-
-    int result = Long.compare(a, b);
+    int result = Long.compare(asPrimitiveLong(left, 0), asPrimitiveLong(right, 0));
     if (result != 0) {
       return result;
     }
-    byte[] leastSignificantLeft = Arrays.copyOfRange(left, 8, 16);
-    byte[] leastSignificantRight = Arrays.copyOfRange(right, 8, 16);
-
-    long c = asPrimitiveLong(leastSignificantLeft);
-    long d = asPrimitiveLong(leastSignificantRight);
-
-    return (c < d) ? -1 : ((c == d) ? 0 : 1);
+    return Long.compare(asPrimitiveLong(left, 8), asPrimitiveLong(right, 8));
   }
 
-  private long asPrimitiveLong(byte[] right) {
-    return (right[0] & 0xFFL) << 56
-        | (right[1] & 0xFFL) << 48
-        | (right[2] & 0xFFL) << 40
-        | (right[3] & 0xFFL) << 32
-        | (right[4] & 0xFFL) << 24
-        | (right[5] & 0xFFL) << 16
-        | (right[6] & 0xFFL) << 8
-        | (right[7] & 0xFFL);
+  private long asPrimitiveLong(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFFL) << 56
+        | (bytes[offset + 1] & 0xFFL) << 48
+        | (bytes[offset + 2] & 0xFFL) << 40
+        | (bytes[offset + 3] & 0xFFL) << 32
+        | (bytes[offset + 4] & 0xFFL) << 24
+        | (bytes[offset + 5] & 0xFFL) << 16
+        | (bytes[offset + 6] & 0xFFL) << 8
+        | (bytes[offset + 7] & 0xFFL);
   }
 }
@@ -0,0 +1,37 @@
+package org.daboodb.daboo.server.db.lsm;
+
+/**
+ * A single key and value as stored in a memtable or an SSTable. A null value marks a deleted key (a "tombstone")
+ */
+public final class Entry {
+
+  private final byte[] key;
+  private final byte[] value;
+
+  public Entry(byte[] key, byte[] value) {
+    this.key = key;
+    this.value = value;
+  }
+
+  public byte[] getKey() {
+    return key;
+  }
+
+  /**
+   * Returns the value, or null if this entry records a deletion
+   */
+  public byte[] getValue() {
+    return value;
+  }
+
+  public boolean isTombstone() {
+    return value == null;
+  }
+
+  /**
+   * Returns the number of bytes this entry occupies when encoded in an SSTable block
+   */
+  int encodedSize() {
+    return 8 + key.length + (value == null ? 0 : value.length);
+  }
+}
@@ -0,0 +1,86 @@
+package org.daboodb.daboo.server.db.lsm;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records which SSTables are live, and at what level, so an LSM tree can be reopened after a restart.
+ * <p>
+ * The manifest is a small text file with one line per table ("table level fileNumber", level 0 newest first) and a
+ * line holding the next file number to allocate. It is rewritten in full, and atomically renamed into place, every
+ * time the set of tables changes.
+ */
+public final class Manifest {
+
+  static final String FILE_NAME = "MANIFEST";
+
+  private final long nextFileNumber;
+  private final List<long[]> tables;
+
+  private Manifest(long nextFileNumber, List<long[]> tables) {
+    this.nextFileNumber = nextFileNumber;
+    this.tables = tables;
+  }
+
+  /**
+   * Reads the manifest in the given folder. A missing manifest describes an empty tree
+   */
+  public static Manifest read(File folder) throws IOException {
+    File file = new File(folder, FILE_NAME);
+    if (!file.exists()) {
+      return new Manifest(1, Collections.emptyList());
+    }
+    long nextFileNumber = 1;
+    List<long[]> tables = new ArrayList<>();
+    for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+      String[] parts = line.trim().split(" ");
+      if (parts[0].equals("next")) {
+        nextFileNumber = Long.parseLong(parts[1]);
+      } else if (parts[0].equals("table")) {
+        tables.add(new long[] {Long.parseLong(parts[1]), Long.parseLong(parts[2])});
+      }
+    }
+    return new Manifest(nextFileNumber, tables);
+  }
+
+  /**
+   * Atomically replaces the manifest in the given folder with one describing the given version
+   */
+  public static void write(File folder, Version version, long nextFileNumber) throws IOException {
+    File file = new File(folder, FILE_NAME);
+    File tempFile = new File(folder, FILE_NAME + ".tmp");
+    try (FileOutputStream fos = new FileOutputStream(tempFile);
+         Writer writer = new BufferedWriter(new OutputStreamWriter(fos, StandardCharsets.UTF_8))) {
+      writer.write("next " + nextFileNumber + "\n");
+      for (int level = 0; level < version.levelCount(); level++) {
+        for (SSTable table : version.level(level)) {
+          writer.write("table " + level + " " + table.getFileNumber() + "\n");
+        }
+      }
+      writer.flush();
+      fos.getChannel().force(true);
+    }
+    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  public long getNextFileNumber() {
+    return nextFileNumber;
+  }
+
+  /**
+   * Returns the live tables as {level, fileNumber} pairs, in the order they were recorded
+   */
+  public List<long[]> getTables() {
+    return tables;
+  }
+}
@@ -0,0 +1,94 @@
+package org.daboodb.daboo.server.db.lsm;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The in-memory, mutable part of an LSM tree. Writes land here first, and are flushed to an SSTable once the table
+ * grows past its configured size
+ */
+public class Memtable {
+
+  // Marks a deleted key. It is compared by identity, so it can never be confused with a real (empty) value
+  private static final byte[] TOMBSTONE = new byte[0];
+
+  private final ConcurrentSkipListMap<byte[], byte[]> store
+      = new ConcurrentSkipListMap<>(LexicographicComparator.SIGNED);
+
+  // An estimate of the bytes held, used to decide when to flush
+  private final AtomicLong sizeInBytes = new AtomicLong();
+
+  public void put(byte[] key, byte[] value) {
+    store.put(key, value);
+    sizeInBytes.addAndGet(key.length + value.length);
+  }
+
+  public void delete(byte[] key) {
+    store.put(key, TOMBSTONE);
+    sizeInBytes.addAndGet(key.length);
+  }
+
+  /**
+   * Returns the entry for the given key, or null if this table knows nothing about it. A returned entry may be a
+   * tombstone
+   */
+  public Entry get(byte[] key) {
+    byte[] value = store.get(key);
+    if (value == null) {
+      return null;
+    }
+    return new Entry(key, value == TOMBSTONE ? null : value);
+  }
+
+  /**
+   * Returns an iterator over entries, including tombstones, with keys from from (inclusive) to to (exclusive). Either
+   * bound may be null, meaning unbounded
+   */
+  public Iterator<Entry> iterator(byte[] from, byte[] to) {
+    return iterator(from, to, false);
+  }
+
+  /**
+   * Returns an iterator like iterator(from, to), in descending key order if reverse is true
+   */
+  public Iterator<Entry> iterator(byte[] from, byte[] to, boolean reverse) {
+    NavigableMap<byte[], byte[]> range = store;
+    if (from != null && to != null) {
+      range = store.subMap(from, true, to, false);
+    } else if (from != null) {
+      range = store.tailMap(from, true);
+    } else if (to != null) {
+      range = store.headMap(to, false);
+    }
+    if (reverse) {
+      range = range.descendingMap();
+    }
+    Iterator<Map.Entry<byte[], byte[]>> iterator = range.entrySet().iterator();
+    return new Iterator<Entry>() {
+      @Override
+      public boolean hasNext() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public Entry next() {
+        Map.Entry<byte[], byte[]> next = iterator.next();
+        byte[] value = next.getValue();
+        return new Entry(next.getKey(), value == TOMBSTONE ? null : value);
+      }
+    };
+  }
+
+  public long sizeInBytes() {
+    return sizeInBytes.get();
+  }
+
+  public boolean isEmpty() {
+    return store.isEmpty();
+  }
+}
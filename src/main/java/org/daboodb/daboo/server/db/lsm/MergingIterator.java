@@ -0,0 +1,92 @@
+package org.daboodb.daboo.server.db.lsm;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Merges several sorted entry iterators into one sorted iterator.
+ * <p>
+ * Sources are given newest first. When more than one source holds the same key, only the entry from the newest
+ * source is returned. Tombstones are returned like any other entry, so callers decide whether to drop them.
+ */
+public class MergingIterator implements Iterator<Entry> {
+
+  private static final Comparator<byte[]> COMPARATOR = LexicographicComparator.SIGNED;
+
+  private final PriorityQueue<Source> heap;
+
+  public MergingIterator(List<Iterator<Entry>> sources) {
+    this(sources, false);
+  }
+
+  /**
+   * Merges sources that are each sorted in descending key order, if reverse is true, into one descending iterator
+   */
+  public MergingIterator(List<Iterator<Entry>> sources, boolean reverse) {
+    heap = new PriorityQueue<>(Math.max(1, sources.size()), (a, b) -> {
+      int comparison = COMPARATOR.compare(a.current.getKey(), b.current.getKey());
+      if (reverse) {
+        comparison = -comparison;
+      }
+      return comparison != 0 ? comparison : Integer.compare(a.rank, b.rank);
+    });
+    for (int i = 0; i < sources.size(); i++) {
+      Iterator<Entry> iterator = sources.get(i);
+      if (iterator.hasNext()) {
+        heap.add(new Source(i, iterator));
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !heap.isEmpty();
+  }
+
+  @Override
+  public Entry next() {
+    Source newest = heap.poll();
+    if (newest == null) {
+      throw new NoSuchElementException();
+    }
+    Entry result = newest.current;
+
+    // skip older versions of the same key
+    while (!heap.isEmpty() && COMPARATOR.compare(heap.peek().current.getKey(), result.getKey()) == 0) {
+      Source older = heap.poll();
+      if (older.advance()) {
+        heap.add(older);
+      }
+    }
+    if (newest.advance()) {
+      heap.add(newest);
+    }
+    return result;
+  }
+
+  private static class Source {
+
+    private final int rank;
+    private final Iterator<Entry> iterator;
+    private Entry current;
+
+    Source(int rank, Iterator<Entry> iterator) {
+      this.rank = rank;
+      this.iterator = iterator;
+      this.current = iterator.next();
+    }
+
+    boolean advance() {
+      if (iterator.hasNext()) {
+        current = iterator.next();
+        return true;
+      }
+      return false;
+    }
+  }
+}
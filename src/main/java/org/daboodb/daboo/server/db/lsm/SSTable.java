@@ -0,0 +1,334 @@
+package org.daboodb.daboo.server.db.lsm;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, sorted file of entries, as written by SSTableWriter.
+ * <p>
+ * Only the block index is held in memory. Point lookups binary-search the index and then read and scan a single
+ * block; range scans read blocks one at a time as they advance. All reads use positional reads on a shared
+ * FileChannel, so an SSTable can be used by many threads at once.
+ */
+public class SSTable implements Closeable {
+
+  private static final Comparator<byte[]> COMPARATOR = LexicographicComparator.SIGNED;
+
+  private final File file;
+  private final long fileNumber;
+  private final FileChannel channel;
+
+  private final byte[][] blockFirstKeys;
+  private final long[] blockOffsets;
+  private final int[] blockLengths;
+
+  private final byte[] smallestKey;
+  private final byte[] largestKey;
+  private final long entryCount;
+  private final long sizeInBytes;
+
+  public static SSTable open(File file, long fileNumber) throws IOException {
+    return new SSTable(file, fileNumber);
+  }
+
+  private SSTable(File file, long fileNumber) throws IOException {
+    this.file = file;
+    this.fileNumber = fileNumber;
+    this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    this.sizeInBytes = channel.size();
+
+    try {
+      if (sizeInBytes < SSTableWriter.FOOTER_SIZE) {
+        throw new IOException("SSTable " + file + " is too short to hold a footer");
+      }
+      ByteBuffer footer = read(sizeInBytes - SSTableWriter.FOOTER_SIZE, SSTableWriter.FOOTER_SIZE);
+      long indexOffset = footer.getLong();
+      int indexLength = footer.getInt();
+      entryCount = footer.getLong();
+      if (footer.getLong() != SSTableWriter.MAGIC) {
+        throw new IOException("SSTable " + file + " has a bad magic number");
+      }
+
+      ByteBuffer index = read(indexOffset, indexLength);
+      largestKey = new byte[index.getInt()];
+      index.get(largestKey);
+      int blockCount = index.getInt();
+      blockFirstKeys = new byte[blockCount][];
+      blockOffsets = new long[blockCount];
+      blockLengths = new int[blockCount];
+      for (int i = 0; i < blockCount; i++) {
+        blockFirstKeys[i] = new byte[index.getInt()];
+        index.get(blockFirstKeys[i]);
+        blockOffsets[i] = index.getLong();
+        blockLengths[i] = index.getInt();
+      }
+      smallestKey = blockCount == 0 ? new byte[0] : blockFirstKeys[0];
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Returns the entry for the given key, or null if the key is not in this table. A returned entry may be a tombstone
+   */
+  public Entry get(byte[] key) throws IOException {
+    if (entryCount == 0 || COMPARATOR.compare(key, smallestKey) < 0 || COMPARATOR.compare(key, largestKey) > 0) {
+      return null;
+    }
+    int blockIndex = findBlock(key);
+    ByteBuffer block = readBlock(blockIndex);
+    while (block.hasRemaining()) {
+      Entry entry = readEntry(block);
+      int comparison = COMPARATOR.compare(entry.getKey(), key);
+      if (comparison == 0) {
+        return entry;
+      }
+      if (comparison > 0) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns an iterator over entries, including tombstones, with keys from from (inclusive) to to (exclusive). Either
+   * bound may be null, meaning unbounded.
+   * <p>
+   * The iterator throws UncheckedIOException if a block cannot be read
+   */
+  public Iterator<Entry> iterator(byte[] from, byte[] to) {
+    return new TableIterator(from, to);
+  }
+
+  /**
+   * Returns an iterator like iterator(from, to), in descending key order if reverse is true. A descending iterator
+   * reads the blocks from last to first, decoding each one whole
+   */
+  public Iterator<Entry> iterator(byte[] from, byte[] to, boolean reverse) {
+    return reverse ? new ReverseTableIterator(from, to) : new TableIterator(from, to);
+  }
+
+  /**
+   * Returns true if any key in this table might fall in the range from (inclusive) to to (inclusive)
+   */
+  public boolean overlaps(byte[] from, byte[] to) {
+    return entryCount > 0
+        && COMPARATOR.compare(largestKey, from) >= 0
+        && COMPARATOR.compare(smallestKey, to) <= 0;
+  }
+
+  public byte[] getSmallestKey() {
+    return smallestKey;
+  }
+
+  public byte[] getLargestKey() {
+    return largestKey;
+  }
+
+  public long getFileNumber() {
+    return fileNumber;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  public long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Returns the index of the last block whose first key is <= key, or 0 if there is none
+   */
+  private int findBlock(byte[] key) {
+    int low = 0;
+    int high = blockFirstKeys.length - 1;
+    int result = 0;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      if (COMPARATOR.compare(blockFirstKeys[mid], key) <= 0) {
+        result = mid;
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return result;
+  }
+
+  private ByteBuffer readBlock(int blockIndex) throws IOException {
+    return read(blockOffsets[blockIndex], blockLengths[blockIndex]);
+  }
+
+  private ByteBuffer read(long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new EOFException("Unexpected end of SSTable " + file);
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  private static Entry readEntry(ByteBuffer block) {
+    byte[] key = new byte[block.getInt()];
+    int valueLength = block.getInt();
+    block.get(key);
+    byte[] value = null;
+    if (valueLength >= 0) {
+      value = new byte[valueLength];
+      block.get(value);
+    }
+    return new Entry(key, value);
+  }
+
+  /**
+   * Iterates over a key range, reading one block at a time
+   */
+  private class TableIterator implements Iterator<Entry> {
+
+    private final byte[] to;
+    private int blockIndex;
+    private ByteBuffer block;
+    private Entry next;
+
+    TableIterator(byte[] from, byte[] to) {
+      this.to = to;
+      this.blockIndex = from == null ? 0 : findBlock(from);
+      advance();
+      while (next != null && from != null && COMPARATOR.compare(next.getKey(), from) < 0) {
+        advance();
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Entry next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      Entry result = next;
+      advance();
+      return result;
+    }
+
+    private void advance() {
+      try {
+        while (block == null || !block.hasRemaining()) {
+          if (blockIndex >= blockFirstKeys.length) {
+            next = null;
+            return;
+          }
+          block = readBlock(blockIndex++);
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read a block from SSTable " + file, e);
+      }
+      next = readEntry(block);
+      if (to != null && COMPARATOR.compare(next.getKey(), to) >= 0) {
+        next = null;
+        blockIndex = blockFirstKeys.length;
+      }
+    }
+  }
+
+  /**
+   * Iterates over a key range in descending order, reading one block at a time from the end of the range
+   */
+  private class ReverseTableIterator implements Iterator<Entry> {
+
+    private final byte[] from;
+    private final byte[] to;
+    private int blockIndex;
+    private final List<Entry> block = new ArrayList<>();
+    private int position;
+    private Entry next;
+
+    ReverseTableIterator(byte[] from, byte[] to) {
+      this.from = from;
+      this.to = to;
+      this.blockIndex = to == null ? blockFirstKeys.length - 1 : findBlock(to);
+      advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Entry next() {
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      Entry result = next;
+      advance();
+      return result;
+    }
+
+    private void advance() {
+      while (true) {
+        while (position == 0) {
+          if (blockIndex < 0) {
+            next = null;
+            return;
+          }
+          readBlockEntries(blockIndex--);
+        }
+        next = block.get(--position);
+        if (from != null && COMPARATOR.compare(next.getKey(), from) < 0) {
+          next = null;
+          blockIndex = -1;
+          position = 0;
+          return;
+        }
+        if (to == null || COMPARATOR.compare(next.getKey(), to) < 0) {
+          return;
+        }
+      }
+    }
+
+    private void readBlockEntries(int index) {
+      ByteBuffer buffer;
+      try {
+        buffer = readBlock(index);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read a block from SSTable " + file, e);
+      }
+      block.clear();
+      while (buffer.hasRemaining()) {
+        block.add(readEntry(buffer));
+      }
+      position = block.size();
+    }
+  }
+}
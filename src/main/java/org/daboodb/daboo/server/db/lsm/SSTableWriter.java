@@ -0,0 +1,152 @@
+package org.daboodb.daboo.server.db.lsm;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a sorted sequence of entries to a new, immutable SSTable file.
+ * <p>
+ * The file is laid out as a sequence of data blocks, followed by an index holding the first key and position of each
+ * block, followed by a fixed-size footer:
+ * <pre>
+ *   data block:  ( [keyLength int][valueLength int, -1 for a tombstone][key][value] )*
+ *   index:       [largestKeyLength int][largestKey][blockCount int]
+ *                ( [firstKeyLength int][firstKey][blockOffset long][blockLength int] )*
+ *   footer:      [indexOffset long][indexLength int][entryCount long][magic long]
+ * </pre>
+ * Entries must be added in ascending key order. The file is written under a temporary name, forced to disk, and
+ * then renamed, so a crash never leaves a partially written table behind under its final name.
+ */
+public class SSTableWriter implements Closeable {
+
+  static final long MAGIC = 0xDAB0_0DB0_55AB_1E01L;
+  static final int FOOTER_SIZE = 8 + 4 + 8 + 8;
+
+  private final File file;
+  private final File tempFile;
+  private final int blockSizeInBytes;
+
+  private final FileOutputStream fileOutputStream;
+  private final DataOutputStream output;
+
+  private final ByteArrayOutputStream blockBuffer = new ByteArrayOutputStream();
+  private final DataOutputStream block = new DataOutputStream(blockBuffer);
+
+  private final List<byte[]> blockFirstKeys = new ArrayList<>();
+  private final List<Long> blockOffsets = new ArrayList<>();
+  private final List<Integer> blockLengths = new ArrayList<>();
+
+  private byte[] currentBlockFirstKey;
+  private byte[] lastKey;
+  private long offset = 0;
+  private long entryCount = 0;
+
+  public SSTableWriter(File file, int blockSizeInBytes) throws IOException {
+    this.file = file;
+    this.tempFile = new File(file.getPath() + ".tmp");
+    this.blockSizeInBytes = blockSizeInBytes;
+    this.fileOutputStream = new FileOutputStream(tempFile);
+    this.output = new DataOutputStream(new BufferedOutputStream(fileOutputStream, 64 * 1024));
+  }
+
+  /**
+   * Appends an entry (which may be a tombstone) to the table
+   */
+  public void add(Entry entry) throws IOException {
+    if (currentBlockFirstKey == null) {
+      currentBlockFirstKey = entry.getKey();
+    }
+    byte[] key = entry.getKey();
+    byte[] value = entry.getValue();
+    block.writeInt(key.length);
+    block.writeInt(value == null ? -1 : value.length);
+    block.write(key);
+    if (value != null) {
+      block.write(value);
+    }
+    lastKey = key;
+    entryCount++;
+
+    if (blockBuffer.size() >= blockSizeInBytes) {
+      flushBlock();
+    }
+  }
+
+  /**
+   * Returns the approximate size of the file written so far
+   */
+  public long estimatedSizeInBytes() {
+    return offset + blockBuffer.size();
+  }
+
+  public long getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * Writes the index and footer, forces the file to disk and moves it to its final name
+   */
+  public void finish() throws IOException {
+    flushBlock();
+
+    long indexOffset = offset;
+    ByteArrayOutputStream indexBuffer = new ByteArrayOutputStream();
+    DataOutputStream index = new DataOutputStream(indexBuffer);
+    byte[] largestKey = lastKey == null ? new byte[0] : lastKey;
+    index.writeInt(largestKey.length);
+    index.write(largestKey);
+    index.writeInt(blockFirstKeys.size());
+    for (int i = 0; i < blockFirstKeys.size(); i++) {
+      byte[] firstKey = blockFirstKeys.get(i);
+      index.writeInt(firstKey.length);
+      index.write(firstKey);
+      index.writeLong(blockOffsets.get(i));
+      index.writeInt(blockLengths.get(i));
+    }
+    index.flush();
+    indexBuffer.writeTo(output);
+
+    output.writeLong(indexOffset);
+    output.writeInt(indexBuffer.size());
+    output.writeLong(entryCount);
+    output.writeLong(MAGIC);
+    output.flush();
+    fileOutputStream.getChannel().force(true);
+    output.close();
+
+    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Abandons the table, removing anything written so far
+   */
+  @Override
+  public void close() throws IOException {
+    output.close();
+    Files.deleteIfExists(tempFile.toPath());
+  }
+
+  private void flushBlock() throws IOException {
+    if (blockBuffer.size() == 0) {
+      return;
+    }
+    block.flush();
+    blockFirstKeys.add(currentBlockFirstKey);
+    blockOffsets.add(offset);
+    blockLengths.add(blockBuffer.size());
+
+    blockBuffer.writeTo(output);
+    offset += blockBuffer.size();
+    blockBuffer.reset();
+    currentBlockFirstKey = null;
+  }
+}
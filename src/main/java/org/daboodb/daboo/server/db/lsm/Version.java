@@ -0,0 +1,141 @@
+package org.daboodb.daboo.server.db.lsm;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The set of live SSTables, arranged by level.
+ * <p>
+ * Level 0 holds freshly flushed tables, newest first, whose key ranges may overlap. Every other level holds tables
+ * with disjoint key ranges, sorted by key. A Version is never modified: flushes and compactions produce a new one.
+ */
+@Immutable
+public final class Version {
+
+  private static final Comparator<byte[]> COMPARATOR = LexicographicComparator.SIGNED;
+
+  private final List<List<SSTable>> levels;
+
+  public static Version empty(int levelCount) {
+    List<List<SSTable>> levels = new ArrayList<>();
+    for (int i = 0; i < levelCount; i++) {
+      levels.add(Collections.emptyList());
+    }
+    return new Version(levels);
+  }
+
+  /**
+   * Returns a version holding the given levels. Level 0 must be ordered newest first; other levels are sorted here
+   */
+  public static Version create(List<List<SSTable>> levels) {
+    List<List<SSTable>> sorted = new ArrayList<>();
+    for (int level = 0; level < levels.size(); level++) {
+      List<SSTable> tables = new ArrayList<>(levels.get(level));
+      if (level > 0) {
+        tables.sort((a, b) -> COMPARATOR.compare(a.getSmallestKey(), b.getSmallestKey()));
+      }
+      sorted.add(tables);
+    }
+    return new Version(sorted);
+  }
+
+  private Version(List<List<SSTable>> levels) {
+    List<List<SSTable>> copy = new ArrayList<>();
+    for (List<SSTable> level : levels) {
+      copy.add(Collections.unmodifiableList(new ArrayList<>(level)));
+    }
+    this.levels = Collections.unmodifiableList(copy);
+  }
+
+  public int levelCount() {
+    return levels.size();
+  }
+
+  public List<SSTable> level(int level) {
+    return levels.get(level);
+  }
+
+  public long levelSizeInBytes(int level) {
+    long size = 0;
+    for (SSTable table : levels.get(level)) {
+      size += table.sizeInBytes();
+    }
+    return size;
+  }
+
+  public List<SSTable> allTables() {
+    List<SSTable> tables = new ArrayList<>();
+    for (List<SSTable> level : levels) {
+      tables.addAll(level);
+    }
+    return tables;
+  }
+
+  /**
+   * Returns the tables in the given level whose key range overlaps from..to (both inclusive)
+   */
+  public List<SSTable> overlapping(int level, byte[] from, byte[] to) {
+    List<SSTable> result = new ArrayList<>();
+    for (SSTable table : levels.get(level)) {
+      if (table.overlaps(from, to)) {
+        result.add(table);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the one table in a sorted level (level 1 or higher) that may contain the given key, or null
+   */
+  public SSTable findInSortedLevel(int level, byte[] key) {
+    List<SSTable> tables = levels.get(level);
+    int low = 0;
+    int high = tables.size() - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      SSTable table = tables.get(mid);
+      if (COMPARATOR.compare(table.getLargestKey(), key) < 0) {
+        low = mid + 1;
+      } else if (COMPARATOR.compare(table.getSmallestKey(), key) > 0) {
+        high = mid - 1;
+      } else {
+        return table;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a new version with the given table added as the newest table in level 0
+   */
+  public Version withFlushedTable(SSTable table) {
+    List<List<SSTable>> copy = new ArrayList<>(levels);
+    List<SSTable> level0 = new ArrayList<>();
+    level0.add(table);
+    level0.addAll(levels.get(0));
+    copy.set(0, level0);
+    return new Version(copy);
+  }
+
+  /**
+   * Returns a new version with the inputs of a compaction removed and its outputs added to the output level
+   */
+  public Version withCompaction(Collection<SSTable> inputs, int outputLevel, List<SSTable> outputs) {
+    List<List<SSTable>> copy = new ArrayList<>();
+    for (List<SSTable> level : levels) {
+      List<SSTable> remaining = new ArrayList<>(level);
+      remaining.removeAll(inputs);
+      copy.add(remaining);
+    }
+    List<SSTable> target = copy.get(outputLevel);
+    target.addAll(outputs);
+    target.sort((a, b) -> COMPARATOR.compare(a.getSmallestKey(), b.getSmallestKey()));
+    return new Version(copy);
+  }
+}
@@ -0,0 +1,450 @@
+package org.daboodb.daboo.server.db.slab;
+
+import com.google.protobuf.ByteString;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores byte arrays off-heap, in slabs of direct memory divided into fixed-size chunks.
+ * <p>
+ * Each record is a value and, optionally, the key it is stored under. Records are grouped into size classes, each 25%
+ * larger than the last, and each is stored, behind the 4 byte lengths of its key and value, in a chunk of the smallest
+ * class that fits it. A slab belongs to one size class. Freed chunks go on their class's free list and are reused
+ * before a slab is extended or a new slab is allocated. Records too large for any class get a direct buffer of their
+ * own.
+ * <p>
+ * A stored record is identified by a handle that encodes its size class, slab and chunk. Defragmentation moves the
+ * records out of sparsely used slabs, giving those slabs back, and so changes handles; callers pass in their index so
+ * it can be updated as records move.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class SlabAllocator {
+
+  public static final int DEFAULT_SLAB_SIZE_IN_BYTES = 1024 * 1024;
+
+  private static final int MIN_CHUNK_SIZE = 32;
+  private static final double GROWTH_FACTOR = 1.25;
+  // The key's length, then the value's
+  private static final int HEADER_SIZE_IN_BYTES = 8;
+
+  private static final byte[] NO_KEY = new byte[0];
+
+  // A slab whose live chunks fill less than this fraction of it is evacuated by defragmentation
+  private static final double SPARSE_SLAB_FRACTION = 0.25;
+
+  // Handle layout: [size class: 8 bits][slab: 28 bits][chunk: 28 bits]
+  private static final int HUGE_CLASS = 0xFF;
+  private static final int SLAB_SHIFT = 28;
+  private static final int CLASS_SHIFT = 56;
+  private static final long INDEX_MASK = (1L << 28) - 1;
+
+  private final int slabSizeInBytes;
+  private final SizeClass[] sizeClasses;
+
+  // Slabs and huge buffers, indexed by the slab number in a handle. Released slots are null, and reused
+  private final List<Slab> slabs = new ArrayList<>();
+  private final LongStack freeSlabSlots = new LongStack();
+
+  private long slabBytes;
+  private long liveBytes;
+
+  public SlabAllocator() {
+    this(DEFAULT_SLAB_SIZE_IN_BYTES);
+  }
+
+  public SlabAllocator(int slabSizeInBytes) {
+    this.slabSizeInBytes = slabSizeInBytes;
+    List<SizeClass> classes = new ArrayList<>();
+    int chunkSize = MIN_CHUNK_SIZE;
+    while (chunkSize <= slabSizeInBytes) {
+      classes.add(new SizeClass(classes.size(), chunkSize, slabSizeInBytes / chunkSize));
+      // round up to a multiple of 8 bytes
+      chunkSize = (((int) (chunkSize * GROWTH_FACTOR)) + 7) & ~7;
+    }
+    this.sizeClasses = classes.toArray(new SizeClass[classes.size()]);
+  }
+
+  /**
+   * Copies the value into off-heap memory, returning the handle by which it can be read or freed
+   */
+  public long allocate(byte[] value) {
+    return allocate(NO_KEY, value);
+  }
+
+  /**
+   * Copies the key and value into off-heap memory, returning the handle by which they can be read or freed
+   */
+  public long allocate(byte[] key, byte[] value) {
+    int needed = HEADER_SIZE_IN_BYTES + key.length + value.length;
+    SizeClass sizeClass = classFor(needed);
+    long handle;
+    if (sizeClass == null) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(needed);
+      Slab huge = new Slab(HUGE_CLASS, buffer, 1);
+      int slot = addSlab(huge);
+      slabBytes += needed;
+      handle = handle(HUGE_CLASS, slot, 0);
+    } else {
+      handle = sizeClass.allocate();
+    }
+    Slab slab = slab(handle);
+    int offset = offset(handle);
+    slab.buffer.putInt(offset, key.length);
+    slab.buffer.putInt(offset + 4, value.length);
+    ByteBuffer target = slab.buffer.duplicate();
+    target.position(offset + HEADER_SIZE_IN_BYTES);
+    target.put(key);
+    target.put(value);
+    slab.live++;
+    liveBytes += key.length + value.length;
+    return handle;
+  }
+
+  /**
+   * Returns the value with the given handle, copied directly from off-heap memory
+   */
+  public ByteString read(long handle) {
+    Slab slab = slab(handle);
+    int offset = offset(handle);
+    int start = offset + HEADER_SIZE_IN_BYTES + slab.buffer.getInt(offset);
+    ByteBuffer source = slab.buffer.duplicate();
+    source.position(start);
+    source.limit(start + slab.buffer.getInt(offset + 4));
+    return ByteString.copyFrom(source);
+  }
+
+  /**
+   * Returns a copy of the key stored with the given handle
+   */
+  public byte[] readKey(long handle) {
+    Slab slab = slab(handle);
+    int offset = offset(handle);
+    byte[] key = new byte[slab.buffer.getInt(offset)];
+    ByteBuffer source = slab.buffer.duplicate();
+    source.position(offset + HEADER_SIZE_IN_BYTES);
+    source.get(key);
+    return key;
+  }
+
+  /**
+   * Compares the key stored with the given handle to the given key, as signed bytes, without copying it
+   */
+  public int compareKey(long handle, byte[] key) {
+    Slab slab = slab(handle);
+    int offset = offset(handle);
+    int length = slab.buffer.getInt(offset);
+    int start = offset + HEADER_SIZE_IN_BYTES;
+    int common = Math.min(length, key.length);
+    for (int i = 0; i < common; i++) {
+      int result = slab.buffer.get(start + i) - key[i];
+      if (result != 0) {
+        return result;
+      }
+    }
+    return length - key.length;
+  }
+
+  /**
+   * Returns the length of the value with the given handle
+   */
+  public int length(long handle) {
+    return slab(handle).buffer.getInt(offset(handle) + 4);
+  }
+
+  /**
+   * Releases the chunk holding the record with the given handle
+   */
+  public void free(long handle) {
+    Slab slab = slab(handle);
+    int offset = offset(handle);
+    liveBytes -= slab.buffer.getInt(offset) + slab.buffer.getInt(offset + 4);
+    slab.live--;
+    int sizeClass = sizeClass(handle);
+    if (sizeClass == HUGE_CLASS) {
+      slabBytes -= slab.buffer.capacity();
+      releaseSlab(slabIndex(handle));
+    } else {
+      sizeClasses[sizeClass].freeChunks.push(handle);
+    }
+  }
+
+  /**
+   * Releases every slab
+   */
+  public void clear() {
+    slabs.clear();
+    freeSlabSlots.clear();
+    for (SizeClass sizeClass : sizeClasses) {
+      sizeClass.clear();
+    }
+    slabBytes = 0;
+    liveBytes = 0;
+  }
+
+  /**
+   * Returns the bytes of off-heap memory held in slabs
+   */
+  public long slabBytes() {
+    return slabBytes;
+  }
+
+  /**
+   * Returns the bytes of keys and values currently stored
+   */
+  public long liveBytes() {
+    return liveBytes;
+  }
+
+  public int slabCount() {
+    return slabs.size() - freeSlabSlots.size();
+  }
+
+  /**
+   * Moves the records out of every sparsely used slab and releases those slabs, updating the handles held in the
+   * given index entries. Returns the number of records moved
+   */
+  public <K> int defragment(Iterable<Map.Entry<K, Long>> index) {
+    if (!chooseVictims()) {
+      return 0;
+    }
+    int moved = 0;
+    for (Map.Entry<K, Long> entry : index) {
+      long handle = entry.getValue();
+      long relocated = relocate(handle);
+      if (relocated != handle) {
+        entry.setValue(relocated);
+        moved++;
+      }
+    }
+    releaseVictims();
+    return moved;
+  }
+
+  /**
+   * Marks the sparsely used slabs of every size class for evacuation, returning true if any were marked. The first
+   * step of defragmentation; the caller then relocates each record it holds, and finally releases the victims
+   */
+  boolean chooseVictims() {
+    boolean anyVictims = false;
+    for (SizeClass sizeClass : sizeClasses) {
+      anyVictims |= sizeClass.chooseVictims();
+    }
+    return anyVictims;
+  }
+
+  /**
+   * Moves the record out of its slab, if that slab is to be released, returning its new handle, or else the handle
+   * it already had
+   */
+  long relocate(long handle) {
+    Slab slab = slab(handle);
+    if (!slab.victim) {
+      return handle;
+    }
+    byte[] key = readKey(handle);
+    byte[] value = read(handle).toByteArray();
+    liveBytes -= key.length + value.length;
+    slab.live--;
+    return allocate(key, value);
+  }
+
+  /**
+   * Releases the slabs marked by chooseVictims, once every record has been relocated out of them
+   */
+  void releaseVictims() {
+    for (int i = 0; i < slabs.size(); i++) {
+      Slab slab = slabs.get(i);
+      if (slab != null && slab.victim) {
+        sizeClasses[slab.sizeClass].slabs.remove(Integer.valueOf(i));
+        slabBytes -= slab.buffer.capacity();
+        releaseSlab(i);
+      }
+    }
+  }
+
+  private SizeClass classFor(int sizeInBytes) {
+    int low = 0;
+    int high = sizeClasses.length - 1;
+    if (sizeInBytes > sizeClasses[high].chunkSize) {
+      return null;
+    }
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sizeClasses[mid].chunkSize < sizeInBytes) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return sizeClasses[low];
+  }
+
+  private int addSlab(Slab slab) {
+    if (!freeSlabSlots.isEmpty()) {
+      int slot = (int) freeSlabSlots.pop();
+      slabs.set(slot, slab);
+      return slot;
+    }
+    slabs.add(slab);
+    return slabs.size() - 1;
+  }
+
+  private void releaseSlab(int slot) {
+    // the direct memory is returned when the buffer is garbage collected
+    slabs.set(slot, null);
+    freeSlabSlots.push(slot);
+  }
+
+  private Slab slab(long handle) {
+    return slabs.get(slabIndex(handle));
+  }
+
+  private int offset(long handle) {
+    int sizeClass = sizeClass(handle);
+    return sizeClass == HUGE_CLASS ? 0 : chunkIndex(handle) * sizeClasses[sizeClass].chunkSize;
+  }
+
+  private static long handle(int sizeClass, int slab, int chunk) {
+    return ((long) sizeClass << CLASS_SHIFT) | ((long) slab << SLAB_SHIFT) | chunk;
+  }
+
+  private static int sizeClass(long handle) {
+    return (int) (handle >>> CLASS_SHIFT);
+  }
+
+  private static int slabIndex(long handle) {
+    return (int) ((handle >>> SLAB_SHIFT) & INDEX_MASK);
+  }
+
+  private static int chunkIndex(long handle) {
+    return (int) (handle & INDEX_MASK);
+  }
+
+  private static class Slab {
+    private final int sizeClass;
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private int live;
+    private boolean victim;
+
+    Slab(int sizeClass, ByteBuffer buffer, int capacity) {
+      this.sizeClass = sizeClass;
+      this.buffer = buffer;
+      this.capacity = capacity;
+    }
+  }
+
+  private class SizeClass {
+    private final int index;
+    private final int chunkSize;
+    private final int chunksPerSlab;
+    private final List<Integer> slabs = new ArrayList<>();
+    private final LongStack freeChunks = new LongStack();
+
+    // The slab being filled for the first time, and the next unused chunk in it
+    private int currentSlab = -1;
+    private int nextChunk;
+
+    SizeClass(int index, int chunkSize, int chunksPerSlab) {
+      this.index = index;
+      this.chunkSize = chunkSize;
+      this.chunksPerSlab = chunksPerSlab;
+    }
+
+    long allocate() {
+      if (!freeChunks.isEmpty()) {
+        return freeChunks.pop();
+      }
+      if (currentSlab < 0 || nextChunk == chunksPerSlab) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(chunkSize * chunksPerSlab);
+        currentSlab = addSlab(new Slab(index, buffer, chunksPerSlab));
+        slabs.add(currentSlab);
+        slabBytes += buffer.capacity();
+        nextChunk = 0;
+      }
+      return handle(index, currentSlab, nextChunk++);
+    }
+
+    /**
+     * Marks this class's sparse slabs for evacuation and drops their chunks from the free list. Returns true if any
+     * slab was marked
+     */
+    boolean chooseVictims() {
+      if (slabs.size() < 2) {
+        return false;
+      }
+      boolean any = false;
+      for (int slot : slabs) {
+        Slab slab = SlabAllocator.this.slabs.get(slot);
+        if (slab.live < slab.capacity * SPARSE_SLAB_FRACTION) {
+          slab.victim = true;
+          any = true;
+          if (slot == currentSlab) {
+            currentSlab = -1;
+          }
+        }
+      }
+      if (any) {
+        LongStack remaining = new LongStack();
+        while (!freeChunks.isEmpty()) {
+          long handle = freeChunks.pop();
+          if (!slab(handle).victim) {
+            remaining.push(handle);
+          }
+        }
+        freeChunks.addAll(remaining);
+      }
+      return any;
+    }
+
+    void clear() {
+      slabs.clear();
+      freeChunks.clear();
+      currentSlab = -1;
+      nextChunk = 0;
+    }
+  }
+
+  /**
+   * A growable stack of primitive longs
+   */
+  private static class LongStack {
+    private long[] values = new long[16];
+    private int size;
+
+    void push(long value) {
+      if (size == values.length) {
+        long[] grown = new long[size * 2];
+        System.arraycopy(values, 0, grown, 0, size);
+        values = grown;
+      }
+      values[size++] = value;
+    }
+
+    long pop() {
+      return values[--size];
+    }
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    int size() {
+      return size;
+    }
+
+    void addAll(LongStack other) {
+      for (int i = 0; i < other.size; i++) {
+        push(other.values[i]);
+      }
+    }
+
+    void clear() {
+      size = 0;
+    }
+  }
+}
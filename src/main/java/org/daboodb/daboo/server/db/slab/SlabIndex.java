@@ -0,0 +1,236 @@
+package org.daboodb.daboo.server.db.slab;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * An ordered index of records stored, with their keys, in a SlabAllocator.
+ * <p>
+ * The index holds nothing but the records' handles, as primitive longs, in key order: the keys themselves stay in the
+ * slabs, and are compared there. Handles are kept in blocks of up to BLOCK_CAPACITY, each sorted, and the blocks in
+ * order, so a lookup is a binary search over the blocks' first keys and then within one block, and an insert or
+ * delete shifts at most one block. The heap cost is about eight bytes per record, however long its key.
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class SlabIndex {
+
+  /**
+   * Returned in place of a handle when there is none. No record has it, as the huge records' class has only one chunk
+   */
+  public static final long NO_HANDLE = -1;
+
+  private static final int BLOCK_CAPACITY = 256;
+
+  private final SlabAllocator allocator;
+  private final List<Block> blocks = new ArrayList<>();
+  private int size;
+
+  public SlabIndex(SlabAllocator allocator) {
+    this.allocator = allocator;
+  }
+
+  /**
+   * Returns the handle of the record with the key, or NO_HANDLE if there is none
+   */
+  public long get(byte[] key) {
+    if (blocks.isEmpty()) {
+      return NO_HANDLE;
+    }
+    Block block = blocks.get(blockFor(key));
+    int index = block.search(key);
+    return index >= 0 ? block.handles[index] : NO_HANDLE;
+  }
+
+  /**
+   * Indexes the record with the given handle under its key, returning the handle it replaces, or NO_HANDLE
+   */
+  public long put(byte[] key, long handle) {
+    if (blocks.isEmpty()) {
+      blocks.add(new Block());
+    }
+    int blockIndex = blockFor(key);
+    Block block = blocks.get(blockIndex);
+    int index = block.search(key);
+    if (index >= 0) {
+      long previous = block.handles[index];
+      block.handles[index] = handle;
+      return previous;
+    }
+    index = -index - 1;
+    if (block.size == BLOCK_CAPACITY) {
+      Block upper = block.split();
+      blocks.add(blockIndex + 1, upper);
+      if (index > block.size) {
+        index -= block.size;
+        block = upper;
+      }
+    }
+    block.insert(index, handle);
+    size++;
+    return NO_HANDLE;
+  }
+
+  /**
+   * Removes the key from the index, returning the handle of its record, or NO_HANDLE if there was none
+   */
+  public long remove(byte[] key) {
+    if (blocks.isEmpty()) {
+      return NO_HANDLE;
+    }
+    int blockIndex = blockFor(key);
+    Block block = blocks.get(blockIndex);
+    int index = block.search(key);
+    if (index < 0) {
+      return NO_HANDLE;
+    }
+    long handle = block.remove(index);
+    if (block.size == 0) {
+      blocks.remove(blockIndex);
+    }
+    size--;
+    return handle;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+    blocks.clear();
+    size = 0;
+  }
+
+  /**
+   * Passes the handles of the records with keys from from (inclusive) to to (exclusive) to the visitor, in descending
+   * key order if reverse is true, until the visitor returns false. Either bound may be null, meaning unbounded
+   */
+  public void scan(byte[] from, byte[] to, boolean reverse, LongPredicate visitor) {
+    if (blocks.isEmpty()) {
+      return;
+    }
+    if (!reverse) {
+      int blockIndex = from == null ? 0 : blockFor(from);
+      int index = from == null ? 0 : blocks.get(blockIndex).lowerBound(from);
+      for (; blockIndex < blocks.size(); blockIndex++, index = 0) {
+        Block block = blocks.get(blockIndex);
+        for (; index < block.size; index++) {
+          long handle = block.handles[index];
+          if ((to != null && allocator.compareKey(handle, to) >= 0) || !visitor.test(handle)) {
+            return;
+          }
+        }
+      }
+    } else {
+      int blockIndex = to == null ? blocks.size() - 1 : blockFor(to);
+      int index = to == null ? blocks.get(blockIndex).size - 1 : blocks.get(blockIndex).lowerBound(to) - 1;
+      for (; blockIndex >= 0; blockIndex--, index = blockIndex >= 0 ? blocks.get(blockIndex).size - 1 : -1) {
+        Block block = blocks.get(blockIndex);
+        for (; index >= 0; index--) {
+          long handle = block.handles[index];
+          if ((from != null && allocator.compareKey(handle, from) < 0) || !visitor.test(handle)) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Defragments the allocator, updating the handles of the records it moves, and returns the number moved
+   */
+  public int defragment() {
+    if (!allocator.chooseVictims()) {
+      return 0;
+    }
+    int moved = 0;
+    for (Block block : blocks) {
+      for (int i = 0; i < block.size; i++) {
+        long relocated = allocator.relocate(block.handles[i]);
+        if (relocated != block.handles[i]) {
+          block.handles[i] = relocated;
+          moved++;
+        }
+      }
+    }
+    allocator.releaseVictims();
+    return moved;
+  }
+
+  /**
+   * Returns the index of the last block whose first key is no greater than the key, or 0 if there is none
+   */
+  private int blockFor(byte[] key) {
+    int low = 0;
+    int high = blocks.size() - 1;
+    while (low < high) {
+      int middle = (low + high + 1) >>> 1;
+      if (allocator.compareKey(blocks.get(middle).handles[0], key) <= 0) {
+        low = middle;
+      } else {
+        high = middle - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * A sorted run of handles
+   */
+  private final class Block {
+
+    private long[] handles = new long[BLOCK_CAPACITY];
+    private int size;
+
+    /**
+     * Returns the index of the key's handle if it is in the block, or otherwise -(its insertion point) - 1
+     */
+    int search(byte[] key) {
+      int index = lowerBound(key);
+      return index < size && allocator.compareKey(handles[index], key) == 0 ? index : -index - 1;
+    }
+
+    /**
+     * Returns the index of the first handle whose key is no less than the key, or the size if there is none
+     */
+    int lowerBound(byte[] key) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (allocator.compareKey(handles[middle], key) < 0) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    void insert(int index, long handle) {
+      System.arraycopy(handles, index, handles, index + 1, size - index);
+      handles[index] = handle;
+      size++;
+    }
+
+    long remove(int index) {
+      long handle = handles[index];
+      System.arraycopy(handles, index + 1, handles, index, size - index - 1);
+      size--;
+      return handle;
+    }
+
+    /**
+     * Moves the upper half of this full block to a new block, and returns it
+     */
+    Block split() {
+      Block upper = new Block();
+      int half = size / 2;
+      upper.size = size - half;
+      System.arraycopy(handles, half, upper.handles, 0, upper.size);
+      size = half;
+      return upper;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package org.daboodb.daboo.server.db.tiered;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A map of byte[] keys to byte[] values that holds at most a budget of bytes, evicting with CLOCK and admitting with
+ * TinyLFU.
+ * <p>
+ * Entries sit on a ring, each with a referenced bit that is set when it is read. To make room, a hand sweeps the ring,
+ * clearing referenced bits until it finds an entry whose bit is already clear: that entry is the victim. A new key is
+ * only admitted in its place if the frequency sketch says the new key has been used more often recently than the
+ * victim, so a burst of keys that are each used once can't flush out the keys that are used all the time. Admission
+ * is decided against the first victim, before anything is evicted; once a key wins, more victims are evicted without
+ * asking until it fits.
+ * <p>
+ * get() takes no lock, and may be called from any number of threads while another thread calls the other methods,
+ * which must be called by one thread at a time. A read only sets its entry's referenced bit and counts a use in the
+ * sketch, whose counts may lose a racing increment.
+ */
+public final class ClockCache {
+
+  /**
+   * A rough count of the heap an entry costs beyond its key and value: the entry, its map node and key wrapper, and the
+   * array headers
+   */
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 128;
+
+  private final long budgetInBytes;
+  private final FrequencySketch sketch;
+  private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+  private final List<Entry> ring = new ArrayList<>();
+  private int hand;
+  private long sizeInBytes;
+
+  public ClockCache(long budgetInBytes) {
+    if (budgetInBytes <= 0) {
+      throw new IllegalArgumentException("Invalid cache budget " + budgetInBytes);
+    }
+    this.budgetInBytes = budgetInBytes;
+    // a counter per row for each entry the budget could hold, if every key and value were empty
+    this.sketch = new FrequencySketch((int) Math.min(1 << 22, budgetInBytes / ENTRY_OVERHEAD_IN_BYTES));
+  }
+
+  /**
+   * Returns the value for the key, or null if it isn't cached. Either way, counts a use of the key
+   */
+  public byte[] get(byte[] key) {
+    sketch.increment(key);
+    Entry entry = entries.get(ByteBuffer.wrap(key));
+    if (entry == null) {
+      return null;
+    }
+    entry.referenced = true;
+    return entry.value;
+  }
+
+  /**
+   * Caches an uncached key if there is room for it, or if it is used more often than the first entry that would be
+   * evicted to make room. Returns whether the key was cached
+   */
+  public boolean offer(byte[] key, byte[] value) {
+    if (entries.containsKey(ByteBuffer.wrap(key))) {
+      return true;
+    }
+    return admit(key, value);
+  }
+
+  public void remove(byte[] key) {
+    Entry entry = entries.get(ByteBuffer.wrap(key));
+    if (entry != null) {
+      remove(entry);
+    }
+  }
+
+  public void clear() {
+    entries.clear();
+    ring.clear();
+    sketch.clear();
+    hand = 0;
+    sizeInBytes = 0;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns the estimated heap held by the cached entries
+   */
+  public long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  private boolean admit(byte[] key, byte[] value) {
+    long weight = weight(key, value);
+    if (weight > budgetInBytes) {
+      return false;
+    }
+    if (sizeInBytes + weight > budgetInBytes) {
+      Entry victim = sweep();
+      if (sketch.frequency(key) <= sketch.frequency(victim.key)) {
+        return false;
+      }
+      remove(victim);
+      while (sizeInBytes + weight > budgetInBytes) {
+        remove(sweep());
+      }
+    }
+    Entry entry = new Entry(key, value, ring.size());
+    entries.put(ByteBuffer.wrap(key), entry);
+    ring.add(entry);
+    sizeInBytes += weight;
+    return true;
+  }
+
+  /**
+   * Advances the hand to the next entry that hasn't been read since the hand last passed it
+   */
+  private Entry sweep() {
+    while (true) {
+      if (hand >= ring.size()) {
+        hand = 0;
+      }
+      Entry entry = ring.get(hand);
+      if (!entry.referenced) {
+        return entry;
+      }
+      entry.referenced = false;
+      hand++;
+    }
+  }
+
+  private void remove(Entry entry) {
+    entries.remove(ByteBuffer.wrap(entry.key));
+    // move the last entry on the ring into the gap
+    Entry last = ring.remove(ring.size() - 1);
+    if (last != entry) {
+      last.slot = entry.slot;
+      ring.set(entry.slot, last);
+    }
+    sizeInBytes -= weight(entry.key, entry.value);
+  }
+
+  private static long weight(byte[] key, byte[] value) {
+    return (long) key.length + value.length + ENTRY_OVERHEAD_IN_BYTES;
+  }
+
+  private static final class Entry {
+    private final byte[] key;
+    private final byte[] value;
+    private int slot;
+    private volatile boolean referenced;
+
+    private Entry(byte[] key, byte[] value, int slot) {
+      this.key = key;
+      this.value = value;
+      this.slot = slot;
+    }
+  }
+}
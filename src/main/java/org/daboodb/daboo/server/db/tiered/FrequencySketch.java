@@ -0,0 +1,99 @@
+package org.daboodb.daboo.server.db.tiered;
+
+import java.util.Arrays;
+
+/**
+ * An approximate count of how often each key has been used recently: a count-min sketch of 4-bit counters.
+ * <p>
+ * Each key increments one counter in each of four rows, and its frequency is the smallest of the four. Counters stop
+ * at 15. Once the sketch has counted ten uses per counter in a row, every counter is halved, so keys that were popular
+ * long ago fade and recent popularity wins. This is the frequency filter of TinyLFU.
+ * <p>
+ * Increments may race with each other and with aging. A racing increment can be lost, which the sketch, being an
+ * estimate, tolerates, but it never pushes a counter past 15 or into its neighbour, since each write is computed from
+ * the value read. frequency() and clear() need no more than that, but the caller must serialize clear() with its
+ * other uses if it wants a clear to take.
+ */
+public final class FrequencySketch {
+
+  private static final int ROWS = 4;
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = {0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f};
+
+  // two 4-bit counters to a byte, the even-numbered counter in the low half
+  private final byte[][] counters;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  /**
+   * Returns a sketch with at least the given number of counters per row
+   */
+  public FrequencySketch(int width) {
+    int size = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+    counters = new byte[ROWS][size / 2];
+    mask = size - 1;
+    sampleSize = 10 * size;
+  }
+
+  public void increment(byte[] key) {
+    int hash = Arrays.hashCode(key);
+    boolean added = false;
+    for (int row = 0; row < ROWS; row++) {
+      int index = index(hash, row);
+      if (count(row, index) < MAX_COUNT) {
+        // a counter below 15 never carries out of its half of the byte
+        counters[row][index >>> 1] += 1 << shift(index);
+        added = true;
+      }
+    }
+    if (added && ++additions >= sampleSize) {
+      age();
+    }
+  }
+
+  /**
+   * Returns the estimated number of recent uses of the key
+   */
+  public int frequency(byte[] key) {
+    int hash = Arrays.hashCode(key);
+    int frequency = MAX_COUNT;
+    for (int row = 0; row < ROWS; row++) {
+      frequency = Math.min(frequency, count(row, index(hash, row)));
+    }
+    return frequency;
+  }
+
+  public void clear() {
+    for (byte[] row : counters) {
+      Arrays.fill(row, (byte) 0);
+    }
+    additions = 0;
+  }
+
+  /**
+   * Halves every counter, both halves of a byte at once, dropping the bit that shifts across from the high counter
+   */
+  private void age() {
+    for (byte[] row : counters) {
+      for (int i = 0; i < row.length; i++) {
+        row[i] = (byte) ((row[i] & 0xff) >>> 1 & 0x77);
+      }
+    }
+    additions /= 2;
+  }
+
+  private int count(int row, int index) {
+    return counters[row][index >>> 1] >>> shift(index) & MAX_COUNT;
+  }
+
+  private static int shift(int index) {
+    return (index & 1) << 2;
+  }
+
+  private int index(int hash, int row) {
+    int h = hash * SEEDS[row];
+    h ^= h >>> 16;
+    return h & mask;
+  }
+}
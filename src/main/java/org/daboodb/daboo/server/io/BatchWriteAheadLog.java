@@ -0,0 +1,22 @@
+package org.daboodb.daboo.server.io;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A Write-Ahead Log that can append several requests with a single write, and force what it has written to disk on
+ * demand. GroupCommitLog uses these operations to share one write and one fsync among many concurrent requests
+ */
+public interface BatchWriteAheadLog extends WriteAheadLog {
+
+  /**
+   * Appends all the given requests, in order
+   */
+  @Override
+  void log(List<byte[]> requests) throws IOException;
+
+  /**
+   * Forces everything logged so far to durable storage
+   */
+  void sync() throws IOException;
+}
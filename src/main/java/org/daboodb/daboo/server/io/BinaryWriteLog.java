@@ -0,0 +1,168 @@
+package org.daboodb.daboo.server.io;
+
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Logs all write requests to a single binary file.
+ * <p>
+ * Each request is stored as a record: a 4 byte length, a 4 byte CRC32C checksum of the payload, then the payload.
+ * A write is a single append, so a crash can only damage the last record. When the log is opened, and whenever it is
+ * replayed, reading stops at the first record that is incomplete or fails its checksum; on opening, that torn tail
+ * is truncated so that new records follow the last good one.
+ */
+public class BinaryWriteLog implements BatchWriteAheadLog, Closeable {
+
+  private static final LoggerWriter loggerWriter = LoggingFactory.getLogger(BinaryWriteLog.class);
+
+  static final String LOG_FILE = "walFile";
+
+  private static BinaryWriteLog instance;
+
+  public static BinaryWriteLog getInstance(File databaseDirectory) {
+    try {
+      if (instance == null) {
+        instance = new BinaryWriteLog(databaseDirectory);
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("Fatal: Unable to instantiate the Write-ahead Log", e);
+      throw new RuntimePersistenceException("Unable to instantiate the Write-ahead Log", e);
+    }
+    return instance;
+  }
+
+  private final File rootFolder;
+
+  private FileChannel writeChannel;
+
+  private FileInputStream replayInput;
+  private DataInputStream replayStream;
+
+  // The record read by hasNext() and not yet returned by next()
+  private byte[] nextRecord;
+
+  BinaryWriteLog(File rootFolder) throws IOException {
+    this.rootFolder = rootFolder;
+    initializeLog();
+  }
+
+  @Override
+  public void log(byte[] request) throws IOException {
+    log(Collections.singletonList(request));
+  }
+
+  /**
+   * Appends all the given requests with a single write
+   */
+  @Override
+  public void log(List<byte[]> requests) throws IOException {
+    ByteBuffer buffer = LogRecords.encode(requests);
+    while (buffer.hasRemaining()) {
+      writeChannel.write(buffer);
+    }
+  }
+
+  @Override
+  public void sync() throws IOException {
+    writeChannel.force(false);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextRecord == null) {
+      try {
+        nextRecord = LogRecords.read(replayStream, replayInput.getChannel().size());
+      } catch (IOException e) {
+        loggerWriter.logError("IO Failure advancing iterator", e);
+      }
+    }
+    return nextRecord != null;
+  }
+
+  @Override
+  public byte[] next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("Reached the end of the log file.");
+    }
+    byte[] record = nextRecord;
+    nextRecord = null;
+    return record;
+  }
+
+  @Override
+  public void clear() throws IOException {
+    close();
+    Files.deleteIfExists(getLogFile().toPath());
+    initializeLog();
+  }
+
+  @Override
+  public void close() {
+    try {
+      writeChannel.close();
+      replayStream.close();
+      nextRecord = null;
+    } catch (IOException e) {
+      loggerWriter.logError("Unable to close Write-Ahead Log.", e);
+      throw new RuntimePersistenceException("Unable to close Write-Ahead Log.", e);
+    }
+  }
+
+  /**
+   * Opens the log file, truncating any torn tail, and creates the channel for appending to it and the stream for
+   * replaying it
+   */
+  private void initializeLog() throws IOException {
+    if (!rootFolder.exists()) {
+      rootFolder.mkdirs();
+    }
+    File logFile = getLogFile();
+    RandomAccessFile file = new RandomAccessFile(logFile, "rw");
+    writeChannel = file.getChannel();
+
+    long validLength = validLength(logFile);
+    if (validLength < writeChannel.size()) {
+      loggerWriter.logWarning("Truncating torn tail of the Write-Ahead Log: "
+          + (writeChannel.size() - validLength) + " bytes after offset " + validLength);
+      writeChannel.truncate(validLength);
+      writeChannel.force(true);
+    }
+    writeChannel.position(validLength);
+
+    replayInput = new FileInputStream(logFile);
+    replayStream = LogRecords.openReader(replayInput);
+  }
+
+  /**
+   * Returns the length of the prefix of the given file made of complete records with correct checksums
+   */
+  private static long validLength(File logFile) throws IOException {
+    long fileLength = logFile.length();
+    long validLength = 0;
+    try (DataInputStream in = LogRecords.openReader(logFile)) {
+      byte[] record;
+      while ((record = LogRecords.read(in, fileLength)) != null) {
+        validLength += LogRecords.sizeInBytes(record);
+      }
+    }
+    return validLength;
+  }
+
+  private File getLogFile() {
+    return new File(rootFolder, LOG_FILE);
+  }
+}
@@ -0,0 +1,24 @@
+package org.daboodb.daboo.server.io;
+
+/**
+ * When a GroupCommitLog forces logged requests to disk, and therefore when a write request is acknowledged
+ */
+public enum FsyncPolicy {
+
+  /**
+   * Every batch of requests is forced to disk before any request in it is acknowledged
+   */
+  ALWAYS,
+
+  /**
+   * Batches are forced to disk at most once per configured interval. Requests are acknowledged after the next force
+   * following their write, trading a little latency for far fewer fsyncs
+   */
+  INTERVAL,
+
+  /**
+   * Requests are acknowledged once they have been written to the operating system, which decides when to write them
+   * to disk. Fastest, but acknowledged writes can be lost if the machine (rather than the process) fails
+   */
+  OS
+}
@@ -0,0 +1,318 @@
+package org.daboodb.daboo.server.io;
+
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Write-Ahead Log that commits concurrent requests in groups.
+ * <p>
+ * Callers of log() hand their request to a single writer thread and block. The writer drains every request that is
+ * waiting, appends them to the underlying log with one write, and forces them to disk according to its FsyncPolicy.
+ * A caller returns only when its request is as durable as the policy promises, so under load many requests share the
+ * cost of each fsync instead of paying for one each.
+ */
+public class GroupCommitLog implements WriteAheadLog, Closeable {
+
+  private static final LoggerWriter loggerWriter = LoggingFactory.getLogger(GroupCommitLog.class);
+
+  public static final long DEFAULT_FSYNC_INTERVAL_MILLIS = 10;
+
+  // The most bytes appended by one write, so that a burst of requests can't build an unbounded batch
+  static final int MAX_BATCH_SIZE_IN_BYTES = 4 * 1024 * 1024;
+
+  private final BatchWriteAheadLog log;
+  private final FsyncPolicy fsyncPolicy;
+  private final long fsyncIntervalNanos;
+
+  private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+
+  // Queued by close() to stop the writer once it has committed everything queued before it. The writer is never
+  // interrupted, as an interrupt during a write or force would close the log's file channel
+  private static final PendingWrite CLOSE = new PendingWrite(null);
+
+  // Requests that have been written but not yet forced to disk. Only touched by the writer thread
+  private final List<PendingWrite> unsynced = new ArrayList<>();
+  private long nextSyncNanos;
+
+  // Held while the underlying log is written or cleared
+  private final Object logLock = new Object();
+
+  private final Thread writer;
+  private volatile boolean running = true;
+
+  public GroupCommitLog(BatchWriteAheadLog log, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis) {
+    this.log = log;
+    this.fsyncPolicy = fsyncPolicy;
+    this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+    this.nextSyncNanos = System.nanoTime() + fsyncIntervalNanos;
+    this.writer = new Thread(this::writeLoop, "daboo-wal-group-commit");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  public FsyncPolicy getFsyncPolicy() {
+    return fsyncPolicy;
+  }
+
+  /**
+   * Logs the given request, returning once it has been written and, depending on the FsyncPolicy, forced to disk
+   */
+  @Override
+  public void log(byte[] request) throws IOException {
+    if (!running) {
+      throw new IOException("The Write-Ahead Log has been closed");
+    }
+    PendingWrite write = new PendingWrite(request);
+    queue.add(write);
+    write.await();
+  }
+
+  /**
+   * Logs all the given requests, in order, returning once they have all been written and, depending on the
+   * FsyncPolicy, forced to disk. They are queued together, so they share a commit with each other
+   */
+  @Override
+  public void log(List<byte[]> requests) throws IOException {
+    if (!running) {
+      throw new IOException("The Write-Ahead Log has been closed");
+    }
+    List<PendingWrite> writes = new ArrayList<>(requests.size());
+    for (byte[] request : requests) {
+      writes.add(new PendingWrite(request));
+    }
+    queue.addAll(writes);
+    for (PendingWrite write : writes) {
+      write.await();
+    }
+  }
+
+  /**
+   * Waits for every request already submitted to be committed, then clears the underlying log
+   */
+  @Override
+  public void clear() throws IOException {
+    PendingWrite barrier = new PendingWrite(null);
+    queue.add(barrier);
+    barrier.await();
+    synchronized (logLock) {
+      log.clear();
+    }
+  }
+
+  @Override
+  public long lastSequenceNumber() {
+    synchronized (logLock) {
+      return log.lastSequenceNumber();
+    }
+  }
+
+  @Override
+  public void checkpoint(long sequenceNumber) throws IOException {
+    synchronized (logLock) {
+      log.checkpoint(sequenceNumber);
+    }
+  }
+
+  @Override
+  public boolean replayAfter(long sequenceNumber) throws IOException {
+    synchronized (logLock) {
+      return log.replayAfter(sequenceNumber);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return log.hasNext();
+  }
+
+  @Override
+  public byte[] next() {
+    return log.next();
+  }
+
+  /**
+   * Commits any requests still waiting, stops the writer thread, and closes the underlying log
+   */
+  @Override
+  public void close() throws IOException {
+    running = false;
+    queue.add(CLOSE);
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (log instanceof Closeable) {
+      ((Closeable) log).close();
+    }
+  }
+
+  private void writeLoop() {
+    List<PendingWrite> batch = new ArrayList<>();
+    boolean closing = false;
+    while (!closing) {
+      PendingWrite first;
+      try {
+        // with nothing awaiting a sync, sleep until there is work; otherwise wake in time for the next sync
+        first = unsynced.isEmpty()
+            ? queue.take()
+            : queue.poll(Math.max(0, nextSyncNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        // only close() stops the writer
+        continue;
+      }
+      if (first == CLOSE) {
+        closing = true;
+      } else if (first != null) {
+        batch.add(first);
+        closing = drainInto(batch, first.sizeInBytes());
+        commit(batch);
+        batch.clear();
+      } else {
+        syncIfDue();
+      }
+    }
+    if (!unsynced.isEmpty()) {
+      sync();
+    }
+    // anything that raced with close() can no longer be written
+    List<PendingWrite> abandoned = new ArrayList<>();
+    queue.drainTo(abandoned);
+    fail(abandoned, new IOException("The Write-Ahead Log has been closed"));
+  }
+
+  /**
+   * Moves waiting requests into the batch, up to its size limit, returning true if close() was reached
+   */
+  private boolean drainInto(List<PendingWrite> batch, int sizeInBytes) {
+    PendingWrite next;
+    while (sizeInBytes < MAX_BATCH_SIZE_IN_BYTES && (next = queue.poll()) != null) {
+      if (next == CLOSE) {
+        return true;
+      }
+      batch.add(next);
+      sizeInBytes += next.sizeInBytes();
+    }
+    return false;
+  }
+
+  /**
+   * Writes the batch with one call to the underlying log, then acknowledges it as the FsyncPolicy allows
+   */
+  private void commit(List<PendingWrite> batch) {
+    List<byte[]> requests = new ArrayList<>(batch.size());
+    for (PendingWrite write : batch) {
+      if (write.request != null) {
+        requests.add(write.request);
+      }
+    }
+    try {
+      if (!requests.isEmpty()) {
+        synchronized (logLock) {
+          log.log(requests);
+        }
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("Unable to write to the Write-Ahead Log", e);
+      fail(batch, e);
+      return;
+    }
+
+    switch (fsyncPolicy) {
+      case ALWAYS:
+        unsynced.addAll(batch);
+        sync();
+        break;
+      case INTERVAL:
+        unsynced.addAll(batch);
+        syncIfDue();
+        break;
+      case OS:
+        for (PendingWrite write : batch) {
+          write.complete();
+        }
+        break;
+      default:
+        throw new IllegalStateException("Unknown fsync policy " + fsyncPolicy);
+    }
+  }
+
+  private void syncIfDue() {
+    if (!unsynced.isEmpty() && System.nanoTime() - nextSyncNanos >= 0) {
+      sync();
+    }
+  }
+
+  private void sync() {
+    try {
+      synchronized (logLock) {
+        log.sync();
+      }
+      for (PendingWrite write : unsynced) {
+        write.complete();
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("Unable to force the Write-Ahead Log to disk", e);
+      fail(unsynced, e);
+    }
+    unsynced.clear();
+    nextSyncNanos = System.nanoTime() + fsyncIntervalNanos;
+  }
+
+  private static void fail(List<PendingWrite> writes, IOException e) {
+    for (PendingWrite write : writes) {
+      write.fail(e);
+    }
+  }
+
+  /**
+   * A request waiting to be committed, or, if the request is null, a barrier that completes once everything queued
+   * before it has been committed
+   */
+  private static class PendingWrite {
+
+    private final byte[] request;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    PendingWrite(byte[] request) {
+      this.request = request;
+    }
+
+    int sizeInBytes() {
+      return request == null ? 0 : request.length;
+    }
+
+    void complete() {
+      done.complete(null);
+    }
+
+    void fail(IOException e) {
+      done.completeExceptionally(e);
+    }
+
+    void await() throws IOException {
+      try {
+        done.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimePersistenceException("Interrupted while waiting for the Write-Ahead Log", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw new RuntimePersistenceException("Unable to write to the Write-Ahead Log", e);
+      }
+    }
+  }
+}
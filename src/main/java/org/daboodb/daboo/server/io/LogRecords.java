@@ -0,0 +1,89 @@
+package org.daboodb.daboo.server.io;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Reads and writes the records of the binary Write-Ahead Logs.
+ * <p>
+ * A record is a 4 byte payload length, a 4 byte CRC32C checksum of the payload, then the payload. A record that is
+ * incomplete, or whose payload does not match its checksum, is torn: it and anything after it are ignored.
+ */
+final class LogRecords {
+
+  private static final HashFunction CRC32C = Hashing.crc32c();
+
+  static final int HEADER_SIZE_IN_BYTES = 8;
+
+  // Replay reads sequentially through a large buffer rather than issuing a read per record
+  static final int REPLAY_BUFFER_SIZE_IN_BYTES = 1024 * 1024;
+
+  private LogRecords() {}
+
+  /**
+   * Returns a buffer, ready to be written, holding one record for each of the given requests
+   */
+  static ByteBuffer encode(List<byte[]> requests) {
+    int size = 0;
+    for (byte[] request : requests) {
+      size += HEADER_SIZE_IN_BYTES + request.length;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(size);
+    for (byte[] request : requests) {
+      buffer.putInt(request.length);
+      buffer.putInt(CRC32C.hashBytes(request).asInt());
+      buffer.put(request);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  static int sizeInBytes(byte[] payload) {
+    return HEADER_SIZE_IN_BYTES + payload.length;
+  }
+
+  static DataInputStream openReader(File file) throws IOException {
+    return openReader(new FileInputStream(file));
+  }
+
+  static DataInputStream openReader(InputStream in) {
+    return new DataInputStream(new BufferedInputStream(in, REPLAY_BUFFER_SIZE_IN_BYTES));
+  }
+
+  /**
+   * Reads the next record, returning its payload, or null if the stream ends or the record is torn. No valid record
+   * can be longer than fileLength, so a larger length is treated as torn rather than allocated
+   */
+  static byte[] read(DataInputStream in, long fileLength) throws IOException {
+    int length;
+    try {
+      length = in.readInt();
+    } catch (EOFException e) {
+      return null;
+    }
+    try {
+      int checksum = in.readInt();
+      if (length < 0 || length > fileLength) {
+        return null;
+      }
+      byte[] payload = new byte[length];
+      in.readFully(payload);
+      if (CRC32C.hashBytes(payload).asInt() != checksum) {
+        return null;
+      }
+      return payload;
+    } catch (EOFException e) {
+      return null;
+    }
+  }
+}
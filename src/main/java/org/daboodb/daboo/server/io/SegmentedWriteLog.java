@@ -0,0 +1,405 @@
+package org.daboodb.daboo.server.io;
+
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Logs all write requests to a sequence of binary segment files.
+ * <p>
+ * Every request gets a sequence number, one higher than the request before it. Requests are appended to the active
+ * segment, in the record format used by BinaryWriteLog, until it reaches the configured size; the log then rolls over
+ * to a new segment named for the sequence number of its first request.
+ * <p>
+ * A checkpoint records the highest sequence number already reflected in a durable snapshot of the db. Replay starts
+ * after the checkpoint, and segments holding only checkpointed requests are deleted in the background, so recovery
+ * time is bounded by how much has been written since the last snapshot rather than by the age of the database. A db
+ * that keeps its own documents across restarts may skip further ahead, to the last request it holds.
+ */
+public class SegmentedWriteLog implements BatchWriteAheadLog, Closeable {
+
+  private static final LoggerWriter loggerWriter = LoggingFactory.getLogger(SegmentedWriteLog.class);
+
+  public static final long DEFAULT_SEGMENT_SIZE_IN_BYTES = 64 * 1024 * 1024;
+
+  static final String CHECKPOINT_FILE = "CHECKPOINT";
+  private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{20})\\.wal");
+
+  private static SegmentedWriteLog instance;
+
+  public static SegmentedWriteLog getInstance(File databaseDirectory, long segmentSizeInBytes) {
+    try {
+      if (instance == null) {
+        instance = new SegmentedWriteLog(databaseDirectory, segmentSizeInBytes);
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("Fatal: Unable to instantiate the Write-ahead Log", e);
+      throw new RuntimePersistenceException("Unable to instantiate the Write-ahead Log", e);
+    }
+    return instance;
+  }
+
+  private final File rootFolder;
+  private final long segmentSizeInBytes;
+
+  // Segment files keyed by the sequence number of their first request. The last is the active segment
+  private final NavigableMap<Long, File> segments = new TreeMap<>();
+
+  private FileChannel activeChannel;
+  private long activeSizeInBytes;
+  private long nextSequenceNumber;
+  private long checkpointSequenceNumber;
+  // Replay also skips requests up to this sequence number, which a db already holds
+  private long replayAfterSequenceNumber;
+
+  // The replay position: the segment being read, and the sequence number of the next record in it
+  private Long cursorSegment;
+  private FileInputStream cursorInput;
+  private DataInputStream cursorStream;
+  private long cursorSequenceNumber;
+  private byte[] nextRecord;
+
+  private final ExecutorService cleaner = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "daboo-wal-segment-cleaner");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  SegmentedWriteLog(File rootFolder, long segmentSizeInBytes) throws IOException {
+    this.rootFolder = rootFolder;
+    this.segmentSizeInBytes = segmentSizeInBytes;
+    initializeLog();
+    cleaner.submit(this::deleteObsoleteSegments);
+  }
+
+  @Override
+  public void log(byte[] request) throws IOException {
+    log(Collections.singletonList(request));
+  }
+
+  /**
+   * Appends all the given requests to the active segment with a single write, rolling over to a new segment once the
+   * active one is full
+   */
+  @Override
+  public synchronized void log(List<byte[]> requests) throws IOException {
+    ByteBuffer buffer = LogRecords.encode(requests);
+    activeSizeInBytes += buffer.remaining();
+    while (buffer.hasRemaining()) {
+      activeChannel.write(buffer);
+    }
+    nextSequenceNumber += requests.size();
+    if (activeSizeInBytes >= segmentSizeInBytes) {
+      rollOver();
+    }
+  }
+
+  @Override
+  public synchronized void sync() throws IOException {
+    activeChannel.force(false);
+  }
+
+  @Override
+  public synchronized long lastSequenceNumber() {
+    return nextSequenceNumber - 1;
+  }
+
+  synchronized long getCheckpointSequenceNumber() {
+    return checkpointSequenceNumber;
+  }
+
+  synchronized int segmentCount() {
+    return segments.size();
+  }
+
+  /**
+   * Waits until any scheduled deletion of obsolete segments has finished
+   */
+  void awaitCleanup() throws Exception {
+    cleaner.submit(() -> { }).get();
+  }
+
+  /**
+   * Durably records the checkpoint, then schedules deletion of the segments it makes obsolete
+   */
+  @Override
+  public synchronized void checkpoint(long sequenceNumber) throws IOException {
+    if (sequenceNumber <= checkpointSequenceNumber) {
+      return;
+    }
+    writeCheckpoint(sequenceNumber);
+    checkpointSequenceNumber = sequenceNumber;
+    cleaner.submit(this::deleteObsoleteSegments);
+  }
+
+  @Override
+  public synchronized boolean replayAfter(long sequenceNumber) throws IOException {
+    if (sequenceNumber < checkpointSequenceNumber || sequenceNumber > lastSequenceNumber()) {
+      return false;
+    }
+    closeCursorSegment();
+    cursorSegment = null;
+    nextRecord = null;
+    replayAfterSequenceNumber = sequenceNumber;
+    return true;
+  }
+
+  @Override
+  public synchronized boolean hasNext() {
+    try {
+      while (nextRecord == null) {
+        if (cursorStream == null && !openNextCursorSegment()) {
+          return false;
+        }
+        byte[] record = LogRecords.read(cursorStream, cursorInput.getChannel().size());
+        if (record == null) {
+          if (cursorSegment.equals(segments.lastKey())) {
+            // the end of the active segment; keep the cursor here so that later appends are replayed too
+            return false;
+          }
+          closeCursorSegment();
+          continue;
+        }
+        if (cursorSequenceNumber++ > skippedThrough()) {
+          nextRecord = record;
+        }
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("IO Failure advancing iterator", e);
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized byte[] next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("Reached the end of the log file.");
+    }
+    byte[] record = nextRecord;
+    nextRecord = null;
+    return record;
+  }
+
+  /**
+   * Deletes every segment and the checkpoint, and starts again from sequence number 1
+   */
+  @Override
+  public synchronized void clear() throws IOException {
+    closeFiles();
+    for (File segment : segments.values()) {
+      Files.deleteIfExists(segment.toPath());
+    }
+    segments.clear();
+    replayAfterSequenceNumber = 0;
+    Files.deleteIfExists(new File(rootFolder, CHECKPOINT_FILE).toPath());
+    initializeLog();
+  }
+
+  @Override
+  public void close() {
+    cleaner.shutdown();
+    try {
+      cleaner.awaitTermination(10, TimeUnit.SECONDS);
+      synchronized (this) {
+        closeFiles();
+      }
+    } catch (IOException e) {
+      loggerWriter.logError("Unable to close Write-Ahead Log.", e);
+      throw new RuntimePersistenceException("Unable to close Write-Ahead Log.", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Reads the checkpoint and the list of segments, truncates any torn tail from the last segment, and opens it for
+   * appending
+   */
+  private void initializeLog() throws IOException {
+    if (!rootFolder.exists()) {
+      rootFolder.mkdirs();
+    }
+    checkpointSequenceNumber = readCheckpoint();
+
+    File[] files = rootFolder.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        Matcher matcher = SEGMENT_NAME.matcher(file.getName());
+        if (matcher.matches()) {
+          segments.put(Long.parseLong(matcher.group(1)), file);
+        }
+      }
+    }
+
+    if (segments.isEmpty()) {
+      nextSequenceNumber = checkpointSequenceNumber + 1;
+      openNewSegment();
+      return;
+    }
+
+    Map.Entry<Long, File> last = segments.lastEntry();
+    File lastFile = last.getValue();
+    long fileLength = lastFile.length();
+    long validLength = 0;
+    long count = 0;
+    try (DataInputStream in = LogRecords.openReader(lastFile)) {
+      byte[] record;
+      while ((record = LogRecords.read(in, fileLength)) != null) {
+        validLength += LogRecords.sizeInBytes(record);
+        count++;
+      }
+    }
+    activeChannel = new RandomAccessFile(lastFile, "rw").getChannel();
+    if (validLength < fileLength) {
+      loggerWriter.logWarning("Truncating torn tail of Write-Ahead Log segment " + lastFile.getName() + ": "
+          + (fileLength - validLength) + " bytes after offset " + validLength);
+      activeChannel.truncate(validLength);
+      activeChannel.force(true);
+    }
+    activeChannel.position(validLength);
+    activeSizeInBytes = validLength;
+    nextSequenceNumber = last.getKey() + count;
+  }
+
+  private void rollOver() throws IOException {
+    // the next sync only forces the new segment, so the full one must be forced now
+    activeChannel.force(false);
+    activeChannel.close();
+    openNewSegment();
+  }
+
+  private void openNewSegment() throws IOException {
+    File file = new File(rootFolder, String.format("segment-%020d.wal", nextSequenceNumber));
+    segments.put(nextSequenceNumber, file);
+    activeChannel = new RandomAccessFile(file, "rw").getChannel();
+    activeChannel.position(activeChannel.size());
+    activeSizeInBytes = activeChannel.size();
+  }
+
+  /**
+   * Moves the replay cursor to the start of the next segment to read, returning false if there is none
+   */
+  private boolean openNextCursorSegment() throws IOException {
+    Long segment;
+    if (cursorSegment == null) {
+      // start with the segment holding the first request to replay
+      segment = segments.floorKey(skippedThrough() + 1);
+      if (segment == null) {
+        segment = segments.firstKey();
+      }
+    } else {
+      segment = segments.higherKey(cursorSegment);
+      if (segment != null && cursorSequenceNumber < segment) {
+        loggerWriter.logWarning("Write-Ahead Log segment " + segments.lowerEntry(segment).getValue().getName()
+            + " is damaged: " + (segment - cursorSequenceNumber) + " requests could not be read");
+      }
+    }
+    if (segment == null) {
+      return false;
+    }
+    cursorSegment = segment;
+    cursorSequenceNumber = segment;
+    cursorInput = new FileInputStream(segments.get(segment));
+    cursorStream = LogRecords.openReader(cursorInput);
+    return true;
+  }
+
+  /**
+   * Returns the sequence number of the last request replay skips
+   */
+  private long skippedThrough() {
+    return Math.max(checkpointSequenceNumber, replayAfterSequenceNumber);
+  }
+
+  private void closeCursorSegment() throws IOException {
+    if (cursorStream != null) {
+      cursorStream.close();
+      cursorStream = null;
+      cursorInput = null;
+    }
+  }
+
+  private void closeFiles() throws IOException {
+    closeCursorSegment();
+    cursorSegment = null;
+    nextRecord = null;
+    if (activeChannel != null) {
+      activeChannel.close();
+    }
+  }
+
+  /**
+   * Deletes the segments whose requests are all covered by the checkpoint. The active segment is never deleted
+   */
+  private synchronized void deleteObsoleteSegments() {
+    List<Long> obsolete = new ArrayList<>();
+    Long previous = null;
+    for (Long first : segments.keySet()) {
+      // a segment ends just before the next one begins
+      if (previous != null && first - 1 <= checkpointSequenceNumber) {
+        obsolete.add(previous);
+      }
+      previous = first;
+    }
+    for (Long first : obsolete) {
+      File segment = segments.remove(first);
+      try {
+        Files.deleteIfExists(segment.toPath());
+      } catch (IOException e) {
+        loggerWriter.logError("Unable to delete obsolete Write-Ahead Log segment " + segment.getName(), e);
+      }
+    }
+    if (!obsolete.isEmpty()) {
+      loggerWriter.logInfo("Deleted " + obsolete.size() + " obsolete Write-Ahead Log segments");
+    }
+  }
+
+  private long readCheckpoint() throws IOException {
+    File file = new File(rootFolder, CHECKPOINT_FILE);
+    if (!file.exists()) {
+      return 0;
+    }
+    String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim();
+    return text.isEmpty() ? 0 : Long.parseLong(text);
+  }
+
+  private void writeCheckpoint(long sequenceNumber) throws IOException {
+    File file = new File(rootFolder, CHECKPOINT_FILE);
+    File tempFile = new File(rootFolder, CHECKPOINT_FILE + ".tmp");
+    try (FileOutputStream fos = new FileOutputStream(tempFile);
+         Writer writer = new OutputStreamWriter(fos, StandardCharsets.UTF_8)) {
+      writer.write(sequenceNumber + "\n");
+      writer.flush();
+      fos.getChannel().force(true);
+    }
+    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
@@ -0,0 +1,303 @@
+package org.daboodb.daboo.server.io;
+
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.daboodb.daboo.shared.util.logging.LoggerWriter;
+import org.daboodb.daboo.shared.util.logging.LoggingFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * Reads the documents of an export in ascending key order, as key and document pairs, so a Db can bulk load them.
+ * <p>
+ * An export written by a Db that iterates its keys in order is already sorted, which a first pass over it checks, so
+ * it is simply streamed. Any other export is sorted externally: it is read in runs that fit in a budget of memory, each
+ * run is sorted and written to a temporary folder beside the export, and the runs are merged as they are read. If the
+ * export holds a key more than once, only its last document is returned, as if the documents had been put in turn.
+ * <p>
+ * The temporary runs are deleted on close.
+ */
+public final class SortedExport implements Iterator<Map.Entry<byte[], byte[]>>, Closeable {
+
+  public static final long DEFAULT_RUN_SIZE_IN_BYTES = 1024 * 1024 * 64;  // 64 MB
+
+  // The estimated heap used by an entry held in a run, beyond its key and document
+  private static final int ENTRY_OVERHEAD_IN_BYTES = 64;
+
+  private static final Comparator<byte[]> COMPARATOR = LexicographicComparator.SIGNED;
+
+  private static final LoggerWriter loggerWriter = LoggingFactory.getLogger(SortedExport.class);
+
+  private final boolean sorted;
+  private final int runCount;
+  private final Path runFolder;
+  private final List<DatabaseExporter> openExporters = new ArrayList<>();
+  private final Iterator<Map.Entry<byte[], byte[]>> entries;
+
+  /**
+   * Returns the documents in the given export folder in key order, sorting runs of up to 64 MB if needed
+   */
+  public static SortedExport open(File exportFolder) {
+    return open(exportFolder, DEFAULT_RUN_SIZE_IN_BYTES);
+  }
+
+  /**
+   * Returns the documents in the given export folder in key order, sorting runs of up to runSizeInBytes if needed
+   */
+  public static SortedExport open(File exportFolder, long runSizeInBytes) {
+    try {
+      return new SortedExport(exportFolder, runSizeInBytes);
+    } catch (IOException e) {
+      loggerWriter.logError("Unable to sort the documents exported to folder " + exportFolder, e);
+      throw new RuntimePersistenceException("An IOException occurred sorting an export", e);
+    }
+  }
+
+  private SortedExport(File exportFolder, long runSizeInBytes) throws IOException {
+    sorted = isSorted(exportFolder);
+    if (sorted) {
+      runFolder = null;
+      runCount = 0;
+      entries = new ExportIterator(openExporter(exportFolder));
+      return;
+    }
+
+    File parent = exportFolder.getAbsoluteFile().getParentFile();
+    runFolder = Files.createTempDirectory(parent.toPath(), exportFolder.getName() + "-sort");
+    List<Map.Entry<byte[], byte[]>> run = new ArrayList<>();
+    long runSize = 0;
+    int runs = 0;
+    DatabaseExporter exporter = openExporter(exportFolder);
+    try {
+      while (exporter.hasNext()) {
+        Request.Document document = exporter.next();
+        byte[] key = document.getKey().toByteArray();
+        byte[] value = document.toByteArray();
+        run.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+        runSize += key.length + value.length + ENTRY_OVERHEAD_IN_BYTES;
+        if (runSize >= runSizeInBytes) {
+          writeRun(sortRun(run), runs++);
+          run.clear();
+          runSize = 0;
+        }
+      }
+    } finally {
+      exporter.close();
+      openExporters.remove(exporter);
+    }
+
+    if (runs == 0) {
+      // the whole export fit in one run, so there is no need to write it out
+      runCount = 1;
+      entries = sortRun(run).iterator();
+      return;
+    }
+    if (!run.isEmpty()) {
+      writeRun(sortRun(run), runs++);
+    }
+    runCount = runs;
+    List<Iterator<Map.Entry<byte[], byte[]>>> sources = new ArrayList<>();
+    for (int i = 0; i < runs; i++) {
+      sources.add(new ExportIterator(openExporter(runFolder.resolve(runName(i)).toFile())));
+    }
+    entries = new MergingIterator(sources);
+  }
+
+  /**
+   * Returns true if the export was already in strictly ascending key order, so no sort was needed
+   */
+  public boolean wasSorted() {
+    return sorted;
+  }
+
+  /**
+   * Returns the number of sorted runs the export was split into, or 0 if it was already sorted
+   */
+  public int runCount() {
+    return runCount;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return entries.hasNext();
+  }
+
+  @Override
+  public Map.Entry<byte[], byte[]> next() {
+    return entries.next();
+  }
+
+  /**
+   * Closes the export and the runs, and deletes the runs
+   */
+  @Override
+  public void close() {
+    for (DatabaseExporter exporter : openExporters) {
+      exporter.close();
+    }
+    openExporters.clear();
+    if (runFolder == null) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(runFolder)) {
+      Iterator<Path> iterator = paths.sorted(Comparator.reverseOrder()).iterator();
+      while (iterator.hasNext()) {
+        Files.deleteIfExists(iterator.next());
+      }
+    } catch (IOException e) {
+      loggerWriter.logWarning("Unable to delete the sorted runs in folder " + runFolder, e);
+    }
+  }
+
+  private DatabaseExporter openExporter(File folder) {
+    DatabaseExporter exporter = DatabaseExporter.get(folder);
+    openExporters.add(exporter);
+    return exporter;
+  }
+
+  private boolean isSorted(File exportFolder) {
+    DatabaseExporter exporter = openExporter(exportFolder);
+    try {
+      byte[] previous = null;
+      while (exporter.hasNext()) {
+        byte[] key = exporter.next().getKey().toByteArray();
+        if (previous != null && COMPARATOR.compare(previous, key) >= 0) {
+          return false;
+        }
+        previous = key;
+      }
+      return true;
+    } finally {
+      exporter.close();
+      openExporters.remove(exporter);
+    }
+  }
+
+  /**
+   * Sorts the run by key, keeping only the last document of any key that appears more than once
+   */
+  private static List<Map.Entry<byte[], byte[]>> sortRun(List<Map.Entry<byte[], byte[]>> run) {
+    // the sort is stable, so documents with the same key stay in the order they were read
+    run.sort((a, b) -> COMPARATOR.compare(a.getKey(), b.getKey()));
+    List<Map.Entry<byte[], byte[]>> unique = new ArrayList<>(run.size());
+    for (Map.Entry<byte[], byte[]> entry : run) {
+      int last = unique.size() - 1;
+      if (last >= 0 && COMPARATOR.compare(unique.get(last).getKey(), entry.getKey()) == 0) {
+        unique.set(last, entry);
+      } else {
+        unique.add(entry);
+      }
+    }
+    return unique;
+  }
+
+  private void writeRun(List<Map.Entry<byte[], byte[]>> run, int number) throws IOException {
+    DatabaseExporter exporter = DatabaseExporter.get(runFolder.resolve(runName(number)).toFile());
+    try {
+      for (Map.Entry<byte[], byte[]> entry : run) {
+        exporter.log(entry.getValue());
+      }
+    } finally {
+      exporter.close();
+    }
+  }
+
+  private static String runName(int number) {
+    return "run-" + number;
+  }
+
+  /**
+   * Reads an export as key and document pairs
+   */
+  private static final class ExportIterator implements Iterator<Map.Entry<byte[], byte[]>> {
+
+    private final DatabaseExporter exporter;
+
+    ExportIterator(DatabaseExporter exporter) {
+      this.exporter = exporter;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return exporter.hasNext();
+    }
+
+    @Override
+    public Map.Entry<byte[], byte[]> next() {
+      Request.Document document = exporter.next();
+      return new AbstractMap.SimpleImmutableEntry<>(document.getKey().toByteArray(), document.toByteArray());
+    }
+  }
+
+  /**
+   * Merges sorted runs. Where runs share a key, the document from the run written last wins, since it was read from
+   * further along the export
+   */
+  private static final class MergingIterator implements Iterator<Map.Entry<byte[], byte[]>> {
+
+    private final PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> {
+      int byKey = COMPARATOR.compare(a.entry.getKey(), b.entry.getKey());
+      return byKey != 0 ? byKey : Integer.compare(a.run, b.run);
+    });
+
+    MergingIterator(List<Iterator<Map.Entry<byte[], byte[]>>> runs) {
+      for (int i = 0; i < runs.size(); i++) {
+        advance(new Head(i, runs.get(i)));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !heads.isEmpty();
+    }
+
+    @Override
+    public Map.Entry<byte[], byte[]> next() {
+      if (heads.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+      Head head = heads.poll();
+      Map.Entry<byte[], byte[]> result = head.entry;
+      advance(head);
+      while (!heads.isEmpty() && COMPARATOR.compare(heads.peek().entry.getKey(), result.getKey()) == 0) {
+        Head later = heads.poll();
+        result = later.entry;
+        advance(later);
+      }
+      return result;
+    }
+
+    private void advance(Head head) {
+      if (head.source.hasNext()) {
+        head.entry = head.source.next();
+        heads.add(head);
+      }
+    }
+  }
+
+  private static final class Head {
+
+    private final int run;
+    private final Iterator<Map.Entry<byte[], byte[]>> source;
+    private Map.Entry<byte[], byte[]> entry;
+
+    Head(int run, Iterator<Map.Entry<byte[], byte[]>> source) {
+      this.run = run;
+      this.source = source;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package org.daboodb.daboo.server.io;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  *  Interface for Write-Ahead Log implementations
@@ -11,4 +12,37 @@ public interface WriteAheadLog extends Iterator<byte[]> {
   void clear() throws IOException;
 
   void log(byte[] request) throws IOException;
+
+  /**
+   * Logs all the given requests, in order. Logs that can append several requests at once override this
+   */
+  default void log(List<byte[]> requests) throws IOException {
+    for (byte[] request : requests) {
+      log(request);
+    }
+  }
+
+  /**
+   * Returns the sequence number of the most recently logged request, or 0 if the log does not number its requests
+   */
+  default long lastSequenceNumber() {
+    return 0;
+  }
+
+  /**
+   * Moves replay to the first request after the given sequence number, so that requests up to it are skipped, and
+   * returns true. Returns false, leaving replay where it was, if the log doesn't number its requests, or no longer
+   * holds every request after the sequence number, or has never logged it
+   */
+  default boolean replayAfter(long sequenceNumber) throws IOException {
+    return false;
+  }
+
+  /**
+   * Records that every request up to and including the given sequence number is reflected in a durable snapshot of
+   * the db, so it need not be replayed or kept. Logs that do not number their requests are simply cleared
+   */
+  default void checkpoint(long sequenceNumber) throws IOException {
+    clear();
+  }
 }
@@ -1,23 +1,21 @@
 package org.daboodb.daboo.server.io;
 
-import com.google.common.io.ByteSink;
-import com.google.common.io.CharSink;
-import com.google.common.io.FileWriteMode;
-import com.google.common.io.Files;
 import org.daboodb.daboo.shared.exceptions.RuntimeDatastoreException;
 import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
 import org.daboodb.daboo.shared.util.logging.LoggerWriter;
 import org.daboodb.daboo.shared.util.logging.LoggingFactory;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
  * Logs all write requests to a file
  */
-public class WriteLog implements WriteAheadLog, Closeable {
+public class WriteLog implements BatchWriteAheadLog, Closeable {
 
   private static LoggerWriter loggerWriter = LoggingFactory.getLogger(WriteLog.class);
 
@@ -49,6 +47,10 @@ public class WriteLog implements WriteAheadLog, Closeable {
   private Writer indexWriter;
   private DataInputStream dataInputStream;
 
+  // Channels over the output files, used to force logged requests to disk
+  private FileChannel dataChannel;
+  private FileChannel indexChannel;
+
   private final File rootFolder;
 
   private WriteLog(File rootFolder) throws IOException {
@@ -122,6 +124,31 @@ public class WriteLog implements WriteAheadLog, Closeable {
     indexWriter.flush();
   }
 
+  /**
+   * Logs all the given requests with one write to each file. The data is written before the index, so a failure
+   * between the two leaves data that is never read rather than an index entry without data
+   */
+  @Override
+  public void log(List<byte[]> requests) throws IOException {
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    StringBuilder index = new StringBuilder();
+    for (byte[] request : requests) {
+      data.write(request);
+      index.append(request.length).append('\n');
+    }
+    data.writeTo(requestOutputByteStream);
+    requestOutputByteStream.flush();
+
+    indexWriter.write(index.toString());
+    indexWriter.flush();
+  }
+
+  @Override
+  public void sync() throws IOException {
+    dataChannel.force(false);
+    indexChannel.force(false);
+  }
+
   /**
    * Initializes the log file, creating tools for reading and writing it
    *
@@ -148,11 +175,13 @@ public class WriteLog implements WriteAheadLog, Closeable {
     FileInputStream indexFis = new FileInputStream(indexFile);
     indexReader = new BufferedReader(new InputStreamReader(indexFis, StandardCharsets.UTF_8));
 
-    ByteSink byteSink = Files.asByteSink(dataFile, FileWriteMode.APPEND);
-    requestOutputByteStream = byteSink.openStream();
+    FileOutputStream dataFos = new FileOutputStream(dataFile, true);
+    dataChannel = dataFos.getChannel();
+    requestOutputByteStream = dataFos;
 
-    CharSink charSink = Files.asCharSink(indexFile, StandardCharsets.UTF_8, FileWriteMode.APPEND);
-    indexWriter = charSink.openStream();
+    FileOutputStream indexFos = new FileOutputStream(indexFile, true);
+    indexChannel = indexFos.getChannel();
+    indexWriter = new OutputStreamWriter(indexFos, StandardCharsets.UTF_8);
   }
 
   private File getDataFile(File targetDirectory) {
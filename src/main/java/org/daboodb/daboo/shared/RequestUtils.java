@@ -50,6 +50,21 @@ public final class RequestUtils {
         .build();
   }
 
+  public static Request.GetByTypeRequest getGetByTypeRequest(Request.Header header,
+                                                             Request.GetByTypeRequestBody body) {
+    return Request.GetByTypeRequest.newBuilder()
+        .setHeader(header)
+        .setBody(body)
+        .build();
+  }
+
+  public static Request.QueryRequest getQueryRequest(Request.Header header, Request.QueryRequestBody body) {
+    return Request.QueryRequest.newBuilder()
+        .setHeader(header)
+        .setBody(body)
+        .build();
+  }
+
   public static Request.GetRangeRequest getGetRangeRequest(Request.Header header, Request.GetRangeRequestBody body) {
     return Request.GetRangeRequest.newBuilder()
         .setHeader(header)
@@ -57,6 +72,131 @@ public final class RequestUtils {
         .build();
   }
 
+  /**
+   * Returns the body of a request for one page of a range, narrowed to the keys that begin with prefix. Any of
+   * startKey, endKey and prefix may be null, meaning unbounded. Pass a null continuationToken for the first page, and
+   * the continuationToken of the previous reply for each page after it
+   */
+  public static Request.GetRangeRequestBody getGetRangeRequestBody(ByteString startKey, ByteString endKey,
+                                                                   ByteString prefix, int limit, boolean reverse,
+                                                                   ByteString continuationToken) {
+    Request.GetRangeRequestBody.Builder builder = Request.GetRangeRequestBody.newBuilder()
+        .setLimit(limit)
+        .setReverse(reverse);
+    if (startKey != null) {
+      builder.setStartKey(startKey);
+    }
+    if (endKey != null) {
+      builder.setEndKey(endKey);
+    }
+    if (prefix != null) {
+      builder.setPrefix(prefix);
+    }
+    if (continuationToken != null) {
+      builder.setContinuationToken(continuationToken);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the body of a request for one page of the documents whose keys begin with prefix
+   */
+  public static Request.GetRangeRequestBody getGetPrefixRequestBody(ByteString prefix, int limit, boolean reverse,
+                                                                    ByteString continuationToken) {
+    return getGetRangeRequestBody(null, null, prefix, limit, reverse, continuationToken);
+  }
+
+  /**
+   * Returns the body of a request for one page of the documents of the given contentType. Pass a null
+   * continuationToken for the first page, and the continuationToken of the previous reply for each page after it
+   */
+  public static Request.GetByTypeRequestBody getGetByTypeRequestBody(String contentType, int limit,
+                                                                     ByteString continuationToken) {
+    Request.GetByTypeRequestBody.Builder builder = Request.GetByTypeRequestBody.newBuilder()
+        .setContentType(contentType)
+        .setLimit(limit);
+    if (continuationToken != null) {
+      builder.setContinuationToken(continuationToken);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the body of a request for one page of the documents in a range that match the predicates. Any of startKey,
+   * endKey, prefix and contentType may be null, meaning unbounded or of any type. Pass a null continuationToken for the
+   * first page, and the continuationToken of the previous reply for each page after it
+   */
+  public static Request.QueryRequestBody getQueryRequestBody(ByteString startKey, ByteString endKey, ByteString prefix,
+                                                             String contentType,
+                                                             List<Request.FieldPredicate> predicates, int limit,
+                                                             ByteString continuationToken) {
+    Request.QueryRequestBody.Builder builder = Request.QueryRequestBody.newBuilder()
+        .addAllPredicate(predicates)
+        .setLimit(limit);
+    if (startKey != null) {
+      builder.setStartKey(startKey);
+    }
+    if (endKey != null) {
+      builder.setEndKey(endKey);
+    }
+    if (prefix != null) {
+      builder.setPrefix(prefix);
+    }
+    if (contentType != null) {
+      builder.setContentType(contentType);
+    }
+    if (continuationToken != null) {
+      builder.setContinuationToken(continuationToken);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns a predicate comparing the field, a dotted path into a document's JSON content, with a string
+   */
+  public static Request.FieldPredicate getFieldPredicate(String field, Request.FieldPredicate.Operator operator,
+                                                         String value) {
+    return Request.FieldPredicate.newBuilder()
+        .setField(field)
+        .setOperator(operator)
+        .setStringValue(value)
+        .build();
+  }
+
+  /**
+   * Returns a predicate comparing the field, a dotted path into a document's JSON content, with a number
+   */
+  public static Request.FieldPredicate getFieldPredicate(String field, Request.FieldPredicate.Operator operator,
+                                                         double value) {
+    return Request.FieldPredicate.newBuilder()
+        .setField(field)
+        .setOperator(operator)
+        .setNumberValue(value)
+        .build();
+  }
+
+  /**
+   * Returns a predicate comparing the field, a dotted path into a document's JSON content, with a boolean
+   */
+  public static Request.FieldPredicate getFieldPredicate(String field, Request.FieldPredicate.Operator operator,
+                                                         boolean value) {
+    return Request.FieldPredicate.newBuilder()
+        .setField(field)
+        .setOperator(operator)
+        .setBoolValue(value)
+        .build();
+  }
+
+  /**
+   * Returns a predicate matching the documents whose content has the field, with a value other than null
+   */
+  public static Request.FieldPredicate getExistsPredicate(String field) {
+    return Request.FieldPredicate.newBuilder()
+        .setField(field)
+        .setOperator(Request.FieldPredicate.Operator.EXISTS)
+        .build();
+  }
+
   public static Request.WriteRequestBody getWriteRequestBody(Request.Document doc) {
 
     Request.DocumentKeyValue keyValue = Request.DocumentKeyValue.newBuilder()
@@ -94,6 +234,23 @@ public final class RequestUtils {
         .build();
   }
 
+  /**
+   * Returns the body of a request for one page of a range. Pass a null afterKey for the first page, and the lastKey of
+   * the previous reply for each page after it
+   */
+  public static Request.GetRangeRequestBody getGetRangeRequestBody(ByteString startKey, ByteString endKey, int limit,
+                                                                   boolean reverse, ByteString afterKey) {
+    Request.GetRangeRequestBody.Builder builder = Request.GetRangeRequestBody.newBuilder()
+        .setStartKey(startKey)
+        .setEndKey(endKey)
+        .setLimit(limit)
+        .setReverse(reverse);
+    if (afterKey != null) {
+      builder.setAfterKey(afterKey);
+    }
+    return builder.build();
+  }
+
   public static Request.WriteRequestBody getWriteRequestBody(List<Request.Document> docs) {
 
     ArrayList<Request.DocumentKeyValue> keyValueList = new ArrayList<>();
@@ -145,6 +302,22 @@ public final class RequestUtils {
         .build();
   }
 
+  public static Request.Header getGetByTypeHeader() {
+    return Request.Header.newBuilder()
+        .setId(ByteString.copyFrom(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)))
+        .setRequestType(Request.RequestType.GET_BY_TYPE)
+        .setTimestamp(Instant.now().toEpochMilli())
+        .build();
+  }
+
+  public static Request.Header getQueryHeader() {
+    return Request.Header.newBuilder()
+        .setId(ByteString.copyFrom(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)))
+        .setRequestType(Request.RequestType.QUERY)
+        .setTimestamp(Instant.now().toEpochMilli())
+        .build();
+  }
+
   public static Request.Header getDeleteHeader() {
     return Request.Header.newBuilder()
         .setId(ByteString.copyFrom(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8)))
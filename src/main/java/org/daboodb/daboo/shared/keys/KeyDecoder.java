@@ -0,0 +1,117 @@
+package org.daboodb.daboo.shared.keys;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.daboodb.daboo.shared.keys.KeyEncoder.*;
+
+/**
+ * Reads back, in order, the components of a key built by KeyEncoder. Each read must name the type the component was
+ * written with. This class is not thread-safe.
+ */
+public final class KeyDecoder {
+
+  private final byte[] key;
+  private int position;
+
+  public KeyDecoder(byte[] key) {
+    this.key = key;
+  }
+
+  /**
+   * Returns true if the key holds components not yet read
+   */
+  public boolean hasNext() {
+    return position < key.length;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the next component is not an int
+   */
+  public int readInt() {
+    expect(INT_TAG);
+    int bits = read() << 24 | read() << 16 | read() << 8 | read();
+    return bits ^ Integer.MIN_VALUE;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the next component is not a long
+   */
+  public long readLong() {
+    expect(LONG_TAG);
+    return readBits() ^ Long.MIN_VALUE;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the next component is not a double
+   */
+  public double readDouble() {
+    expect(DOUBLE_TAG);
+    long bits = readBits();
+    return Double.longBitsToDouble(bits < 0 ? bits ^ Long.MIN_VALUE : ~bits);
+  }
+
+  /**
+   * @throws IllegalArgumentException if the next component is not a UUID
+   */
+  public UUID readUuid() {
+    expect(UUID_TAG);
+    return new UUID(readBits() ^ Long.MIN_VALUE, readBits() ^ Long.MIN_VALUE);
+  }
+
+  /**
+   * @throws IllegalArgumentException if the next component is not a LocalDateTime
+   */
+  public LocalDateTime readDateTime() {
+    expect(DATE_TIME_TAG);
+    LocalDate date = LocalDate.ofEpochDay(readBits() ^ Long.MIN_VALUE);
+    return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readBits() ^ Long.MIN_VALUE));
+  }
+
+  /**
+   * @throws IllegalArgumentException if the next component is not a string
+   */
+  public String readString() {
+    expect(STRING_TAG);
+    ByteArrayOutputStream utf8 = new ByteArrayOutputStream();
+    for (int b = read(); b != TERMINATOR || (position < key.length && peek() == ESCAPE); b = read()) {
+      utf8.write(b);
+      if (b == TERMINATOR) {
+        read();
+      }
+    }
+    return new String(utf8.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private void expect(int type) {
+    if (read() != type) {
+      throw new IllegalArgumentException("The key's component at byte " + (position - 1) + " is of another type");
+    }
+  }
+
+  private long readBits() {
+    long bits = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      bits = bits << 8 | read();
+    }
+    return bits;
+  }
+
+  /**
+   * Returns the next byte as KeyEncoder ordered it unsigned, before flipping its sign bit
+   */
+  private int read() {
+    if (position == key.length) {
+      throw new IllegalArgumentException("The key ends within a component");
+    }
+    return (key[position++] ^ 0x80) & 0xFF;
+  }
+
+  private int peek() {
+    return (key[position] ^ 0x80) & 0xFF;
+  }
+}
@@ -0,0 +1,153 @@
+package org.daboodb.daboo.shared.keys;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Builds a document key from a tuple of typed components, encoded so that the keys' byte order matches the natural
+ * order of their components: keys compare as their first components do, then as their second, and so on. Range and
+ * prefix scans over typed keys then work unchanged on every Db.
+ * <p>
+ * Each component is written as a type tag followed by its value. Numbers, UUIDs and date-times take a fixed width,
+ * with their bits arranged to sort as the values do; strings are UTF-8 (ordered by code point), with a terminator so
+ * that a shorter string sorts before any string it begins. Components of different types sort by type. Every byte is
+ * written with its sign bit flipped, so keys sort correctly under the signed byte order the Dbs use.
+ * <p>
+ * The key of a tuple's leading components is a prefix of the key of the whole tuple, so it can be sent as the prefix
+ * of a range request. Use KeyDecoder to read the components back. This class is not thread-safe.
+ */
+public final class KeyEncoder {
+
+  static final int STRING_TAG = 0x10;
+  static final int INT_TAG = 0x20;
+  static final int LONG_TAG = 0x21;
+  static final int DOUBLE_TAG = 0x30;
+  static final int UUID_TAG = 0x40;
+  static final int DATE_TIME_TAG = 0x50;
+
+  // the end of a string, and the escape following a zero byte within it, before sign bits are flipped
+  static final int TERMINATOR = 0x00;
+  static final int ESCAPE = 0xFF;
+
+  private byte[] bytes = new byte[32];
+  private int length;
+
+  /**
+   * Returns the key of the given components, each an Integer, Long, Double, UUID, LocalDateTime or String
+   *
+   * @throws IllegalArgumentException if a component is null or of another type
+   */
+  public static byte[] encode(Object... components) {
+    KeyEncoder encoder = new KeyEncoder();
+    for (Object component : components) {
+      encoder.add(component);
+    }
+    return encoder.toBytes();
+  }
+
+  /**
+   * Adds the component, which must be an Integer, Long, Double, UUID, LocalDateTime or String
+   *
+   * @throws IllegalArgumentException if the component is null or of another type
+   */
+  public KeyEncoder add(Object component) {
+    if (component instanceof Integer) {
+      return addInt((Integer) component);
+    } else if (component instanceof Long) {
+      return addLong((Long) component);
+    } else if (component instanceof Double) {
+      return addDouble((Double) component);
+    } else if (component instanceof UUID) {
+      return addUuid((UUID) component);
+    } else if (component instanceof LocalDateTime) {
+      return addDateTime((LocalDateTime) component);
+    } else if (component instanceof String) {
+      return addString((String) component);
+    }
+    throw new IllegalArgumentException("Keys cannot hold a component of " +
+        (component == null ? "null" : component.getClass().getName()));
+  }
+
+  public KeyEncoder addInt(int value) {
+    write(INT_TAG);
+    // flipping the sign bit orders negative values before positive ones
+    int bits = value ^ Integer.MIN_VALUE;
+    write(bits >>> 24);
+    write(bits >>> 16);
+    write(bits >>> 8);
+    write(bits);
+    return this;
+  }
+
+  public KeyEncoder addLong(long value) {
+    write(LONG_TAG);
+    writeLong(value);
+    return this;
+  }
+
+  /**
+   * Adds a double, ordered as Double.compare orders them: -0.0 before 0.0, and NaN after positive infinity
+   */
+  public KeyEncoder addDouble(double value) {
+    write(DOUBLE_TAG);
+    long bits = Double.doubleToLongBits(value);
+    // negative values order backwards by their bits, so all of their bits are flipped, not only the sign
+    writeBits(bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+    return this;
+  }
+
+  /**
+   * Adds a UUID, ordered as UUID.compareTo orders them
+   */
+  public KeyEncoder addUuid(UUID value) {
+    write(UUID_TAG);
+    writeLong(value.getMostSignificantBits());
+    writeLong(value.getLeastSignificantBits());
+    return this;
+  }
+
+  public KeyEncoder addDateTime(LocalDateTime value) {
+    write(DATE_TIME_TAG);
+    writeLong(value.toLocalDate().toEpochDay());
+    writeLong(value.toLocalTime().toNanoOfDay());
+    return this;
+  }
+
+  public KeyEncoder addString(String value) {
+    write(STRING_TAG);
+    for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      write(b);
+      if (b == TERMINATOR) {
+        write(ESCAPE);
+      }
+    }
+    write(TERMINATOR);
+    return this;
+  }
+
+  public byte[] toBytes() {
+    return Arrays.copyOf(bytes, length);
+  }
+
+  private void writeLong(long value) {
+    writeBits(value ^ Long.MIN_VALUE);
+  }
+
+  private void writeBits(long bits) {
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      write((int) (bits >>> shift));
+    }
+  }
+
+  /**
+   * Appends the low byte of b, as ordered unsigned, flipping its sign bit to order it the same way signed
+   */
+  private void write(int b) {
+    if (length == bytes.length) {
+      bytes = Arrays.copyOf(bytes, length * 2);
+    }
+    bytes[length++] = (byte) (b ^ 0x80);
+  }
+}
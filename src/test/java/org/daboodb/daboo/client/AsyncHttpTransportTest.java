@@ -0,0 +1,355 @@
+package org.daboodb.daboo.client;
+
+import com.google.common.io.ByteStreams;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.InterruptedByTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for AsyncHttpTransport, against an in-process server
+ */
+public class AsyncHttpTransportTest {
+
+  private static final String CONTENT_TYPE = "application/octet-stream";
+
+  private static final int MAX_CONNECTIONS = 4;
+
+  private Server server;
+  private ServerConnector connector;
+  private AsyncHttpTransport transport;
+  // the client ports the server has seen requests from, one for each connection
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  @Before
+  public void setUp() throws Exception {
+    server = new Server(0);
+    ServletContextHandler handler = new ServletContextHandler(server, "/");
+    handler.addServlet(new ServletHolder(new TestServlet(clientPorts)), "/");
+    server.start();
+    connector = (ServerConnector) server.getConnectors()[0];
+    transport = transport(AsyncHttpTransport.DEFAULT_IDLE_TIMEOUT_MILLIS);
+  }
+
+  private AsyncHttpTransport transport(long idleTimeoutMillis) throws IOException {
+    return new AsyncHttpTransport("localhost", connector.getLocalPort(), 2, MAX_CONNECTIONS, idleTimeoutMillis,
+        AsyncHttpTransport.DEFAULT_TIMEOUT_MILLIS);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    transport.close();
+    server.stop();
+  }
+
+  /**
+   * Tests that many requests in flight at once, all started from one thread, each get their own reply
+   */
+  @Test
+  public void testManyInFlight() throws Exception {
+    int count = 1_000;
+    List<CompletableFuture<byte[]>> replies = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      replies.add(transport.post("/ECHO", CONTENT_TYPE, ("request " + i).getBytes(StandardCharsets.UTF_8), true));
+    }
+    CompletableFuture.allOf(replies.toArray(new CompletableFuture[count])).get(60, TimeUnit.SECONDS);
+    for (int i = 0; i < count; i++) {
+      assertEquals("request " + i, new String(replies.get(i).get(), StandardCharsets.UTF_8));
+    }
+    // the requests shared a few kept-alive connections
+    assertTrue(clientPorts.size() <= MAX_CONNECTIONS);
+    assertEquals(transport.openConnections(), transport.idleConnections());
+  }
+
+  /**
+   * Tests that requests made one after another reuse one connection
+   */
+  @Test
+  public void testKeepAlive() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      assertEquals("request", new String(transport.post("/ECHO", CONTENT_TYPE,
+          "request".getBytes(StandardCharsets.UTF_8), true).get(30, TimeUnit.SECONDS), StandardCharsets.UTF_8));
+    }
+    assertEquals(1, clientPorts.size());
+    assertEquals(1, transport.idleConnections());
+  }
+
+  /**
+   * Tests that connections left idle past the idle timeout are closed
+   */
+  @Test
+  public void testIdleEviction() throws Exception {
+    transport.close();
+    transport = transport(50);
+    transport.post("/ECHO", CONTENT_TYPE, new byte[1], true).get(30, TimeUnit.SECONDS);
+    assertEquals(1, transport.openConnections());
+    for (int i = 0; i < 100 && transport.openConnections() > 0; i++) {
+      Thread.sleep(20);
+    }
+    assertEquals(0, transport.openConnections());
+    assertEquals(0, transport.idleConnections());
+  }
+
+  /**
+   * Tests that a request on an idle connection the server has since closed is sent again on a new one
+   */
+  @Test
+  public void testServerClosedIdleConnection() throws Exception {
+    connector.setIdleTimeout(50);
+    transport.post("/ECHO", CONTENT_TYPE, new byte[1], true).get(30, TimeUnit.SECONDS);
+    Thread.sleep(300);
+    assertEquals(1, transport.idleConnections());
+    byte[] reply = transport.post("/ECHO", CONTENT_TYPE, "again".getBytes(StandardCharsets.UTF_8), true)
+        .get(30, TimeUnit.SECONDS);
+    assertEquals("again", new String(reply, StandardCharsets.UTF_8));
+    assertEquals(2, clientPorts.size());
+  }
+
+  /**
+   * Tests that a request that isn't idempotent is not sent again when its reused connection closes after it was sent,
+   * since the server may have acted on it, while an idempotent one is
+   */
+  @Test
+  public void testResendOnlyIdempotent() throws Exception {
+    assertEquals(2, dropSecondRequest(false));
+    assertEquals(3, dropSecondRequest(true));
+  }
+
+  /**
+   * Posts two requests, one after another, to a server that replies to the first but closes the connection on reading
+   * the second, returning how many requests the server read. Fails if the second request fails when it is idempotent,
+   * or succeeds when it is not
+   */
+  private int dropSecondRequest(boolean idempotent) throws Exception {
+    AtomicInteger received = new AtomicInteger();
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      Thread thread = new Thread(() -> {
+        try {
+          while (true) {
+            try (Socket socket = serverSocket.accept()) {
+              DataInputStream in = new DataInputStream(socket.getInputStream());
+              OutputStream out = socket.getOutputStream();
+              while (true) {
+                int contentLength = readHead(in);
+                if (contentLength < 0) {
+                  break;
+                }
+                byte[] body = new byte[contentLength];
+                in.readFully(body);
+                if (received.incrementAndGet() == 2) {
+                  break;
+                }
+                out.write(("HTTP/1.1 200 OK\r\nContent-Length: " + contentLength + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+                out.write(body);
+                out.flush();
+              }
+            }
+          }
+        } catch (IOException e) {
+          // the server socket was closed
+        }
+      });
+      thread.setDaemon(true);
+      thread.start();
+
+      try (AsyncHttpTransport dropping = new AsyncHttpTransport("localhost", serverSocket.getLocalPort(), 1, 1,
+          AsyncHttpTransport.DEFAULT_IDLE_TIMEOUT_MILLIS, AsyncHttpTransport.DEFAULT_TIMEOUT_MILLIS)) {
+        dropping.post("/WRITE", CONTENT_TYPE, new byte[1], idempotent).get(30, TimeUnit.SECONDS);
+        try {
+          dropping.post("/WRITE", CONTENT_TYPE, new byte[2], idempotent).get(30, TimeUnit.SECONDS);
+          assertTrue("A request that isn't idempotent was sent again", idempotent);
+        } catch (ExecutionException e) {
+          assertFalse("An idempotent request was not sent again", idempotent);
+        }
+      }
+    }
+    return received.get();
+  }
+
+  /**
+   * Reads the head of a request, returning its Content-Length, or -1 if the connection was closed
+   */
+  private static int readHead(DataInputStream in) throws IOException {
+    int contentLength = 0;
+    StringBuilder line = new StringBuilder();
+    int b;
+    while ((b = in.read()) >= 0) {
+      if (b != '\n') {
+        line.append((char) b);
+        continue;
+      }
+      String header = line.toString().trim();
+      line.setLength(0);
+      if (header.isEmpty()) {
+        return contentLength;
+      }
+      if (header.toLowerCase().startsWith("content-length:")) {
+        contentLength = Integer.parseInt(header.substring("content-length:".length()).trim());
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Tests that a request fails once it has waited the timeout to connect, to a server whose backlog of connections is
+   * full, rather than waiting as long as the operating system keeps trying
+   */
+  @Test
+  public void testConnectTimeout() throws Exception {
+    List<Socket> backlog = new ArrayList<>();
+    try (ServerSocket serverSocket = new ServerSocket(0, 1)) {
+      // fill the backlog, which the server never accepts from, until a connect goes unanswered
+      InetSocketAddress address = new InetSocketAddress("localhost", serverSocket.getLocalPort());
+      boolean full = false;
+      while (!full && backlog.size() < 100) {
+        Socket socket = new Socket();
+        backlog.add(socket);
+        try {
+          socket.connect(address, 200);
+        } catch (SocketTimeoutException e) {
+          full = true;
+        }
+      }
+      assumeTrue("The backlog never filled", full);
+
+      try (AsyncHttpTransport unanswered = new AsyncHttpTransport("localhost", serverSocket.getLocalPort(), 1,
+          MAX_CONNECTIONS, AsyncHttpTransport.DEFAULT_IDLE_TIMEOUT_MILLIS, 200)) {
+        try {
+          unanswered.post("/ECHO", CONTENT_TYPE, new byte[1], true).get(30, TimeUnit.SECONDS);
+          fail("A connect that was never answered did not time out");
+        } catch (ExecutionException expected) {
+          assertTrue(expected.getCause() instanceof InterruptedByTimeoutException);
+        }
+        assertEquals(0, unanswered.openConnections());
+      }
+    } finally {
+      for (Socket socket : backlog) {
+        socket.close();
+      }
+    }
+  }
+
+  /**
+   * Tests a reply larger than the read buffer, sent in chunks
+   */
+  @Test
+  public void testChunkedReply() throws Exception {
+    byte[] body = new byte[100_000];
+    for (int i = 0; i < body.length; i++) {
+      body[i] = (byte) i;
+    }
+    byte[] reply = transport.post("/CHUNKED", CONTENT_TYPE, body, true).get(30, TimeUnit.SECONDS);
+    assertArrayEquals(body, reply);
+  }
+
+  /**
+   * Tests that a status other than 200 fails the request
+   */
+  @Test
+  public void testErrorStatus() throws Exception {
+    try {
+      transport.post("/MISSING", CONTENT_TYPE, new byte[0], true).get(30, TimeUnit.SECONDS);
+      fail("A 404 reply was not reported");
+    } catch (ExecutionException expected) {
+      assertTrue(expected.getCause() instanceof IOException);
+    }
+  }
+
+  /**
+   * Tests that the parser reads replies that arrive a byte at a time, however their bodies are delimited
+   */
+  @Test
+  public void testResponseParser() throws Exception {
+    assertEquals("hello", parse("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhello", false));
+    assertEquals("hello, world", parse("HTTP/1.1 200 OK\r\ntransfer-encoding: chunked\r\n\r\n"
+        + "5\r\nhello\r\n7;name=value\r\n, world\r\n0\r\nTrailer: x\r\n\r\n", false));
+    assertEquals("to the end", parse("HTTP/1.0 200 OK\r\n\r\nto the end", true));
+    assertEquals("", parse("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n", false));
+
+    AsyncHttpTransport.ResponseParser parser = new AsyncHttpTransport.ResponseParser();
+    parser.feed(ByteBuffer.wrap("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhel".getBytes(StandardCharsets.UTF_8)));
+    try {
+      parser.endOfStream();
+      fail("A reply cut short was not reported");
+    } catch (IOException expected) {
+      // only 3 of the 5 bytes arrived
+    }
+  }
+
+  private static String parse(String response, boolean endOfStream) throws IOException {
+    AsyncHttpTransport.ResponseParser parser = new AsyncHttpTransport.ResponseParser();
+    for (byte b : response.getBytes(StandardCharsets.UTF_8)) {
+      assertFalse(parser.isComplete());
+      parser.feed(ByteBuffer.wrap(new byte[] {b}));
+    }
+    if (endOfStream) {
+      parser.endOfStream();
+    }
+    assertTrue(parser.isComplete());
+    assertEquals(200, parser.status());
+    return new String(parser.body(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Echoes the body of each request, all at once or, for /CHUNKED, a piece at a time
+   */
+  private static final class TestServlet extends HttpServlet {
+
+    private final Set<Integer> clientPorts;
+
+    TestServlet(Set<Integer> clientPorts) {
+      this.clientPorts = clientPorts;
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response) throws IOException {
+      clientPorts.add(request.getRemotePort());
+      byte[] body = ByteStreams.toByteArray(request.getInputStream());
+      switch (request.getRequestURI()) {
+        case "/ECHO":
+          response.setContentLength(body.length);
+          response.getOutputStream().write(body);
+          break;
+        case "/CHUNKED":
+          OutputStream out = response.getOutputStream();
+          for (int from = 0; from < body.length; from += 10_000) {
+            out.write(Arrays.copyOfRange(body, from, Math.min(body.length, from + 10_000)));
+            out.flush();
+          }
+          break;
+        default:
+          response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+      }
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package org.daboodb.daboo.client;
 
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
 import org.daboodb.daboo.shared.Document;
 import org.daboodb.daboo.testutil.BasicTest;
 import org.daboodb.daboo.testutil.Company;
@@ -10,7 +11,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
@@ -182,4 +185,35 @@ public class DbClientTest extends BasicTest {
     Document missing = client.get(deleteDoc.getKey());
     assertNull(missing);
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests writing and reading documents without waiting for each request before sending the next
+   */
+  @Test
+  public void testAsync() throws Exception {
+    int testCount = 1_000;
+    List<Person> people = Person.createPeoples(testCount);
+
+    List<CompletableFuture<Void>> writes = new ArrayList<>();
+    for (Person person : people) {
+      writes.add(client.writeAsync(person));
+    }
+    CompletableFuture.allOf(writes.toArray(new CompletableFuture[testCount])).get(30, TimeUnit.SECONDS);
+
+    List<CompletableFuture<Document>> reads = new ArrayList<>();
+    for (Person person : people) {
+      reads.add(client.getAsync(person.getKey()));
+    }
+    for (int i = 0; i < testCount; i++) {
+      assertEquals(people.get(i), reads.get(i).get(30, TimeUnit.SECONDS));
+    }
+    assertNull(client.getAsync(new Company("Missing").getKey()).get(30, TimeUnit.SECONDS));
+
+    people.sort(Comparator.comparing(Person::getKey, LexicographicComparator.SIGNED));
+    byte[] start = people.get(100).getKey();
+    byte[] end = people.get(900).getKey();
+    List<Document> range = client.getRangeAsync(start, end).get(30, TimeUnit.SECONDS);
+    assertEquals(client.getRangeRequest(start, end), range);
+    assertTrue(range.containsAll(people.subList(100, 900)));
+  }
+}
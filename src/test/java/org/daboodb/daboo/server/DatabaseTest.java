@@ -2,10 +2,13 @@ package org.daboodb.daboo.server;
 
 import com.google.protobuf.ByteString;
 import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
 import org.daboodb.daboo.server.io.WriteAheadLog;
 import org.daboodb.daboo.shared.Document;
 import org.daboodb.daboo.shared.DocumentUtils;
+import org.daboodb.daboo.shared.exceptions.RuntimeRequestException;
 import org.daboodb.daboo.testutil.BasicTest;
+import org.daboodb.daboo.testutil.Company;
 import org.daboodb.daboo.testutil.Person;
 import org.junit.After;
 import org.junit.Before;
@@ -13,7 +16,17 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.daboodb.daboo.shared.RequestUtils.*;
 import static org.junit.Assert.*;
@@ -75,6 +88,448 @@ public class DatabaseTest extends BasicTest {
     assertEquals(person, person1);
   }
 
+  /**
+   * Tests reading a range a page at a time, in both directions
+   */
+  @Test
+  public void testRangePages() {
+    List<Request.Document> documentList = new ArrayList<>();
+    for (Person person : Person.createPeoples(25)) {
+      documentList.add(DocumentUtils.getDocument(person));
+    }
+    Request.WriteRequest writeRequest = getWriteRequest(getWriteHeader(), getWriteRequestBody(documentList));
+    server.handleRequest(writeRequest, writeRequest.toByteArray());
+
+    ByteString start = ByteString.copyFrom(new byte[] {0});
+    ByteString end = ByteString.copyFrom(new byte[] {Byte.MAX_VALUE});
+    List<ByteString> forward = readPages(start, end, false);
+    List<ByteString> reverse = readPages(start, end, true);
+    assertEquals(25, forward.size());
+    Collections.reverse(reverse);
+    assertEquals(forward, reverse);
+  }
+
+  /**
+   * Reads the range ten documents at a time, returning the keys of the documents read
+   */
+  private List<ByteString> readPages(ByteString start, ByteString end, boolean reverse) {
+    List<ByteString> keys = new ArrayList<>();
+    ByteString afterKey = null;
+    Request.GetReply reply;
+    do {
+      Request.GetRangeRequestBody body = getGetRangeRequestBody(start, end, 10, reverse, afterKey);
+      reply = server.handleRequest(getGetRangeRequest(getGetHeader(), body));
+      assertTrue(reply.getDocumentBytesCount() <= 10);
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        keys.add(ByteString.copyFrom(DocumentUtils.getDocumentFromRequestDoc(bytes).getKey()));
+      }
+      afterKey = reply.getLastKey();
+    } while (reply.getHasMore());
+    return keys;
+  }
+
+  /**
+   * Tests reading the documents whose keys begin with a prefix a page at a time, resuming each page from the previous
+   * reply's continuation token, in both directions
+   */
+  @Test
+  public void testPrefixPages() {
+    List<Request.Document> documentList = new ArrayList<>();
+    for (Person person : Person.createPeoples(200)) {
+      documentList.add(DocumentUtils.getDocument(person));
+    }
+    Request.WriteRequest writeRequest = getWriteRequest(getWriteHeader(), getWriteRequestBody(documentList));
+    server.handleRequest(writeRequest, writeRequest.toByteArray());
+
+    ByteString prefix = documentList.get(0).getKey().substring(0, 1);
+    List<ByteString> expected = new ArrayList<>();
+    for (Request.Document document : documentList) {
+      if (document.getKey().startsWith(prefix)) {
+        expected.add(document.getKey());
+      }
+    }
+    List<ByteString> forward = readPrefixPages(prefix, false);
+    List<ByteString> reverse = readPrefixPages(prefix, true);
+    assertEquals(expected.size(), forward.size());
+    assertTrue(forward.containsAll(expected));
+    Collections.reverse(reverse);
+    assertEquals(forward, reverse);
+  }
+
+  /**
+   * Tests that a continuation token issued by a scan in one direction is refused by a scan in the other
+   */
+  @Test
+  public void testContinuationTokenDirection() {
+    ByteString token = ContinuationToken.encode(new byte[] {1, 2, 3}, false);
+    assertArrayEquals(new byte[] {1, 2, 3}, ContinuationToken.decode(token, false));
+    try {
+      server.handleRequest(getGetRangeRequest(getGetHeader(), getGetPrefixRequestBody(null, 10, true, token)));
+      fail("a forward token resumed a reverse scan");
+    } catch (RuntimeRequestException e) {
+      assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+  }
+
+  /**
+   * Reads the documents with the prefix two at a time, returning their keys
+   */
+  private List<ByteString> readPrefixPages(ByteString prefix, boolean reverse) {
+    List<ByteString> keys = new ArrayList<>();
+    ByteString continuationToken = null;
+    Request.GetReply reply;
+    do {
+      Request.GetRangeRequestBody body = getGetPrefixRequestBody(prefix, 2, reverse, continuationToken);
+      reply = server.handleRequest(getGetRangeRequest(getGetHeader(), body));
+      assertTrue(reply.getDocumentBytesCount() <= 2);
+      assertEquals(reply.getHasMore(), reply.hasContinuationToken());
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        keys.add(ByteString.copyFrom(DocumentUtils.getDocumentFromRequestDoc(bytes).getKey()));
+      }
+      continuationToken = reply.getContinuationToken();
+    } while (reply.getHasMore());
+    return keys;
+  }
+
+  /**
+   * Tests reading the documents of a type a page at a time through the contentType index, as writes add documents,
+   * change a document's type and delete documents after the index is built
+   */
+  @Test
+  public void testGetByType() {
+    List<Request.Document> people = new ArrayList<>();
+    for (Person person : Person.createPeoples(30)) {
+      people.add(DocumentUtils.getDocument(person));
+    }
+    List<Request.Document> companies = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      companies.add(DocumentUtils.getDocument(new Company("company" + i)));
+    }
+    write(people);
+    write(companies);
+    String personType = people.get(0).getContentType();
+    String companyType = companies.get(0).getContentType();
+    assertNotEquals(personType, companyType);
+
+    List<ByteString> personKeys = readTypePages(personType);
+    assertEquals(30, personKeys.size());
+    List<ByteString> sorted = new ArrayList<>(personKeys);
+    sorted.sort((a, b) -> LexicographicComparator.SIGNED.compare(a.toByteArray(), b.toByteArray()));
+    assertEquals(sorted, personKeys);
+    assertEquals(7, readTypePages(companyType).size());
+    assertEquals(0, readTypePages("nothing").size());
+
+    // writes after the index is built keep it current
+    List<Request.Document> more = new ArrayList<>();
+    for (Person person : Person.createPeoples(3)) {
+      more.add(DocumentUtils.getDocument(person));
+    }
+    write(more);
+    Request.Document moved = people.get(5).toBuilder().setContentType("Former").build();
+    write(Collections.singletonList(moved));
+    assertEquals(32, readTypePages(personType).size());
+    assertEquals(Collections.singletonList(moved.getKey()), readTypePages("Former"));
+
+    Request.WriteRequest delete = getDeleteRequest(getDeleteHeader(),
+        getDeleteRequestBody(Collections.singletonList(companies.get(0))));
+    server.handleRequest(delete, delete.toByteArray());
+    assertEquals(6, readTypePages(companyType).size());
+  }
+
+  /**
+   * Tests that a query returns, a page at a time, only the documents in its range and of its type that match every
+   * predicate, whether or not it names a type
+   */
+  @Test
+  public void testQuery() {
+    List<Person> persons = Person.createPeoples(60);
+    List<Request.Document> people = new ArrayList<>();
+    for (Person person : persons) {
+      people.add(DocumentUtils.getDocument(person));
+    }
+    List<Request.Document> companies = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      companies.add(DocumentUtils.getDocument(new Company("company" + i)));
+    }
+    write(people);
+    write(companies);
+    String personType = people.get(0).getContentType();
+    String state = persons.get(0).getState();
+
+    Set<ByteString> heavy = new HashSet<>();
+    Set<ByteString> heavyInState = new HashSet<>();
+    for (int i = 0; i < persons.size(); i++) {
+      if (persons.get(i).getWeight() >= 150) {
+        heavy.add(people.get(i).getKey());
+        if (persons.get(i).getState().equals(state)) {
+          heavyInState.add(people.get(i).getKey());
+        }
+      }
+    }
+    Request.FieldPredicate weight =
+        getFieldPredicate("weight", Request.FieldPredicate.Operator.GREATER_THAN_OR_EQUAL, 150);
+    Request.FieldPredicate inState = getFieldPredicate("state", Request.FieldPredicate.Operator.EQUALS, state);
+
+    List<ByteString> keys = readQueryPages(personType, Collections.singletonList(weight));
+    assertEquals(heavy, new HashSet<>(keys));
+    List<ByteString> sorted = new ArrayList<>(keys);
+    sorted.sort((a, b) -> LexicographicComparator.SIGNED.compare(a.toByteArray(), b.toByteArray()));
+    assertEquals(sorted, keys);
+
+    // companies have no weight, so a query of any type finds the same people
+    assertEquals(heavy, new HashSet<>(readQueryPages(null, Collections.singletonList(weight))));
+    assertEquals(heavyInState, new HashSet<>(readQueryPages(personType, Arrays.asList(weight, inState))));
+    assertEquals(60, readQueryPages(personType, Collections.emptyList()).size());
+    assertEquals(5, readQueryPages(null, Collections.singletonList(getExistsPredicate("name"))).size());
+    assertEquals(0, readQueryPages("nothing", Collections.emptyList()).size());
+  }
+
+  @Test(expected = RuntimeRequestException.class)
+  public void testQueryPredicateWithoutValue() {
+    Request.FieldPredicate predicate = Request.FieldPredicate.newBuilder()
+        .setField("weight")
+        .setOperator(Request.FieldPredicate.Operator.LESS_THAN)
+        .build();
+    readQueryPages(null, Collections.singletonList(predicate));
+  }
+
+  /**
+   * Reads the matches of the query four at a time, returning their keys
+   */
+  private List<ByteString> readQueryPages(String contentType, List<Request.FieldPredicate> predicates) {
+    List<ByteString> keys = new ArrayList<>();
+    ByteString continuationToken = null;
+    Request.GetReply reply;
+    do {
+      Request.QueryRequestBody body =
+          getQueryRequestBody(null, null, null, contentType, predicates, 4, continuationToken);
+      reply = server.handleRequest(getQueryRequest(getQueryHeader(), body));
+      assertTrue(reply.getDocumentBytesCount() <= 4);
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        Document document = DocumentUtils.getDocumentFromRequestDoc(bytes);
+        keys.add(ByteString.copyFrom(document.getKey()));
+      }
+      continuationToken = reply.getContinuationToken();
+    } while (reply.getHasMore());
+    return keys;
+  }
+
+  /**
+   * Tests the optimistic lock checks made against the version index, across updates and deletes
+   */
+  @Test
+  public void testVersionChecks() {
+    Request.Document document = DocumentUtils.getDocument(Person.createPeoples(1).get(0)).toBuilder()
+        .setInstanceVersion(3)
+        .build();
+    assertEquals(3, VersionIndex.instanceVersion(document.toByteString()));
+    assertEquals(Request.ErrorType.NONE, writeOne(document));
+
+    Request.Document older = document.toBuilder().setInstanceVersion(2).build();
+    assertEquals(1, readNewLogEntries());
+    assertEquals(Request.ErrorType.OPTIMISTIC_LOCK_EXCEPTION, writeOne(document));
+    assertEquals(Request.ErrorType.OPTIMISTIC_LOCK_EXCEPTION, writeOne(older));
+    // refused writes never reach the WAL, so recovery can't replay them
+    assertEquals(0, readNewLogEntries());
+    assertEquals(Request.ErrorType.NONE, writeOne(document.toBuilder().setInstanceVersion(4).build()));
+    // an unversioned write skips the check
+    assertEquals(Request.ErrorType.NONE, writeOne(document.toBuilder().setInstanceVersion(0).build()));
+    assertEquals(Request.ErrorType.NONE, writeOne(document.toBuilder().setInstanceVersion(1).build()));
+
+    Request.WriteRequest delete = getDeleteRequest(getDeleteHeader(),
+        getDeleteRequestBody(Collections.singletonList(document)));
+    server.handleRequest(delete, delete.toByteArray());
+    assertEquals(Request.ErrorType.NONE, writeOne(document.toBuilder().setInstanceVersion(1).build()));
+  }
+
+  /**
+   * Tests that writes run through the write pipeline behave as they do on the submitting threads
+   */
+  @Test
+  public void testWritePipeline() throws Exception {
+    server.setWritePipeline(16);
+    try {
+      testVersionChecks();
+      testConcurrentOptimisticLocking();
+      server.clear();
+      testGetByType();
+    } finally {
+      server.setWritePipeline(0);
+    }
+  }
+
+  /**
+   * Tests that one thread can keep many writes in flight through the write pipeline, each completed with its own reply
+   */
+  @Test
+  public void testHandleRequestAsync() throws Exception {
+    server.setWritePipeline(16);
+    try {
+      List<Request.WriteRequest> requests = new ArrayList<>();
+      List<CompletableFuture<Request.WriteReply>> replies = new ArrayList<>();
+      for (Person person : Person.createPeoples(2_000)) {
+        Request.WriteRequest request = getWriteRequest(getWriteHeader(),
+            getWriteRequestBody(Collections.singletonList(DocumentUtils.getDocument(person))));
+        requests.add(request);
+        replies.add(server.handleRequestAsync(request, request.toByteArray()));
+      }
+      for (int i = 0; i < requests.size(); i++) {
+        Request.WriteReply reply = replies.get(i).get(30, TimeUnit.SECONDS);
+        assertEquals(requests.get(i).getHeader().getId(), reply.getRequestId());
+        assertEquals(Request.ErrorType.NONE, reply.getErrorCondition().getErrorType());
+      }
+      assertEquals(requests.size(), server.size());
+    } finally {
+      server.setWritePipeline(0);
+    }
+  }
+
+  private Request.ErrorType writeOne(Request.Document document) {
+    Request.WriteRequest request =
+        getWriteRequest(getWriteHeader(), getWriteRequestBody(Collections.singletonList(document)));
+    return server.handleRequest(request, request.toByteArray()).getErrorCondition().getErrorType();
+  }
+
+  /**
+   * Tests that of many writers racing to replace the same version of a document, exactly one succeeds, while writers
+   * of different documents all succeed
+   */
+  @Test
+  public void testConcurrentOptimisticLocking() throws Exception {
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 0; round < 20; round++) {
+        Request.Document document = DocumentUtils.getDocument(Person.createPeoples(1).get(0)).toBuilder()
+            .setInstanceVersion(1)
+            .build();
+        write(Collections.singletonList(document));
+        Request.Document update = document.toBuilder().setInstanceVersion(2).build();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Request.WriteReply>> replies = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          replies.add(executor.submit(() -> {
+            Request.WriteRequest request =
+                getWriteRequest(getWriteHeader(), getWriteRequestBody(Collections.singletonList(update)));
+            start.await();
+            return server.handleRequest(request, request.toByteArray());
+          }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Request.WriteReply> reply : replies) {
+          Request.ErrorType error = reply.get().getErrorCondition().getErrorType();
+          if (error == Request.ErrorType.NONE) {
+            succeeded++;
+          } else {
+            assertEquals(Request.ErrorType.OPTIMISTIC_LOCK_EXCEPTION, error);
+          }
+        }
+        assertEquals(1, succeeded);
+      }
+
+      int before = server.size();
+      int writesPerThread = 100;
+      List<Future<?>> writers = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        writers.add(executor.submit(() -> {
+          for (Person person : Person.createPeoples(writesPerThread)) {
+            Request.Document document = DocumentUtils.getDocument(person).toBuilder().setInstanceVersion(1).build();
+            Request.WriteRequest request =
+                getWriteRequest(getWriteHeader(), getWriteRequestBody(Collections.singletonList(document)));
+            Request.WriteReply reply = server.handleRequest(request, request.toByteArray());
+            assertEquals(Request.ErrorType.NONE, reply.getErrorCondition().getErrorType());
+          }
+        }));
+      }
+      for (Future<?> writer : writers) {
+        writer.get();
+      }
+      assertEquals(before + threads * writesPerThread, server.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that writes of distinct documents from one thread and from several all succeed, and are all stored. Writes
+   * to different keys take different key locks, so with spare cores the several threads' writes overlap
+   */
+  @Test
+  public void testParallelWrites() throws Exception {
+    int count = 2_000;
+    for (int threads : new int[] {1, 4}) {
+      List<Request.WriteRequest> requests = new ArrayList<>();
+      List<ByteString> keys = new ArrayList<>();
+      for (Person person : Person.createPeoples(count)) {
+        Request.Document document = DocumentUtils.getDocument(person).toBuilder().setInstanceVersion(1).build();
+        requests.add(getWriteRequest(getWriteHeader(), getWriteRequestBody(Collections.singletonList(document))));
+        keys.add(document.getKey());
+      }
+      int before = server.size();
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          int first = t;
+          writers.add(executor.submit(() -> {
+            for (int i = first; i < count; i += threads) {
+              Request.WriteRequest request = requests.get(i);
+              Request.WriteReply reply = server.handleRequest(request, request.toByteArray());
+              assertEquals(Request.ErrorType.NONE, reply.getErrorCondition().getErrorType());
+            }
+          }));
+        }
+        for (Future<?> writer : writers) {
+          writer.get();
+        }
+      } finally {
+        executor.shutdown();
+      }
+      assertEquals(before + count, server.size());
+      Request.GetReply reply = server.handleRequest(getGetRequest(getGetHeader(), getGetRequestBody(keys)));
+      assertEquals(count, reply.getDocumentBytesCount());
+    }
+  }
+
+  /**
+   * Returns the number of requests logged since the WAL was cleared or last read here
+   */
+  private static int readNewLogEntries() {
+    WriteAheadLog log = ServerSettings.getInstance().getWriteAheadLog();
+    int count = 0;
+    while (log.hasNext()) {
+      log.next();
+      count++;
+    }
+    return count;
+  }
+
+  private void write(List<Request.Document> documents) {
+    Request.WriteRequest writeRequest = getWriteRequest(getWriteHeader(), getWriteRequestBody(documents));
+    server.handleRequest(writeRequest, writeRequest.toByteArray());
+  }
+
+  /**
+   * Reads the documents of the type four at a time, returning their keys
+   */
+  private List<ByteString> readTypePages(String contentType) {
+    List<ByteString> keys = new ArrayList<>();
+    ByteString continuationToken = null;
+    Request.GetReply reply;
+    do {
+      Request.GetByTypeRequestBody body = getGetByTypeRequestBody(contentType, 4, continuationToken);
+      reply = server.handleRequest(getGetByTypeRequest(getGetByTypeHeader(), body));
+      assertTrue(reply.getDocumentBytesCount() <= 4);
+      for (ByteString bytes : reply.getDocumentBytesList()) {
+        Document document = DocumentUtils.getDocumentFromRequestDoc(bytes);
+        keys.add(ByteString.copyFrom(document.getKey()));
+      }
+      continuationToken = reply.getContinuationToken();
+    } while (reply.getHasMore());
+    return keys;
+  }
+
   @Ignore
   @Test
   public void testOptimisticLocking() {
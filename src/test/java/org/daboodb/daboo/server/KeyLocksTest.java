@@ -0,0 +1,77 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for KeyLocks
+ */
+public class KeyLocksTest {
+
+  private static final ByteString A = ByteString.copyFromUtf8("a");
+  private static final ByteString B = ByteString.copyFromUtf8("b");
+
+  /**
+   * Tests that a key held by one thread blocks another thread locking it, but not one locking a different key
+   */
+  @Test
+  public void testExclusivePerKey() throws Exception {
+    // with a stripe for every hash code, distinct keys never share a lock
+    KeyLocks keyLocks = new KeyLocks(1 << 16);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    List<Lock> held = keyLocks.lock(Collections.singletonList(A));
+    try {
+      Future<?> other = executor.submit(() -> keyLocks.unlock(keyLocks.lock(Collections.singletonList(B))));
+      other.get(5, TimeUnit.SECONDS);
+
+      Future<?> same = executor.submit(() -> keyLocks.unlock(keyLocks.lock(Arrays.asList(B, A))));
+      try {
+        same.get(100, TimeUnit.MILLISECONDS);
+        fail("A key was locked twice at once");
+      } catch (TimeoutException expected) {
+        // the second writer waits for the first
+      }
+      keyLocks.unlock(held);
+      held = Collections.emptyList();
+      same.get(5, TimeUnit.SECONDS);
+    } finally {
+      keyLocks.unlock(held);
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Tests that writers locking overlapping keys in opposite orders don't deadlock
+   */
+  @Test
+  public void testNoDeadlock() throws Exception {
+    KeyLocks keyLocks = new KeyLocks(16);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch done = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      List<ByteString> keys = t % 2 == 0 ? Arrays.asList(A, B, A) : Arrays.asList(B, A);
+      executor.submit(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          keyLocks.unlock(keyLocks.lock(keys));
+        }
+        done.countDown();
+      });
+    }
+    assertTrue(done.await(30, TimeUnit.SECONDS));
+    executor.shutdown();
+  }
+}
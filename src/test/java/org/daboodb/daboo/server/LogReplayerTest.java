@@ -0,0 +1,198 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.Db;
+import org.daboodb.daboo.server.db.OnHeapConcurrentSkipListDb;
+import org.daboodb.daboo.server.db.OnHeapRBTreeDb;
+import org.daboodb.daboo.server.db.WriteBatch;
+import org.daboodb.daboo.server.io.WriteAheadLog;
+import org.daboodb.daboo.shared.exceptions.RuntimePersistenceException;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.daboodb.daboo.shared.RequestUtils.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for LogReplayer
+ */
+public class LogReplayerTest {
+
+  private static final int KEYS = 200;
+  private static final int VERSIONS = 5;
+
+  @Test
+  public void testReplayWithPartitions() throws Exception {
+    assertReplay(new OnHeapConcurrentSkipListDb());
+  }
+
+  @Test
+  public void testReplayIntoSingleThreadedDb() throws Exception {
+    assertReplay(new OnHeapRBTreeDb());
+  }
+
+  /**
+   * Tests that requests of several documents, whose keys fall in several partitions, are each applied as one batch,
+   * in log order with the single-document requests around them
+   */
+  @Test
+  public void testMultiDocumentRequestsApplyWhole() throws Exception {
+    List<byte[]> records = new ArrayList<>();
+    List<Integer> requestSizes = new ArrayList<>();
+    for (int version = 1; version <= VERSIONS; version++) {
+      for (int first = 0; first < KEYS; first += 10) {
+        List<Request.Document> documents = new ArrayList<>();
+        for (int i = first; i < first + 10; i++) {
+          documents.add(document(i, version));
+        }
+        records.add(getWriteRequest(getWriteHeader(), getWriteRequestBody(documents)).toByteArray());
+        requestSizes.add(documents.size());
+        // a single-document request between them, to the same key as the batch after it
+        records.add(writeRequest(first + 10 == KEYS ? 0 : first + 10, version).toByteArray());
+        requestSizes.add(1);
+      }
+    }
+    List<Request.Document> deletes = new ArrayList<>();
+    for (int i = 0; i < KEYS; i += 10) {
+      deletes.add(document(i, VERSIONS));
+    }
+    records.add(getDeleteRequest(getDeleteHeader(), getDeleteRequestBody(deletes)).toByteArray());
+    requestSizes.add(deletes.size());
+
+    BatchRecordingDb db = new BatchRecordingDb();
+    new LogReplayer(db, 4).replay(new ListLog(records));
+
+    List<Integer> batchSizes = new ArrayList<>(db.batchSizes);
+    Collections.sort(batchSizes);
+    Collections.sort(requestSizes);
+    assertEquals(requestSizes, batchSizes);
+    assertEquals(KEYS - KEYS / 10, db.size());
+    for (int i = 1; i < KEYS; i++) {
+      List<ByteString> result = db.get(Collections.singletonList(key(i)));
+      assertEquals(i % 10 == 0 ? 0 : 1, result.size());
+      if (!result.isEmpty()) {
+        assertEquals(VERSIONS, Request.Document.parseFrom(result.get(0)).getInstanceVersion());
+      }
+    }
+  }
+
+  @Test(expected = RuntimePersistenceException.class)
+  public void testCorruptRequestFailsReplay() throws Exception {
+    List<byte[]> records = new ArrayList<>();
+    records.add(writeRequest(1, 1).toByteArray());
+    records.add(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+    new LogReplayer(new OnHeapConcurrentSkipListDb(), 4).replay(new ListLog(records));
+  }
+
+  /**
+   * Logs several versions of every key, then deletes every tenth key, and checks that replay ends with the last
+   * version of each remaining key
+   */
+  private static void assertReplay(Db db) throws Exception {
+    List<byte[]> records = new ArrayList<>();
+    for (int version = 1; version <= VERSIONS; version++) {
+      for (int i = 0; i < KEYS; i++) {
+        records.add(writeRequest(i, version).toByteArray());
+      }
+    }
+    for (int i = 0; i < KEYS; i += 10) {
+      records.add(getDeleteRequest(getDeleteHeader(), getDeleteRequestBody(document(i, VERSIONS))).toByteArray());
+    }
+
+    long replayed = new LogReplayer(db, 4).replay(new ListLog(records));
+
+    assertEquals(records.size(), replayed);
+    assertEquals(KEYS - KEYS / 10, db.size());
+    for (int i = 0; i < KEYS; i++) {
+      List<ByteString> result = db.get(Collections.singletonList(key(i)));
+      if (i % 10 == 0) {
+        assertTrue(result.isEmpty());
+      } else {
+        assertEquals(VERSIONS, Request.Document.parseFrom(result.get(0)).getInstanceVersion());
+      }
+    }
+  }
+
+  private static Request.WriteRequest writeRequest(int i, int version) {
+    return getWriteRequest(getWriteHeader(), getWriteRequestBody(document(i, version)));
+  }
+
+  private static Request.Document document(int i, int version) {
+    return Request.Document.newBuilder()
+        .setKey(key(i))
+        .setContentClass("")
+        .setContentType("")
+        .setSchemaVersion(0)
+        .setInstanceVersion(version)
+        .setContentBytes(ByteString.EMPTY)
+        .build();
+  }
+
+  private static ByteString key(int i) {
+    return ByteString.copyFrom(String.format("key%05d", i).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * A db that records the size of each batch applied to it, and fails writes and deletes made outside a batch
+   */
+  private static class BatchRecordingDb extends OnHeapConcurrentSkipListDb {
+
+    private final Queue<Integer> batchSizes = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void apply(WriteBatch batch) {
+      batchSizes.add(batch.size());
+      super.apply(batch);
+    }
+
+    @Override
+    public void write(Map<byte[], byte[]> documentMap) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void delete(List<Request.Document> documentList) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * A log held in memory
+   */
+  private static class ListLog implements WriteAheadLog {
+
+    private final Iterator<byte[]> iterator;
+
+    ListLog(List<byte[]> records) {
+      this.iterator = records.iterator();
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    @Override
+    public void log(byte[] request) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public byte[] next() {
+      return iterator.next();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package org.daboodb.daboo.server;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.db.OnHeapConcurrentSkipListDb;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for VersionIndex
+ */
+public class VersionIndexTest {
+
+  @Test
+  public void testVersionsAreReadFromTheDbOnce() {
+    CountingDb db = new CountingDb();
+    db.put(key(1).toByteArray(), document(7).toByteArray());
+    VersionIndex index = new VersionIndex();
+
+    assertEquals(7, index.version(key(1), db));
+    assertEquals(0, index.version(key(2), db));
+    assertEquals(2, db.gets.get());
+    assertEquals(7, index.version(key(1), db));
+    assertEquals(0, index.version(key(2), db));
+    assertEquals(2, db.gets.get());
+
+    index.put(key(1), 8);
+    index.put(key(2), 1);
+    assertEquals(8, index.version(key(1), db));
+    assertEquals(1, index.version(key(2), db));
+    index.put(key(1), 0);
+    assertEquals(0, index.version(key(1), db));
+    assertEquals(2, db.gets.get());
+    assertEquals(2, index.size());
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertEquals(7, index.version(key(1), db));
+    assertEquals(3, db.gets.get());
+  }
+
+  @Test
+  public void testSizeIsBounded() {
+    VersionIndex index = new VersionIndex();
+    for (int i = 0; i < 3 * VersionIndex.MAX_ENTRIES; i++) {
+      index.put(key(i), i);
+      if (i % 1000 == 0) {
+        assertEquals(i, index.version(key(i), new CountingDb()));
+      }
+    }
+    assertTrue(index.size() <= VersionIndex.MAX_ENTRIES);
+    assertTrue(index.size() > 0);
+  }
+
+  @Test
+  public void testInstanceVersion() {
+    assertEquals(5, VersionIndex.instanceVersion(document(5)));
+    assertEquals(0, VersionIndex.instanceVersion(Request.Document.getDefaultInstance().toByteString()));
+  }
+
+  private static ByteString key(int i) {
+    return ByteString.copyFrom("key" + i, StandardCharsets.UTF_8);
+  }
+
+  private static ByteString document(int version) {
+    return Request.Document.newBuilder()
+        .setKey(key(0))
+        .setInstanceVersion(version)
+        .buildPartial()
+        .toByteString();
+  }
+
+  /**
+   * Counts the gets the index makes
+   */
+  private static final class CountingDb extends OnHeapConcurrentSkipListDb {
+
+    private final AtomicInteger gets = new AtomicInteger();
+
+    @Override
+    public List<ByteString> get(List<ByteString> keyList) {
+      gets.incrementAndGet();
+      return super.get(keyList);
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package org.daboodb.daboo.server;
+
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.shared.exceptions.RuntimeRequestException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.daboodb.daboo.shared.RequestUtils.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for WritePipeline
+ */
+public class WritePipelineTest {
+
+  private static final WritePipeline.Checker PASS = new WritePipeline.Checker() {
+    @Override
+    public Request.WriteReply check(Request.WriteRequest request) {
+      return null;
+    }
+
+    @Override
+    public void discard(Request.WriteRequest request) {
+    }
+  };
+
+  /**
+   * Tests that many submitters, through a ring much smaller than their number of requests, each get the reply to their
+   * own request, and that requests are applied in the order they were logged
+   */
+  @Test
+  public void testOrderAndBackPressure() throws Exception {
+    List<Integer> logged = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    WritePipeline pipeline = new WritePipeline(8, PASS,
+        requests -> {
+          batchSizes.add(requests.size());
+          for (byte[] request : requests) {
+            logged.add(ByteBuffer.wrap(request).getInt());
+          }
+        },
+        request -> {
+          applied.add((int) request.getHeader().getTimestamp());
+          return reply(request);
+        },
+        new ReentrantReadWriteLock().readLock());
+
+    int threads = 8;
+    int writesPerThread = 500;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int thread = t;
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < writesPerThread; i++) {
+          int id = thread * writesPerThread + i + 1;
+          Request.WriteRequest request = request(id);
+          Request.WriteReply reply = pipeline.submit(request, ByteBuffer.allocate(4).putInt(id).array());
+          assertEquals(request.getHeader().getId(), reply.getRequestId());
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    pipeline.close();
+
+    assertEquals(threads * writesPerThread, logged.size());
+    assertEquals(logged, applied);
+    for (int size : batchSizes) {
+      assertTrue(size <= WritePipeline.MAX_BATCH_SIZE);
+    }
+  }
+
+  /**
+   * Tests that a request the log fails to write is not applied, and its submitter gets the failure
+   */
+  @Test
+  public void testLogFailure() {
+    AtomicBoolean failing = new AtomicBoolean(true);
+    List<Request.WriteRequest> applied = Collections.synchronizedList(new ArrayList<>());
+    WritePipeline pipeline = new WritePipeline(4, PASS,
+        requests -> {
+          if (failing.get()) {
+            throw new IOException("disk full");
+          }
+        },
+        request -> {
+          applied.add(request);
+          return reply(request);
+        },
+        new ReentrantReadWriteLock().readLock());
+    try {
+      pipeline.submit(request(1), new byte[0]);
+      fail("The log's failure was not reported");
+    } catch (RuntimeRequestException expected) {
+      assertTrue(expected.getCause() instanceof IOException);
+    }
+    assertTrue(applied.isEmpty());
+
+    failing.set(false);
+    pipeline.submit(request(2), new byte[0]);
+    assertEquals(1, applied.size());
+    pipeline.close();
+  }
+
+  /**
+   * Tests that a request the checker refuses gets the refusal as its reply, and is neither logged nor applied, and that
+   * a request that passes but can't be logged is discarded
+   */
+  @Test
+  public void testRefusedRequestsAreNotLogged() {
+    AtomicBoolean failing = new AtomicBoolean(false);
+    List<Integer> logged = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> discarded = Collections.synchronizedList(new ArrayList<>());
+    WritePipeline.Checker oddOnly = new WritePipeline.Checker() {
+      @Override
+      public Request.WriteReply check(Request.WriteRequest request) {
+        return request.getHeader().getTimestamp() % 2 == 0 ? reply(request) : null;
+      }
+
+      @Override
+      public void discard(Request.WriteRequest request) {
+        discarded.add((int) request.getHeader().getTimestamp());
+      }
+    };
+    WritePipeline pipeline = new WritePipeline(4, oddOnly,
+        requests -> {
+          if (failing.get()) {
+            throw new IOException("disk full");
+          }
+          for (byte[] request : requests) {
+            logged.add(ByteBuffer.wrap(request).getInt());
+          }
+        },
+        request -> {
+          applied.add((int) request.getHeader().getTimestamp());
+          return reply(request);
+        },
+        new ReentrantReadWriteLock().readLock());
+    for (int id = 1; id <= 10; id++) {
+      Request.WriteRequest request = request(id);
+      assertEquals(id, pipeline.submit(request, ByteBuffer.allocate(4).putInt(id).array()).getTimestamp());
+    }
+    assertEquals(Arrays.asList(1, 3, 5, 7, 9), logged);
+    assertEquals(logged, applied);
+
+    failing.set(true);
+    try {
+      pipeline.submit(request(11), ByteBuffer.allocate(4).putInt(11).array());
+      fail("The log's failure was not reported");
+    } catch (RuntimeRequestException expected) {
+      assertTrue(expected.getCause() instanceof IOException);
+    }
+    // a refused request needs no logging, so the log's failure doesn't touch it
+    assertEquals(12, pipeline.submit(request(12), new byte[0]).getTimestamp());
+    assertEquals(Collections.singletonList(11), discarded);
+    pipeline.close();
+  }
+
+  /**
+   * Tests that once awaitApplied returns under the log lock, everything logged has been applied
+   */
+  @Test
+  public void testAwaitApplied() throws Exception {
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    List<Integer> logged = Collections.synchronizedList(new ArrayList<>());
+    List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+    WritePipeline pipeline = new WritePipeline(16, PASS,
+        requests -> logged.add(requests.size()),
+        request -> {
+          applied.add(1);
+          return reply(request);
+        },
+        lock.readLock());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int i = 0; i < 200; i++) {
+      int id = i + 1;
+      executor.submit(() -> pipeline.submit(request(id), new byte[0]));
+    }
+    for (int i = 0; i < 20; i++) {
+      Thread.sleep(1);
+      lock.writeLock().lock();
+      try {
+        pipeline.awaitApplied();
+        int loggedCount = 0;
+        synchronized (logged) {
+          for (int size : logged) {
+            loggedCount += size;
+          }
+        }
+        assertEquals(loggedCount, applied.size());
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+    pipeline.close();
+  }
+
+  /**
+   * Tests that requests submitted while the pipeline closes are each either applied or refused, never left waiting, and
+   * that requests submitted once it has closed are refused
+   */
+  @Test
+  public void testCloseRacesWithSubmit() throws Exception {
+    for (int round = 0; round < 20; round++) {
+      List<Integer> applied = Collections.synchronizedList(new ArrayList<>());
+      WritePipeline pipeline = new WritePipeline(4, PASS, requests -> { },
+          request -> {
+            applied.add(1);
+            return reply(request);
+          },
+          new ReentrantReadWriteLock().readLock());
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      List<Future<List<CompletableFuture<Request.WriteReply>>>> submitters = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        submitters.add(executor.submit(() -> {
+          List<CompletableFuture<Request.WriteReply>> replies = new ArrayList<>();
+          for (int i = 0; i < 100; i++) {
+            replies.add(pipeline.submitAsync(request(i + 1), new byte[0]));
+          }
+          return replies;
+        }));
+      }
+      pipeline.close();
+      int succeeded = 0;
+      for (Future<List<CompletableFuture<Request.WriteReply>>> submitter : submitters) {
+        for (CompletableFuture<Request.WriteReply> reply : submitter.get(30, TimeUnit.SECONDS)) {
+          try {
+            reply.get(30, TimeUnit.SECONDS);
+            succeeded++;
+          } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RuntimeRequestException);
+          }
+        }
+      }
+      executor.shutdown();
+      assertEquals(succeeded, applied.size());
+      assertTrue(pipeline.submitAsync(request(1), new byte[0]).isCompletedExceptionally());
+    }
+  }
+
+  private static Request.WriteRequest request(int id) {
+    Request.Header header = getWriteHeader().toBuilder().setTimestamp(id).build();
+    return getWriteRequest(header, Request.WriteRequestBody.getDefaultInstance());
+  }
+
+  private static Request.WriteReply reply(Request.WriteRequest request) {
+    return Request.WriteReply.newBuilder()
+        .setRequestId(request.getHeader().getId())
+        .setTimestamp(request.getHeader().getTimestamp())
+        .build();
+  }
+}
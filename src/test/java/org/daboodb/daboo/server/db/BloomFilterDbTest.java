@@ -0,0 +1,105 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for BloomFilter and BloomFilterDb
+ */
+public class BloomFilterDbTest {
+
+  @Test
+  public void testFilterHasNoFalseNegatives() {
+    BloomFilter filter = new BloomFilter(10000, 0.01);
+    for (int i = 0; i < 10000; i++) {
+      filter.put(key(i));
+    }
+    for (int i = 0; i < 10000; i++) {
+      assertTrue(filter.mightContain(key(i)));
+    }
+    int falsePositives = 0;
+    for (int i = 10000; i < 110000; i++) {
+      if (filter.mightContain(key(i))) {
+        falsePositives++;
+      }
+    }
+    // a full filter should come close to its target rate
+    assertTrue("false positives: " + falsePositives, falsePositives < 2000);
+    assertEquals(0.01, filter.expectedFalsePositiveProbability(), 0.005);
+  }
+
+  @Test
+  public void testGetSkipsAbsentKeys() {
+    BloomFilterDb db = new BloomFilterDb(new OnHeapRBTreeDb(), 1000, 0.01);
+    for (int i = 0; i < 500; i++) {
+      db.put(key(i), key(i));
+    }
+    List<ByteString> present = new ArrayList<>();
+    List<ByteString> absent = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      present.add(ByteString.copyFrom(key(i)));
+      absent.add(ByteString.copyFrom(key(i + 1000)));
+    }
+    assertEquals(500, db.get(present).size());
+    assertTrue(db.get(absent).isEmpty());
+    assertTrue(db.falsePositiveRate() < 0.05);
+    assertEquals(db.falsePositiveRate(), db.stats().getBloomFilterFalsePositiveRate(), 0);
+    assertEquals(500, db.stats().getEntryCount());
+  }
+
+  @Test
+  public void testFilterIsRebuiltAsKeysComeAndGo() {
+    BloomFilterDb db = new BloomFilterDb(new OnHeapRBTreeDb(), 100, 0.01);
+
+    // several times more keys than the filter was first sized for
+    for (int i = 0; i < 1000; i++) {
+      db.put(key(i), key(i));
+    }
+    List<Request.Document> deletes = new ArrayList<>();
+    for (int i = 0; i < 900; i++) {
+      deletes.add(document(i));
+    }
+    db.delete(deletes);
+
+    assertEquals(100, db.size());
+    for (int i = 900; i < 1000; i++) {
+      assertEquals(1, db.get(Collections.singletonList(ByteString.copyFrom(key(i)))).size());
+    }
+    assertTrue(db.expectedFalsePositiveProbability() < 0.05);
+  }
+
+  @Test
+  public void testExistingKeysAreFilteredWhenWrapped() {
+    Db inner = new OnHeapConcurrentSkipListDb();
+    inner.put(key(1), key(1));
+    BloomFilterDb db = new BloomFilterDb(inner, 100, 0.01);
+    assertEquals(1, db.get(Collections.singletonList(ByteString.copyFrom(key(1)))).size());
+
+    db.clear();
+    assertTrue(db.get(Collections.singletonList(ByteString.copyFrom(key(1)))).isEmpty());
+    assertEquals(0, db.falsePositiveRate(), 0);
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key%08d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Request.Document document(int i) {
+    return Request.Document.newBuilder()
+        .setKey(ByteString.copyFrom(key(i)))
+        .setContentClass("")
+        .setContentType("")
+        .setSchemaVersion(0)
+        .setInstanceVersion(0)
+        .setContentBytes(ByteString.EMPTY)
+        .build();
+  }
+}
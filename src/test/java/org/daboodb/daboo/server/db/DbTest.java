@@ -3,14 +3,22 @@ package org.daboodb.daboo.server.db;
 import com.google.common.primitives.SignedBytes;
 import com.google.protobuf.ByteString;
 import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.io.DatabaseExporter;
 import org.daboodb.daboo.testutil.BasicTest;
 import org.daboodb.daboo.testutil.Person;
 import org.junit.After;
 import org.junit.Test;
+import org.mapdb.DB;
+import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -126,6 +134,90 @@ public class DbTest extends BasicTest {
     assertEquals(0, db.size());
   }
 
+  /**
+   * Tests for the range-sharded db
+   */
+  @Test
+  public void testBatchWriteGetDelete4() throws Exception {
+    setupPeople(100);
+
+    db = new ShardedDb();
+    db.write(documentMap);
+    assertEquals(documentMap.size(), db.size());
+
+    List<ByteString> docs = db.get(keys);
+    assertEquals(keys.size(), docs.size());
+    for (ByteString value : docs) {
+      Request.Document doc = Request.Document.parseFrom(value);
+      assertNotNull(doc);
+    }
+
+    db.delete(documentList);
+    assertEquals(0, db.size());
+  }
+  /**
+   * Tests for the off-heap slab db
+   */
+  @Test
+  public void testBatchWriteGetDelete5() throws Exception {
+    setupPeople(100);
+
+    db = new OffHeapSlabDb();
+    db.write(documentMap);
+    assertEquals(documentMap.size(), db.size());
+
+    List<ByteString> docs = db.get(keys);
+    assertEquals(keys.size(), docs.size());
+    for (ByteString value : docs) {
+      Request.Document doc = Request.Document.parseFrom(value);
+      assertNotNull(doc);
+    }
+
+    db.delete(documentList);
+    assertEquals(0, db.size());
+  }
+
+  @Test
+  public void testBatchWriteGetDelete6() throws Exception {
+    setupPeople(100);
+
+    db = new ArtDb();
+    db.write(documentMap);
+    assertEquals(documentMap.size(), db.size());
+
+    List<ByteString> docs = db.get(keys);
+    assertEquals(keys.size(), docs.size());
+    for (ByteString value : docs) {
+      Request.Document doc = Request.Document.parseFrom(value);
+      assertNotNull(doc);
+    }
+
+    db.delete(documentList);
+    assertEquals(0, db.size());
+  }
+
+  @Test
+  public void testBatchWriteGetDelete7() throws Exception {
+    setupPeople(100);
+
+    // a budget too small for every document, so some gets are served from the cold tier
+    db = new TieredDb(new OffHeapBTreeDb(), 16 * 1024);
+    db.write(documentMap);
+    assertEquals(documentMap.size(), db.size());
+
+    for (int i = 0; i < 3; i++) {
+      List<ByteString> docs = db.get(keys);
+      assertEquals(keys.size(), docs.size());
+      for (ByteString value : docs) {
+        Request.Document doc = Request.Document.parseFrom(value);
+        assertNotNull(doc);
+      }
+    }
+
+    db.delete(documentList);
+    assertEquals(0, db.size());
+    assertTrue(db.get(keys).isEmpty());
+  }
 
   @Test
   public void testImportExport1() {
@@ -182,6 +274,380 @@ public class DbTest extends BasicTest {
     assertEquals(100, db2.size());
   }
 
+  @Test
+  public void testImportExport4() {
+    setupPeople(100);
+    db = new ShardedDb();
+    db.write(documentMap);
+    File file = Paths.get("/tmp/daboodb/testdata/exportTest").toFile();
+    db.exportDocuments(file);
+    assertTrue(file.exists());
+
+    Db db2 = new ShardedDb();
+    db2.importDocuments(file);
+    assertEquals(db.size(), db2.size());
+    assertEquals(100, db2.size());
+  }
+
+  @Test
+  public void testImportExport5() {
+    setupPeople(100);
+    db = new OffHeapSlabDb();
+    db.write(documentMap);
+    File file = Paths.get("/tmp/daboodb/testdata/exportTest").toFile();
+    db.exportDocuments(file);
+    assertTrue(file.exists());
+
+    Db db2 = new OffHeapSlabDb();
+    db2.importDocuments(file);
+    assertEquals(db.size(), db2.size());
+    assertEquals(100, db2.size());
+  }
+
+  @Test
+  public void testImportExport6() {
+    setupPeople(100);
+    db = new ArtDb();
+    db.write(documentMap);
+    File file = Paths.get("/tmp/daboodb/testdata/exportTest").toFile();
+    db.exportDocuments(file);
+    assertTrue(file.exists());
+
+    Db db2 = new ArtDb();
+    db2.importDocuments(file);
+    assertEquals(db.size(), db2.size());
+    assertEquals(100, db2.size());
+  }
+
+  /**
+   * Tests that the memory-mapped, file-backed off-heap btree keeps its data, and the WAL sequence number it was
+   * committed with, across a close and reopen
+   */
+  @Test
+  public void testFileBackedReopen() throws Exception {
+    setupPeople(100);
+    File file = Paths.get(TEST_DATA_FOLDER, "offHeapTest", "btree.db").toFile();
+    OffHeapBTreeDb fileDb = new OffHeapBTreeDb(file, 1024 * 1024, 1024 * 1024);
+    assertEquals(-1, fileDb.committedSequenceNumber());
+    fileDb.write(documentMap);
+    fileDb.commit(42);
+    String written = fileDb.stats().toString();
+    fileDb.close();
+    assertTrue(file.exists());
+
+    OffHeapBTreeDb reopened = new OffHeapBTreeDb(file, 1024 * 1024, 1024 * 1024);
+    assertEquals(100, reopened.size());
+    assertEquals(written, reopened.stats().toString());
+    assertEquals(keys.size(), reopened.get(keys).size());
+    assertEquals(42, reopened.committedSequenceNumber());
+    reopened.close();
+
+    // a file saved without its statistics has them counted as it opens
+    DB unsaved = DBMaker.fileDB(file).make();
+    unsaved.atomicVar("stats", Serializer.LONG_ARRAY).createOrOpen().set(null);
+    unsaved.commit();
+    unsaved.close();
+    reopened = new OffHeapBTreeDb(file, 1024 * 1024, 1024 * 1024);
+    assertEquals(written, reopened.stats().toString());
+    reopened.clear();
+    assertEquals(-1, reopened.committedSequenceNumber());
+    reopened.close();
+  }
+
+  /**
+   * Tests that a file-backed store that was not closed cleanly is discarded when it is reopened, rather than trusted
+   */
+  @Test
+  public void testFileBackedUncleanShutdown() throws Exception {
+    setupPeople(100);
+    File file = Paths.get(TEST_DATA_FOLDER, "offHeapTest", "crashed.db").toFile();
+    OffHeapBTreeDb fileDb = new OffHeapBTreeDb(file, 1024 * 1024, 1024 * 1024);
+    fileDb.write(documentMap);
+    fileDb.commit(42);
+    fileDb.close();
+    // a crash leaves the file as it was while open, still marked as open
+    DB crashed = DBMaker.fileDB(file).make();
+    crashed.atomicBoolean("open").createOrOpen().set(true);
+    crashed.commit();
+    crashed.close();
+
+    OffHeapBTreeDb reopened = new OffHeapBTreeDb(file, 1024 * 1024, 1024 * 1024);
+    assertEquals(0, reopened.size());
+    assertEquals(-1, reopened.committedSequenceNumber());
+    reopened.close();
+  }
+
+  /**
+   * Tests that each in-memory db's cursor returns the keys of a sorted map, in either direction, over enough entries
+   * to span several batches
+   */
+  @Test
+  public void testCursor() {
+    setupPeople(600);
+    List<String> sorted = render(documentMap.keySet());
+    List<String> reversed = new ArrayList<>(sorted);
+    Collections.reverse(reversed);
+    byte[] from = sorted.get(100).getBytes(StandardCharsets.UTF_8);
+    byte[] to = sorted.get(500).getBytes(StandardCharsets.UTF_8);
+
+    Db[] dbs = {new OnHeapRBTreeDb(), new OnHeapConcurrentSkipListDb(), new OffHeapBTreeDb(), new ShardedDb(),
+        new OffHeapSlabDb(), new ArtDb(), new TieredDb()};
+    for (Db candidate : dbs) {
+      candidate.write(documentMap);
+      String name = candidate.getClass().getSimpleName();
+      assertEquals(name, sorted, cursorKeys(candidate, null, null, false));
+      assertEquals(name, reversed, cursorKeys(candidate, null, null, true));
+      assertEquals(name, sorted.subList(100, 500), cursorKeys(candidate, from, to, false));
+      assertEquals(name, reversed.subList(100, 500), cursorKeys(candidate, from, to, true));
+    }
+  }
+
+  /**
+   * Tests that each db's prefix cursor returns exactly the keys beginning with the prefix, in either direction,
+   * including prefixes ending in Byte.MAX_VALUE and in bytes above 0x7F
+   */
+  @Test
+  public void testPrefixCursor() {
+    byte[][] keys = {{'a'}, {'a', 'b'}, {'a', 'b', 'c'}, {'a', 'b', Byte.MAX_VALUE}, {'a', 'c'}, {'a', Byte.MAX_VALUE},
+        {'a', Byte.MAX_VALUE, 1}, {'b'}, {'h', (byte) 0x90}, {'h', (byte) 0x90, 5}, {'h', (byte) 0x91},
+        {Byte.MAX_VALUE}, {Byte.MAX_VALUE, Byte.MAX_VALUE}, {Byte.MIN_VALUE}};
+    Db[] dbs = {new OnHeapRBTreeDb(), new OnHeapConcurrentSkipListDb(), new OffHeapBTreeDb(), new ShardedDb(),
+        new OffHeapSlabDb(), new ArtDb(), new TieredDb(), new BloomFilterDb(new OnHeapRBTreeDb()),
+        new SnapshotDb(new OnHeapConcurrentSkipListDb())};
+    for (Db candidate : dbs) {
+      String name = candidate.getClass().getSimpleName();
+      for (byte[] key : keys) {
+        candidate.put(key, value(0));
+      }
+      assertEquals(name, Arrays.asList("[97, 98]", "[97, 98, 99]", "[97, 98, 127]"),
+          prefixKeys(candidate, new byte[] {'a', 'b'}, false));
+      assertEquals(name, Arrays.asList("[97, 127, 1]", "[97, 127]"),
+          prefixKeys(candidate, new byte[] {'a', Byte.MAX_VALUE}, true));
+      assertEquals(name, Arrays.asList("[104, -112]", "[104, -112, 5]"),
+          prefixKeys(candidate, new byte[] {'h', (byte) 0x90}, false));
+      assertEquals(name, Arrays.asList("[127]", "[127, 127]"),
+          prefixKeys(candidate, new byte[] {Byte.MAX_VALUE}, false));
+      assertEquals(name, keys.length, prefixKeys(candidate, new byte[0], false).size());
+    }
+  }
+
+  private static List<String> prefixKeys(Db db, byte[] prefix, boolean reverse) {
+    List<String> keys = new ArrayList<>();
+    try (RangeCursor cursor = db.prefixCursor(prefix, reverse)) {
+      while (cursor.next()) {
+        keys.add(Arrays.toString(cursor.key()));
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Tests that each db applies a batch's puts and deletes
+   */
+  @Test
+  public void testApplyBatch() {
+    setupPeople(100);
+    Db[] dbs = {new OnHeapRBTreeDb(), new OnHeapConcurrentSkipListDb(), new OffHeapBTreeDb(), new ShardedDb(),
+        new OffHeapSlabDb(), new ArtDb(), new TieredDb()};
+    for (Db candidate : dbs) {
+      String name = candidate.getClass().getSimpleName();
+      WriteBatch batch = new WriteBatch();
+      for (Map.Entry<byte[], byte[]> entry : documentMap.entrySet()) {
+        batch.put(entry.getKey(), entry.getValue());
+      }
+      candidate.apply(batch);
+      assertEquals(name, 100, candidate.size());
+
+      WriteBatch deletes = new WriteBatch();
+      for (int i = 0; i < 50; i++) {
+        deletes.delete(keys.get(i).toByteArray());
+      }
+      candidate.apply(deletes);
+      assertEquals(name, 50, candidate.size());
+      assertEquals(name, 50, candidate.get(keys).size());
+    }
+  }
+
+  /**
+   * Tests that readers of the dbs never see half of a batch while another thread applies them: every batch gives two
+   * keys, in different shards, the same value
+   */
+  @Test
+  public void testApplyBatchIsAtomic() throws Exception {
+    byte[] first = "0-first".getBytes(StandardCharsets.UTF_8);
+    byte[] second = "f-second".getBytes(StandardCharsets.UTF_8);
+    List<ByteString> both = Arrays.asList(ByteString.copyFrom(first), ByteString.copyFrom(second));
+    Db[] dbs = {new OnHeapRBTreeDb(), new OnHeapConcurrentSkipListDb(), new OffHeapBTreeDb(), new ShardedDb(),
+        new OffHeapSlabDb(), new ArtDb()};
+    for (Db candidate : dbs) {
+      String name = candidate.getClass().getSimpleName();
+      candidate.apply(new WriteBatch().put(first, value(0)).put(second, value(0)));
+      Thread writer = new Thread(() -> {
+        for (int i = 1; i <= 20000; i++) {
+          candidate.apply(new WriteBatch().put(first, value(i)).put(second, value(i)));
+        }
+      });
+      writer.start();
+      while (writer.isAlive()) {
+        List<ByteString> docs = candidate.get(both);
+        assertEquals(name, docs.get(0), docs.get(1));
+        List<ByteString> range = candidate.getRange(first, RangeCursors.successor(second));
+        assertEquals(name, range.get(0), range.get(1));
+      }
+      writer.join();
+    }
+  }
+
+  /**
+   * Tests that each db imports an unsorted export, holding a key twice, through the bulk-load path into an empty db,
+   * and through puts into one with data. Some keys hold bytes above 0x7F, which sort as negative
+   */
+  @Test
+  public void testBulkLoad() throws Exception {
+    setupPeople(300);
+    File file = Paths.get(TEST_DATA_FOLDER, "bulkLoadTest").toFile();
+    DatabaseExporter exporter = DatabaseExporter.get(file);
+    Map<byte[], byte[]> expected = new TreeMap<>(SignedBytes.lexicographicalComparator());
+    for (int i = documentList.size() - 1; i >= 0; i--) {
+      exporter.logDocument(documentList.get(i));
+      expected.put(documentList.get(i).getKey().toByteArray(), documentList.get(i).toByteArray());
+    }
+    for (int i = 0; i < 20; i++) {
+      Request.Document high = document(new byte[] {'h', (byte) (0x70 + i * 4), 'x'}, "first");
+      exporter.logDocument(high);
+      Request.Document later = document(high.getKey().toByteArray(), "later");
+      exporter.logDocument(later);
+      expected.put(later.getKey().toByteArray(), later.toByteArray());
+    }
+    exporter.close();
+    List<String> expectedKeys = render(expected.keySet());
+
+    File btreeFile = Paths.get(TEST_DATA_FOLDER, "bulkLoadBTree", "btree.db").toFile();
+    OffHeapBTreeDb fileDb = new OffHeapBTreeDb(btreeFile, 1024 * 1024, 1024 * 1024);
+    Db[] dbs = {new OnHeapRBTreeDb(), new OnHeapConcurrentSkipListDb(), new OffHeapBTreeDb(), fileDb,
+        new ShardedDb(), new OffHeapSlabDb(), new ArtDb(), new TieredDb(),
+        new BloomFilterDb(new OnHeapRBTreeDb()), new SnapshotDb(new OnHeapConcurrentSkipListDb())};
+    for (Db candidate : dbs) {
+      String name = candidate.getClass().getSimpleName();
+      candidate.importDocuments(file);
+      assertEquals(name, expected.size(), candidate.size());
+      for (Map.Entry<byte[], byte[]> entry : expected.entrySet()) {
+        List<ByteString> found = candidate.get(Collections.singletonList(ByteString.copyFrom(entry.getKey())));
+        assertArrayEquals(name, entry.getValue(), found.get(0).toByteArray());
+      }
+      assertEquals(name, expectedKeys, cursorKeys(candidate, null, null, false));
+
+      // a second import finds the db holding data, so puts each document
+      candidate.put("zzz-extra".getBytes(StandardCharsets.UTF_8), value(0));
+      candidate.importDocuments(file);
+      assertEquals(name, expected.size() + 1, candidate.size());
+    }
+
+    fileDb.close();
+    OffHeapBTreeDb reopened = new OffHeapBTreeDb(btreeFile, 1024 * 1024, 1024 * 1024);
+    assertEquals(expected.size() + 1, reopened.size());
+    reopened.close();
+  }
+
+  /**
+   * Tests that the off-heap btree's cursor, which moves through the B-tree a batch at a time, doesn't skip keys that
+   * extend the last key of a batch, whether with the lowest byte or one above 0x7F
+   */
+  @Test
+  public void testOffHeapBTreeCursorAcrossBatches() {
+    Db btree = new OffHeapBTreeDb();
+    int count = BatchingRangeCursor.BATCH_SIZE + 10;
+    for (int i = 0; i < count; i++) {
+      btree.put(String.format("k%05d", i).getBytes(StandardCharsets.UTF_8), value(i));
+    }
+    byte[] last = String.format("k%05d", BatchingRangeCursor.BATCH_SIZE - 1).getBytes(StandardCharsets.UTF_8);
+    byte[] lowest = Arrays.copyOf(last, last.length + 1);
+    lowest[last.length] = Byte.MIN_VALUE;
+    btree.put(lowest, value(-1));
+    btree.put(Arrays.copyOf(last, last.length + 1), value(-2));
+    assertEquals(count + 2, cursorKeys(btree, null, null, false).size());
+  }
+
+  private static Request.Document document(byte[] key, String contentClass) {
+    return Request.Document.newBuilder()
+        .setKey(ByteString.copyFrom(key))
+        .setContentClass(contentClass)
+        .setContentType("")
+        .setSchemaVersion(0)
+        .setInstanceVersion(0)
+        .setContentBytes(ByteString.EMPTY)
+        .build();
+  }
+
+  /**
+   * Tests that the statistics each db keeps as it is written match those counted by scanning it, after puts,
+   * overwrites with values of other sizes, deletes, batches, a bulk load and a clear
+   */
+  @Test
+  public void testStats() {
+    setupPeople(200);
+    Db[] dbs = {new OnHeapRBTreeDb(), new OnHeapConcurrentSkipListDb(), new OffHeapBTreeDb(), new ShardedDb(),
+        new OffHeapSlabDb(), new ArtDb(), new TieredDb(), new BloomFilterDb(new OnHeapConcurrentSkipListDb())};
+    for (Db candidate : dbs) {
+      String name = candidate.getClass().getSimpleName();
+      candidate.write(documentMap);
+      for (int i = 0; i < 50; i++) {
+        candidate.put(keys.get(i).toByteArray(), new byte[i * 40]);
+      }
+      candidate.delete(documentList.subList(150, 200));
+      WriteBatch batch = new WriteBatch()
+          .delete(keys.get(0).toByteArray())
+          .put(keys.get(1).toByteArray(), new byte[5000])
+          .put("new-key".getBytes(StandardCharsets.UTF_8), value(1));
+      candidate.apply(batch);
+
+      DbStats stats = candidate.stats();
+      assertStatsEqual(name, StatsRecorder.scan(candidate.cursor(null, null, false)), stats);
+      assertEquals(name, 150, stats.getEntryCount());
+      assertEquals(name, 150, candidate.size());
+      assertTrue(name, stats.valueSizePercentile(1.0) >= 5000);
+
+      candidate.clear();
+      assertEquals(name, 0, candidate.stats().getEntryCount());
+      assertEquals(name, 0, candidate.stats().getValueBytes());
+
+      candidate.bulkLoad(documentMap.entrySet().iterator());
+      assertStatsEqual(name, StatsRecorder.scan(candidate.cursor(null, null, false)), candidate.stats());
+      assertEquals(name, 200, candidate.size());
+    }
+  }
+
+  private static void assertStatsEqual(String name, DbStats expected, DbStats actual) {
+    assertEquals(name, expected.getEntryCount(), actual.getEntryCount());
+    assertEquals(name, expected.getKeyBytes(), actual.getKeyBytes());
+    assertEquals(name, expected.getValueBytes(), actual.getValueBytes());
+    assertArrayEquals(name, expected.getKeySizeHistogram(), actual.getKeySizeHistogram());
+    assertArrayEquals(name, expected.getValueSizeHistogram(), actual.getValueSizeHistogram());
+  }
+
+  private static byte[] value(int i) {
+    return String.valueOf(i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static List<String> cursorKeys(Db db, byte[] from, byte[] to, boolean reverse) {
+    List<byte[]> keys = new ArrayList<>();
+    try (RangeCursor cursor = db.cursor(from, to, reverse)) {
+      while (cursor.next()) {
+        keys.add(cursor.key());
+        assertNotNull(cursor.value());
+      }
+    }
+    return render(keys);
+  }
+
+  private static List<String> render(Collection<byte[]> keys) {
+    List<String> rendered = new ArrayList<>();
+    for (byte[] key : keys) {
+      rendered.add(new String(key, StandardCharsets.UTF_8));
+    }
+    return rendered;
+  }
+
   private void setupPeople(int count) {
     List<Person> people = Person.createPeoples(count);
     keys.clear();
@@ -0,0 +1,243 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.common.primitives.SignedBytes;
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.testutil.BasicTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for LsmTreeDb
+ */
+public class LsmTreeDbTest extends BasicTest {
+
+  private final File folder = Paths.get(TEST_DATA_FOLDER, "lsmTest").toFile();
+  private LsmTreeDb db;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.tearDown();
+    // small sizes so that the tests exercise flushes and compactions
+    db = new LsmTreeDb(folder, 16 * 1024, 512, 8 * 1024);
+  }
+
+  @Override
+  @After
+  public void tearDown() throws Exception {
+    db.close();
+    super.tearDown();
+  }
+
+  @Test
+  public void testWriteGetDelete() throws Exception {
+    Map<byte[], byte[]> documentMap = new HashMap<>();
+    List<ByteString> keys = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      documentMap.put(key(i), value(i, 0));
+      keys.add(ByteString.copyFrom(key(i)));
+    }
+    db.write(documentMap);
+    assertEquals(10, db.size());
+    assertEquals(10, db.get(keys).size());
+
+    db.delete(Collections.singletonList(document(3)));
+    assertEquals(9, db.size());
+    assertTrue(db.get(Collections.singletonList(ByteString.copyFrom(key(3)))).isEmpty());
+  }
+
+  @Test
+  public void testFlushAndCompaction() throws Exception {
+    writeMany(5000, 0);
+    db.awaitBackgroundWork();
+
+    // enough data was written to flush several memtables and compact them out of level 0
+    assertTrue(db.tableCount(0) < 4);
+    assertTrue(db.tableCount(1) > 0);
+    assertEquals(5000, db.size());
+
+    // newer versions and deletes must hide older ones in lower levels
+    writeMany(100, 1);
+    List<Request.Document> toDelete = new ArrayList<>();
+    for (int i = 100; i < 200; i++) {
+      toDelete.add(document(i));
+    }
+    db.delete(toDelete);
+    db.awaitBackgroundWork();
+
+    assertEquals(4900, db.size());
+    List<ByteString> result = db.get(Collections.singletonList(ByteString.copyFrom(key(42))));
+    assertArrayEquals(value(42, 1), result.get(0).toByteArray());
+    assertTrue(db.get(Collections.singletonList(ByteString.copyFrom(key(150)))).isEmpty());
+    result = db.get(Collections.singletonList(ByteString.copyFrom(key(4321))));
+    assertArrayEquals(value(4321, 0), result.get(0).toByteArray());
+  }
+
+  /**
+   * Tests that batches larger than a memtable are applied whole, and that a batch's deletes hide flushed versions
+   */
+  @Test
+  public void testApplyBatch() throws Exception {
+    WriteBatch batch = new WriteBatch();
+    for (int i = 0; i < 1000; i++) {
+      batch.put(key(i), value(i, 0));
+    }
+    db.apply(batch);
+    db.awaitBackgroundWork();
+    assertEquals(1000, db.size());
+
+    WriteBatch mixed = new WriteBatch();
+    for (int i = 0; i < 1000; i += 2) {
+      mixed.delete(key(i));
+      mixed.put(key(i + 1), value(i + 1, 1));
+    }
+    db.apply(mixed);
+    assertEquals(500, db.size());
+    assertTrue(db.get(Collections.singletonList(ByteString.copyFrom(key(0)))).isEmpty());
+    assertArrayEquals(value(1, 1), db.get(Collections.singletonList(ByteString.copyFrom(key(1)))).get(0)
+        .toByteArray());
+  }
+
+  @Test
+  public void testGetRange() throws Exception {
+    writeMany(3000, 0);
+    db.delete(Collections.singletonList(document(1500)));
+
+    List<ByteString> range = db.getRange(key(1000), key(2000));
+    assertEquals(999, range.size());
+    assertArrayEquals(value(1000, 0), range.get(0).toByteArray());
+    assertArrayEquals(value(1999, 0), range.get(range.size() - 1).toByteArray());
+  }
+
+  /**
+   * Tests cursors in both directions over data spread across SSTables and the memtable
+   */
+  @Test
+  public void testCursor() throws Exception {
+    writeMany(3000, 0);
+    db.awaitBackgroundWork();
+    writeMany(10, 1);
+    db.delete(Collections.singletonList(document(1500)));
+
+    List<Integer> forward = cursorKeys(key(1000), key(2000), false);
+    List<Integer> reverse = cursorKeys(key(1000), key(2000), true);
+    assertEquals(999, forward.size());
+    assertFalse(forward.contains(1500));
+    Collections.reverse(reverse);
+    assertEquals(forward, reverse);
+    for (int i = 1; i < forward.size(); i++) {
+      assertTrue(forward.get(i - 1) < forward.get(i));
+    }
+
+    // unbounded, in reverse, ends with the newest version of the first key
+    try (RangeCursor cursor = db.cursor(null, null, true)) {
+      byte[] last = null;
+      int count = 0;
+      while (cursor.next()) {
+        last = cursor.value().toByteArray();
+        count++;
+      }
+      assertEquals(2999, count);
+      assertArrayEquals(value(0, 1), last);
+    }
+  }
+
+  @Test
+  public void testReopen() throws Exception {
+    writeMany(2000, 0);
+    db.close();
+
+    db = new LsmTreeDb(folder, 16 * 1024, 512, 8 * 1024);
+    assertEquals(2000, db.size());
+    List<ByteString> result = db.get(Collections.singletonList(ByteString.copyFrom(key(1234))));
+    assertArrayEquals(value(1234, 0), result.get(0).toByteArray());
+  }
+
+  /**
+   * Tests that a bulk load into an empty tree writes its SSTables straight into the deepest level, where they survive
+   * a reopen, and that a bulk load into a tree with data falls back to puts
+   */
+  @Test
+  public void testBulkLoad() throws Exception {
+    Map<byte[], byte[]> sorted = new TreeMap<>(SignedBytes.lexicographicalComparator());
+    for (int i = 0; i < 3000; i++) {
+      sorted.put(key(i), value(i, 0));
+    }
+    db.bulkLoad(sorted.entrySet().iterator());
+    assertEquals(0, db.tableCount(0));
+    assertTrue(db.tableCount(6) > 1);
+    assertEquals(3000, db.size());
+
+    db.close();
+    db = new LsmTreeDb(folder, 16 * 1024, 512, 8 * 1024);
+    assertEquals(3000, db.size());
+    List<ByteString> result = db.get(Collections.singletonList(ByteString.copyFrom(key(1234))));
+    assertArrayEquals(value(1234, 0), result.get(0).toByteArray());
+
+    Map<byte[], byte[]> more = new TreeMap<>(SignedBytes.lexicographicalComparator());
+    for (int i = 2500; i < 3500; i++) {
+      more.put(key(i), value(i, 1));
+    }
+    db.bulkLoad(more.entrySet().iterator());
+    assertEquals(3500, db.size());
+    result = db.get(Collections.singletonList(ByteString.copyFrom(key(2500))));
+    assertArrayEquals(value(2500, 1), result.get(0).toByteArray());
+  }
+
+  @Test
+  public void testClear() throws Exception {
+    writeMany(2000, 0);
+    db.clear();
+    assertEquals(0, db.size());
+    assertTrue(db.isEmpty());
+  }
+
+  private List<Integer> cursorKeys(byte[] from, byte[] to, boolean reverse) {
+    List<Integer> keys = new ArrayList<>();
+    try (RangeCursor cursor = db.cursor(from, to, reverse)) {
+      while (cursor.next()) {
+        keys.add(Integer.parseInt(new String(cursor.key(), StandardCharsets.UTF_8).substring(3)));
+      }
+    }
+    return keys;
+  }
+
+  private void writeMany(int count, int version) {
+    for (int i = 0; i < count; i++) {
+      db.put(key(i), value(i, version));
+    }
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key%08d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] value(int i, int version) {
+    return String.format("value-%d-%d-padding-padding-padding", i, version).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static Request.Document document(int i) {
+    return Request.Document.newBuilder()
+        .setKey(ByteString.copyFrom(key(i)))
+        .setContentClass("")
+        .setContentType("")
+        .setSchemaVersion(0)
+        .setInstanceVersion(0)
+        .setContentBytes(ByteString.EMPTY)
+        .build();
+  }
+}
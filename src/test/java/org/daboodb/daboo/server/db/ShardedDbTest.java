@@ -0,0 +1,84 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for ShardedDb
+ */
+public class ShardedDbTest {
+
+  @Test
+  public void testShardIndex() {
+    ShardedDb db = new ShardedDb();
+    assertEquals(16, db.shardCount());
+    assertEquals(0, db.shardIndex(bytes("0abc")));
+    assertEquals(1, db.shardIndex(bytes("1")));
+    assertEquals(9, db.shardIndex(bytes("9fff")));
+    assertEquals(10, db.shardIndex(bytes("a000")));
+    assertEquals(15, db.shardIndex(bytes("ffff")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSplitKeysMustAscend() {
+    List<byte[]> splitKeys = new ArrayList<>();
+    splitKeys.add(bytes("m"));
+    splitKeys.add(bytes("c"));
+    new ShardedDb(splitKeys);
+  }
+
+  @Test
+  public void testGetRangeAcrossShards() {
+    ShardedDb db = new ShardedDb();
+    for (int i = 0; i < 256; i++) {
+      String key = String.format("%02x", i);
+      db.put(bytes(key), bytes("value-" + key));
+    }
+
+    // spans shards 3 through 11, and must come back in key order
+    List<ByteString> range = db.getRange(bytes("38"), bytes("b4"));
+    assertEquals(0xb4 - 0x38, range.size());
+    assertEquals("value-38", range.get(0).toStringUtf8());
+    assertEquals("value-b3", range.get(range.size() - 1).toStringUtf8());
+
+    // a range inside one shard
+    range = db.getRange(bytes("50"), bytes("58"));
+    assertEquals(8, range.size());
+  }
+
+  @Test
+  public void testConcurrentWriters() throws Exception {
+    ShardedDb db = new ShardedDb();
+    int threads = 8;
+    int writesPerThread = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < writesPerThread; i++) {
+          byte[] key = bytes(UUID.randomUUID().toString());
+          db.put(key, key);
+        }
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertEquals(threads * writesPerThread, db.size());
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,133 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.server.io.DatabaseExporter;
+import org.daboodb.daboo.testutil.BasicTest;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for SnapshotDb
+ */
+public class SnapshotDbTest extends BasicTest {
+
+  private final File file = Paths.get(TEST_DATA_FOLDER, "snapshotTest").toFile();
+
+  @Override
+  @After
+  public void tearDown() throws Exception {
+    super.tearDown();
+  }
+
+  @Test
+  public void testExportIgnoresLaterWrites() {
+    SnapshotDb db = new SnapshotDb(new OnHeapRBTreeDb());
+    for (int i = 0; i < 100; i++) {
+      db.put(key(i), document(i, "original"));
+    }
+    Map<String, String> expected = contents(db);
+
+    SnapshotDb.Snapshot snapshot = db.openSnapshot(42);
+    assertEquals(42, snapshot.sequenceNumber());
+    // overwrite, delete and insert keys on both sides of where the export will be
+    for (int i = 0; i < 100; i += 3) {
+      db.put(key(i), document(i, "updated"));
+    }
+    for (int i = 1; i < 100; i += 3) {
+      db.delete(Collections.singletonList(parse(ByteString.copyFrom(document(i, "original")))));
+    }
+    for (int i = 100; i < 120; i++) {
+      db.put(key(i), document(i, "inserted"));
+    }
+    assertEquals(87, snapshot.keptVersionCount());
+
+    snapshot.exportDocuments(file);
+    snapshot.close();
+    assertEquals(expected, imported());
+    assertEquals(87, db.size());
+  }
+
+  @Test
+  public void testExportWhileWriting() throws Exception {
+    SnapshotDb db = new SnapshotDb(new OnHeapConcurrentSkipListDb());
+    for (int i = 0; i < 5000; i++) {
+      db.put(key(i), document(i, "original"));
+    }
+    Map<String, String> expected = contents(db);
+
+    SnapshotDb.Snapshot snapshot = db.openSnapshot(1);
+    Thread writer = new Thread(() -> {
+      for (int i = 4999; i >= 0; i -= 2) {
+        db.put(key(i), document(i, "updated"));
+        db.delete(Collections.singletonList(parse(ByteString.copyFrom(document(i - 1, "original")))));
+        db.put(key(i + 10000), document(i + 10000, "inserted"));
+      }
+    });
+    writer.start();
+    snapshot.exportDocuments(file);
+    writer.join();
+    snapshot.close();
+
+    assertEquals(expected, imported());
+    // once closed, writes no longer keep versions
+    db.put(key(0), document(0, "again"));
+    assertEquals(0, snapshot.keptVersionCount());
+  }
+
+  private Map<String, String> imported() {
+    Map<String, String> contents = new HashMap<>();
+    DatabaseExporter exporter = DatabaseExporter.get(file);
+    while (exporter.hasNext()) {
+      Request.Document document = exporter.next();
+      String previous = contents.put(document.getKey().toStringUtf8(), document.getContentClass());
+      assertNull("exported twice: " + document.getKey().toStringUtf8(), previous);
+    }
+    exporter.close();
+    return contents;
+  }
+
+  private static Map<String, String> contents(Db db) {
+    Map<String, String> contents = new TreeMap<>();
+    try (RangeCursor cursor = db.cursor(null, null, false)) {
+      while (cursor.next()) {
+        contents.put(new String(cursor.key(), StandardCharsets.UTF_8), parse(cursor.value()).getContentClass());
+      }
+    }
+    return contents;
+  }
+
+  private static Request.Document parse(ByteString bytes) {
+    try {
+      return Request.Document.parseFrom(bytes);
+    } catch (Exception e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key%08d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] document(int i, String version) {
+    return Request.Document.newBuilder()
+        .setKey(ByteString.copyFrom(key(i)))
+        .setContentClass(version)
+        .setContentType("")
+        .setSchemaVersion(0)
+        .setInstanceVersion(0)
+        .setContentBytes(ByteString.EMPTY)
+        .build()
+        .toByteArray();
+  }
+}
@@ -0,0 +1,59 @@
+package org.daboodb.daboo.server.db;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.junit.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for SortedEntryMap
+ */
+public class SortedEntryMapTest {
+
+  /**
+   * Tests that lookups and the sub-map views agree with a TreeMap of the same entries, at bounds that are keys, fall
+   * between keys and lie outside them
+   */
+  @Test
+  public void testMatchesTreeMap() {
+    TreeMap<byte[], byte[]> expected = new TreeMap<>(LexicographicComparator.SIGNED);
+    List<Map.Entry<byte[], byte[]>> entries = new ArrayList<>();
+    for (int i = 0; i < 20; i += 2) {
+      byte[] key = {(byte) (i - 10)};
+      byte[] value = {(byte) i};
+      expected.put(key, value);
+      entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+    }
+    SortedEntryMap map = SortedEntryMap.collect(entries.iterator(), LexicographicComparator.SIGNED);
+
+    for (int i = -12; i < 12; i++) {
+      byte[] key = {(byte) i};
+      assertEquals(expected.containsKey(key), map.containsKey(key));
+      assertArrayEquals(expected.get(key), map.get(key));
+      assertEquals(render(expected.headMap(key)), render(map.headMap(key)));
+      assertEquals(render(expected.tailMap(key)), render(map.tailMap(key)));
+      for (int j = i; j < 12; j++) {
+        byte[] to = {(byte) j};
+        assertEquals(render(expected.subMap(key, to)), render(map.subMap(key, to)));
+      }
+    }
+    SortedMap<byte[], byte[]> nested = map.tailMap(new byte[] {-5}).headMap(new byte[] {5});
+    assertEquals(render(expected.subMap(new byte[] {-5}, new byte[] {5})), render(nested));
+    assertArrayEquals(new byte[] {-4}, nested.firstKey());
+  }
+
+  private static List<Integer> render(SortedMap<byte[], byte[]> map) {
+    List<Integer> keys = new ArrayList<>();
+    for (byte[] key : map.keySet()) {
+      keys.add((int) key[0]);
+    }
+    return keys;
+  }
+}
@@ -0,0 +1,121 @@
+package org.daboodb.daboo.server.db;
+
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for TieredDb
+ */
+public class TieredDbTest {
+
+  @Test
+  public void testReadsPromoteToTheHeap() {
+    TieredDb db = new TieredDb(new OnHeapRBTreeDb(), 1024 * 1024);
+    for (int i = 0; i < 100; i++) {
+      db.put(key(i), value(i));
+    }
+    assertEquals(0, db.hotSize());
+
+    // the first get of each key reads the cold db, and the second finds it on the heap
+    for (int round = 0; round < 2; round++) {
+      for (int i = 0; i < 100; i++) {
+        assertEquals(ByteString.copyFrom(value(i)), get(db, i).get(0));
+      }
+    }
+    assertEquals(100, db.hotSize());
+    assertTrue(db.hotSizeInBytes() > 0);
+    assertEquals(0.5, db.hitRate(), 0);
+  }
+
+  @Test
+  public void testWritesReplaceHeapCopies() {
+    TieredDb db = new TieredDb(new OnHeapRBTreeDb(), 1024 * 1024);
+    db.put(key(1), value(1));
+    get(db, 1);
+    assertEquals(1, db.hotSize());
+
+    db.put(key(1), value(2));
+    assertEquals(0, db.hotSize());
+    assertEquals(ByteString.copyFrom(value(2)), get(db, 1).get(0));
+
+    db.clear();
+    assertEquals(0, db.hotSize());
+    assertTrue(get(db, 1).isEmpty());
+  }
+
+  @Test
+  public void testDataCanOutgrowTheHeapBudget() {
+    // room on the heap for a tenth of the documents
+    TieredDb db = new TieredDb(new OffHeapBTreeDb(), 100 * (5 + 1000 + 128));
+    for (int i = 0; i < 1000; i++) {
+      db.put(key(i), new byte[1000]);
+    }
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(1, get(db, i).size());
+      }
+    }
+    assertEquals(1000, db.size());
+    assertTrue(db.hotSizeInBytes() <= 100 * (5 + 1000 + 128));
+    assertEquals(1000, db.getRange(key(0), key(1000)).size());
+  }
+
+  @Test
+  public void testConcurrentReadsSeeEveryWrite() throws Exception {
+    TieredDb db = new TieredDb(new OnHeapConcurrentSkipListDb(), 1024 * 1024);
+    for (int i = 0; i < 10; i++) {
+      db.put(key(i), value(0));
+    }
+    AtomicBoolean writing = new AtomicBoolean(true);
+    AtomicReference<String> failure = new AtomicReference<>();
+    List<Thread> readers = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread reader = new Thread(() -> {
+        while (writing.get()) {
+          for (int i = 0; i < 10; i++) {
+            if (get(db, i).isEmpty()) {
+              failure.set("key " + i + " went missing");
+            }
+          }
+        }
+      });
+      reader.start();
+      readers.add(reader);
+    }
+    for (int version = 1; version <= 1000; version++) {
+      db.put(key(version % 10), value(version));
+    }
+    writing.set(false);
+    for (Thread reader : readers) {
+      reader.join();
+    }
+    assertNull(failure.get());
+
+    // no reader left an old copy on the heap
+    for (int i = 0; i < 10; i++) {
+      int lastVersion = i == 0 ? 1000 : 990 + i;
+      assertEquals(ByteString.copyFrom(value(lastVersion)), get(db, i).get(0));
+    }
+  }
+
+  private static List<ByteString> get(Db db, int i) {
+    return db.get(Collections.singletonList(ByteString.copyFrom(key(i))));
+  }
+
+  private static byte[] key(int i) {
+    return String.format("k%04d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] value(int i) {
+    return ("value" + i).getBytes(StandardCharsets.UTF_8);
+  }
+}
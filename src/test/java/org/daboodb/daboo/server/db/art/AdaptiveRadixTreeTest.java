@@ -0,0 +1,177 @@
+package org.daboodb.daboo.server.db.art;
+
+import com.google.common.primitives.SignedBytes;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for AdaptiveRadixTree, checked against a TreeMap using the comparator the other Dbs order keys with
+ */
+public class AdaptiveRadixTreeTest {
+
+  private final Random random = new Random(42);
+
+  @Test
+  public void testPrefixKeys() {
+    AdaptiveRadixTree tree = new AdaptiveRadixTree();
+    for (String key : new String[] {"abc", "ab", "a", "", "abcd", "abd"}) {
+      assertNull(tree.put(bytes(key), bytes(key + "!")));
+    }
+    assertEquals(6, tree.size());
+    assertArrayEquals(bytes("ab!"), tree.get(bytes("ab")));
+    assertArrayEquals(bytes("!"), tree.get(bytes("")));
+    assertNull(tree.get(bytes("abcde")));
+    assertNull(tree.get(bytes("b")));
+
+    assertArrayEquals(bytes("ab!"), tree.put(bytes("ab"), bytes("replaced")));
+    assertEquals(6, tree.size());
+
+    List<String> keys = new ArrayList<>();
+    tree.forEach((key, value) -> keys.add(new String(key, StandardCharsets.UTF_8)));
+    assertEquals("[, a, ab, abc, abcd, abd]", keys.toString());
+
+    assertArrayEquals(bytes("abc!"), tree.remove(bytes("abc")));
+    assertNull(tree.remove(bytes("abc")));
+    assertArrayEquals(bytes("abcd!"), tree.get(bytes("abcd")));
+    assertEquals(5, tree.size());
+  }
+
+  @Test
+  public void testNodesGrowAndShrink() {
+    AdaptiveRadixTree tree = new AdaptiveRadixTree();
+    TreeMap<byte[], byte[]> expected = new TreeMap<>(SignedBytes.lexicographicalComparator());
+    // every possible second byte under a shared first byte, so one node grows through every size
+    for (int i = 0; i < 256; i++) {
+      byte[] key = new byte[] {7, (byte) i};
+      tree.put(key, key);
+      expected.put(key, key);
+      assertSameContents(expected, tree);
+    }
+    for (int i = 0; i < 256; i++) {
+      byte[] key = new byte[] {7, (byte) (i * 37)};
+      assertArrayEquals(key, tree.remove(key));
+      expected.remove(key);
+      assertSameContents(expected, tree);
+    }
+    assertEquals(0, tree.size());
+  }
+
+  @Test
+  public void testRandomOperations() {
+    AdaptiveRadixTree tree = new AdaptiveRadixTree();
+    TreeMap<byte[], byte[]> expected = new TreeMap<>(SignedBytes.lexicographicalComparator());
+    for (int i = 0; i < 20000; i++) {
+      byte[] key = randomKey();
+      if (random.nextInt(3) == 0) {
+        byte[] removed = expected.remove(key);
+        assertArrayEquals(removed, tree.remove(key));
+      } else {
+        byte[] value = randomKey();
+        byte[] previous = expected.put(key, value);
+        assertArrayEquals(previous, tree.put(key, value));
+      }
+    }
+    assertSameContents(expected, tree);
+    for (byte[] key : expected.keySet()) {
+      assertArrayEquals(expected.get(key), tree.get(key));
+    }
+  }
+
+  @Test
+  public void testRanges() {
+    AdaptiveRadixTree tree = new AdaptiveRadixTree();
+    TreeMap<byte[], byte[]> expected = new TreeMap<>(SignedBytes.lexicographicalComparator());
+    for (int i = 0; i < 2000; i++) {
+      byte[] key = randomKey();
+      tree.put(key, key);
+      expected.put(key, key);
+    }
+    for (int i = 0; i < 500; i++) {
+      byte[] from = randomKey();
+      byte[] to = randomKey();
+      if (SignedBytes.lexicographicalComparator().compare(from, to) > 0) {
+        byte[] swap = from;
+        from = to;
+        to = swap;
+      }
+      List<byte[]> actual = new ArrayList<>();
+      tree.forEachInRange(from, to, (key, value) -> actual.add(key));
+      assertEquals(render(expected.subMap(from, to).keySet()), render(actual));
+
+      List<byte[]> descending = new ArrayList<>();
+      tree.scan(from, to, true, (key, value) -> descending.add(key));
+      assertEquals(render(expected.subMap(from, true, to, false).descendingKeySet()), render(descending));
+    }
+  }
+
+  @Test
+  public void testScanStopsAndAcceptsOpenBounds() {
+    AdaptiveRadixTree tree = new AdaptiveRadixTree();
+    TreeMap<byte[], byte[]> expected = new TreeMap<>(SignedBytes.lexicographicalComparator());
+    for (int i = 0; i < 2000; i++) {
+      byte[] key = randomKey();
+      tree.put(key, key);
+      expected.put(key, key);
+    }
+    byte[] middle = randomKey();
+
+    List<byte[]> below = new ArrayList<>();
+    tree.scan(null, middle, true, (key, value) -> below.add(key));
+    assertEquals(render(expected.headMap(middle, false).descendingKeySet()), render(below));
+
+    List<byte[]> above = new ArrayList<>();
+    tree.scan(middle, null, false, (key, value) -> above.add(key));
+    assertEquals(render(expected.tailMap(middle, true).keySet()), render(above));
+
+    List<byte[]> firstThree = new ArrayList<>();
+    tree.scan(null, null, true, (key, value) -> {
+      firstThree.add(key);
+      return firstThree.size() < 3;
+    });
+    assertEquals(render(expected.descendingKeySet()).subList(0, 3), render(firstThree));
+  }
+
+  private void assertSameContents(TreeMap<byte[], byte[]> expected, AdaptiveRadixTree tree) {
+    assertEquals(expected.size(), tree.size());
+    List<byte[]> keys = new ArrayList<>();
+    tree.forEach((key, value) -> keys.add(key));
+    assertEquals(render(expected.keySet()), render(keys));
+    for (Map.Entry<byte[], byte[]> entry : expected.entrySet()) {
+      assertArrayEquals(entry.getValue(), tree.get(entry.getKey()));
+    }
+  }
+
+  /**
+   * Returns a short key over a small alphabet that includes negative bytes, so keys share prefixes and are often
+   * prefixes of each other
+   */
+  private byte[] randomKey() {
+    byte[] key = new byte[random.nextInt(6)];
+    for (int i = 0; i < key.length; i++) {
+      key[i] = (byte) (random.nextInt(6) - 3);
+    }
+    return key;
+  }
+
+  private static List<String> render(Collection<byte[]> keys) {
+    List<String> rendered = new ArrayList<>();
+    for (byte[] key : keys) {
+      rendered.add(Arrays.toString(key));
+    }
+    return rendered;
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,92 @@
+package org.daboodb.daboo.server.db.comparator;
+
+import com.google.common.primitives.SignedBytes;
+import com.google.common.primitives.UnsignedBytes;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests LexicographicComparator against Guava's byte-at-a-time comparators
+ */
+public class LexicographicComparatorTest {
+
+  private final Random random = new Random(17);
+
+  @Test
+  public void testSignedMatchesGuava() {
+    assertMatches(SignedBytes.lexicographicalComparator(), LexicographicComparator.SIGNED);
+  }
+
+  @Test
+  public void testSignedMatchesByteLoop() {
+    assertMatches(LexicographicComparatorTest::compareByteByByte, LexicographicComparator.SIGNED);
+  }
+
+  /**
+   * Tests every pair of byte values at a position within the first word, and in the tail after it
+   */
+  @Test
+  public void testSignedOrdersEveryByteValueInWordsAndTails() {
+    for (int position : new int[] {0, 7, 8, 10}) {
+      for (int a = -128; a < 128; a++) {
+        for (int b = -128; b < 128; b++) {
+          byte[] left = new byte[11];
+          byte[] right = new byte[11];
+          left[position] = (byte) a;
+          right[position] = (byte) b;
+          assertEquals(Integer.signum(compareByteByByte(left, right)),
+              Integer.signum(LexicographicComparator.SIGNED.compare(left, right)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testUnsignedMatchesGuava() {
+    assertMatches(UnsignedBytes.lexicographicalComparator(), LexicographicComparator.UNSIGNED);
+  }
+
+  @Test
+  public void testPrefixSortsFirst() {
+    byte[] key = {1, 2, 3, 4, 5, 6, 7, 8, 9};
+    byte[] prefix = {1, 2, 3, 4, 5, 6, 7, 8};
+    assertTrue(LexicographicComparator.SIGNED.compare(prefix, key) < 0);
+    assertTrue(LexicographicComparator.SIGNED.compare(key, prefix) > 0);
+    assertEquals(0, LexicographicComparator.SIGNED.compare(new byte[0], new byte[0]));
+  }
+
+  /**
+   * Compares pairs of arrays that share a prefix of random length, long enough to span several words, and differ in
+   * one byte (or in length) after it, including bytes either side of the sign bit
+   */
+  private void assertMatches(Comparator<byte[]> expected, Comparator<byte[]> comparator) {
+    for (int i = 0; i < 100000; i++) {
+      byte[] left = new byte[random.nextInt(40)];
+      random.nextBytes(left);
+      byte[] right = left.clone();
+      if (right.length > 0 && random.nextBoolean()) {
+        right[random.nextInt(right.length)] = (byte) random.nextInt(256);
+      } else {
+        right = Arrays.copyOf(right, random.nextInt(40));
+      }
+      assertEquals(Integer.signum(expected.compare(left, right)), Integer.signum(comparator.compare(left, right)));
+      assertEquals(Integer.signum(expected.compare(right, left)), Integer.signum(comparator.compare(right, left)));
+    }
+  }
+
+  private static int compareByteByByte(byte[] left, byte[] right) {
+    int length = Math.min(left.length, right.length);
+    for (int i = 0; i < length; i++) {
+      int result = left[i] - right[i];
+      if (result != 0) {
+        return result;
+      }
+    }
+    return left.length - right.length;
+  }
+}
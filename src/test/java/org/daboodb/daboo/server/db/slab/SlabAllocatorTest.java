@@ -0,0 +1,90 @@
+package org.daboodb.daboo.server.db.slab;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for SlabAllocator
+ */
+public class SlabAllocatorTest {
+
+  private static final int SLAB_SIZE = 64 * 1024;
+
+  private final Random random = new Random(42);
+
+  @Test
+  public void testAllocateAndRead() {
+    SlabAllocator allocator = new SlabAllocator(SLAB_SIZE);
+    // sizes across many size classes, an empty value, and one too large for any class
+    for (int size : new int[] {0, 1, 27, 28, 100, 1000, 5000, 40000, 200000}) {
+      byte[] value = value(size);
+      long handle = allocator.allocate(value);
+      assertArrayEquals(value, allocator.read(handle).toByteArray());
+    }
+  }
+
+  @Test
+  public void testFreedChunksAreReused() {
+    SlabAllocator allocator = new SlabAllocator(SLAB_SIZE);
+    long first = allocator.allocate(value(100));
+    allocator.free(first);
+    long second = allocator.allocate(value(98));
+    assertEquals(first, second);
+    assertEquals(98, allocator.liveBytes());
+  }
+
+  @Test
+  public void testHugeValuesAreReleased() {
+    SlabAllocator allocator = new SlabAllocator(SLAB_SIZE);
+    long handle = allocator.allocate(value(SLAB_SIZE * 2));
+    assertTrue(allocator.slabBytes() > SLAB_SIZE * 2);
+    allocator.free(handle);
+    assertEquals(0, allocator.slabBytes());
+    assertEquals(0, allocator.slabCount());
+  }
+
+  @Test
+  public void testDefragment() {
+    SlabAllocator allocator = new SlabAllocator(SLAB_SIZE);
+    Map<Integer, Long> index = new TreeMap<>();
+    Map<Integer, byte[]> values = new TreeMap<>();
+    for (int i = 0; i < 5000; i++) {
+      byte[] value = value(100);
+      values.put(i, value);
+      index.put(i, allocator.allocate(value));
+    }
+    int slabsBefore = allocator.slabCount();
+
+    // free nine values in ten, leaving every slab sparse
+    for (int i = 0; i < 5000; i++) {
+      if (i % 10 != 0) {
+        allocator.free(index.remove(i));
+        values.remove(i);
+      }
+    }
+    assertEquals(slabsBefore, allocator.slabCount());
+
+    int moved = allocator.defragment(index.entrySet());
+    assertTrue(moved > 0);
+    assertTrue(allocator.slabCount() < slabsBefore);
+    for (Map.Entry<Integer, Long> entry : index.entrySet()) {
+      assertArrayEquals(values.get(entry.getKey()), allocator.read(entry.getValue()).toByteArray());
+    }
+
+    // the compacted allocator keeps working
+    long handle = allocator.allocate(value(100));
+    assertEquals(100, allocator.read(handle).size());
+  }
+
+  private byte[] value(int size) {
+    byte[] value = new byte[size];
+    random.nextBytes(value);
+    return Arrays.copyOf(value, size);
+  }
+}
@@ -0,0 +1,140 @@
+package org.daboodb.daboo.server.db.slab;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests SlabIndex against a TreeMap of the same keys
+ */
+public class SlabIndexTest {
+
+  private static final int SLAB_SIZE = 64 * 1024;
+
+  private final Random random = new Random(7);
+
+  /**
+   * Puts, replaces and removes random keys, enough to split and empty many blocks, checking lookups and scans in both
+   * directions against a TreeMap along the way
+   */
+  @Test
+  public void testMatchesTreeMap() {
+    SlabAllocator allocator = new SlabAllocator(SLAB_SIZE);
+    SlabIndex index = new SlabIndex(allocator);
+    TreeMap<byte[], Long> expected = new TreeMap<>(LexicographicComparator.SIGNED);
+    for (int round = 0; round < 20_000; round++) {
+      byte[] key = key();
+      if (random.nextInt(3) == 0) {
+        Long removed = expected.remove(key);
+        long handle = index.remove(key);
+        assertEquals(removed == null ? SlabIndex.NO_HANDLE : removed, handle);
+        if (removed != null) {
+          allocator.free(handle);
+        }
+      } else {
+        long handle = allocator.allocate(key, new byte[] {(byte) round});
+        Long replaced = expected.put(key, handle);
+        long previous = index.put(key, handle);
+        assertEquals(replaced == null ? SlabIndex.NO_HANDLE : replaced, previous);
+        if (replaced != null) {
+          allocator.free(previous);
+        }
+      }
+      assertEquals(expected.size(), index.size());
+      if (round % 1000 == 0) {
+        assertScans(index, expected);
+      }
+    }
+    for (int i = 0; i < 1000; i++) {
+      byte[] key = key();
+      Long handle = expected.get(key);
+      assertEquals(handle == null ? SlabIndex.NO_HANDLE : handle, index.get(key));
+    }
+    assertScans(index, expected);
+  }
+
+  /**
+   * Tests that defragmentation keeps every key findable, with its value, under its new handle
+   */
+  @Test
+  public void testDefragment() {
+    SlabAllocator allocator = new SlabAllocator(SLAB_SIZE);
+    SlabIndex index = new SlabIndex(allocator);
+    for (int i = 0; i < 5000; i++) {
+      byte[] key = String.valueOf(i).getBytes();
+      index.put(key, allocator.allocate(key, key));
+    }
+    int slabsBefore = allocator.slabCount();
+    for (int i = 0; i < 5000; i++) {
+      if (i % 10 != 0) {
+        allocator.free(index.remove(String.valueOf(i).getBytes()));
+      }
+    }
+
+    assertTrue(index.defragment() > 0);
+    assertTrue(allocator.slabCount() < slabsBefore);
+    assertEquals(500, index.size());
+    for (int i = 0; i < 5000; i += 10) {
+      byte[] key = String.valueOf(i).getBytes();
+      long handle = index.get(key);
+      assertArrayEquals(key, allocator.readKey(handle));
+      assertArrayEquals(key, allocator.read(handle).toByteArray());
+    }
+  }
+
+  private void assertScans(SlabIndex index, TreeMap<byte[], Long> expected) {
+    assertEquals(new ArrayList<>(expected.values()), scan(index, null, null, false));
+    assertEquals(new ArrayList<>(expected.descendingMap().values()), scan(index, null, null, true));
+    for (int i = 0; i < 20; i++) {
+      byte[] from = key();
+      byte[] to = key();
+      if (LexicographicComparator.SIGNED.compare(from, to) > 0) {
+        byte[] swap = from;
+        from = to;
+        to = swap;
+      }
+      NavigableMap<byte[], Long> range = expected.subMap(from, true, to, false);
+      assertEquals(new ArrayList<>(range.values()), scan(index, from, to, false));
+      assertEquals(new ArrayList<>(range.descendingMap().values()), scan(index, from, to, true));
+      assertEquals(new ArrayList<>(expected.tailMap(from, true).values()), scan(index, from, null, false));
+      assertEquals(new ArrayList<>(expected.headMap(to, false).descendingMap().values()),
+          scan(index, null, to, true));
+    }
+    // a scan stops when the visitor returns false
+    List<Long> firstTen = new ArrayList<>();
+    index.scan(null, null, false, handle -> firstTen.add(handle) && firstTen.size() < 10);
+    assertEquals(Math.min(10, expected.size()), firstTen.size());
+    int i = 0;
+    for (Map.Entry<byte[], Long> entry : expected.entrySet()) {
+      if (i == firstTen.size()) {
+        break;
+      }
+      assertEquals(entry.getValue(), firstTen.get(i++));
+    }
+  }
+
+  private static List<Long> scan(SlabIndex index, byte[] from, byte[] to, boolean reverse) {
+    List<Long> handles = new ArrayList<>();
+    index.scan(from, to, reverse, handles::add);
+    return handles;
+  }
+
+  /**
+   * Returns a random key of up to three bytes, drawn from a small enough space that keys repeat
+   */
+  private byte[] key() {
+    byte[] key = new byte[1 + random.nextInt(3)];
+    for (int i = 0; i < key.length; i++) {
+      key[i] = (byte) (random.nextInt(24) - 12);
+    }
+    return key;
+  }
+}
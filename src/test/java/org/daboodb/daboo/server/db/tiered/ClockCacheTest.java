@@ -0,0 +1,132 @@
+package org.daboodb.daboo.server.db.tiered;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for ClockCache and FrequencySketch
+ */
+public class ClockCacheTest {
+
+  private static final int ENTRY_SIZE = 11 + 100 + 128;
+
+  @Test
+  public void testCacheStaysWithinBudget() {
+    ClockCache cache = new ClockCache(100 * ENTRY_SIZE);
+    for (int i = 0; i < 1000; i++) {
+      // each key is used twice, so it can win admission over the once-used keys before it
+      cache.get(key(i));
+      cache.offer(key(i), value(i));
+      assertTrue(cache.sizeInBytes() <= 100 * ENTRY_SIZE);
+    }
+    assertEquals(100, cache.size());
+    assertEquals(100L * ENTRY_SIZE, cache.sizeInBytes());
+  }
+
+  @Test
+  public void testFrequentKeysSurviveAScan() {
+    ClockCache cache = new ClockCache(100 * ENTRY_SIZE);
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 50; i++) {
+        if (cache.get(key(i)) == null) {
+          cache.offer(key(i), value(i));
+        }
+      }
+    }
+    // keys that are each used once fill the free room, but don't displace the frequent keys
+    for (int i = 1000; i < 1500; i++) {
+      if (cache.get(key(i)) == null) {
+        cache.offer(key(i), value(i));
+      }
+    }
+    for (int i = 0; i < 50; i++) {
+      assertArrayEquals(value(i), cache.get(key(i)));
+    }
+    assertEquals(100, cache.size());
+  }
+
+  @Test
+  public void testRemoveAndClear() {
+    ClockCache cache = new ClockCache(100 * ENTRY_SIZE);
+    for (int i = 0; i < 10; i++) {
+      assertTrue(cache.offer(key(i), value(i)));
+    }
+    cache.remove(key(3));
+    assertNull(cache.get(key(3)));
+    assertEquals(9, cache.size());
+    assertEquals(9L * ENTRY_SIZE, cache.sizeInBytes());
+    for (int i = 0; i < 10; i++) {
+      if (i != 3) {
+        assertArrayEquals(value(i), cache.get(key(i)));
+      }
+    }
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.sizeInBytes());
+    assertNull(cache.get(key(0)));
+  }
+
+  @Test
+  public void testAdmissionIsDecidedAgainstTheFirstVictim() {
+    ClockCache cache = new ClockCache(2 * ENTRY_SIZE);
+    assertTrue(cache.offer(key(0), value(0)));
+    assertTrue(cache.offer(key(1), value(1)));
+    for (int i = 0; i < 5; i++) {
+      cache.get(key(1));
+    }
+    byte[] large = new byte[100 + ENTRY_SIZE];
+
+    // a key used less than the first victim is refused without evicting anything
+    assertFalse(cache.offer(key(2), large));
+    assertEquals(2, cache.size());
+
+    // a key used more than the first victim evicts as many entries as it needs, however often they were used
+    cache.get(key(2));
+    cache.get(key(2));
+    assertTrue(cache.offer(key(2), large));
+    assertEquals(1, cache.size());
+    assertNull(cache.get(key(0)));
+    assertNull(cache.get(key(1)));
+  }
+
+  @Test
+  public void testEntryLargerThanBudgetIsRefused() {
+    ClockCache cache = new ClockCache(ENTRY_SIZE);
+    assertTrue(cache.offer(key(0), value(0)));
+    assertFalse(cache.offer(key(1), new byte[1000]));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testSketchCountsAndAges() {
+    FrequencySketch sketch = new FrequencySketch(1024);
+    for (int i = 0; i < 20; i++) {
+      sketch.increment(key(1));
+    }
+    sketch.increment(key(2));
+    assertEquals(15, sketch.frequency(key(1)));
+    assertEquals(1, sketch.frequency(key(2)));
+    assertEquals(0, sketch.frequency(key(3)));
+
+    // enough other keys to age the counters, halving the popular key's count
+    for (int i = 1000; i < 13000; i++) {
+      sketch.increment(key(i));
+    }
+    assertTrue(sketch.frequency(key(1)) < 15);
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key%08d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] value(int i) {
+    byte[] value = new byte[100];
+    value[0] = (byte) i;
+    value[1] = (byte) (i >> 8);
+    return value;
+  }
+}
@@ -0,0 +1,128 @@
+package org.daboodb.daboo.server.io;
+
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.shared.Document;
+import org.daboodb.daboo.shared.DocumentUtils;
+import org.daboodb.daboo.shared.RequestUtils;
+import org.daboodb.daboo.testutil.BasicTest;
+import org.daboodb.daboo.testutil.Person;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for BinaryWriteLog
+ */
+public class BinaryWriteLogTest extends BasicTest {
+
+  private final Document contents = Person.createPeoples(1).get(0);
+  private final Request.Document doc = DocumentUtils.getDocument(contents);
+  private final Request.WriteRequest writeRequest =
+      RequestUtils.getWriteRequest(RequestUtils.getWriteHeader(), RequestUtils.getWriteRequestBody(doc));
+
+  private final File folder = Paths.get(TEST_DATA_FOLDER, "binaryWriteLogTest").toFile();
+  private BinaryWriteLog log;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.tearDown();
+    log = new BinaryWriteLog(folder);
+  }
+
+  @Override
+  @After
+  public void tearDown() throws Exception {
+    log.close();
+    super.tearDown();
+  }
+
+  @Test
+  public void testLogRequest() throws Exception {
+    log.log(writeRequest.toByteArray());
+    log.log(Arrays.asList(writeRequest.toByteArray(), writeRequest.toByteArray()));
+
+    int count = 0;
+    while (log.hasNext()) {
+      byte[] bytes = log.next();
+      assertArrayEquals(writeRequest.toByteArray(), bytes);
+      assertNotNull(Request.WriteRequest.parseFrom(bytes));
+      count++;
+    }
+    assertEquals(3, count);
+
+    log.clear();
+    assertFalse(log.hasNext());
+  }
+
+  @Test
+  public void testReopen() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      log.log(record(i));
+    }
+    log.sync();
+    log.close();
+
+    log = new BinaryWriteLog(folder);
+    for (int i = 0; i < 100; i++) {
+      assertTrue(log.hasNext());
+      assertArrayEquals(record(i), log.next());
+    }
+    assertFalse(log.hasNext());
+  }
+
+  @Test
+  public void testTornTailIsTruncated() throws Exception {
+    log.log(record(0));
+    log.log(record(1));
+    log.close();
+
+    // simulate a crash part way through appending the second record
+    File logFile = new File(folder, BinaryWriteLog.LOG_FILE);
+    long intactLength = LogRecords.HEADER_SIZE_IN_BYTES + record(0).length;
+    try (RandomAccessFile file = new RandomAccessFile(logFile, "rw")) {
+      file.setLength(file.length() - 3);
+    }
+
+    log = new BinaryWriteLog(folder);
+    assertEquals(intactLength, logFile.length());
+    log.log(record(2));
+
+    assertArrayEquals(record(0), log.next());
+    assertArrayEquals(record(2), log.next());
+    assertFalse(log.hasNext());
+  }
+
+  @Test
+  public void testCorruptRecordEndsReplay() throws Exception {
+    log.log(record(0));
+    log.log(record(1));
+    log.close();
+
+    // flip a payload byte in the second record so that its checksum no longer matches
+    File logFile = new File(folder, BinaryWriteLog.LOG_FILE);
+    try (RandomAccessFile file = new RandomAccessFile(logFile, "rw")) {
+      long position = file.length() - 1;
+      file.seek(position);
+      int value = file.read();
+      file.seek(position);
+      file.write(value ^ 0xFF);
+    }
+
+    log = new BinaryWriteLog(folder);
+    assertArrayEquals(record(0), log.next());
+    assertFalse(log.hasNext());
+  }
+
+  private static byte[] record(int i) {
+    return ("record-" + i).getBytes(StandardCharsets.UTF_8);
+  }
+}
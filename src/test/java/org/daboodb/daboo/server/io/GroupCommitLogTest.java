@@ -0,0 +1,199 @@
+package org.daboodb.daboo.server.io;
+
+import org.daboodb.daboo.testutil.BasicTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for GroupCommitLog
+ */
+public class GroupCommitLogTest extends BasicTest {
+
+  private static final int THREADS = 8;
+  private static final int WRITES_PER_THREAD = 50;
+
+  private WriteLog writeLog;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.tearDown();
+    writeLog = WriteLog.getInstance(Paths.get(TEST_DATA_FOLDER, "writeLogTest").toFile());
+    writeLog.clear();
+  }
+
+  @Override
+  @After
+  public void tearDown() throws Exception {
+    // closing a GroupCommitLog closes the WriteLog singleton; clearing it reopens it for the other tests
+    writeLog.clear();
+    super.tearDown();
+  }
+
+  @Test
+  public void testConcurrentWritesAreAllLogged() throws Exception {
+    for (FsyncPolicy policy : FsyncPolicy.values()) {
+      writeLog.clear();
+      GroupCommitLog log = new GroupCommitLog(writeLog, policy, 5);
+      writeConcurrently(log);
+
+      Set<String> logged = new HashSet<>();
+      while (log.hasNext()) {
+        logged.add(new String(log.next(), StandardCharsets.UTF_8));
+      }
+      assertEquals(policy.name(), THREADS * WRITES_PER_THREAD, logged.size());
+      log.close();
+      writeLog.clear();
+    }
+  }
+
+  @Test
+  public void testWritesShareSyncs() throws Exception {
+    CountingLog counting = new CountingLog(writeLog);
+    GroupCommitLog log = new GroupCommitLog(counting, FsyncPolicy.ALWAYS, 0);
+    writeConcurrently(log);
+
+    // every write was acknowledged after a sync, but concurrent writers should have shared them
+    assertEquals(THREADS * WRITES_PER_THREAD, counting.requests.get());
+    assertTrue(counting.syncs.get() > 0);
+    assertTrue(counting.syncs.get() <= counting.batches.get());
+    assertTrue(counting.batches.get() <= THREADS * WRITES_PER_THREAD);
+    log.close();
+  }
+
+  @Test
+  public void testClearWaitsForPendingWrites() throws Exception {
+    GroupCommitLog log = new GroupCommitLog(writeLog, FsyncPolicy.INTERVAL, 20);
+    log.log("one".getBytes(StandardCharsets.UTF_8));
+    log.clear();
+    assertFalse(log.hasNext());
+
+    log.log("two".getBytes(StandardCharsets.UTF_8));
+    assertTrue(log.hasNext());
+    assertEquals("two", new String(log.next(), StandardCharsets.UTF_8));
+    log.close();
+  }
+
+  @Test(expected = IOException.class)
+  public void testLogAfterClose() throws Exception {
+    GroupCommitLog log = new GroupCommitLog(writeLog, FsyncPolicy.OS, 0);
+    log.close();
+    log.log("late".getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Tests that closing the log while the writer is forcing a batch to disk lets that batch commit, rather than
+   * interrupting the force
+   */
+  @Test
+  public void testCloseDuringSync() throws Exception {
+    CountDownLatch syncing = new CountDownLatch(1);
+    BatchWriteAheadLog slowSync = new CountingLog(writeLog) {
+      @Override
+      public void sync() throws IOException {
+        syncing.countDown();
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException e) {
+          // as a FileChannel does when the thread forcing it is interrupted
+          throw new ClosedByInterruptException();
+        }
+        super.sync();
+      }
+    };
+    GroupCommitLog log = new GroupCommitLog(slowSync, FsyncPolicy.ALWAYS, 0);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    Future<?> pending = executor.submit(() -> {
+      log.log("pending".getBytes(StandardCharsets.UTF_8));
+      return null;
+    });
+    assertTrue(syncing.await(5, TimeUnit.SECONDS));
+    log.close();
+    pending.get(5, TimeUnit.SECONDS);
+    executor.shutdown();
+  }
+
+  private static void writeConcurrently(GroupCommitLog log) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      final int thread = t;
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < WRITES_PER_THREAD; i++) {
+          log.log((thread + "-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+  }
+
+  /**
+   * Counts the calls made on a log
+   */
+  private static class CountingLog implements BatchWriteAheadLog {
+
+    private final BatchWriteAheadLog delegate;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicInteger syncs = new AtomicInteger();
+
+    CountingLog(BatchWriteAheadLog delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void log(List<byte[]> requests) throws IOException {
+      this.requests.addAndGet(requests.size());
+      batches.incrementAndGet();
+      delegate.log(requests);
+    }
+
+    @Override
+    public void sync() throws IOException {
+      syncs.incrementAndGet();
+      delegate.sync();
+    }
+
+    @Override
+    public void clear() throws IOException {
+      delegate.clear();
+    }
+
+    @Override
+    public void log(byte[] request) throws IOException {
+      delegate.log(request);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return delegate.hasNext();
+    }
+
+    @Override
+    public byte[] next() {
+      return delegate.next();
+    }
+  }
+}
@@ -0,0 +1,158 @@
+package org.daboodb.daboo.server.io;
+
+import org.daboodb.daboo.testutil.BasicTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for SegmentedWriteLog
+ */
+public class SegmentedWriteLogTest extends BasicTest {
+
+  // small enough that a few dozen records fill a segment
+  private static final long SEGMENT_SIZE = 256;
+
+  private final File folder = Paths.get(TEST_DATA_FOLDER, "segmentedWriteLogTest").toFile();
+  private SegmentedWriteLog log;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.tearDown();
+    log = new SegmentedWriteLog(folder, SEGMENT_SIZE);
+  }
+
+  @Override
+  @After
+  public void tearDown() throws Exception {
+    log.close();
+    super.tearDown();
+  }
+
+  @Test
+  public void testRollOverAndReplay() throws Exception {
+    logMany(0, 100);
+    assertEquals(100, log.lastSequenceNumber());
+    assertTrue(log.segmentCount() > 1);
+    assertEquals(range(0, 100), replay());
+
+    // records logged after replay reached the end are still found
+    log.log(record(100));
+    assertTrue(log.hasNext());
+    assertArrayEquals(record(100), log.next());
+  }
+
+  @Test
+  public void testCheckpointDeletesObsoleteSegments() throws Exception {
+    logMany(0, 100);
+    int segmentsBefore = log.segmentCount();
+
+    log.checkpoint(60);
+    log.awaitCleanup();
+    assertTrue(log.segmentCount() < segmentsBefore);
+    assertEquals(60, log.getCheckpointSequenceNumber());
+
+    // only requests after the checkpoint are replayed
+    assertEquals(range(60, 100), replay());
+  }
+
+  @Test
+  public void testReopen() throws Exception {
+    logMany(0, 50);
+    log.checkpoint(20);
+    log.sync();
+    log.close();
+
+    log = new SegmentedWriteLog(folder, SEGMENT_SIZE);
+    assertEquals(50, log.lastSequenceNumber());
+    assertEquals(20, log.getCheckpointSequenceNumber());
+    assertEquals(range(20, 50), replay());
+
+    log.log(record(50));
+    assertEquals(51, log.lastSequenceNumber());
+  }
+
+  @Test
+  public void testReplayAfter() throws Exception {
+    logMany(0, 100);
+    log.checkpoint(30);
+    assertEquals(range(30, 40), replay().subList(0, 10));
+
+    // a db can't skip to before the checkpoint, or past the last request
+    assertFalse(log.replayAfter(20));
+    assertFalse(log.replayAfter(101));
+
+    // replay restarts just after the db's last request, however far it had got
+    assertTrue(log.replayAfter(75));
+    assertEquals(range(75, 100), replay());
+  }
+
+  @Test
+  public void testTornTailIsTruncated() throws Exception {
+    logMany(0, 10);
+    log.close();
+
+    File[] segments = folder.listFiles((dir, name) -> name.startsWith("segment-"));
+    Arrays.sort(segments);
+    File last = segments[segments.length - 1];
+    try (RandomAccessFile file = new RandomAccessFile(last, "rw")) {
+      file.setLength(file.length() - 2);
+    }
+
+    log = new SegmentedWriteLog(folder, SEGMENT_SIZE);
+    assertEquals(9, log.lastSequenceNumber());
+    log.log(record(42));
+    List<String> expected = range(0, 9);
+    expected.add(new String(record(42), StandardCharsets.UTF_8));
+    assertEquals(expected, replay());
+  }
+
+  @Test
+  public void testClear() throws Exception {
+    logMany(0, 100);
+    log.checkpoint(50);
+    log.clear();
+
+    assertFalse(log.hasNext());
+    assertEquals(0, log.lastSequenceNumber());
+    assertEquals(0, log.getCheckpointSequenceNumber());
+    assertEquals(1, log.segmentCount());
+  }
+
+  private void logMany(int from, int to) throws Exception {
+    for (int i = from; i < to; i++) {
+      log.log(record(i));
+    }
+  }
+
+  private List<String> replay() {
+    List<String> records = new ArrayList<>();
+    while (log.hasNext()) {
+      records.add(new String(log.next(), StandardCharsets.UTF_8));
+    }
+    return records;
+  }
+
+  private static List<String> range(int from, int to) {
+    List<String> records = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      records.add(new String(record(i), StandardCharsets.UTF_8));
+    }
+    return records;
+  }
+
+  private static byte[] record(int i) {
+    return ("record-" + i).getBytes(StandardCharsets.UTF_8);
+  }
+}
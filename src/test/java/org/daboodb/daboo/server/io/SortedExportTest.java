@@ -0,0 +1,124 @@
+package org.daboodb.daboo.server.io;
+
+import com.google.protobuf.ByteString;
+import org.daboodb.daboo.generated.protobufs.Request;
+import org.daboodb.daboo.testutil.BasicTest;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for SortedExport
+ */
+public class SortedExportTest extends BasicTest {
+
+  private final File file = Paths.get(TEST_DATA_FOLDER, "sortedExportTest").toFile();
+
+  @Override
+  @After
+  public void tearDown() throws Exception {
+    super.tearDown();
+  }
+
+  @Test
+  public void testSortedExportIsStreamed() throws Exception {
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      order.add(i);
+    }
+    export(order, "only");
+
+    try (SortedExport export = SortedExport.open(file, 1024)) {
+      assertTrue(export.wasSorted());
+      assertEquals(0, export.runCount());
+      assertEquals(order, read(export, "only"));
+    }
+    assertEquals(1, new File(TEST_DATA_FOLDER).list().length);
+  }
+
+  @Test
+  public void testUnsortedExportIsMergedFromRuns() throws Exception {
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      order.add(i);
+    }
+    Collections.shuffle(order);
+    export(order, "first");
+    // the same keys again: the later documents must win
+    export(order.subList(0, 100), "later");
+
+    List<Integer> expected = new ArrayList<>(order);
+    Collections.sort(expected);
+    try (SortedExport export = SortedExport.open(file, 16 * 1024)) {
+      assertFalse(export.wasSorted());
+      assertTrue(export.runCount() > 1);
+
+      List<Integer> keys = new ArrayList<>();
+      while (export.hasNext()) {
+        Map.Entry<byte[], byte[]> entry = export.next();
+        Request.Document document = Request.Document.parseFrom(entry.getValue());
+        assertArrayEquals(document.getKey().toByteArray(), entry.getKey());
+        int i = number(entry.getKey());
+        String expectedVersion = order.subList(0, 100).contains(i) ? "later" : "first";
+        assertEquals(expectedVersion, document.getContentClass());
+        keys.add(i);
+      }
+      assertEquals(expected, keys);
+    }
+    // the runs are gone once the export is closed
+    assertEquals(1, new File(TEST_DATA_FOLDER).list().length);
+  }
+
+  @Test
+  public void testUnsortedExportThatFitsInOneRun() throws Exception {
+    export(Arrays.asList(3, 1, 2, 1), "only");
+    try (SortedExport export = SortedExport.open(file)) {
+      assertFalse(export.wasSorted());
+      assertEquals(1, export.runCount());
+      assertEquals(Arrays.asList(1, 2, 3), read(export, "only"));
+    }
+  }
+
+  private void export(List<Integer> order, String version) throws Exception {
+    DatabaseExporter exporter = DatabaseExporter.get(file);
+    for (int i : order) {
+      exporter.logDocument(Request.Document.newBuilder()
+          .setKey(ByteString.copyFrom(key(i)))
+          .setContentClass(version)
+          .setContentType("")
+          .setSchemaVersion(0)
+          .setInstanceVersion(0)
+          .setContentBytes(ByteString.copyFrom(new byte[100]))
+          .build());
+    }
+    exporter.close();
+  }
+
+  private static List<Integer> read(SortedExport export, String version) throws Exception {
+    List<Integer> keys = new ArrayList<>();
+    while (export.hasNext()) {
+      Map.Entry<byte[], byte[]> entry = export.next();
+      assertEquals(version, Request.Document.parseFrom(entry.getValue()).getContentClass());
+      keys.add(number(entry.getKey()));
+    }
+    return keys;
+  }
+
+  private static byte[] key(int i) {
+    return String.format("key%08d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static int number(byte[] key) {
+    return Integer.parseInt(new String(key, StandardCharsets.UTF_8).substring(3));
+  }
+}
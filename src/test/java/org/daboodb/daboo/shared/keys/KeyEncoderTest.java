@@ -0,0 +1,145 @@
+package org.daboodb.daboo.shared.keys;
+
+import org.daboodb.daboo.server.db.comparator.LexicographicComparator;
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that keys built by KeyEncoder sort, under the Dbs' key order, as their components do, and decode back to them
+ */
+public class KeyEncoderTest {
+
+  private final Random random = new Random(31);
+
+  @Test
+  public void testInts() {
+    List<Integer> values = new ArrayList<>(Arrays.asList(Integer.MIN_VALUE, -1, 0, 1, 255, 256, Integer.MAX_VALUE));
+    for (int i = 0; i < 1000; i++) {
+      values.add(random.nextInt());
+    }
+    assertSortsAsValues(values, KeyDecoder::readInt);
+  }
+
+  @Test
+  public void testLongs() {
+    List<Long> values = new ArrayList<>(Arrays.asList(Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE));
+    for (int i = 0; i < 1000; i++) {
+      values.add(random.nextLong());
+    }
+    assertSortsAsValues(values, KeyDecoder::readLong);
+  }
+
+  @Test
+  public void testDoubles() {
+    List<Double> values = new ArrayList<>(Arrays.asList(Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5,
+        -Double.MIN_VALUE, -0.0, 0.0, Double.MIN_VALUE, 1.5, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN));
+    for (int i = 0; i < 1000; i++) {
+      values.add((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20));
+    }
+    assertSortsAsValues(values, KeyDecoder::readDouble);
+  }
+
+  @Test
+  public void testUuids() {
+    List<UUID> values = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      values.add(new UUID(random.nextLong(), random.nextLong()));
+    }
+    values.add(UUID.randomUUID());
+    assertSortsAsValues(values, KeyDecoder::readUuid);
+  }
+
+  @Test
+  public void testDateTimes() {
+    LocalDateTime now = LocalDateTime.now();
+    List<LocalDateTime> values = new ArrayList<>(Arrays.asList(LocalDateTime.MIN, LocalDateTime.MAX, now,
+        now.plusNanos(1), now.minusNanos(1), now.minusYears(3000)));
+    for (int i = 0; i < 1000; i++) {
+      values.add(now.plusSeconds(random.nextInt()).plusNanos(random.nextInt(1000000000)));
+    }
+    assertSortsAsValues(values, KeyDecoder::readDateTime);
+  }
+
+  @Test
+  public void testStrings() {
+    List<String> values = new ArrayList<>(Arrays.asList("", "a", "a\u0000", "a\u0000b", "ab", "b", "été",
+        "中文", "zzz"));
+    for (int i = 0; i < 1000; i++) {
+      char[] chars = new char[random.nextInt(12)];
+      for (int j = 0; j < chars.length; j++) {
+        // stay below the surrogates, where UTF-16 order is code point order
+        chars[j] = (char) random.nextInt(0xD800);
+      }
+      values.add(new String(chars));
+    }
+    assertSortsAsValues(values, KeyDecoder::readString);
+  }
+
+  /**
+   * Tests that tuples sort by their first component, then their second, and that the key of a leading component is a
+   * prefix of the tuple's key
+   */
+  @Test
+  public void testTuples() {
+    UUID id = UUID.randomUUID();
+    byte[] first = KeyEncoder.encode("person", 7, id);
+    byte[] second = KeyEncoder.encode("person", 8, id);
+    byte[] longerName = KeyEncoder.encode("personnel", 1, id);
+    Comparator<byte[]> order = LexicographicComparator.SIGNED;
+    assertTrue(order.compare(first, second) < 0);
+    assertTrue(order.compare(second, longerName) < 0);
+
+    byte[] prefix = KeyEncoder.encode("person");
+    assertArrayEquals(prefix, Arrays.copyOf(first, prefix.length));
+    assertFalse(Arrays.equals(prefix, Arrays.copyOf(longerName, prefix.length)));
+
+    KeyDecoder decoder = new KeyDecoder(first);
+    assertEquals("person", decoder.readString());
+    assertEquals(7, decoder.readInt());
+    assertEquals(id, decoder.readUuid());
+    assertFalse(decoder.hasNext());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadingAnotherTypeFails() {
+    new KeyDecoder(KeyEncoder.encode(1L)).readInt();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsupportedComponentFails() {
+    KeyEncoder.encode(new Object());
+  }
+
+  /**
+   * Asserts that the keys of the values, each followed by a trailing component, sort as the values do, and decode to
+   * the values
+   */
+  private static <T extends Comparable<? super T>> void assertSortsAsValues(List<T> values,
+                                                                            Function<KeyDecoder, T> read) {
+    List<T> sorted = new ArrayList<>(values);
+    Collections.sort(sorted);
+    List<byte[]> keys = new ArrayList<>();
+    for (T value : values) {
+      keys.add(KeyEncoder.encode(value, "trailing"));
+    }
+    keys.sort(LexicographicComparator.SIGNED);
+    List<T> decoded = new ArrayList<>();
+    for (byte[] key : keys) {
+      KeyDecoder decoder = new KeyDecoder(key);
+      decoded.add(read.apply(decoder));
+      assertEquals("trailing", decoder.readString());
+    }
+    assertEquals(sorted, decoded);
+  }
+}